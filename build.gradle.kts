@@ -9,6 +9,7 @@ plugins {
     jacoco
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spotless)
+    alias(libs.plugins.jmh)
 }
 
 group = "org.budgetanalyzer"
@@ -50,15 +51,16 @@ dependencies {
     // Service-specific dependencies
     implementation(libs.spring.boot.starter.validation)
     implementation(libs.spring.boot.starter.security)
+    implementation(libs.spring.boot.starter.actuator)
     implementation(libs.flyway.core)
     implementation(libs.flyway.database.postgresql)
     implementation(libs.pdfbox)
 
-    runtimeOnly(libs.postgresql)
+    // Compile-time access is needed for the COPY API used by bulk transaction ingest
+    implementation(libs.postgresql)
 
     testImplementation(libs.spring.boot.starter.test)
     testImplementation(libs.spring.security.test)
-    testImplementation(libs.h2)
     testImplementation(libs.testcontainers)
     testImplementation(libs.testcontainers.postgresql)
     testImplementation(libs.testcontainers.junit.jupiter)
@@ -91,11 +93,50 @@ tasks.withType<BootRun> {
 }
 
 tasks.withType<Test> {
-    useJUnitPlatform()
     jvmArgs = jvmArgsList
+}
+
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark", "query-plan")
+    }
     finalizedBy(tasks.jacocoTestReport)
 }
 
+val benchmarkTest by tasks.registering(Test::class) {
+    description = "Runs Testcontainers persistence benchmarks tagged 'benchmark'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+val queryPlanTest by tasks.registering(Test::class) {
+    description = "Runs Testcontainers query-plan regression tests tagged 'query-plan'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("query-plan")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+// Microbenchmarks live in src/jmh/java and run with ./gradlew jmh; they are not part of check.
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    jvmArgs = jvmArgsList
+}
+
 tasks.withType<Javadoc> {
     options {
         (this as StandardJavadocDocletOptions).apply {
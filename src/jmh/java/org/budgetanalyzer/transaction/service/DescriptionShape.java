@@ -0,0 +1,39 @@
+package org.budgetanalyzer.transaction.service;
+
+/** Representative near-duplicate description pairs used by the duplicate-detection benchmarks. */
+public enum DescriptionShape {
+  SHORT_ASCII("STARBUCKS STORE 1234", "STARBUCKS STORES 1234"),
+  LONG_ASCII(
+      "ACH DEBIT X CORP PAYROLL SERVICES REF 00123456789 INV 2024-0117 MONTHLY SUBSCRIPTION",
+      "ACH DEBIT X CORP PAYROLL SERVICE REF 00123456789 INV 2024-0117 MONTHLY SUBSCRIPTIONS"),
+  ACCENTED("CAFÉ CRÈME ÉPICERIE FINE MONTRÉAL 42", "CAFE CREME EPICERIE FINE MONTREAL #42"),
+  THAI(
+      "โอนเงินพร้อมเพย์ ไปยัง 0812345678 ร้านกาแฟ",
+      "โอนเงิน พร้อมเพย์ ไปยัง 0812345678 ร้านกาแฟดี");
+
+  private final String incomingDescription;
+  private final String candidateDescription;
+
+  DescriptionShape(String incomingDescription, String candidateDescription) {
+    this.incomingDescription = incomingDescription;
+    this.candidateDescription = candidateDescription;
+  }
+
+  /**
+   * Returns the description of the incoming row.
+   *
+   * @return the incoming description
+   */
+  public String incomingDescription() {
+    return incomingDescription;
+  }
+
+  /**
+   * Returns a near-duplicate of the incoming description, as stored on an existing row.
+   *
+   * @return the candidate description
+   */
+  public String candidateDescription() {
+    return candidateDescription;
+  }
+}
@@ -0,0 +1,59 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures a single description comparison, with and without descriptions fingerprinted up front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionDescriptionMatcherBenchmark {
+
+  @Param({"SHORT_ASCII", "LONG_ASCII", "ACCENTED", "THAI"})
+  private DescriptionShape descriptionShape;
+
+  private TransactionDescriptionMatcher transactionDescriptionMatcher;
+  private DescriptionFingerprint incomingFingerprint;
+  private DescriptionFingerprint candidateFingerprint;
+
+  @Setup
+  public void setUp() {
+    transactionDescriptionMatcher = new TransactionDescriptionMatcher();
+    incomingFingerprint = DescriptionFingerprint.of(descriptionShape.incomingDescription());
+    candidateFingerprint = DescriptionFingerprint.of(descriptionShape.candidateDescription());
+  }
+
+  @Benchmark
+  public TransactionDescriptionMatchResult matchDescriptions() {
+    return transactionDescriptionMatcher.match(
+        descriptionShape.incomingDescription(), 1L, descriptionShape.candidateDescription());
+  }
+
+  @Benchmark
+  public TransactionDescriptionMatchResult matchFingerprints() {
+    return transactionDescriptionMatcher.match(incomingFingerprint, 1L, candidateFingerprint);
+  }
+
+  // DescriptionFingerprint is package-private, so it is consumed rather than returned.
+  @Benchmark
+  public void fingerprintDescription(Blackhole blackhole) {
+    blackhole.consume(DescriptionFingerprint.of(descriptionShape.incomingDescription()));
+  }
+}
@@ -0,0 +1,55 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
+/** Measures candidate key construction, which canonicalizes the amount to scale 2. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionDuplicateCandidateKeyBenchmark {
+
+  /** Amounts as parsed from statements: already at scale 2, or needing a rescale. */
+  @Param({"4.50", "4.5", "4.500"})
+  private String amount;
+
+  private PreviewTransaction previewTransaction;
+
+  @Setup
+  public void setUp() {
+    previewTransaction =
+        new PreviewTransaction(
+            LocalDate.of(2024, 1, 15),
+            "STARBUCKS STORE 1234",
+            new BigDecimal(amount),
+            TransactionType.DEBIT,
+            null,
+            "Test Bank",
+            "USD",
+            "checking");
+  }
+
+  @Benchmark
+  public TransactionDuplicateCandidateKey fromPreviewTransaction() {
+    return TransactionDuplicateCandidateKey.from(previewTransaction);
+  }
+}
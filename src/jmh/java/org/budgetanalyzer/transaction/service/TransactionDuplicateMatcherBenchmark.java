@@ -0,0 +1,199 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.TransactionDuplicateCandidateCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionRepository;
+import org.budgetanalyzer.transaction.repository.TransactionRepository.TransactionDuplicateCandidate;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
+/**
+ * Measures duplicate marking of one import batch against existing candidates.
+ *
+ * <p>The repository is replaced by an in-memory stub so the benchmark covers normalization,
+ * fingerprinting, and description matching without database round trips. Existing candidates
+ * scramble the letters of the incoming description but keep its digits, so each comparison passes
+ * the numeric-token check and reaches the bounded Levenshtein distance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionDuplicateMatcherBenchmark {
+
+  private static final String USER_ID = "usr_benchmark";
+  private static final String BANK_NAME = "Test Bank";
+  private static final String CURRENCY_ISO_CODE = "USD";
+  private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+  private static final int BATCH_SIZE = 200;
+  private static final int DISTINCT_KEY_COUNT = 20;
+
+  /** Existing transactions sharing each incoming row's financial identity. */
+  @Param({"1", "10", "100"})
+  private int candidatesPerKey;
+
+  @Param({"DISTINCT", "REPEATED_PURCHASES"})
+  private BatchShape batchShape;
+
+  @Param({"SHORT_ASCII", "THAI"})
+  private DescriptionShape descriptionShape;
+
+  private TransactionDuplicateMatcher transactionDuplicateMatcher;
+  private TransactionRepository transactionRepository;
+  private List<PreviewTransaction> previewTransactions;
+
+  /** How the incoming batch is composed. */
+  public enum BatchShape {
+    /** Every row has its own date, so no row has an in-batch duplicate. */
+    DISTINCT,
+    /** The same purchase recurs on a few dates, so most rows are in-batch duplicates. */
+    REPEATED_PURCHASES
+  }
+
+  @Setup
+  public void setUp() {
+    var random = new Random(42);
+    var previewTransactionList = new ArrayList<PreviewTransaction>(BATCH_SIZE);
+    for (var index = 0; index < BATCH_SIZE; index++) {
+      var dayOffset = batchShape == BatchShape.DISTINCT ? index : index % DISTINCT_KEY_COUNT;
+      previewTransactionList.add(
+          previewTransaction(
+              FIRST_DATE.plusDays(dayOffset), descriptionShape.incomingDescription()));
+    }
+    previewTransactions = List.copyOf(previewTransactionList);
+
+    var candidates = new ArrayList<TransactionDuplicateCandidate>();
+    var candidateId = 1L;
+    for (var previewTransaction : previewTransactions.stream().distinct().toList()) {
+      var candidateCriteria =
+          new TransactionDuplicateCandidateCriteria(
+              previewTransaction.bankName(),
+              previewTransaction.date(),
+              previewTransaction.amount(),
+              previewTransaction.type(),
+              previewTransaction.currencyIsoCode());
+      for (var index = 0; index < candidatesPerKey; index++) {
+        var description = scrambleLetters(descriptionShape.candidateDescription(), random);
+        // Stored rows carry their normalized description, as written on insert.
+        candidates.add(
+            new BenchmarkCandidate(
+                candidateCriteria,
+                candidateId++,
+                description,
+                TransactionFingerprint.normalizeDescription(description)));
+      }
+    }
+
+    transactionDuplicateMatcher = new TransactionDuplicateMatcher();
+    transactionRepository = stubRepository(List.copyOf(candidates));
+  }
+
+  @Benchmark
+  public List<PreviewTransaction> markDuplicates() {
+    return transactionDuplicateMatcher.markDuplicates(
+        transactionRepository, previewTransactions, USER_ID);
+  }
+
+  private static PreviewTransaction previewTransaction(LocalDate date, String description) {
+    return new PreviewTransaction(
+        date,
+        description,
+        new BigDecimal("4.50"),
+        TransactionType.DEBIT,
+        null,
+        BANK_NAME,
+        CURRENCY_ISO_CODE,
+        "checking");
+  }
+
+  /*
+   * Shuffles the letters among the letter positions and leaves digits and separators in place, so
+   * the numeric tokens still match the incoming description.
+   */
+  private static String scrambleLetters(String description, Random random) {
+    var codePoints = description.codePoints().toArray();
+    var letters = new ArrayList<Integer>();
+    for (var codePoint : codePoints) {
+      if (Character.isLetter(codePoint)) {
+        letters.add(codePoint);
+      }
+    }
+    Collections.shuffle(letters, random);
+
+    var scrambledDescription = new StringBuilder(description.length());
+    var letterIndex = 0;
+    for (var codePoint : codePoints) {
+      scrambledDescription.appendCodePoint(
+          Character.isLetter(codePoint) ? letters.get(letterIndex++) : codePoint);
+    }
+    return scrambledDescription.toString();
+  }
+
+  private static TransactionRepository stubRepository(
+      List<TransactionDuplicateCandidate> candidates) {
+    return (TransactionRepository)
+        Proxy.newProxyInstance(
+            TransactionRepository.class.getClassLoader(),
+            new Class<?>[] {TransactionRepository.class},
+            (proxy, method, arguments) ->
+                switch (method.getName()) {
+                  case "findExactDuplicateFingerprints" -> Set.of();
+                  case "findDuplicateCandidates" -> candidates;
+                  default ->
+                      throw new UnsupportedOperationException(
+                          "Not stubbed for benchmarks: " + method.getName());
+                });
+  }
+
+  private record BenchmarkCandidate(
+      TransactionDuplicateCandidateCriteria candidateCriteria,
+      Long transactionId,
+      String description,
+      String normalizedDescription)
+      implements TransactionDuplicateCandidate {
+
+    @Override
+    public TransactionDuplicateCandidateCriteria getCandidateCriteria() {
+      return candidateCriteria;
+    }
+
+    @Override
+    public Long getTransactionId() {
+      return transactionId;
+    }
+
+    @Override
+    public String getDescription() {
+      return description;
+    }
+
+    @Override
+    public String getNormalizedDescription() {
+      return normalizedDescription;
+    }
+  }
+}
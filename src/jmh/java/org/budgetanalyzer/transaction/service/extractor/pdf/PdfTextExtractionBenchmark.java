@@ -0,0 +1,107 @@
+package org.budgetanalyzer.transaction.service.extractor.pdf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
+
+/**
+ * Measures wall-clock PDF text extraction of a long statement, on one thread and split into page
+ * ranges across workers.
+ *
+ * <p>The parallel page threshold is 1, so {@code parallelism} alone decides whether page ranges
+ * are extracted concurrently. Each page holds a full transaction table, like the pages of a yearly
+ * summary or a multi-month bank export.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class PdfTextExtractionBenchmark {
+
+  private static final int ROWS_PER_PAGE = 40;
+  private static final float FONT_SIZE = 9F;
+  private static final float[] COLUMN_XS = {40F, 100F, 340F, 460F};
+
+  @Param({"8", "32", "80"})
+  private int pageCount;
+
+  /** Workers per PDF; 1 extracts every page on the calling thread. */
+  @Param({"1", "2", "4"})
+  private int parallelism;
+
+  private PdfTextExtractionService pdfTextExtractionService;
+  private byte[] pdfContent;
+
+  @Setup
+  public void setUp() throws IOException {
+    pdfTextExtractionService =
+        new PdfTextExtractionService(new PdfTextExtractionProperties(1, parallelism));
+    pdfContent = statementPdf(pageCount);
+  }
+
+  @Benchmark
+  public PdfTextDocument extract() {
+    return pdfTextExtractionService.extract(pdfContent, "statement.pdf");
+  }
+
+  private static byte[] statementPdf(int pageCount) throws IOException {
+    try (var document = new PDDocument()) {
+      var font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (var pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+        var page = new PDPage();
+        document.addPage(page);
+        try (var contentStream = new PDPageContentStream(document, page)) {
+          var y = 760F;
+          writeRow(contentStream, font, y, "Date", "Description", "Amount", "Balance");
+          for (var row = 1; row <= ROWS_PER_PAGE; row++) {
+            y -= 17F;
+            writeRow(
+                contentStream,
+                font,
+                y,
+                String.format("%02d/%02d", (pageNumber - 1) % 12 + 1, row % 28 + 1),
+                "Card purchase " + pageNumber + "-" + row + " MERCHANT NAME",
+                String.format("-%d.%02d", row, pageNumber % 100),
+                String.format("%d.%02d", 5000 - row, row));
+          }
+        }
+      }
+      var byteArrayOutputStream = new ByteArrayOutputStream();
+      document.save(byteArrayOutputStream);
+      return byteArrayOutputStream.toByteArray();
+    }
+  }
+
+  private static void writeRow(
+      PDPageContentStream contentStream, PDType1Font font, float y, String... cells)
+      throws IOException {
+    for (var index = 0; index < cells.length; index++) {
+      contentStream.beginText();
+      contentStream.setFont(font, FONT_SIZE);
+      contentStream.newLineAtOffset(COLUMN_XS[index], y);
+      contentStream.showText(cells[index]);
+      contentStream.endText();
+    }
+  }
+}
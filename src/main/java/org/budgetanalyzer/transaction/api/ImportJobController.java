@@ -0,0 +1,242 @@
+package org.budgetanalyzer.transaction.api;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.budgetanalyzer.service.api.ApiErrorResponse;
+import org.budgetanalyzer.service.exception.InvalidRequestException;
+import org.budgetanalyzer.service.security.SecurityContextUtil;
+import org.budgetanalyzer.transaction.api.request.BatchImportRequest;
+import org.budgetanalyzer.transaction.api.response.ImportJobResponse;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.service.ImportJobService;
+import org.budgetanalyzer.transaction.service.PreviewImportTokenService;
+import org.budgetanalyzer.transaction.service.TransactionImportService;
+import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+
+/** REST controller for asynchronous statement preview and batch import jobs. */
+@Tag(name = "Import Jobs", description = "Run statement previews and batch imports asynchronously")
+@RestController
+@RequestMapping(path = "/v1/import-jobs")
+public class ImportJobController {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportJobController.class);
+
+  private final ImportJobService importJobService;
+  private final TransactionImportService transactionImportService;
+  private final PreviewImportTokenService previewImportTokenService;
+
+  public ImportJobController(
+      ImportJobService importJobService,
+      TransactionImportService transactionImportService,
+      PreviewImportTokenService previewImportTokenService) {
+    this.importJobService = importJobService;
+    this.transactionImportService = transactionImportService;
+    this.previewImportTokenService = previewImportTokenService;
+  }
+
+  @PreAuthorize("hasAuthority('transactions:read')")
+  @Operation(
+      summary = "Submit a statement preview job",
+      description =
+          "Accepts a statement file for preview and returns immediately with a queued job. Poll "
+              + "the Location URL for stage progress; when the job succeeds its preview field "
+              + "holds the same payload as POST /v1/transactions/preview, including "
+              + "previewImportToken.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "202",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(
+            responseCode = "422",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = {
+                      @ExampleObject(
+                          name = "Queue Full",
+                          summary = "The user already has the maximum number of active jobs",
+                          value =
+                              """
+                      {
+                        "type": "APPLICATION_ERROR",
+                        "message": "You already have 3 import jobs in progress. \
+                      Wait for one to finish before submitting another.",
+                        "code": "IMPORT_JOB_QUEUE_FULL"
+                      }
+                      """)
+                    }))
+      })
+  @PostMapping(path = "/preview", consumes = "multipart/form-data", produces = "application/json")
+  public ResponseEntity<ImportJobResponse> submitPreviewJob(
+      @Parameter(
+              description = "ID of the statement format used to parse the file",
+              required = true,
+              example = "123")
+          @NotNull
+          @RequestParam(name = "statementFormatId")
+          Long statementFormatId,
+      @Parameter(
+              description = "Account ID to pre-fill for all transactions",
+              example = "checking-12345")
+          @RequestParam(name = "accountId", required = false)
+          Optional<String> accountId,
+      @Parameter(description = "CSV or PDF file to preview", required = true)
+          @NotNull
+          @RequestParam("file")
+          MultipartFile file) {
+    var userId = getCurrentUserId();
+    log.info(
+        "Submitting preview job format: {} accountId: {} fileName: {} for user {}",
+        statementFormatId,
+        accountId.orElse(null),
+        file.getOriginalFilename(),
+        userId);
+
+    // The multipart file is only readable while the request is open, so read it before handing
+    // the work to the job thread.
+    var upload = transactionImportService.readUpload(file);
+    var importJob =
+        importJobService.submitPreview(statementFormatId, accountId.orElse(null), upload, userId);
+    return accepted(importJob);
+  }
+
+  @PreAuthorize("hasAuthority('transactions:write')")
+  @Operation(
+      summary = "Submit a batch import job",
+      description =
+          "Accepts the same body as POST /v1/transactions/batch and returns immediately with a "
+              + "queued job. previewImportToken is verified before the job is accepted. Poll the "
+              + "Location URL for stage progress; when the job succeeds its batchImport field "
+              + "holds the created transaction IDs. Validation and duplicate failures are "
+              + "reported in the job's error field with the same codes as the synchronous "
+              + "endpoint. Token-only submissions resolve the stored preview rows before the job "
+              + "is accepted.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "202",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "422",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class)))
+      })
+  @PostMapping(path = "/batch", consumes = "application/json", produces = "application/json")
+  public ResponseEntity<ImportJobResponse> submitBatchImportJob(
+      @Valid @RequestBody BatchImportRequest request) {
+    var userId = getCurrentUserId();
+    log.info(
+        "Submitting batch import job with {} for user {}",
+        request.usesStoredPreview()
+            ? "stored preview rows"
+            : request.transactions().size() + " transactions",
+        userId);
+
+    if (request.previewImportToken() == null || request.previewImportToken().isBlank()) {
+      throw new InvalidRequestException("previewImportToken is required");
+    }
+    if (!request.usesStoredPreview() && request.rowOverrides() != null) {
+      throw new InvalidRequestException(
+          "rowOverrides can only be used when transactions is omitted");
+    }
+    var fileImportSource =
+        BatchFileImportSource.from(
+            previewImportTokenService.verifyToken(request.previewImportToken(), userId));
+    // Resolve stored rows before queuing so a missing preview is reported synchronously.
+    var previewTransactions =
+        request.usesStoredPreview()
+            ? transactionImportService.getStoredPreviewTransactions(
+                request.previewImportToken(), userId, request.toRowOverrides())
+            : request.toPreviewTransactions();
+    var importJob =
+        importJobService.submitBatchImport(previewTransactions, userId, fileImportSource);
+    return accepted(importJob);
+  }
+
+  @PreAuthorize("hasAuthority('transactions:read')")
+  @Operation(
+      summary = "Get an import job",
+      description =
+          "Gets the status, current stage, and result or error of an import job owned by the "
+              + "current user")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class)))
+      })
+  @GetMapping(path = "/{id}", produces = "application/json")
+  public ImportJobResponse getJob(@PathVariable("id") UUID id) {
+    var userId = getCurrentUserId();
+    log.debug("Getting import job {} for user {}", id, userId);
+
+    return ImportJobResponse.from(importJobService.getJob(id, userId));
+  }
+
+  private ResponseEntity<ImportJobResponse> accepted(ImportJob importJob) {
+    var location =
+        ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/v1/import-jobs/{id}")
+            .buildAndExpand(importJob.getId())
+            .toUri();
+
+    return ResponseEntity.accepted().location(location).body(ImportJobResponse.from(importJob));
+  }
+
+  private String getCurrentUserId() {
+    return SecurityContextUtil.getCurrentUserId()
+        .orElseThrow(() -> new IllegalStateException("User ID not found in security context"));
+  }
+}
@@ -0,0 +1,116 @@
+package org.budgetanalyzer.transaction.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.budgetanalyzer.service.api.FieldError;
+import org.budgetanalyzer.service.exception.InvalidRequestException;
+import org.budgetanalyzer.transaction.api.request.BatchImportTransactionRequest;
+import org.budgetanalyzer.transaction.service.dto.BatchImportRow;
+
+/**
+ * Lazily reads newline-delimited JSON batch import rows from a request body.
+ *
+ * <p>Each line is bound to a {@link BatchImportTransactionRequest} only when the consumer asks for
+ * the next row, and is validated with Jakarta Bean Validation before conversion. Only the current
+ * row is held in memory. Malformed JSON ends the import with a 400 because later rows cannot be
+ * located reliably.
+ */
+final class NdjsonBatchImportRows implements Iterator<BatchImportRow> {
+
+  private static final Comparator<ConstraintViolation<?>> BY_PROPERTY_PATH =
+      Comparator.comparing(violation -> violation.getPropertyPath().toString());
+
+  private final MappingIterator<BatchImportTransactionRequest> requests;
+  private final Validator validator;
+  private int nextIndex;
+
+  private NdjsonBatchImportRows(
+      MappingIterator<BatchImportTransactionRequest> requests, Validator validator) {
+    this.requests = requests;
+    this.validator = validator;
+  }
+
+  /**
+   * Opens an NDJSON row reader over the given input stream.
+   *
+   * @param inputStream the request body, one JSON object per line
+   * @param objectMapper the object mapper used to bind each row
+   * @param validator the validator applied to each bound row
+   * @return the lazy row iterator
+   */
+  static NdjsonBatchImportRows open(
+      InputStream inputStream, ObjectMapper objectMapper, Validator validator) {
+    try {
+      MappingIterator<BatchImportTransactionRequest> requests =
+          objectMapper.readerFor(BatchImportTransactionRequest.class).readValues(inputStream);
+      return new NdjsonBatchImportRows(requests, validator);
+    } catch (JsonProcessingException e) {
+      throw malformedRow(0, e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read batch import stream", e);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return requests.hasNextValue();
+    } catch (JsonProcessingException e) {
+      throw malformedRow(nextIndex, e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read batch import stream", e);
+    }
+  }
+
+  @Override
+  public BatchImportRow next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    var index = nextIndex++;
+    BatchImportTransactionRequest request;
+    try {
+      request = requests.nextValue();
+    } catch (JsonProcessingException e) {
+      throw malformedRow(index, e);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read batch import stream", e);
+    }
+
+    var violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return BatchImportRow.valid(index, request.toServiceDto());
+    }
+
+    var fieldErrors =
+        violations.stream()
+            .sorted(BY_PROPERTY_PATH)
+            .map(
+                violation ->
+                    FieldError.of(
+                        index,
+                        violation.getPropertyPath().toString(),
+                        violation.getMessage(),
+                        violation.getInvalidValue()))
+            .toList();
+    return BatchImportRow.invalid(index, fieldErrors);
+  }
+
+  private static InvalidRequestException malformedRow(int index, JsonProcessingException e) {
+    return new InvalidRequestException(
+        "Malformed NDJSON at row " + index + ": " + e.getOriginalMessage());
+  }
+}
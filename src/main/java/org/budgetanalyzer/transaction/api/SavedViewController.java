@@ -115,8 +115,9 @@ public class SavedViewController {
     log.info("Listing saved views for user {}", userId);
 
     var views = savedViewService.getViewsForUser(userId);
+    var transactionCounts = savedViewService.countViewTransactionsById(views);
     return views.stream()
-        .map(view -> SavedViewResponse.from(view, savedViewService.countViewTransactions(view)))
+        .map(view -> SavedViewResponse.from(view, transactionCounts.get(view.getId())))
         .toList();
   }
 
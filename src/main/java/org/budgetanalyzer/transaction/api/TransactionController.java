@@ -1,17 +1,23 @@
 package org.budgetanalyzer.transaction.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotNull;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,12 +26,17 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -41,14 +52,16 @@ import org.budgetanalyzer.service.api.PagedResponse;
 import org.budgetanalyzer.service.exception.InvalidRequestException;
 import org.budgetanalyzer.service.security.SecurityContextUtil;
 import org.budgetanalyzer.transaction.api.request.BatchImportRequest;
-import org.budgetanalyzer.transaction.api.request.BatchImportTransactionRequest;
 import org.budgetanalyzer.transaction.api.request.BulkDeleteRequest;
 import org.budgetanalyzer.transaction.api.request.TransactionFilter;
 import org.budgetanalyzer.transaction.api.request.TransactionUpdateRequest;
 import org.budgetanalyzer.transaction.api.response.BatchImportResponse;
 import org.budgetanalyzer.transaction.api.response.BulkDeleteResponse;
 import org.budgetanalyzer.transaction.api.response.PreviewResponse;
+import org.budgetanalyzer.transaction.api.response.PreviewTransactionResponse;
 import org.budgetanalyzer.transaction.api.response.TransactionResponse;
+import org.budgetanalyzer.transaction.api.response.TransactionWindowResponse;
+import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.service.PreviewImportTokenService;
 import org.budgetanalyzer.transaction.service.TransactionImportService;
 import org.budgetanalyzer.transaction.service.TransactionService;
@@ -60,6 +73,8 @@ import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
 public class TransactionController {
 
   private static final Logger log = LoggerFactory.getLogger(TransactionController.class);
+  private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+  private static final String PREVIEW_IMPORT_TOKEN_HEADER = "X-Preview-Import-Token";
   private static final List<String> ALLOWED_SORT_FIELDS =
       List.of(
           "id",
@@ -73,18 +88,29 @@ public class TransactionController {
           "description",
           "createdAt",
           "updatedAt");
+  private static final List<String> CURSOR_SORT_FIELDS =
+      ALLOWED_SORT_FIELDS.stream()
+          .filter(TransactionSearchCursor.KEY_PARSERS::containsKey)
+          .toList();
+  private static final int MAX_WINDOW_SIZE = 100;
 
   private final TransactionImportService transactionImportService;
   private final TransactionService transactionService;
   private final PreviewImportTokenService previewImportTokenService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
 
   public TransactionController(
       TransactionImportService transactionImportService,
       TransactionService transactionService,
-      PreviewImportTokenService previewImportTokenService) {
+      PreviewImportTokenService previewImportTokenService,
+      ObjectMapper objectMapper,
+      Validator validator) {
     this.transactionImportService = transactionImportService;
     this.transactionService = transactionService;
     this.previewImportTokenService = previewImportTokenService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
   }
 
   @PreAuthorize("hasAuthority('transactions:read')")
@@ -168,7 +194,14 @@ public class TransactionController {
       @Parameter(description = "CSV or PDF file to preview", required = true)
           @NotNull
           @RequestParam("file")
-          MultipartFile file) {
+          MultipartFile file,
+      @Parameter(
+              description =
+                  "Whether to return the extracted rows. Set to false to page through them with "
+                      + "GET /v1/transactions/preview instead.",
+              example = "true")
+          @RequestParam(name = "includeTransactions", defaultValue = "true")
+          boolean includeTransactions) {
     log.info(
         "Received preview request format: {} accountId: {} fileName: {}",
         statementFormatId,
@@ -176,9 +209,64 @@ public class TransactionController {
         file.getOriginalFilename());
 
     var userId = getCurrentUserId();
-    return PreviewResponse.from(
-        transactionImportService.previewFile(
-            statementFormatId, accountId.orElse(null), file, userId));
+    var previewResponse =
+        PreviewResponse.from(
+            transactionImportService.previewFile(
+                statementFormatId, accountId.orElse(null), file, userId));
+    return includeTransactions ? previewResponse : previewResponse.withoutTransactions();
+  }
+
+  @PreAuthorize("hasAuthority('transactions:read')")
+  @Operation(
+      summary = "Page through a stored preview",
+      description =
+          "Returns a page of the rows extracted by POST /v1/transactions/preview, in preview "
+              + "order and with the same duplicate metadata. Rows are kept on the server until "
+              + "the preview import token expires. The zero-based row index used by rowOverrides "
+              + "is page * size plus the position within the page. Sorting is not supported.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Preview rows retrieved successfully",
+            useReturnTypeSchema = true),
+        @ApiResponse(
+            responseCode = "422",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = {
+                      @ExampleObject(
+                          name = "Preview Not Stored",
+                          summary = "The preview rows expired or were discarded",
+                          value =
+                              """
+                      {
+                        "type": "APPLICATION_ERROR",
+                        "message": "The preview rows are no longer stored. Submit the reviewed \
+                      transactions or preview the file again.",
+                        "code": "PREVIEW_RESULT_NOT_FOUND"
+                      }
+                      """)
+                    }))
+      })
+  @GetMapping(path = "/preview", produces = "application/json")
+  public PagedResponse<PreviewTransactionResponse> getStoredPreview(
+      @Parameter(description = "Opaque token returned by the preview endpoint", required = true)
+          @RequestHeader(PREVIEW_IMPORT_TOKEN_HEADER)
+          String previewImportToken,
+      @ParameterObject @PageableDefault(size = 50) Pageable pageable) {
+    var userId = getCurrentUserId();
+    log.debug(
+        "Received stored preview page request - page: {} size: {}",
+        pageable.getPageNumber(),
+        pageable.getPageSize());
+
+    previewImportTokenService.verifyToken(previewImportToken, userId);
+    var page = transactionImportService.getStoredPreviewPage(previewImportToken, userId, pageable);
+
+    return PagedResponse.from(page, PreviewTransactionResponse::from);
   }
 
   @PreAuthorize("hasAuthority('transactions:write')")
@@ -193,7 +281,10 @@ public class TransactionController {
               + "duplicates and duplicates intentionally imported. previewImportToken from the "
               + "preview response is required and is verified before batch import processing "
               + "starts. If duplicate filtering leaves no rows to create, the request fails with "
-              + "BATCH_IMPORT_NO_TRANSACTIONS_CREATED.")
+              + "BATCH_IMPORT_NO_TRANSACTIONS_CREATED. Omit transactions to import the rows the "
+              + "server stored for previewImportToken, optionally with rowOverrides to skip, "
+              + "allow duplicates for, or edit individual rows; if the stored rows have expired "
+              + "the request fails with PREVIEW_RESULT_NOT_FOUND.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -247,7 +338,14 @@ public class TransactionController {
   @PostMapping(path = "/batch", consumes = "application/json", produces = "application/json")
   public BatchImportResponse batchImportTransactions(
       @Valid @RequestBody BatchImportRequest request) {
-    log.info("Received batch import request with {} transactions", request.transactions().size());
+    if (request.usesStoredPreview()) {
+      log.info(
+          "Received stored preview batch import request with {} row overrides",
+          request.toRowOverrides().size());
+    } else {
+      log.info(
+          "Received batch import request with {} transactions", request.transactions().size());
+    }
 
     var userId = getCurrentUserId();
     var previewImportToken = requirePreviewImportToken(request);
@@ -255,25 +353,122 @@ public class TransactionController {
         BatchFileImportSource.from(
             previewImportTokenService.verifyToken(previewImportToken, userId));
     var previewTransactions =
-        request.transactions().stream().map(BatchImportTransactionRequest::toServiceDto).toList();
+        request.usesStoredPreview()
+            ? transactionImportService.getStoredPreviewTransactions(
+                previewImportToken, userId, request.toRowOverrides())
+            : request.toPreviewTransactions();
     var result = transactionService.batchImport(previewTransactions, userId, fileImportSource);
 
     return new BatchImportResponse(
-        result.createdTransactions().size(),
+        result.createdCount(),
         result.duplicatesSkipped(),
         result.duplicatesImported(),
-        result.createdTransactions().stream().map(TransactionResponse::from).toList());
+        result.createdTransactions().stream().map(TransactionResponse::from).toList(),
+        result.createdTransactionIds());
+  }
+
+  @PreAuthorize("hasAuthority('transactions:write')")
+  @Operation(
+      summary = "Import a batch of transactions as a stream",
+      description =
+          "Streaming variant of the batch import for large payloads. The body is newline-delimited "
+              + "JSON with one transaction object per line, using the same fields as the "
+              + "transactions array of the JSON request. previewImportToken is passed in the "
+              + "X-Preview-Import-Token header. Rows are parsed incrementally and validated, "
+              + "deduplicated, and persisted in bounded chunks inside one database transaction, so "
+              + "the import keeps all-or-nothing semantics. Row-level validation failures are "
+              + "reported together as BATCH_VALIDATION_FAILED with the zero-based row index, up to "
+              + "100 errors. The transactions array is empty and transactionIds holds at most the "
+              + "first 1000 created IDs; created is always the full count.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BatchImportResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = {
+                      @ExampleObject(
+                          name = "Malformed Row",
+                          summary = "A line is not a valid JSON transaction object",
+                          value =
+                              """
+                      {
+                        "type": "INVALID_REQUEST",
+                        "message": "Malformed NDJSON at row 12: Unexpected end-of-input"
+                      }
+                      """)
+                    })),
+        @ApiResponse(
+            responseCode = "422",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples = {
+                      @ExampleObject(
+                          name = "Row Validation Failed",
+                          summary = "One or more rows failed validation",
+                          value =
+                              """
+                      {
+                        "type": "APPLICATION_ERROR",
+                        "message": "Batch validation failed with 1 error(s)",
+                        "code": "BATCH_VALIDATION_FAILED"
+                      }
+                      """)
+                    }))
+      })
+  @PostMapping(path = "/batch", consumes = NDJSON_MEDIA_TYPE, produces = "application/json")
+  public BatchImportResponse batchImportTransactionStream(
+      @Parameter(description = "Opaque token returned by the preview endpoint", required = true)
+          @RequestHeader(PREVIEW_IMPORT_TOKEN_HEADER)
+          String previewImportToken,
+      InputStream body) {
+    log.info("Received streamed batch import request");
+
+    var userId = getCurrentUserId();
+    if (previewImportToken.isBlank()) {
+      throw new InvalidRequestException("previewImportToken is required");
+    }
+    var fileImportSource =
+        BatchFileImportSource.from(
+            previewImportTokenService.verifyToken(previewImportToken, userId));
+    var rows = NdjsonBatchImportRows.open(body, objectMapper, validator);
+    var result = transactionService.batchImportStream(rows, userId, fileImportSource);
+
+    return new BatchImportResponse(
+        result.createdCount(),
+        result.duplicatesSkipped(),
+        result.duplicatesImported(),
+        List.of(),
+        result.createdTransactionIds());
   }
 
   private String requirePreviewImportToken(BatchImportRequest request) {
     if (request.previewImportToken() == null || request.previewImportToken().isBlank()) {
       throw new InvalidRequestException("previewImportToken is required");
     }
+    if (!request.usesStoredPreview() && request.rowOverrides() != null) {
+      throw new InvalidRequestException(
+          "rowOverrides can only be used when transactions is omitted");
+    }
     return request.previewImportToken();
   }
 
   @PreAuthorize("hasAuthority('transactions:read')")
-  @Operation(summary = "Get transactions", description = "Get all transactions")
+  @Operation(
+      summary = "Get transactions",
+      description =
+          "Get all transactions. Large histories should use the paginated /page endpoint or "
+              + "the /stream endpoint instead.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -295,6 +490,94 @@ public class TransactionController {
     return transactions.stream().map(TransactionResponse::from).toList();
   }
 
+  @PreAuthorize("hasAuthority('transactions:read')")
+  @Operation(
+      summary = "List transactions with pagination",
+      description =
+          "Returns one page of the requesting user's active transactions matching the given "
+              + "filter criteria. Default sort is date,desc then id,desc.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Transactions retrieved successfully",
+            useReturnTypeSchema = true),
+        @ApiResponse(
+            responseCode = "400",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class)))
+      })
+  @GetMapping(path = "/page", produces = "application/json")
+  public PagedResponse<TransactionResponse> getTransactionPage(
+      @ParameterObject @Valid TransactionFilter filter,
+      @ParameterObject
+          @PageableDefault(
+              size = 50,
+              sort = {"date", "id"},
+              direction = Sort.Direction.DESC)
+          Pageable pageable) {
+    validateSortFields(pageable);
+    var userId = getCurrentUserId();
+    log.info(
+        "Received get transaction page request - User ID: {} page: {} size: {} sort: {}",
+        userId,
+        pageable.getPageNumber(),
+        pageable.getPageSize(),
+        pageable.getSort());
+
+    var page = transactionService.searchForUser(filter, userId, pageable);
+
+    return PagedResponse.from(page, TransactionResponse::from);
+  }
+
+  @PreAuthorize("hasAuthority('transactions:read')")
+  @Operation(
+      summary = "Stream transactions",
+      description =
+          "Streams the requesting user's active transactions matching the given filter criteria "
+              + "as a JSON array, newest first. Rows are read from a database cursor and written "
+              + "as they arrive, so the full list is never held in memory.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    array =
+                        @ArraySchema(
+                            schema = @Schema(implementation = TransactionResponse.class)))),
+      })
+  @GetMapping(path = "/stream", produces = "application/json")
+  public StreamingResponseBody streamTransactions(
+      @ParameterObject @Valid TransactionFilter filter) {
+    var userId = getCurrentUserId();
+    log.info("Received stream transactions request - User ID: {}", userId);
+
+    return outputStream -> {
+      try (var writer =
+          objectMapper
+              .writer()
+              .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+              .writeValuesAsArray(outputStream)) {
+        var count =
+            transactionService.streamTransactions(
+                filter, userId, transaction -> writeTransaction(writer, transaction));
+        log.info("Streamed {} transactions - User ID: {}", count, userId);
+      }
+    };
+  }
+
+  private static void writeTransaction(SequenceWriter writer, Transaction transaction) {
+    try {
+      writer.write(TransactionResponse.from(transaction));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @PreAuthorize("hasAuthority('transactions:read')")
   @Operation(
       summary = "Count transactions",
@@ -369,6 +652,92 @@ public class TransactionController {
     return PagedResponse.from(page, TransactionResponse::from);
   }
 
+  @PreAuthorize("hasAuthority('transactions:read:any')")
+  @Operation(
+      summary = "Search transactions across users with keyset pagination",
+      description =
+          "Returns one window of matching transactions and an opaque cursor for the next window. "
+              + "Each window seeks directly to its first row, so deep windows cost the same as "
+              + "the first one. The total count is only computed when includeTotal=true. Sorting "
+              + "by accountId and case-insensitive sorting are not supported; id is appended to "
+              + "the sort when missing.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Transactions retrieved successfully",
+            useReturnTypeSchema = true),
+        @ApiResponse(
+            responseCode = "400",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class),
+                    examples =
+                        @ExampleObject(
+                            name = "Invalid Cursor",
+                            summary = "Cursor is malformed or was issued for another sort",
+                            value =
+                                """
+                        {
+                          "type": "INVALID_REQUEST",
+                          "message": "Invalid cursor"
+                        }
+                        """)))
+      })
+  @GetMapping(path = "/search/cursor", produces = "application/json")
+  public TransactionWindowResponse searchTransactionsByCursor(
+      @ParameterObject @Valid TransactionFilter filter,
+      @SortDefault(
+              sort = {"date", "id"},
+              direction = Sort.Direction.DESC)
+          Sort sort,
+      @Parameter(description = "Maximum number of transactions per window (1-100)")
+          @RequestParam(name = "size", defaultValue = "50")
+          int size,
+      @Parameter(description = "Cursor returned as nextCursor by the previous window")
+          @RequestParam(name = "cursor", required = false)
+          String cursor,
+      @Parameter(description = "Whether to also count all matching transactions")
+          @RequestParam(name = "includeTotal", defaultValue = "false")
+          boolean includeTotal) {
+    validateKeysetSortFields(sort);
+    if (size < 1) {
+      throw new InvalidRequestException("Window size must be at least 1");
+    }
+    var windowSize = Math.min(size, MAX_WINDOW_SIZE);
+    var keysetSort = TransactionService.keysetSort(sort);
+    var position = TransactionSearchCursor.decode(cursor, keysetSort);
+    log.info(
+        "Cross-user transaction cursor search request - size: {} sort: {} continued: {} "
+            + "includeTotal: {} hasIdentityFilters: {} hasTextFilters: {} hasDateFilter: {} "
+            + "hasAmountFilter: {} hasTimestampFilter: {}",
+        windowSize,
+        keysetSort,
+        !position.isInitial(),
+        includeTotal,
+        hasIdentityFilters(filter),
+        hasTextFilters(filter),
+        hasDateFilter(filter),
+        hasAmountFilter(filter),
+        hasTimestampFilter(filter));
+
+    var window = transactionService.searchWindow(filter, keysetSort, position, windowSize);
+    var nextCursor =
+        window.hasNext() && !window.isEmpty()
+            ? TransactionSearchCursor.encode(
+                keysetSort, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+            : null;
+    var totalElements = includeTotal ? transactionService.countNotDeleted(filter) : null;
+
+    return new TransactionWindowResponse(
+        window.getContent().stream().map(TransactionResponse::from).toList(),
+        windowSize,
+        window.hasNext(),
+        nextCursor,
+        totalElements);
+  }
+
   @PreAuthorize("hasAuthority('transactions:read:any')")
   @Operation(summary = "Count transactions across users")
   @ApiResponses(
@@ -546,6 +915,78 @@ public class TransactionController {
     return new BulkDeleteResponse(result.deletedCount(), result.notFoundIds());
   }
 
+  @PreAuthorize("hasAuthority('transactions:delete')")
+  @Operation(
+      summary = "Bulk delete transactions by filter",
+      description =
+          "Soft-deletes every active transaction matching the filter in a single operation, for "
+              + "example all transactions of a bad import selected by fileImportId. Without "
+              + "transactions:delete:any the delete is limited to the requesting user's "
+              + "transactions. At least one criterion is required; ownerId counts only with "
+              + "transactions:delete:any.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkDeleteResponse.class),
+                    examples =
+                        @ExampleObject(
+                            name = "Successful bulk delete by filter",
+                            summary = "Matching transactions deleted",
+                            value =
+                                """
+                      {
+                        "deletedCount": 42,
+                        "notFoundIds": []
+                      }
+                      """)),
+            description = "Bulk delete operation completed"),
+        @ApiResponse(
+            responseCode = "400",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ApiErrorResponse.class)),
+            description = "Invalid request (no filter criteria)")
+      })
+  @PostMapping(
+      path = "/bulk-delete/by-filter",
+      consumes = "application/json",
+      produces = "application/json")
+  public BulkDeleteResponse bulkDeleteTransactionsByFilter(
+      @Valid @RequestBody TransactionFilter filter) {
+    var userId = getCurrentUserId();
+    var canActOnAny = SecurityContextUtil.hasAuthority("transactions:delete:any");
+    var hasOwnerFilter = canActOnAny && hasText(filter.ownerId());
+    if (!hasOwnerFilter
+        && filter.id() == null
+        && filter.fileImportId() == null
+        && !hasTextFilters(filter)
+        && !hasDateFilter(filter)
+        && !hasAmountFilter(filter)
+        && !hasTimestampFilter(filter)) {
+      throw new InvalidRequestException("At least one filter criterion is required");
+    }
+    log.info(
+        "Received bulk delete by filter request - hasIdentityFilters: {} hasTextFilters: {} "
+            + "hasDateFilter: {} hasAmountFilter: {} hasTimestampFilter: {}",
+        hasIdentityFilters(filter),
+        hasTextFilters(filter),
+        hasDateFilter(filter),
+        hasAmountFilter(filter),
+        hasTimestampFilter(filter));
+
+    var deletedCount =
+        transactionService.bulkDeleteTransactionsMatching(filter, userId, canActOnAny);
+
+    log.info("Bulk delete by filter completed: {} deleted", deletedCount);
+
+    return new BulkDeleteResponse(deletedCount, List.of());
+  }
+
   private String getCurrentUserId() {
     return SecurityContextUtil.getCurrentUserId()
         .orElseThrow(() -> new IllegalStateException("User ID not found in security context"));
@@ -563,8 +1004,25 @@ public class TransactionController {
     }
   }
 
+  private void validateKeysetSortFields(Sort sort) {
+    for (var sortOrder : sort) {
+      if (!TransactionSearchCursor.KEY_PARSERS.containsKey(sortOrder.getProperty())) {
+        throw new InvalidRequestException(
+            "Unsupported sort field for cursor search: "
+                + sortOrder.getProperty()
+                + ". Allowed sort fields: "
+                + String.join(", ", CURSOR_SORT_FIELDS));
+      }
+      if (sortOrder.isIgnoreCase()) {
+        throw new InvalidRequestException(
+            "Case-insensitive sort is not supported for cursor search: "
+                + sortOrder.getProperty());
+      }
+    }
+  }
+
   private boolean hasIdentityFilters(TransactionFilter filter) {
-    return filter.id() != null || hasText(filter.ownerId());
+    return filter.id() != null || filter.fileImportId() != null || hasText(filter.ownerId());
   }
 
   private boolean hasTextFilters(TransactionFilter filter) {
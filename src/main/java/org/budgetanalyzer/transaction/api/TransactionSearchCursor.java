@@ -0,0 +1,122 @@
+package org.budgetanalyzer.transaction.api;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.budgetanalyzer.service.exception.InvalidRequestException;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+
+/**
+ * Opaque continuation token for keyset transaction search.
+ *
+ * <p>A token is the Base64URL-encoded JSON of the sort it was issued for and the sort-key values of
+ * the last row of a window. Tokens are only accepted with the same sort, since the keys locate a
+ * row only within that order.
+ */
+final class TransactionSearchCursor {
+
+  /** Sort properties that can be used with keyset search and how to parse their token values. */
+  static final Map<String, Function<String, Object>> KEY_PARSERS =
+      Map.ofEntries(
+          Map.entry("id", Long::valueOf),
+          Map.entry("ownerId", value -> value),
+          Map.entry("bankName", value -> value),
+          Map.entry("date", LocalDate::parse),
+          Map.entry("currencyIsoCode", value -> value),
+          Map.entry("amount", BigDecimal::new),
+          Map.entry("type", TransactionType::valueOf),
+          Map.entry("description", value -> value),
+          Map.entry("createdAt", Instant::parse),
+          Map.entry("updatedAt", Instant::parse));
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+  private TransactionSearchCursor() {}
+
+  /**
+   * Encodes the position after a window.
+   *
+   * @param sort the sort the window was read with
+   * @param position the keyset position after the last row of the window
+   * @return the continuation token
+   */
+  static String encode(Sort sort, KeysetScrollPosition position) {
+    var keys = new ArrayList<String>();
+    for (var order : sort) {
+      var value = position.getKeys().get(order.getProperty());
+      keys.add(value instanceof BigDecimal amount ? amount.toPlainString() : value.toString());
+    }
+
+    try {
+      var json = OBJECT_MAPPER.writeValueAsBytes(new Token(signature(sort), keys));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode search cursor", e);
+    }
+  }
+
+  /**
+   * Decodes a continuation token issued for the given sort.
+   *
+   * @param cursor the continuation token, or {@code null} for the first window
+   * @param sort the sort of the current request
+   * @return the keyset position to continue from
+   * @throws InvalidRequestException if the token is malformed or was issued for another sort
+   */
+  static KeysetScrollPosition decode(String cursor, Sort sort) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+
+    Token token;
+    try {
+      token = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), Token.class);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new InvalidRequestException(INVALID_CURSOR_MESSAGE);
+    }
+
+    var orders = sort.toList();
+    if (!signature(sort).equals(token.sort())
+        || token.keys() == null
+        || token.keys().size() != orders.size()) {
+      throw new InvalidRequestException(INVALID_CURSOR_MESSAGE);
+    }
+
+    var keys = new LinkedHashMap<String, Object>();
+    for (var index = 0; index < orders.size(); index++) {
+      var property = orders.get(index).getProperty();
+      try {
+        keys.put(property, KEY_PARSERS.get(property).apply(token.keys().get(index)));
+      } catch (RuntimeException e) {
+        throw new InvalidRequestException(INVALID_CURSOR_MESSAGE);
+      }
+    }
+    return ScrollPosition.forward(keys);
+  }
+
+  private static String signature(Sort sort) {
+    var orders = new ArrayList<String>();
+    for (var order : sort) {
+      orders.add(order.getProperty() + ":" + order.getDirection());
+    }
+    return String.join(",", orders);
+  }
+
+  private record Token(String sort, List<String> keys) {}
+}
@@ -4,20 +4,28 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import org.budgetanalyzer.transaction.service.dto.PreviewRowOverride;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
 /**
  * Request payload for batch importing transactions.
  *
- * <p>Accepts a list of transaction DTOs (typically from the preview endpoint after user edits) and
- * persists them atomically.
+ * <p>Either carries the reviewed transaction DTOs (typically from the preview endpoint after user
+ * edits), or omits them and imports the rows the server stored for the preview import token, with
+ * optional per-row overrides. Accepted rows are persisted atomically.
  */
 @Schema(description = "Request for batch importing transactions")
 public record BatchImportRequest(
-    @Schema(description = "List of transactions to import")
-        @NotEmpty(message = "transactions list cannot be empty")
+    @Schema(
+            description =
+                "List of transactions to import. Omit to import the rows stored on the server for "
+                    + "previewImportToken.",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        @Size(min = 1, message = "transactions list cannot be empty")
         @Valid
         List<BatchImportTransactionRequest> transactions,
     @Schema(
@@ -27,4 +35,31 @@ public record BatchImportRequest(
             requiredMode = Schema.RequiredMode.REQUIRED,
             example = "v2.dGVzdGl2MTIzNDU.Kc4WwTqfh1sFD8pxVq7Hxg")
         @NotBlank(message = "previewImportToken is required")
-        String previewImportToken) {}
+        String previewImportToken,
+    @Schema(
+            description =
+                "Per-row edits applied to the stored preview rows. Only allowed when transactions "
+                    + "is omitted.",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        @Valid
+        List<PreviewRowOverrideRequest> rowOverrides) {
+
+  /**
+   * Returns whether the request imports the rows stored for its preview import token.
+   *
+   * @return true when no transactions were submitted
+   */
+  public boolean usesStoredPreview() {
+    return transactions == null;
+  }
+
+  public List<PreviewTransaction> toPreviewTransactions() {
+    return transactions.stream().map(BatchImportTransactionRequest::toServiceDto).toList();
+  }
+
+  public List<PreviewRowOverride> toRowOverrides() {
+    return rowOverrides == null
+        ? List.of()
+        : rowOverrides.stream().map(PreviewRowOverrideRequest::toServiceDto).toList();
+  }
+}
@@ -0,0 +1,56 @@
+package org.budgetanalyzer.transaction.api.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import org.budgetanalyzer.transaction.service.dto.PreviewRowOverride;
+
+/** Edit applied to one stored preview row when batch importing by preview import token. */
+@Schema(description = "Edit applied to one stored preview row during token-only batch import")
+public record PreviewRowOverrideRequest(
+    @Schema(
+            description = "Zero-based position of the row in the preview",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "44")
+        @NotNull(message = "index is required")
+        @PositiveOrZero(message = "index must not be negative")
+        Integer index,
+    @Schema(
+            description = "Whether to leave the row out of the import",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            example = "false",
+            defaultValue = "false")
+        Boolean skip,
+    @Schema(
+            description =
+                "Whether to import this row even when it matches duplicate detection. Has the same "
+                    + "meaning as allowDuplicate on submitted transactions.",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            example = "true",
+            defaultValue = "false")
+        Boolean allowDuplicate,
+    @Schema(
+            description = "Replacement description; omit to keep the parsed description",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            example = "TAQUERIA DEL SOL #3")
+        @Size(min = 1, message = "description must not be empty")
+        String description,
+    @Schema(
+            description = "Replacement category; omit to keep the parsed category",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            example = "Dining")
+        String category,
+    @Schema(
+            description = "Replacement account identifier; omit to keep the preview account ID",
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED,
+            example = "checking-12345")
+        String accountId) {
+
+  public PreviewRowOverride toServiceDto() {
+    return new PreviewRowOverride(
+        index, Boolean.TRUE.equals(skip), allowDuplicate, description, category, accountId);
+  }
+}
@@ -57,11 +57,14 @@ public record TransactionFilter(
         Instant updatedAfter,
     @Schema(description = "End of last update timestamp range", example = "2025-10-15T00:00:00Z")
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-        Instant updatedBefore) {
+        Instant updatedBefore,
+    @Schema(description = "ID of the file import the transaction was created by", example = "12")
+        Long fileImportId) {
 
   /** Creates an empty filter with all criteria set to null. */
   public static TransactionFilter empty() {
     return new TransactionFilter(
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+        null);
   }
 }
@@ -7,8 +7,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 /**
  * Response from batch import containing created transactions and duplicate information.
  *
- * <p>The response includes the count of created and skipped transactions, plus the full list of
- * created transactions with their assigned IDs for UI navigation.
+ * <p>The response includes the count of created and skipped transactions, the IDs of created
+ * transactions, and the full list of created transactions for UI navigation. Very large batches
+ * that are bulk-ingested return an empty transaction list; clients should use the IDs instead.
+ * Streamed imports return only the first created IDs, so {@code created} may exceed their number.
  */
 @Schema(description = "Response from batch transaction import")
 public record BatchImportResponse(
@@ -29,6 +31,15 @@ public record BatchImportResponse(
             example = "1")
         int duplicatesImported,
     @Schema(
-            description = "List of created transactions with IDs",
+            description =
+                "List of created transactions with IDs. Empty when the batch exceeded the "
+                    + "bulk-ingest threshold.",
             requiredMode = Schema.RequiredMode.REQUIRED)
-        List<TransactionResponse> transactions) {}
+        List<TransactionResponse> transactions,
+    @Schema(
+            description =
+                "IDs of created transactions, in import order. Streamed (NDJSON) imports return "
+                    + "at most the first 1000 IDs; created is always the full count.",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "[101, 102, 103]")
+        List<Long> transactionIds) {}
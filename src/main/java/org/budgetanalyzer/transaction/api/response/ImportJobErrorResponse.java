@@ -0,0 +1,46 @@
+package org.budgetanalyzer.transaction.api.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import org.budgetanalyzer.transaction.service.dto.ImportJobError;
+
+/** Error details of a failed import job. */
+@Schema(description = "Error details of a failed import job")
+public record ImportJobErrorResponse(
+    @Schema(
+            description = "Application error code",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "BATCH_VALIDATION_FAILED")
+        String code,
+    @Schema(
+            description = "Human-readable error message",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "Batch validation failed with 1 error(s)")
+        String message,
+    @Schema(
+            description = "Row-level validation errors; empty when the failure is not row-specific",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        List<FieldErrorResponse> fieldErrors) {
+
+  /** Creates an ImportJobErrorResponse from a service-layer ImportJobError. */
+  public static ImportJobErrorResponse from(ImportJobError error) {
+    return new ImportJobErrorResponse(
+        error.code(),
+        error.message(),
+        error.fieldErrors().stream()
+            .map(
+                rowError ->
+                    new FieldErrorResponse(rowError.index(), rowError.field(), rowError.message()))
+            .toList());
+  }
+
+  /** Row-level validation error of a failed batch import job. */
+  @Schema(description = "Row-level validation error")
+  public record FieldErrorResponse(
+      @Schema(description = "Zero-based row index", example = "44") Integer index,
+      @Schema(description = "Field name", example = "date") String field,
+      @Schema(description = "Validation message", example = "Transaction date is before 2000")
+          String message) {}
+}
@@ -0,0 +1,84 @@
+package org.budgetanalyzer.transaction.api.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+import org.budgetanalyzer.transaction.domain.ImportJobStatus;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.service.dto.ImportJobDetails;
+
+/**
+ * Status of an asynchronous import job.
+ *
+ * <p>Exactly one of {@code preview}, {@code batchImport}, and {@code error} is present once the job
+ * has finished; all three are null while it is queued or running.
+ */
+@Schema(description = "Asynchronous import job status and result")
+public record ImportJobResponse(
+    @Schema(description = "Job identifier", requiredMode = Schema.RequiredMode.REQUIRED) UUID id,
+    @Schema(
+            description = "Kind of work the job performs",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "PREVIEW")
+        ImportJobType type,
+    @Schema(
+            description = "Lifecycle status",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "RUNNING")
+        ImportJobStatus status,
+    @Schema(
+            description = "Latest stage reached; kept at the failing stage when the job fails",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            example = "PARSING")
+        ImportJobStage stage,
+    @Schema(description = "Detail for the current stage", example = "Parser revision 12 (2 of 3)")
+        String stageDetail,
+    @Schema(description = "Original filename of the statement", example = "statement.pdf")
+        String sourceFilename,
+    @Schema(description = "When the job was accepted", requiredMode = Schema.RequiredMode.REQUIRED)
+        Instant createdAt,
+    @Schema(description = "When the job state last changed") Instant updatedAt,
+    @Schema(description = "When execution started") Instant startedAt,
+    @Schema(description = "When the job finished") Instant completedAt,
+    @Schema(description = "Preview result of a succeeded preview job") PreviewResponse preview,
+    @Schema(description = "Result of a succeeded batch import job")
+        BatchImportResponse batchImport,
+    @Schema(description = "Error details of a failed job") ImportJobErrorResponse error) {
+
+  /** Creates an ImportJobResponse for a job without a result, such as a just-accepted job. */
+  public static ImportJobResponse from(ImportJob importJob) {
+    return from(new ImportJobDetails(importJob, null, null, null));
+  }
+
+  /** Creates an ImportJobResponse from service-layer job details. */
+  public static ImportJobResponse from(ImportJobDetails details) {
+    var importJob = details.job();
+    var batchImportResult = details.batchImportResult();
+    return new ImportJobResponse(
+        importJob.getId(),
+        importJob.getType(),
+        importJob.getStatus(),
+        importJob.getStage(),
+        importJob.getStageDetail(),
+        importJob.getSourceFilename(),
+        importJob.getCreatedAt(),
+        importJob.getUpdatedAt(),
+        importJob.getStartedAt(),
+        importJob.getCompletedAt(),
+        details.previewResult() == null ? null : PreviewResponse.from(details.previewResult()),
+        batchImportResult == null
+            ? null
+            : new BatchImportResponse(
+                batchImportResult.created(),
+                batchImportResult.duplicatesSkipped(),
+                batchImportResult.duplicatesImported(),
+                List.of(),
+                batchImportResult.transactionIds()),
+        details.error() == null ? null : ImportJobErrorResponse.from(details.error()));
+  }
+}
@@ -51,4 +51,13 @@ public record PreviewResponse(
         PreviewFileImportStatusResponse.from(previewResult.fileImport()),
         previewResult.transactions().stream().map(PreviewTransactionResponse::from).toList());
   }
+
+  /**
+   * Returns a copy of this response without rows, for clients that page through the stored preview
+   * instead.
+   */
+  public PreviewResponse withoutTransactions() {
+    return new PreviewResponse(
+        sourceFile, statementFormatId, previewImportToken, fileImport, List.of());
+  }
 }
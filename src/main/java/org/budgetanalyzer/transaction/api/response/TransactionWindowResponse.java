@@ -0,0 +1,37 @@
+package org.budgetanalyzer.transaction.api.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response object for keyset-paginated transaction search.
+ *
+ * <p>Contains one window of transactions and the opaque cursor that continues after it. The total
+ * count is only present when it was requested.
+ */
+@Schema(description = "One window of a keyset-paginated transaction search")
+public record TransactionWindowResponse(
+    @Schema(
+            description = "Transactions in this window",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        List<TransactionResponse> content,
+    @Schema(
+            description = "Maximum number of transactions per window",
+            example = "50",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        int size,
+    @Schema(
+            description = "Whether another window follows this one",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        boolean hasNext,
+    @Schema(
+            description =
+                "Opaque cursor for the next window; pass it back unchanged with the same filter "
+                    + "and sort. Null when there is no next window.",
+            example = "eyJzb3J0IjoiZGF0ZTpERVNDLGlkOkRFU0MiLCJrZXlzIjpbIjIwMjQtMTItMDEiLCI0MiJdfQ")
+        String nextCursor,
+    @Schema(
+            description = "Total number of matching transactions; null unless includeTotal=true",
+            example = "1250")
+        Long totalElements) {}
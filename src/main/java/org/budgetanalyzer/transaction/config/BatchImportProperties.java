@@ -0,0 +1,25 @@
+package org.budgetanalyzer.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for batch transaction import persistence.
+ *
+ * @param bulkIngestThreshold minimum number of rows to create before batch import switches from
+ *     JPA {@code saveAll} to the PostgreSQL COPY bulk-ingest path
+ * @param streamChunkSize number of rows validated, deduplicated, and persisted together by the
+ *     streaming NDJSON batch import
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.batch-import")
+public record BatchImportProperties(int bulkIngestThreshold, int streamChunkSize) {
+
+  /** Creates validated batch import configuration. */
+  public BatchImportProperties {
+    if (bulkIngestThreshold <= 0) {
+      throw new IllegalArgumentException("Batch import bulk-ingest threshold must be positive.");
+    }
+    if (streamChunkSize <= 0) {
+      throw new IllegalArgumentException("Batch import stream chunk size must be positive.");
+    }
+  }
+}
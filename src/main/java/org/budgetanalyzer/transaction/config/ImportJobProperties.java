@@ -0,0 +1,47 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for asynchronous import jobs.
+ *
+ * @param maxActiveJobsPerUser maximum number of queued or running jobs a single user may have;
+ *     further submissions are rejected until one finishes
+ * @param maxConcurrentJobs maximum number of jobs executing at once across all users; accepted
+ *     jobs beyond this stay queued
+ * @param heartbeatInterval how often an instance renews the lease of its queued and running jobs
+ *     and looks for expired jobs and finished jobs to purge
+ * @param leaseTimeout how long after its last heartbeat a queued or running job is considered
+ *     abandoned by its instance and marked as failed
+ * @param retention how long succeeded and failed jobs are kept after completion
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.import-jobs")
+public record ImportJobProperties(
+    int maxActiveJobsPerUser,
+    int maxConcurrentJobs,
+    Duration heartbeatInterval,
+    Duration leaseTimeout,
+    Duration retention) {
+
+  /** Creates validated import job configuration. */
+  public ImportJobProperties {
+    if (maxActiveJobsPerUser <= 0) {
+      throw new IllegalArgumentException("Import job max active jobs per user must be positive.");
+    }
+    if (maxConcurrentJobs <= 0) {
+      throw new IllegalArgumentException("Import job max concurrent jobs must be positive.");
+    }
+    if (heartbeatInterval == null || heartbeatInterval.isZero() || heartbeatInterval.isNegative()) {
+      throw new IllegalArgumentException("Import job heartbeat interval must be positive.");
+    }
+    if (leaseTimeout == null || leaseTimeout.compareTo(heartbeatInterval.multipliedBy(2)) < 0) {
+      throw new IllegalArgumentException(
+          "Import job lease timeout must be at least twice the heartbeat interval.");
+    }
+    if (retention == null || retention.isZero() || retention.isNegative()) {
+      throw new IllegalArgumentException("Import job retention must be positive.");
+    }
+  }
+}
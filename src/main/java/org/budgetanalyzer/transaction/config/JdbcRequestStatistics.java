@@ -0,0 +1,59 @@
+package org.budgetanalyzer.transaction.config;
+
+/**
+ * JDBC statements executed and rows fetched by the current request thread.
+ *
+ * <p>Counting only happens between {@link #begin()} and {@link #end()} on the same thread. Work
+ * handed to other threads, such as async request processing or import jobs, is not attributed to
+ * the request.
+ */
+final class JdbcRequestStatistics {
+
+  private static final ThreadLocal<JdbcRequestStatistics> CURRENT = new ThreadLocal<>();
+
+  private long statements;
+  private long rows;
+
+  private JdbcRequestStatistics() {}
+
+  /**
+   * Starts counting for the current thread.
+   *
+   * @return the statistics that will be updated until {@link #end()} is called
+   */
+  static JdbcRequestStatistics begin() {
+    var statistics = new JdbcRequestStatistics();
+    CURRENT.set(statistics);
+    return statistics;
+  }
+
+  /** Stops counting for the current thread. */
+  static void end() {
+    CURRENT.remove();
+  }
+
+  /**
+   * Returns the statistics being counted on the current thread.
+   *
+   * @return the current statistics, or {@code null} outside a request
+   */
+  static JdbcRequestStatistics current() {
+    return CURRENT.get();
+  }
+
+  void statementExecuted() {
+    statements++;
+  }
+
+  void rowFetched() {
+    rows++;
+  }
+
+  long statements() {
+    return statements;
+  }
+
+  long rows() {
+    return rows;
+  }
+}
@@ -0,0 +1,48 @@
+package org.budgetanalyzer.transaction.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Per-request JDBC statement and row statistics.
+ *
+ * <p>Wraps the application data source so statements and rows can be counted, and registers the
+ * filter that publishes the counts for each HTTP request. Meant to make N+1 query patterns visible
+ * in metrics and, with {@code budgetanalyzer.transaction.jdbc-statistics.debug-header}, on
+ * individual responses.
+ */
+@Configuration
+public class JdbcStatisticsConfig {
+
+  /** Wraps data sources so statements executed during a counted request are recorded. */
+  @Bean
+  static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+            && !(bean instanceof StatementCountingDataSource)) {
+          return new StatementCountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  /** Publishes the statements and rows of each HTTP request. */
+  @Bean
+  JdbcStatisticsFilter jdbcStatisticsFilter(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      JdbcStatisticsProperties jdbcStatisticsProperties) {
+    return new JdbcStatisticsFilter(
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+        jdbcStatisticsProperties.debugHeader());
+  }
+}
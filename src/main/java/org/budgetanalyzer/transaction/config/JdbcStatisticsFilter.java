@@ -0,0 +1,132 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Records the JDBC statements and rows of each HTTP request.
+ *
+ * <p>Counts are published as the {@value #STATEMENTS_METRIC} and {@value #ROWS_METRIC} distribution
+ * summaries, tagged with the HTTP method and URI template. When the debug header is enabled they
+ * are also returned in the {@value #STATEMENTS_HEADER} and {@value #ROWS_HEADER} response headers.
+ * Headers are written just before the response body, so they cover everything the handler did;
+ * for async and streaming responses they only cover the work done before the response started.
+ */
+class JdbcStatisticsFilter extends OncePerRequestFilter {
+
+  static final String STATEMENTS_METRIC = "http.server.requests.jdbc.statements";
+  static final String ROWS_METRIC = "http.server.requests.jdbc.rows";
+  static final String STATEMENTS_HEADER = "X-Jdbc-Statements";
+  static final String ROWS_HEADER = "X-Jdbc-Rows";
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final MeterRegistry meterRegistry;
+  private final boolean debugHeader;
+
+  JdbcStatisticsFilter(MeterRegistry meterRegistry, boolean debugHeader) {
+    this.meterRegistry = meterRegistry;
+    this.debugHeader = debugHeader;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    var statistics = JdbcRequestStatistics.begin();
+    var countedResponse = debugHeader ? new StatisticsHeaderResponse(response, statistics) : null;
+    try {
+      filterChain.doFilter(request, countedResponse != null ? countedResponse : response);
+    } finally {
+      JdbcRequestStatistics.end();
+      if (countedResponse != null) {
+        countedResponse.writeStatisticsHeaders();
+      }
+      publish(request, statistics);
+    }
+  }
+
+  private void publish(HttpServletRequest request, JdbcRequestStatistics statistics) {
+    var uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    var uri = uriPattern != null ? uriPattern.toString() : UNKNOWN_URI;
+    DistributionSummary.builder(STATEMENTS_METRIC)
+        .description("JDBC statements executed per HTTP request")
+        .baseUnit("statements")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(statistics.statements());
+    DistributionSummary.builder(ROWS_METRIC)
+        .description("JDBC result set rows fetched per HTTP request")
+        .baseUnit("rows")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(statistics.rows());
+  }
+
+  /** Adds the statistics headers the first time the response body or status is produced. */
+  private static final class StatisticsHeaderResponse extends HttpServletResponseWrapper {
+
+    private final JdbcRequestStatistics statistics;
+    private boolean headersWritten;
+
+    private StatisticsHeaderResponse(
+        HttpServletResponse response, JdbcRequestStatistics statistics) {
+      super(response);
+      this.statistics = statistics;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeStatisticsHeaders();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeStatisticsHeaders();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeStatisticsHeaders();
+      super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+      writeStatisticsHeaders();
+      super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+      writeStatisticsHeaders();
+      super.sendError(sc, msg);
+    }
+
+    private void writeStatisticsHeaders() {
+      if (headersWritten || isCommitted()) {
+        return;
+      }
+      headersWritten = true;
+      setHeader(STATEMENTS_HEADER, Long.toString(statistics.statements()));
+      setHeader(ROWS_HEADER, Long.toString(statistics.rows()));
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package org.budgetanalyzer.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for per-request JDBC statement and row statistics.
+ *
+ * @param debugHeader whether responses carry {@code X-Jdbc-Statements} and {@code X-Jdbc-Rows}
+ *     headers with the counts for the request; intended for local debugging and load tests
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.jdbc-statistics")
+public record JdbcStatisticsProperties(boolean debugHeader) {}
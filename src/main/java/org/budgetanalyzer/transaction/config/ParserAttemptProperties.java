@@ -0,0 +1,22 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for parser revision attempts during statement import preview.
+ *
+ * @param timeout how long after parsing starts each parser revision attempt may run before it is
+ *     cancelled and recorded as failed
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.parser-attempts")
+public record ParserAttemptProperties(Duration timeout) {
+
+  /** Creates validated parser attempt configuration. */
+  public ParserAttemptProperties {
+    if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+      throw new IllegalArgumentException("Parser attempt timeout must be positive.");
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package org.budgetanalyzer.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for positional PDF text extraction.
+ *
+ * @param parallelPageThreshold the page count from which a PDF's page range is split across
+ *     workers instead of being stripped on one thread
+ * @param parallelism the maximum number of workers for one PDF; 1 disables parallel extraction
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.pdf-text-extraction")
+public record PdfTextExtractionProperties(int parallelPageThreshold, int parallelism) {
+
+  /** Creates validated PDF text extraction configuration. */
+  public PdfTextExtractionProperties {
+    if (parallelPageThreshold < 1) {
+      throw new IllegalArgumentException("Parallel page threshold must be positive.");
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("PDF text extraction parallelism must be positive.");
+    }
+  }
+}
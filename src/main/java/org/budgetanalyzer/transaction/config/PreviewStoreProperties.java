@@ -0,0 +1,34 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration for the server-side store of parsed preview results.
+ *
+ * @param maxMemorySize approximate heap budget for stored preview rows; least recently used
+ *     previews beyond it are spilled to disk
+ * @param maxDiskSize disk budget for spilled previews; the oldest spilled previews beyond it are
+ *     discarded
+ * @param spillDirectory parent directory for spilled previews; each instance spills into its own
+ *     owner-only subdirectory and deletes it on shutdown
+ */
+@ConfigurationProperties(prefix = "budgetanalyzer.transaction.preview-store")
+public record PreviewStoreProperties(
+    DataSize maxMemorySize, DataSize maxDiskSize, Path spillDirectory) {
+
+  /** Creates validated preview store configuration. */
+  public PreviewStoreProperties {
+    if (maxMemorySize == null || maxMemorySize.toBytes() <= 0) {
+      throw new IllegalArgumentException("Preview store max memory size must be positive.");
+    }
+    if (maxDiskSize == null || maxDiskSize.isNegative()) {
+      throw new IllegalArgumentException("Preview store max disk size must not be negative.");
+    }
+    if (spillDirectory == null) {
+      throw new IllegalArgumentException("Preview store spill directory must be configured.");
+    }
+  }
+}
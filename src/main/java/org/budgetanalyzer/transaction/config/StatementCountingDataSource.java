@@ -0,0 +1,105 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source that counts statements and fetched rows into {@link JdbcRequestStatistics}.
+ *
+ * <p>Connections are only wrapped while a request is being counted, so startup, scheduled work,
+ * and import jobs use the pooled connections directly. Every {@code execute*} call counts as one
+ * statement, including a JDBC batch, since each is one database round trip. Rows are counted as
+ * {@link ResultSet#next()} advances.
+ */
+final class StatementCountingDataSource extends DelegatingDataSource {
+
+  StatementCountingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(super.getConnection(username, password));
+  }
+
+  private static Connection countingConnection(Connection connection) {
+    if (JdbcRequestStatistics.current() == null) {
+      return connection;
+    }
+
+    return proxy(
+        Connection.class,
+        connection,
+        (method, result) ->
+            result instanceof Statement statement
+                ? countingStatement(method.getReturnType(), statement)
+                : result);
+  }
+
+  private static Object countingStatement(Class<?> statementType, Statement statement) {
+    return proxy(
+        statementType,
+        statement,
+        (method, result) -> {
+          if (method.getName().startsWith("execute")) {
+            var statistics = JdbcRequestStatistics.current();
+            if (statistics != null) {
+              statistics.statementExecuted();
+            }
+          }
+          return result instanceof ResultSet resultSet ? countingResultSet(resultSet) : result;
+        });
+  }
+
+  private static ResultSet countingResultSet(ResultSet resultSet) {
+    return proxy(
+        ResultSet.class,
+        resultSet,
+        (method, result) -> {
+          if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+            var statistics = JdbcRequestStatistics.current();
+            if (statistics != null) {
+              statistics.rowFetched();
+            }
+          }
+          return result;
+        });
+  }
+
+  private static <T> T proxy(Class<T> type, Object target, ResultHandler resultHandler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+              if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+              }
+              try {
+                return resultHandler.handle(method, method.invoke(target, args));
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            }));
+  }
+
+  @FunctionalInterface
+  private interface ResultHandler {
+
+    Object handle(Method method, Object result);
+  }
+}
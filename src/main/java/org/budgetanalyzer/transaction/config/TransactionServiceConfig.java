@@ -5,6 +5,7 @@ import java.time.Clock;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Transaction service configuration.
@@ -13,7 +14,16 @@ import org.springframework.context.annotation.Configuration;
  * autoconfiguration mechanism. Explicit @ComponentScan is NOT required.
  */
 @Configuration
-@EnableConfigurationProperties(PreviewImportTokenProperties.class)
+@EnableScheduling
+@EnableConfigurationProperties({
+  PreviewImportTokenProperties.class,
+  BatchImportProperties.class,
+  ImportJobProperties.class,
+  PreviewStoreProperties.class,
+  JdbcStatisticsProperties.class,
+  ParserAttemptProperties.class,
+  PdfTextExtractionProperties.class
+})
 public class TransactionServiceConfig {
 
   /** Provides the application clock for time-sensitive service logic. */
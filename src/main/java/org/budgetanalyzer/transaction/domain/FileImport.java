@@ -107,6 +107,15 @@ public class FileImport {
     return fileImport;
   }
 
+  /**
+   * Records the final transaction count for an import whose rows were persisted incrementally.
+   *
+   * @param transactionCount number of transactions imported
+   */
+  public void updateTransactionCount(Integer transactionCount) {
+    this.transactionCount = transactionCount;
+  }
+
   public Long getId() {
     return id;
   }
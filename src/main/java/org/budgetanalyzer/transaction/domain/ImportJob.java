@@ -0,0 +1,232 @@
+package org.budgetanalyzer.transaction.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/**
+ * Persistent state of an asynchronous preview or batch import job.
+ *
+ * <p>The job row is written when the job is accepted and updated at every stage transition, so
+ * clients can poll progress and read results after the process restarts. Results and errors are
+ * stored as JSON documents owned by the import job service.
+ *
+ * <p>A job is leased to the service instance that accepted it. The owner renews the heartbeat
+ * while the job is queued or running, and other instances only treat the job as interrupted once
+ * the heartbeat is older than the lease timeout.
+ */
+@Entity
+@Table(name = "import_job")
+public class ImportJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  private UUID id;
+
+  @Column(name = "owner_id", length = 50, nullable = false)
+  private String ownerId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "job_type", length = 20, nullable = false)
+  private ImportJobType type;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 20, nullable = false)
+  private ImportJobStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(length = 30, nullable = false)
+  private ImportJobStage stage;
+
+  @Column(name = "stage_detail")
+  private String stageDetail;
+
+  @Column(name = "source_filename")
+  private String sourceFilename;
+
+  @Column(columnDefinition = "text")
+  private String result;
+
+  @Column(columnDefinition = "text")
+  private String error;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  @Column(name = "started_at")
+  private Instant startedAt;
+
+  @Column(name = "completed_at")
+  private Instant completedAt;
+
+  @Column(name = "instance_id", length = 36)
+  private String instanceId;
+
+  @Column(name = "heartbeat_at", nullable = false)
+  private Instant heartbeatAt;
+
+  /**
+   * Creates a queued job.
+   *
+   * @param ownerId user who submitted the job
+   * @param type kind of work the job performs
+   * @param sourceFilename original filename of the statement behind the job, if known
+   * @return new queued job
+   */
+  public static ImportJob queued(String ownerId, ImportJobType type, String sourceFilename) {
+    var importJob = new ImportJob();
+    importJob.ownerId = ownerId;
+    importJob.type = type;
+    importJob.status = ImportJobStatus.QUEUED;
+    importJob.stage = ImportJobStage.QUEUED;
+    importJob.sourceFilename = sourceFilename;
+    return importJob;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    var now = Instant.now();
+    createdAt = now;
+    updatedAt = now;
+    if (heartbeatAt == null) {
+      heartbeatAt = now;
+    }
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedAt = Instant.now();
+  }
+
+  /**
+   * Leases the job to the service instance that will run it.
+   *
+   * @param instanceId ID of the owning service instance
+   * @param heartbeatAt when the lease was last renewed
+   */
+  public void leaseTo(String instanceId, Instant heartbeatAt) {
+    this.instanceId = instanceId;
+    this.heartbeatAt = heartbeatAt;
+  }
+
+  /**
+   * Marks the job as running.
+   *
+   * @param startedAt when execution started
+   */
+  public void markRunning(Instant startedAt) {
+    this.status = ImportJobStatus.RUNNING;
+    this.startedAt = startedAt;
+  }
+
+  /**
+   * Records the stage the running job has reached.
+   *
+   * @param stage current stage
+   * @param stageDetail optional human-readable detail, such as the parser revision being tried
+   */
+  public void recordStage(ImportJobStage stage, String stageDetail) {
+    this.stage = stage;
+    this.stageDetail = stageDetail;
+  }
+
+  /**
+   * Marks the job as succeeded with its serialized result.
+   *
+   * @param result JSON result document
+   * @param completedAt when the job finished
+   */
+  public void markSucceeded(String result, Instant completedAt) {
+    this.status = ImportJobStatus.SUCCEEDED;
+    this.stage = ImportJobStage.COMPLETED;
+    this.stageDetail = null;
+    this.result = result;
+    this.completedAt = completedAt;
+  }
+
+  /**
+   * Marks the job as failed with its serialized error. The stage is kept so clients can see where
+   * the job stopped.
+   *
+   * @param error JSON error document
+   * @param completedAt when the job finished
+   */
+  public void markFailed(String error, Instant completedAt) {
+    this.status = ImportJobStatus.FAILED;
+    this.error = error;
+    this.completedAt = completedAt;
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public String getOwnerId() {
+    return ownerId;
+  }
+
+  public ImportJobType getType() {
+    return type;
+  }
+
+  public ImportJobStatus getStatus() {
+    return status;
+  }
+
+  public ImportJobStage getStage() {
+    return stage;
+  }
+
+  public String getStageDetail() {
+    return stageDetail;
+  }
+
+  public String getSourceFilename() {
+    return sourceFilename;
+  }
+
+  public String getResult() {
+    return result;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public Instant getStartedAt() {
+    return startedAt;
+  }
+
+  public Instant getCompletedAt() {
+    return completedAt;
+  }
+
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  public Instant getHeartbeatAt() {
+    return heartbeatAt;
+  }
+}
@@ -0,0 +1,25 @@
+package org.budgetanalyzer.transaction.domain;
+
+/** Processing stage reported by an asynchronous import job. */
+public enum ImportJobStage {
+  /** Waiting for an execution slot. */
+  QUEUED,
+
+  /** Hashing the uploaded file for import history lookup. */
+  HASHING,
+
+  /** Trying parser revisions for the selected statement format. */
+  PARSING,
+
+  /** Applying business validation rules to submitted rows. */
+  VALIDATING,
+
+  /** Comparing rows against existing transactions and earlier rows. */
+  MARKING_DUPLICATES,
+
+  /** Writing transactions and file import metadata. */
+  PERSISTING,
+
+  /** All stages finished. */
+  COMPLETED
+}
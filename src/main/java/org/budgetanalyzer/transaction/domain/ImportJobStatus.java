@@ -0,0 +1,25 @@
+package org.budgetanalyzer.transaction.domain;
+
+/** Lifecycle status of an asynchronous import job. */
+public enum ImportJobStatus {
+  /** Accepted and waiting for an execution slot. */
+  QUEUED,
+
+  /** Currently executing. */
+  RUNNING,
+
+  /** Finished successfully; the result is available. */
+  SUCCEEDED,
+
+  /** Finished with an error; the error details are available. */
+  FAILED;
+
+  /**
+   * Returns whether the job can no longer change.
+   *
+   * @return true for succeeded and failed jobs
+   */
+  public boolean isTerminal() {
+    return this == SUCCEEDED || this == FAILED;
+  }
+}
@@ -0,0 +1,10 @@
+package org.budgetanalyzer.transaction.domain;
+
+/** Kind of work an asynchronous import job performs. */
+public enum ImportJobType {
+  /** Parses an uploaded statement file and returns preview transactions. */
+  PREVIEW,
+
+  /** Persists reviewed transactions from a batch import request. */
+  BATCH_IMPORT
+}
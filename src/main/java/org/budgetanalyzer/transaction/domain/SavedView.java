@@ -15,13 +15,23 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import org.hibernate.annotations.DynamicUpdate;
 
-import org.budgetanalyzer.transaction.domain.converter.LongSetConverter;
 import org.budgetanalyzer.transaction.domain.converter.ViewCriteriaConverter;
 
-/** Saved view (smart collection) for filtering and grouping transactions. */
+/**
+ * Saved view (smart collection) for filtering and grouping transactions.
+ *
+ * <p>Pinned and excluded transaction IDs are stored in {@code saved_view_member}, not in this row.
+ * They are loaded and written by {@code SavedViewService} through member statements; the sets here
+ * mirror those rows for the current request. Updates are dynamic so that touching {@code
+ * updatedAt} after a member change cannot overwrite a concurrent rename or criteria change.
+ */
 @Entity
 @Table(name = "saved_view")
+@DynamicUpdate
 public class SavedView {
 
   @Id
@@ -41,13 +51,9 @@ public class SavedView {
   @Column(name = "open_ended", nullable = false)
   private boolean openEnded;
 
-  @Column(name = "pinned_ids", columnDefinition = "text", nullable = false)
-  @Convert(converter = LongSetConverter.class)
-  private Set<Long> pinnedIds = new HashSet<>();
+  @Transient private Set<Long> pinnedIds = new HashSet<>();
 
-  @Column(name = "excluded_ids", columnDefinition = "text", nullable = false)
-  @Convert(converter = LongSetConverter.class)
-  private Set<Long> excludedIds = new HashSet<>();
+  @Transient private Set<Long> excludedIds = new HashSet<>();
 
   @Column(name = "created_at", nullable = false, updatable = false)
   private Instant createdAt;
@@ -135,33 +141,43 @@ public class SavedView {
   public void pinTransaction(Long transactionId) {
     pinnedIds.add(transactionId);
     excludedIds.remove(transactionId);
+    markUpdated();
   }
 
   /** Pins multiple transactions to this view. */
   public void pinTransactions(Collection<Long> transactionIds) {
     pinnedIds.addAll(transactionIds);
     excludedIds.removeAll(transactionIds);
+    markUpdated();
   }
 
   /** Removes a pin from this view. */
   public void unpinTransaction(Long transactionId) {
     pinnedIds.remove(transactionId);
+    markUpdated();
   }
 
   /** Excludes a transaction from this view. */
   public void excludeTransaction(Long transactionId) {
     excludedIds.add(transactionId);
     pinnedIds.remove(transactionId);
+    markUpdated();
   }
 
   /** Excludes multiple transactions from this view. */
   public void excludeTransactions(Collection<Long> transactionIds) {
     excludedIds.addAll(transactionIds);
     pinnedIds.removeAll(transactionIds);
+    markUpdated();
   }
 
   /** Removes an exclusion from this view. */
   public void unexcludeTransaction(Long transactionId) {
     excludedIds.remove(transactionId);
+    markUpdated();
+  }
+
+  private void markUpdated() {
+    updatedAt = Instant.now();
   }
 }
@@ -0,0 +1,101 @@
+package org.budgetanalyzer.transaction.domain;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A transaction pinned to or excluded from a saved view, one row of {@code saved_view_member}.
+ *
+ * <p>Members are written by {@code SavedViewRepository} member statements and removed by the
+ * transaction soft-delete statements of {@code TransactionRepository}. The mapping is
+ * read-only so membership queries can test members with {@code EXISTS} subqueries instead of
+ * binding the pinned and excluded IDs as parameters.
+ */
+@Entity
+@Table(name = "saved_view_member")
+@IdClass(SavedViewMember.Key.class)
+@Immutable
+public class SavedViewMember {
+
+  @Id
+  @Column(name = "view_id", nullable = false)
+  private UUID viewId;
+
+  @Id
+  @Column(name = "transaction_id", nullable = false)
+  private Long transactionId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "membership_type", length = 20, nullable = false)
+  private SavedViewMemberType membershipType;
+
+  protected SavedViewMember() {}
+
+  /**
+   * Creates a member of a saved view.
+   *
+   * @param viewId the view ID
+   * @param transactionId the member transaction ID
+   * @param membershipType how the transaction belongs to the view
+   */
+  public SavedViewMember(UUID viewId, Long transactionId, SavedViewMemberType membershipType) {
+    this.viewId = viewId;
+    this.transactionId = transactionId;
+    this.membershipType = membershipType;
+  }
+
+  public UUID getViewId() {
+    return viewId;
+  }
+
+  public Long getTransactionId() {
+    return transactionId;
+  }
+
+  public SavedViewMemberType getMembershipType() {
+    return membershipType;
+  }
+
+  /** Composite primary key of a saved view member. */
+  public static class Key implements Serializable {
+
+    private UUID viewId;
+    private Long transactionId;
+
+    protected Key() {}
+
+    /**
+     * Creates the key of a saved view member.
+     *
+     * @param viewId the view ID
+     * @param transactionId the member transaction ID
+     */
+    public Key(UUID viewId, Long transactionId) {
+      this.viewId = viewId;
+      this.transactionId = transactionId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key key
+          && Objects.equals(viewId, key.viewId)
+          && Objects.equals(transactionId, key.transactionId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(viewId, transactionId);
+    }
+  }
+}
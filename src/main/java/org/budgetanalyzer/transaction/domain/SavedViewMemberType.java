@@ -0,0 +1,10 @@
+package org.budgetanalyzer.transaction.domain;
+
+/** Indicates how a transaction was explicitly added to or removed from a saved view. */
+public enum SavedViewMemberType {
+  /** Transaction was pinned to the view regardless of its criteria. */
+  PINNED,
+
+  /** Transaction was excluded from the view even if it matches its criteria. */
+  EXCLUDED
+}
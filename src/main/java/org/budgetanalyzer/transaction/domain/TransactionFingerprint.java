@@ -0,0 +1,137 @@
+package org.budgetanalyzer.transaction.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Duplicate-detection identity of a transaction, persisted with every row.
+ *
+ * <p>The normalized description removes case, whitespace, punctuation, separators, and diacritics.
+ * The fingerprint is the first 64 bits of a SHA-256 digest over the owner, the strict financial
+ * identity fields, and the normalized description, so exact duplicates can be found with an index
+ * lookup. Matches must still be confirmed against the underlying columns.
+ *
+ * <p>Changing the normalization or the digest input invalidates persisted values; such a change
+ * must clear {@code description_fingerprint} so the backfill recomputes it.
+ */
+public final class TransactionFingerprint {
+
+  private static final int AMOUNT_SCALE = 2;
+  private static final byte FIELD_SEPARATOR = 0;
+
+  private TransactionFingerprint() {}
+
+  /**
+   * Normalizes a description for duplicate comparison.
+   *
+   * @param description the original description
+   * @return the normalized description
+   */
+  public static String normalizeDescription(String description) {
+    Objects.requireNonNull(description, "description");
+
+    if (isAscii(description)) {
+      return normalizeAsciiDescription(description);
+    }
+
+    var normalizedDescription =
+        Normalizer.normalize(description.trim(), Normalizer.Form.NFKD).toUpperCase(Locale.ROOT);
+    var normalizedDescriptionBuilder = new StringBuilder(normalizedDescription.length());
+
+    normalizedDescription
+        .codePoints()
+        .filter(TransactionFingerprint::isComparableCodePoint)
+        .forEach(normalizedDescriptionBuilder::appendCodePoint);
+
+    return normalizedDescriptionBuilder.toString();
+  }
+
+  /**
+   * Computes the 64-bit duplicate fingerprint of a transaction.
+   *
+   * @param ownerId the transaction owner
+   * @param bankName the bank name
+   * @param date the transaction date
+   * @param amount the transaction amount; canonicalized to scale 2
+   * @param type the transaction type
+   * @param currencyIsoCode the ISO currency code
+   * @param normalizedDescription the description normalized with {@link #normalizeDescription}
+   * @return the fingerprint
+   */
+  public static long compute(
+      String ownerId,
+      String bankName,
+      LocalDate date,
+      BigDecimal amount,
+      TransactionType type,
+      String currencyIsoCode,
+      String normalizedDescription) {
+    var digest = sha256();
+    // PostgreSQL text cannot contain NUL, so a NUL separator keeps field boundaries unambiguous.
+    update(digest, Objects.requireNonNull(ownerId, "ownerId"));
+    update(digest, Objects.requireNonNull(bankName, "bankName"));
+    update(digest, Objects.requireNonNull(date, "date").toString());
+    update(
+        digest,
+        Objects.requireNonNull(amount, "amount")
+            .setScale(AMOUNT_SCALE, RoundingMode.HALF_UP)
+            .toPlainString());
+    update(digest, Objects.requireNonNull(type, "type").name());
+    update(digest, Objects.requireNonNull(currencyIsoCode, "currencyIsoCode"));
+    update(digest, Objects.requireNonNull(normalizedDescription, "normalizedDescription"));
+    return ByteBuffer.wrap(digest.digest()).getLong();
+  }
+
+  /*
+   * NFKD leaves ASCII unchanged and ASCII upper-cases to ASCII, so the only remaining step is
+   * keeping letters and digits.
+   */
+  private static String normalizeAsciiDescription(String description) {
+    var normalizedDescriptionBuilder = new StringBuilder(description.length());
+    for (int index = 0; index < description.length(); index++) {
+      var character = description.charAt(index);
+      if (character >= 'a' && character <= 'z') {
+        normalizedDescriptionBuilder.append((char) (character - ('a' - 'A')));
+      } else if (character >= 'A' && character <= 'Z' || character >= '0' && character <= '9') {
+        normalizedDescriptionBuilder.append(character);
+      }
+    }
+    return normalizedDescriptionBuilder.toString();
+  }
+
+  private static boolean isAscii(String description) {
+    for (int index = 0; index < description.length(); index++) {
+      if (description.charAt(index) >= 0x80) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isComparableCodePoint(int codePoint) {
+    return Character.isLetterOrDigit(codePoint)
+        && Character.getType(codePoint) != Character.NON_SPACING_MARK;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update(FIELD_SEPARATOR);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is always available in Java
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+}
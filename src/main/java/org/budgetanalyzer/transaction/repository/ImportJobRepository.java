@@ -0,0 +1,184 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import org.budgetanalyzer.transaction.domain.ImportJob;
+
+/**
+ * Repository for {@link ImportJob} entities.
+ *
+ * <p>State transitions are conditional updates on the current status and owning instance, so a
+ * job that another instance has already failed cannot be moved back to running or succeeded. Each
+ * transition returns the number of updated rows; zero means the job was no longer in the expected
+ * state.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+  /** Find an import job by ID and owner ID (for authorization). */
+  Optional<ImportJob> findByIdAndOwnerId(UUID id, String ownerId);
+
+  /**
+   * Moves a queued job owned by the instance to running.
+   *
+   * @param id the job ID
+   * @param instanceId the owning instance ID
+   * @param now the transition time
+   * @return the number of updated rows
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET status = 'RUNNING', started_at = :now, heartbeat_at = :now, updated_at = :now
+      WHERE id = :id AND instance_id = :instanceId AND status = 'QUEUED'
+      """,
+      nativeQuery = true)
+  int markRunning(
+      @Param("id") UUID id, @Param("instanceId") String instanceId, @Param("now") Instant now);
+
+  /**
+   * Records the stage of a running job owned by the instance.
+   *
+   * @param id the job ID
+   * @param instanceId the owning instance ID
+   * @param stage the stage reached
+   * @param stageDetail optional human-readable detail
+   * @param now the transition time
+   * @return the number of updated rows
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET stage = :stage, stage_detail = :stageDetail, updated_at = :now
+      WHERE id = :id AND instance_id = :instanceId AND status = 'RUNNING'
+      """,
+      nativeQuery = true)
+  int recordStage(
+      @Param("id") UUID id,
+      @Param("instanceId") String instanceId,
+      @Param("stage") String stage,
+      @Param("stageDetail") String stageDetail,
+      @Param("now") Instant now);
+
+  /**
+   * Moves a running job owned by the instance to succeeded.
+   *
+   * @param id the job ID
+   * @param instanceId the owning instance ID
+   * @param result the JSON result document
+   * @param now the completion time
+   * @return the number of updated rows
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET status = 'SUCCEEDED', stage = 'COMPLETED', stage_detail = NULL, result = :result,
+          completed_at = :now, updated_at = :now
+      WHERE id = :id AND instance_id = :instanceId AND status = 'RUNNING'
+      """,
+      nativeQuery = true)
+  int markSucceeded(
+      @Param("id") UUID id,
+      @Param("instanceId") String instanceId,
+      @Param("result") String result,
+      @Param("now") Instant now);
+
+  /**
+   * Moves a queued or running job owned by the instance to failed, keeping its stage. Queued jobs
+   * are failed when they could not be started at all.
+   *
+   * @param id the job ID
+   * @param instanceId the owning instance ID
+   * @param error the JSON error document
+   * @param now the completion time
+   * @return the number of updated rows
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET status = 'FAILED', error = :error, completed_at = :now, updated_at = :now
+      WHERE id = :id AND instance_id = :instanceId AND status IN ('QUEUED', 'RUNNING')
+      """,
+      nativeQuery = true)
+  int markFailed(
+      @Param("id") UUID id,
+      @Param("instanceId") String instanceId,
+      @Param("error") String error,
+      @Param("now") Instant now);
+
+  /**
+   * Renews the lease of every queued or running job owned by the instance.
+   *
+   * @param instanceId the owning instance ID
+   * @param now the heartbeat time
+   * @return the number of renewed jobs
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET heartbeat_at = :now
+      WHERE instance_id = :instanceId AND status IN ('QUEUED', 'RUNNING')
+      """,
+      nativeQuery = true)
+  int renewLeases(@Param("instanceId") String instanceId, @Param("now") Instant now);
+
+  /**
+   * Fails queued or running jobs of other instances whose lease expired before the cutoff.
+   *
+   * @param instanceId the calling instance ID, whose own jobs are never expired
+   * @param heartbeatCutoff jobs with an older heartbeat are failed
+   * @param error the JSON error document recorded on each failed job
+   * @param now the completion time
+   * @return the number of failed jobs
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      UPDATE import_job
+      SET status = 'FAILED', error = :error, completed_at = :now, updated_at = :now
+      WHERE status IN ('QUEUED', 'RUNNING')
+        AND heartbeat_at < :heartbeatCutoff
+        AND instance_id IS DISTINCT FROM :instanceId
+      """,
+      nativeQuery = true)
+  int failExpiredJobs(
+      @Param("instanceId") String instanceId,
+      @Param("heartbeatCutoff") Instant heartbeatCutoff,
+      @Param("error") String error,
+      @Param("now") Instant now);
+
+  /**
+   * Deletes succeeded and failed jobs that completed before the cutoff.
+   *
+   * @param completedCutoff jobs completed earlier are deleted
+   * @return the number of deleted jobs
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+      DELETE FROM import_job
+      WHERE status IN ('SUCCEEDED', 'FAILED') AND completed_at < :completedCutoff
+      """,
+      nativeQuery = true)
+  int deleteFinishedJobs(@Param("completedCutoff") Instant completedCutoff);
+}
@@ -1,15 +1,21 @@
 package org.budgetanalyzer.transaction.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.budgetanalyzer.transaction.domain.SavedView;
+import org.budgetanalyzer.transaction.domain.SavedViewMember;
+import org.budgetanalyzer.transaction.domain.SavedViewMemberType;
 
-/** Repository for {@link SavedView} entities. */
+/** Repository for {@link SavedView} entities and their pinned and excluded members. */
 @Repository
 public interface SavedViewRepository extends JpaRepository<SavedView, UUID> {
 
@@ -18,4 +24,76 @@ public interface SavedViewRepository extends JpaRepository<SavedView, UUID> {
 
   /** Find a saved view by ID and user ID (for authorization). */
   Optional<SavedView> findByIdAndUserId(UUID id, String userId);
+
+  /**
+   * Finds the pinned and excluded members of the given views.
+   *
+   * @param viewIds the view IDs
+   * @return one row per member, in no particular order
+   */
+  @Query("SELECT svm FROM SavedViewMember svm WHERE svm.viewId IN :viewIds")
+  List<SavedViewMember> findMembers(@Param("viewIds") Collection<UUID> viewIds);
+
+  /**
+   * Adds transactions to a view as pinned or excluded members in one statement.
+   *
+   * <p>A transaction that is already a member of the view switches to the given membership type,
+   * so pinning an excluded transaction removes the exclusion and vice versa.
+   *
+   * @param viewId the view ID
+   * @param transactionIds the transaction IDs to add
+   * @param membershipType the membership type to store
+   */
+  default void upsertMembers(
+      UUID viewId, Collection<Long> transactionIds, SavedViewMemberType membershipType) {
+    if (transactionIds.isEmpty()) {
+      return;
+    }
+
+    upsertMemberArray(
+        viewId, transactionIds.stream().distinct().toArray(Long[]::new), membershipType.name());
+  }
+
+  @Modifying
+  @Query(
+      value =
+          """
+      INSERT INTO saved_view_member (view_id, transaction_id, membership_type)
+      SELECT :viewId, member.transaction_id, :membershipType
+      FROM unnest(CAST(:transactionIds AS bigint[])) AS member(transaction_id)
+      ON CONFLICT (view_id, transaction_id)
+      DO UPDATE SET membership_type = EXCLUDED.membership_type
+      """,
+      nativeQuery = true)
+  int upsertMemberArray(
+      @Param("viewId") UUID viewId,
+      @Param("transactionIds") Long[] transactionIds,
+      @Param("membershipType") String membershipType);
+
+  /**
+   * Removes a transaction from a view if it is a member of the given type.
+   *
+   * @param viewId the view ID
+   * @param transactionId the transaction ID to remove
+   * @param membershipType the membership type to remove
+   * @return the number of removed rows
+   */
+  default int deleteMember(UUID viewId, Long transactionId, SavedViewMemberType membershipType) {
+    return deleteMemberOfType(viewId, transactionId, membershipType.name());
+  }
+
+  @Modifying
+  @Query(
+      value =
+          """
+      DELETE FROM saved_view_member
+      WHERE view_id = :viewId
+        AND transaction_id = :transactionId
+        AND membership_type = :membershipType
+      """,
+      nativeQuery = true)
+  int deleteMemberOfType(
+      @Param("viewId") UUID viewId,
+      @Param("transactionId") Long transactionId,
+      @Param("membershipType") String membershipType);
 }
@@ -0,0 +1,22 @@
+package org.budgetanalyzer.transaction.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** Set-based soft-delete of transactions selected by a {@link Specification}. */
+public interface TransactionBulkSoftDeleteOperations {
+
+  /**
+   * Soft-deletes every active transaction matching the specification in a single statement, then
+   * removes soft-deleted transactions from the saved views they are pinned to or excluded from.
+   *
+   * <p>The statements bypass the persistence context, so entities already loaded in the current
+   * session are not updated.
+   *
+   * @param specification the transactions to delete; must not depend on the query it is applied to
+   * @param deletedBy the ID of the user performing the delete
+   * @return the number of transactions deleted
+   */
+  int softDeleteAllNotDeleted(Specification<Transaction> specification, String deletedBy);
+}
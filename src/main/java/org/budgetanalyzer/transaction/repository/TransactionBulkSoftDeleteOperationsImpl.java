@@ -0,0 +1,57 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.time.Instant;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/**
+ * Criteria-update implementation of {@link TransactionBulkSoftDeleteOperations}.
+ *
+ * <p>Sets the same columns as {@code markDeleted} plus the audit update columns, which a bulk
+ * update does not receive from the auditing listener. Saved view members of soft-deleted
+ * transactions are then removed in a second statement, since the foreign key cascade only fires on
+ * hard deletes.
+ */
+class TransactionBulkSoftDeleteOperationsImpl implements TransactionBulkSoftDeleteOperations {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  @Transactional
+  public int softDeleteAllNotDeleted(Specification<Transaction> specification, String deletedBy) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var criteriaUpdate = criteriaBuilder.createCriteriaUpdate(Transaction.class);
+    var root = criteriaUpdate.from(Transaction.class);
+    var deletedAt = Instant.now();
+
+    criteriaUpdate
+        .set(root.<Boolean>get("deleted"), true)
+        .set(root.<String>get("deletedBy"), deletedBy)
+        .set(root.<Instant>get("deletedAt"), deletedAt)
+        .set(root.<String>get("updatedBy"), deletedBy)
+        .set(root.<Instant>get("updatedAt"), deletedAt)
+        .where(
+            criteriaBuilder.isFalse(root.get("deleted")),
+            specification.toPredicate(root, null, criteriaBuilder));
+
+    var deletedCount = entityManager.createQuery(criteriaUpdate).executeUpdate();
+    if (deletedCount > 0) {
+      entityManager
+          .createNativeQuery(
+              """
+              DELETE FROM saved_view_member
+              USING transaction
+              WHERE transaction.id = saved_view_member.transaction_id
+                AND transaction.deleted = true
+              """)
+          .executeUpdate();
+    }
+    return deletedCount;
+  }
+}
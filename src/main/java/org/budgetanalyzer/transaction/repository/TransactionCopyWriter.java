@@ -0,0 +1,296 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
+
+/**
+ * Bulk-inserts transactions with the PostgreSQL binary COPY protocol.
+ *
+ * <p>Rows are streamed straight from unmanaged {@link Transaction} instances, so Hibernate never
+ * tracks them in the persistence context. IDs are reserved up front from {@code
+ * transaction_id_seq} using the same pooled block convention as the entity mapping, which keeps
+ * COPY-inserted rows and JPA-inserted rows from colliding.
+ *
+ * <p>The COPY runs on the connection bound to the current Spring transaction, so callers get the
+ * same all-or-nothing semantics as a JPA {@code saveAll}.
+ */
+@Repository
+public class TransactionCopyWriter {
+
+  private static final String COPY_SQL =
+      """
+      COPY transaction (
+          id,
+          account_id,
+          bank_name,
+          date,
+          currency_iso_code,
+          amount,
+          type,
+          description,
+          normalized_description,
+          description_fingerprint,
+          owner_id,
+          file_import_id,
+          created_at,
+          updated_at,
+          created_by,
+          updated_by
+      ) FROM STDIN (FORMAT binary)
+      """;
+  private static final String ALLOCATE_ID_BLOCKS_SQL =
+      "SELECT nextval('transaction_id_seq') FROM generate_series(1, ?)";
+  private static final short COLUMN_COUNT = 16;
+  private static final int COPY_BUFFER_SIZE_BYTES = 64 * 1024;
+
+  private static final byte[] BINARY_COPY_SIGNATURE = {
+    'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0
+  };
+  private static final long POSTGRES_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+  private static final long POSTGRES_EPOCH_SECOND = 946_684_800L;
+  private static final short NUMERIC_POSITIVE = 0x0000;
+  private static final short NUMERIC_NEGATIVE = 0x4000;
+  private static final int NUMERIC_DIGITS_PER_GROUP = 4;
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Constructs a new TransactionCopyWriter.
+   *
+   * @param dataSource the data source whose transactional connection receives the COPY stream
+   * @param jdbcTemplate the JDBC template used for ID block allocation
+   */
+  public TransactionCopyWriter(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Inserts new transactions with binary COPY and returns their IDs.
+   *
+   * <p>Each transaction must carry its owner; the file import, when present, must already be
+   * flushed so the foreign key is visible to the COPY. The passed instances are not modified.
+   *
+   * @param transactions the unmanaged transactions to insert
+   * @param auditUser the user recorded in {@code created_by} and {@code updated_by}
+   * @param timestamp the timestamp recorded in {@code created_at} and {@code updated_at}
+   * @return the generated IDs, in the same order as {@code transactions}
+   */
+  public List<Long> insertAll(List<Transaction> transactions, String auditUser, Instant timestamp) {
+    if (transactions.isEmpty()) {
+      return List.of();
+    }
+
+    var ids = allocateIds(transactions.size());
+    var connection = DataSourceUtils.getConnection(dataSource);
+    try {
+      copy(connection, transactions, ids, auditUser, timestamp);
+    } catch (SQLException e) {
+      throw jdbcTemplate.getExceptionTranslator().translate("COPY transaction", COPY_SQL, e);
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException("Failed to stream transaction COPY rows", e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+    return ids;
+  }
+
+  private List<Long> allocateIds(int rowCount) {
+    var ids = new ArrayList<Long>(rowCount);
+    while (ids.size() < rowCount) {
+      var remaining = rowCount - ids.size();
+      var blockCount =
+          (remaining + Transaction.ID_ALLOCATION_SIZE - 1) / Transaction.ID_ALLOCATION_SIZE;
+      var blockHighValues =
+          jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Long.class, blockCount);
+      for (var blockHighValue : blockHighValues) {
+        // Pooled optimizer convention: a sequence value V reserves (V - allocationSize, V].
+        var blockLowValue = Math.max(1L, blockHighValue - Transaction.ID_ALLOCATION_SIZE + 1);
+        for (var id = blockLowValue; id <= blockHighValue && ids.size() < rowCount; id++) {
+          ids.add(id);
+        }
+      }
+    }
+    return ids;
+  }
+
+  private static void copy(
+      Connection connection,
+      List<Transaction> transactions,
+      List<Long> ids,
+      String auditUser,
+      Instant timestamp)
+      throws SQLException, IOException {
+    var pgConnection = connection.unwrap(PGConnection.class);
+    var copyStream = new PGCopyOutputStream(pgConnection, COPY_SQL, COPY_BUFFER_SIZE_BYTES);
+    try {
+      var out = new DataOutputStream(copyStream);
+      writeHeader(out);
+      for (int i = 0; i < transactions.size(); i++) {
+        writeRow(out, ids.get(i), transactions.get(i), auditUser, timestamp);
+      }
+      out.writeShort(-1);
+      out.flush();
+      copyStream.endCopy();
+    } catch (SQLException | IOException | RuntimeException e) {
+      if (copyStream.isActive()) {
+        copyStream.cancelCopy();
+      }
+      throw e;
+    }
+  }
+
+  private static void writeHeader(DataOutputStream out) throws IOException {
+    out.write(BINARY_COPY_SIGNATURE);
+    out.writeInt(0); // flags
+    out.writeInt(0); // header extension length
+  }
+
+  private static void writeRow(
+      DataOutputStream out, long id, Transaction transaction, String auditUser, Instant timestamp)
+      throws IOException {
+    var fileImport = transaction.getFileImport();
+    // COPY skips entity callbacks, so derive the duplicate fingerprint the same way they do.
+    var normalizedDescription =
+        TransactionFingerprint.normalizeDescription(transaction.getDescription());
+    var descriptionFingerprint =
+        TransactionFingerprint.compute(
+            transaction.getOwnerId(),
+            transaction.getBankName(),
+            transaction.getDate(),
+            transaction.getAmount(),
+            transaction.getType(),
+            transaction.getCurrencyIsoCode(),
+            normalizedDescription);
+
+    out.writeShort(COLUMN_COUNT);
+    writeLong(out, id);
+    writeText(out, transaction.getAccountId());
+    writeText(out, transaction.getBankName());
+    writeDate(out, transaction.getDate());
+    writeText(out, transaction.getCurrencyIsoCode());
+    writeNumeric(out, transaction.getAmount());
+    writeText(out, transaction.getType().name());
+    writeText(out, transaction.getDescription());
+    writeText(out, normalizedDescription);
+    writeLong(out, descriptionFingerprint);
+    writeText(out, transaction.getOwnerId());
+    if (fileImport == null) {
+      writeNull(out);
+    } else {
+      writeLong(out, fileImport.getId());
+    }
+    writeTimestamp(out, timestamp);
+    writeTimestamp(out, timestamp);
+    writeText(out, auditUser);
+    writeText(out, auditUser);
+  }
+
+  private static void writeNull(DataOutputStream out) throws IOException {
+    out.writeInt(-1);
+  }
+
+  private static void writeLong(DataOutputStream out, long value) throws IOException {
+    out.writeInt(Long.BYTES);
+    out.writeLong(value);
+  }
+
+  private static void writeText(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      writeNull(out);
+      return;
+    }
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeDate(DataOutputStream out, LocalDate value) throws IOException {
+    out.writeInt(Integer.BYTES);
+    out.writeInt(Math.toIntExact(value.toEpochDay() - POSTGRES_EPOCH_DAY));
+  }
+
+  private static void writeTimestamp(DataOutputStream out, Instant value) throws IOException {
+    var micros =
+        Math.addExact(
+            Math.multiplyExact(value.getEpochSecond() - POSTGRES_EPOCH_SECOND, 1_000_000L),
+            value.getNano() / 1_000L);
+    out.writeInt(Long.BYTES);
+    out.writeLong(micros);
+  }
+
+  /**
+   * Writes a numeric value in PostgreSQL's binary representation: base-10000 digit groups with a
+   * group weight relative to the decimal point, a sign word, and the display scale.
+   */
+  private static void writeNumeric(DataOutputStream out, BigDecimal value) throws IOException {
+    var plainDigits = value.abs().toPlainString();
+    var pointIndex = plainDigits.indexOf('.');
+    var integerDigits = pointIndex < 0 ? plainDigits : plainDigits.substring(0, pointIndex);
+    var fractionDigits = pointIndex < 0 ? "" : plainDigits.substring(pointIndex + 1);
+    var integerPadding =
+        (NUMERIC_DIGITS_PER_GROUP - integerDigits.length() % NUMERIC_DIGITS_PER_GROUP)
+            % NUMERIC_DIGITS_PER_GROUP;
+    var fractionPadding =
+        (NUMERIC_DIGITS_PER_GROUP - fractionDigits.length() % NUMERIC_DIGITS_PER_GROUP)
+            % NUMERIC_DIGITS_PER_GROUP;
+    var alignedDigits =
+        "0".repeat(integerPadding) + integerDigits + fractionDigits + "0".repeat(fractionPadding);
+
+    var groups = new short[alignedDigits.length() / NUMERIC_DIGITS_PER_GROUP];
+    for (int i = 0; i < groups.length; i++) {
+      groups[i] =
+          Short.parseShort(
+              alignedDigits.substring(
+                  i * NUMERIC_DIGITS_PER_GROUP, (i + 1) * NUMERIC_DIGITS_PER_GROUP));
+    }
+
+    var weight = (integerPadding + integerDigits.length()) / NUMERIC_DIGITS_PER_GROUP - 1;
+    var first = 0;
+    while (first < groups.length && groups[first] == 0) {
+      first++;
+      weight--;
+    }
+    var last = groups.length;
+    while (last > first && groups[last - 1] == 0) {
+      last--;
+    }
+
+    var digitCount = last - first;
+    var sign = value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE;
+    if (digitCount == 0) {
+      weight = 0;
+      sign = NUMERIC_POSITIVE;
+    }
+
+    out.writeInt(4 * Short.BYTES + digitCount * Short.BYTES);
+    out.writeShort(digitCount);
+    out.writeShort(weight);
+    out.writeShort(sign);
+    out.writeShort(Math.max(value.scale(), 0));
+    for (int i = first; i < last; i++) {
+      out.writeShort(groups[i]);
+    }
+  }
+}
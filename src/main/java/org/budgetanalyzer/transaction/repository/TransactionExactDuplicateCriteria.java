@@ -0,0 +1,22 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.Objects;
+
+/**
+ * Structured repository input for owner-scoped exact duplicate lookup.
+ *
+ * @param descriptionFingerprint the 64-bit duplicate fingerprint of the incoming row
+ * @param candidateCriteria the strict financial identity fields of the incoming row
+ * @param normalizedDescription the normalized description of the incoming row
+ */
+public record TransactionExactDuplicateCriteria(
+    long descriptionFingerprint,
+    TransactionDuplicateCandidateCriteria candidateCriteria,
+    String normalizedDescription) {
+
+  /** Validates exact duplicate criteria. */
+  public TransactionExactDuplicateCriteria {
+    candidateCriteria = Objects.requireNonNull(candidateCriteria, "candidateCriteria");
+    normalizedDescription = Objects.requireNonNull(normalizedDescription, "normalizedDescription");
+  }
+}
@@ -0,0 +1,30 @@
+package org.budgetanalyzer.transaction.repository;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** Keyset (seek) pagination over active transactions. */
+public interface TransactionKeysetOperations {
+
+  /**
+   * Finds the next window of active transactions after a keyset position.
+   *
+   * <p>Rows are located by comparing their sort keys with the keys of the last row of the previous
+   * window, so the cost of a window does not depend on how many rows precede it. No count query is
+   * run.
+   *
+   * @param spec the filter specification
+   * @param sort the window order; must end with a unique property and contain only non-null
+   *     properties
+   * @param position the keys of the last row of the previous window, keyed by sort property, or
+   *     the initial position
+   * @param limit the maximum number of rows in the window
+   * @return the window of transactions
+   */
+  Window<Transaction> scrollNotDeleted(
+      Specification<Transaction> spec, Sort sort, KeysetScrollPosition position, int limit);
+}
@@ -0,0 +1,109 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** Criteria-query implementation of {@link TransactionKeysetOperations}. */
+class TransactionKeysetOperationsImpl implements TransactionKeysetOperations {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Window<Transaction> scrollNotDeleted(
+      Specification<Transaction> spec, Sort sort, KeysetScrollPosition position, int limit) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(Transaction.class);
+    var root = query.from(Transaction.class);
+
+    var predicates = new ArrayList<Predicate>();
+    predicates.add(criteriaBuilder.isFalse(root.get("deleted")));
+    var specPredicate = spec.toPredicate(root, query, criteriaBuilder);
+    if (specPredicate != null) {
+      predicates.add(specPredicate);
+    }
+    if (!position.isInitial()) {
+      predicates.add(seekPredicate(criteriaBuilder, root, sort, position.getKeys()));
+    }
+
+    query
+        .select(root)
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+    // One extra row tells whether another window follows without a count query.
+    var rows = entityManager.createQuery(query).setMaxResults(limit + 1).getResultList();
+    var hasNext = rows.size() > limit;
+    var content = hasNext ? List.copyOf(rows.subList(0, limit)) : rows;
+
+    return Window.from(
+        content, index -> ScrollPosition.forward(keysOf(content.get(index), sort)), hasNext);
+  }
+
+  /*
+   * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ..., with each comparison reversed for descending keys.
+   * The redundant bound on the leading key lets PostgreSQL start an index range scan at the
+   * position instead of filtering every preceding row.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static Predicate seekPredicate(
+      CriteriaBuilder criteriaBuilder, Root<Transaction> root, Sort sort, Map<String, ?> keys) {
+    var alternatives = new ArrayList<Predicate>();
+    var equalities = new ArrayList<Predicate>();
+    Predicate leadingBound = null;
+
+    for (var order : sort) {
+      Expression<Comparable> key = root.get(order.getProperty());
+      var value = (Comparable) keys.get(order.getProperty());
+      if (value == null) {
+        throw new IllegalArgumentException("Missing keyset value for " + order.getProperty());
+      }
+
+      if (leadingBound == null) {
+        leadingBound =
+            order.isAscending()
+                ? criteriaBuilder.greaterThanOrEqualTo(key, value)
+                : criteriaBuilder.lessThanOrEqualTo(key, value);
+      }
+
+      var beyond =
+          order.isAscending()
+              ? criteriaBuilder.greaterThan(key, value)
+              : criteriaBuilder.lessThan(key, value);
+      var alternative = new ArrayList<>(equalities);
+      alternative.add(beyond);
+      alternatives.add(criteriaBuilder.and(alternative.toArray(Predicate[]::new)));
+      equalities.add(criteriaBuilder.equal(key, value));
+    }
+
+    return criteriaBuilder.and(
+        leadingBound, criteriaBuilder.or(alternatives.toArray(Predicate[]::new)));
+  }
+
+  private static Map<String, Object> keysOf(Transaction transaction, Sort sort) {
+    var transactionWrapper = new BeanWrapperImpl(transaction);
+    var keys = new LinkedHashMap<String, Object>();
+    for (var order : sort) {
+      keys.put(order.getProperty(), transactionWrapper.getPropertyValue(order.getProperty()));
+    }
+    return keys;
+  }
+}
@@ -2,19 +2,27 @@ package org.budgetanalyzer.transaction.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import org.budgetanalyzer.core.repository.SoftDeleteOperations;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 
 public interface TransactionRepository
-    extends JpaRepository<Transaction, Long>, SoftDeleteOperations<Transaction, Long> {
+    extends JpaRepository<Transaction, Long>,
+        SoftDeleteOperations<Transaction, Long>,
+        TransactionBulkSoftDeleteOperations,
+        TransactionKeysetOperations,
+        TransactionStreamOperations,
+        TransactionViewMembershipOperations {
 
   /** Active transaction candidate returned by owner-scoped duplicate candidate lookup. */
   interface TransactionDuplicateCandidate {
@@ -39,6 +47,13 @@ public interface TransactionRepository
      * @return the transaction description
      */
     String getDescription();
+
+    /**
+     * Returns the persisted normalized description.
+     *
+     * @return the normalized description, or null if the row has not been backfilled yet
+     */
+    String getNormalizedDescription();
   }
 
   /** SQL projection returned by structured repository candidate lookup. */
@@ -91,6 +106,13 @@ public interface TransactionRepository
      * @return the transaction description
      */
     String getDescription();
+
+    /**
+     * Returns the persisted normalized description.
+     *
+     * @return the normalized description, or null if the row has not been backfilled yet
+     */
+    String getNormalizedDescription();
   }
 
   /**
@@ -163,7 +185,8 @@ public interface TransactionRepository
           candidate_criteria.transaction_type AS "type",
           candidate_criteria.currency_iso_code AS "currencyIsoCode",
           transaction.id AS "transactionId",
-          transaction.description AS "description"
+          transaction.description AS "description",
+          transaction.normalized_description AS "normalizedDescription"
       FROM candidate_criteria
       JOIN transaction
         ON transaction.owner_id = :ownerId
@@ -183,6 +206,190 @@ public interface TransactionRepository
       @Param("currencyIsoCodes") String[] currencyIsoCodes,
       @Param("ownerId") String ownerId);
 
+  /**
+   * Finds which incoming rows exactly duplicate an active transaction of the owner.
+   *
+   * <p>Looks rows up by the persisted {@code description_fingerprint} and confirms each hit against
+   * the financial identity columns and the normalized description, so fingerprint collisions never
+   * produce a match. Rows persisted before the fingerprint was backfilled are not found here and
+   * must still be checked through {@link #findDuplicateCandidates}.
+   *
+   * @param exactDuplicateCriteria the incoming rows to look up
+   * @param ownerId the ID of the transaction owner
+   * @return the fingerprints of the incoming rows that have an exact duplicate
+   */
+  default Set<Long> findExactDuplicateFingerprints(
+      Collection<TransactionExactDuplicateCriteria> exactDuplicateCriteria, String ownerId) {
+    if (exactDuplicateCriteria.isEmpty()) {
+      return Set.of();
+    }
+
+    var exactDuplicateCriteriaList = List.copyOf(exactDuplicateCriteria);
+    return Set.copyOf(
+        findExactDuplicateFingerprintsByStructuredCriteria(
+            exactDuplicateCriteriaList.stream()
+                .map(TransactionExactDuplicateCriteria::descriptionFingerprint)
+                .toArray(Long[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(criteria -> criteria.candidateCriteria().bankName())
+                .toArray(String[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(criteria -> criteria.candidateCriteria().date())
+                .toArray(LocalDate[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(criteria -> criteria.candidateCriteria().amount())
+                .toArray(BigDecimal[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(criteria -> criteria.candidateCriteria().type().name())
+                .toArray(String[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(criteria -> criteria.candidateCriteria().currencyIsoCode())
+                .toArray(String[]::new),
+            exactDuplicateCriteriaList.stream()
+                .map(TransactionExactDuplicateCriteria::normalizedDescription)
+                .toArray(String[]::new),
+            ownerId));
+  }
+
+  @Query(
+      value =
+          """
+      SELECT DISTINCT incoming.description_fingerprint
+      FROM UNNEST(
+          CAST(:descriptionFingerprints AS bigint[]),
+          CAST(:bankNames AS text[]),
+          CAST(:dates AS date[]),
+          CAST(:amounts AS numeric[]),
+          CAST(:types AS text[]),
+          CAST(:currencyIsoCodes AS text[]),
+          CAST(:normalizedDescriptions AS text[])
+      ) AS incoming(
+          description_fingerprint,
+          bank_name,
+          transaction_date,
+          amount,
+          transaction_type,
+          currency_iso_code,
+          normalized_description
+      )
+      JOIN transaction
+        ON transaction.owner_id = :ownerId
+       AND transaction.deleted = false
+       AND transaction.description_fingerprint = incoming.description_fingerprint
+       AND transaction.bank_name = incoming.bank_name
+       AND transaction.date = incoming.transaction_date
+       AND transaction.amount = incoming.amount
+       AND transaction.type = incoming.transaction_type
+       AND transaction.currency_iso_code = incoming.currency_iso_code
+       AND transaction.normalized_description = incoming.normalized_description
+      """,
+      nativeQuery = true)
+  List<Long> findExactDuplicateFingerprintsByStructuredCriteria(
+      @Param("descriptionFingerprints") Long[] descriptionFingerprints,
+      @Param("bankNames") String[] bankNames,
+      @Param("dates") LocalDate[] dates,
+      @Param("amounts") BigDecimal[] amounts,
+      @Param("types") String[] types,
+      @Param("currencyIsoCodes") String[] currencyIsoCodes,
+      @Param("normalizedDescriptions") String[] normalizedDescriptions,
+      @Param("ownerId") String ownerId);
+
+  /**
+   * Finds which of the given IDs belong to active transactions of the owner, in a single statement.
+   *
+   * <p>Only IDs are read; no entities are loaded.
+   *
+   * @param ids the transaction IDs to check
+   * @param ownerId the owner the transactions must belong to
+   * @return the IDs of active transactions owned by {@code ownerId}
+   */
+  default Set<Long> findActiveIdsOwnedBy(Collection<Long> ids, String ownerId) {
+    if (ids.isEmpty()) {
+      return Set.of();
+    }
+
+    return Set.copyOf(
+        findActiveIdsOwnedByIdArray(ids.stream().distinct().toArray(Long[]::new), ownerId));
+  }
+
+  @Query(
+      value =
+          """
+      SELECT id
+      FROM transaction
+      WHERE id = ANY(CAST(:ids AS bigint[]))
+        AND owner_id = :ownerId
+        AND deleted = false
+      """,
+      nativeQuery = true)
+  List<Long> findActiveIdsOwnedByIdArray(
+      @Param("ids") Long[] ids, @Param("ownerId") String ownerId);
+
+  /**
+   * Soft-deletes the active transactions with the given IDs in a single statement.
+   *
+   * <p>IDs that do not exist, are already deleted, or belong to another owner are left untouched
+   * and are absent from the result. The same statement removes the deleted transactions from every
+   * saved view they are pinned to or excluded from. The statement bypasses the persistence context,
+   * so entities already loaded in the current session are not updated.
+   *
+   * @param ids the transaction IDs to delete
+   * @param ownerId the owner the transactions must belong to, or {@code null} for any owner
+   * @param deletedBy the ID of the user performing the delete
+   * @return the IDs that were deleted by this call
+   */
+  default Set<Long> softDeleteByIds(Collection<Long> ids, String ownerId, String deletedBy) {
+    if (ids.isEmpty()) {
+      return Set.of();
+    }
+
+    return Set.copyOf(
+        softDeleteByIdArray(ids.stream().distinct().toArray(Long[]::new), ownerId, deletedBy));
+  }
+
+  @Transactional
+  @Query(
+      value =
+          """
+      WITH deleted_transaction AS (
+        UPDATE transaction
+        SET deleted = true,
+            deleted_by = :deletedBy,
+            deleted_at = now(),
+            updated_by = :deletedBy,
+            updated_at = now()
+        WHERE id = ANY(CAST(:ids AS bigint[]))
+          AND (CAST(:ownerId AS text) IS NULL OR owner_id = :ownerId)
+          AND deleted = false
+        RETURNING id
+      ),
+      removed_view_member AS (
+        DELETE FROM saved_view_member
+        WHERE transaction_id IN (SELECT id FROM deleted_transaction)
+      )
+      SELECT id FROM deleted_transaction
+      """,
+      nativeQuery = true)
+  List<Long> softDeleteByIdArray(
+      @Param("ids") Long[] ids,
+      @Param("ownerId") String ownerId,
+      @Param("deletedBy") String deletedBy);
+
+  /**
+   * Removes a transaction from every saved view it is pinned to or excluded from.
+   *
+   * <p>Transactions are only soft-deleted, so the foreign key cascade on {@code saved_view_member}
+   * never removes these rows; every soft-delete path removes them itself.
+   *
+   * @param transactionId the soft-deleted transaction ID
+   * @return the number of removed rows
+   */
+  @Modifying
+  @Query(
+      value = "DELETE FROM saved_view_member WHERE transaction_id = :transactionId",
+      nativeQuery = true)
+  int deleteViewMembers(@Param("transactionId") Long transactionId);
+
   private static TransactionDuplicateCandidate toCandidate(
       StructuredTransactionDuplicateCandidate structuredCandidate) {
     return new TransactionDuplicateCandidateResult(
@@ -193,7 +400,8 @@ public interface TransactionRepository
             TransactionType.valueOf(structuredCandidate.getType()),
             structuredCandidate.getCurrencyIsoCode()),
         structuredCandidate.getTransactionId(),
-        structuredCandidate.getDescription());
+        structuredCandidate.getDescription(),
+        structuredCandidate.getNormalizedDescription());
   }
 
   /** Default-method result that exposes structured candidate criteria to service callers. */
@@ -202,14 +410,17 @@ public interface TransactionRepository
     private final TransactionDuplicateCandidateCriteria candidateCriteria;
     private final Long transactionId;
     private final String description;
+    private final String normalizedDescription;
 
     TransactionDuplicateCandidateResult(
         TransactionDuplicateCandidateCriteria candidateCriteria,
         Long transactionId,
-        String description) {
+        String description,
+        String normalizedDescription) {
       this.candidateCriteria = candidateCriteria;
       this.transactionId = transactionId;
       this.description = description;
+      this.normalizedDescription = normalizedDescription;
     }
 
     @Override
@@ -226,5 +437,10 @@ public interface TransactionRepository
     public String getDescription() {
       return description;
     }
+
+    @Override
+    public String getNormalizedDescription() {
+      return normalizedDescription;
+    }
   }
 }
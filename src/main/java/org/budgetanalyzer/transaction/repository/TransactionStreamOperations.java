@@ -0,0 +1,26 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** Forward-only streaming of active transactions. */
+public interface TransactionStreamOperations {
+
+  /**
+   * Streams active transactions matching the specification from a forward-only JDBC cursor.
+   *
+   * <p>Rows are fetched from the database {@code fetchSize} at a time and each transaction is
+   * detached once it has been read, so neither the result set nor the persistence context grows
+   * with the number of rows. Must be called inside a transaction, and the stream must be closed.
+   *
+   * @param spec the filter specification
+   * @param sort the stream order
+   * @param fetchSize the number of rows fetched per database round trip
+   * @return the stream of detached transactions
+   */
+  Stream<Transaction> streamNotDeleted(Specification<Transaction> spec, Sort sort, int fetchSize);
+}
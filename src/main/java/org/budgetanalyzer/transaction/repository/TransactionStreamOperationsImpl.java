@@ -0,0 +1,50 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.Predicate;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** Criteria-query implementation of {@link TransactionStreamOperations}. */
+class TransactionStreamOperationsImpl implements TransactionStreamOperations {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public Stream<Transaction> streamNotDeleted(
+      Specification<Transaction> spec, Sort sort, int fetchSize) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createQuery(Transaction.class);
+    var root = query.from(Transaction.class);
+
+    var predicates = new ArrayList<Predicate>();
+    predicates.add(criteriaBuilder.isFalse(root.get("deleted")));
+    var specPredicate = spec.toPredicate(root, query, criteriaBuilder);
+    if (specPredicate != null) {
+      predicates.add(specPredicate);
+    }
+
+    query
+        .select(root)
+        .where(predicates.toArray(Predicate[]::new))
+        .orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+    // getResultStream scrolls FORWARD_ONLY; PostgreSQL only honours the fetch size inside a
+    // transaction, otherwise the driver buffers the whole result set.
+    return entityManager
+        .createQuery(query)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true)
+        .getResultStream()
+        .peek(entityManager::detach);
+  }
+}
@@ -0,0 +1,58 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/** ID-only saved-view membership lookups and counts over transactions. */
+public interface TransactionViewMembershipOperations {
+
+  /**
+   * Finds every active transaction of the owner that matches the view criteria or is pinned or
+   * excluded by the view, in a single statement.
+   *
+   * <p>Only transaction IDs and membership flags are read; no entities are loaded. Pins and
+   * exclusions are read from the view's stored members in the same statement; members that are
+   * deleted or owned by another user produce no row.
+   *
+   * @param criteria the view criteria; must not depend on the query it is applied to
+   * @param ownerId the owner of the view
+   * @param viewId the view whose stored pins and exclusions apply
+   * @return one row per transaction, ordered by transaction ID
+   */
+  List<ViewMembershipRow> findViewMembershipRows(
+      Specification<Transaction> criteria, String ownerId, UUID viewId);
+
+  /**
+   * Counts the active transactions of the owner that belong to each view, in a single statement.
+   *
+   * <p>A transaction belongs to a view when it is pinned, or when it matches the criteria and is
+   * not excluded. Only counts are read; no transaction rows leave the database.
+   *
+   * @param ownerId the owner of the views
+   * @param views the criteria and ID of each view
+   * @return the member count of each view, in the order of {@code views}
+   */
+  List<Long> countViewMembers(String ownerId, List<ViewMembershipCriteria> views);
+
+  /**
+   * Criteria of one saved view and the view whose stored pins and exclusions apply.
+   *
+   * @param criteria the view criteria; must not depend on the query it is applied to
+   * @param viewId the view ID
+   */
+  record ViewMembershipCriteria(Specification<Transaction> criteria, UUID viewId) {}
+
+  /**
+   * Membership flags of one active transaction in a saved view.
+   *
+   * @param transactionId the transaction ID
+   * @param matched whether the transaction matches the view criteria
+   * @param pinned whether the transaction is pinned to the view
+   * @param excluded whether the transaction is excluded from the view
+   */
+  record ViewMembershipRow(Long transactionId, boolean matched, boolean pinned, boolean excluded) {}
+}
@@ -0,0 +1,147 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import org.budgetanalyzer.transaction.domain.SavedViewMember;
+import org.budgetanalyzer.transaction.domain.SavedViewMemberType;
+import org.budgetanalyzer.transaction.domain.Transaction;
+
+/**
+ * Criteria-query implementation of {@link TransactionViewMembershipOperations}.
+ *
+ * <p>Pins and exclusions are tested with correlated {@code EXISTS} subqueries on the {@code
+ * saved_view_member} primary key, so each view binds only its ID however many members it has.
+ */
+class TransactionViewMembershipOperationsImpl implements TransactionViewMembershipOperations {
+
+  @PersistenceContext private EntityManager entityManager;
+
+  @Override
+  public List<ViewMembershipRow> findViewMembershipRows(
+      Specification<Transaction> criteria, String ownerId, UUID viewId) {
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createTupleQuery();
+    var root = query.from(Transaction.class);
+    Expression<Long> id = root.get("id");
+    var pinned = SavedViewMemberType.PINNED;
+    var excluded = SavedViewMemberType.EXCLUDED;
+
+    // Each predicate is built twice so select and where clauses do not share criteria nodes.
+    query
+        .multiselect(
+            id,
+            flag(criteriaBuilder, criteria.toPredicate(root, query, criteriaBuilder)),
+            flag(criteriaBuilder, hasMember(criteriaBuilder, root, query, viewId, pinned)),
+            flag(criteriaBuilder, hasMember(criteriaBuilder, root, query, viewId, excluded)))
+        .where(
+            criteriaBuilder.isFalse(root.get("deleted")),
+            criteriaBuilder.equal(root.get("ownerId"), ownerId),
+            criteriaBuilder.or(
+                criteria.toPredicate(root, query, criteriaBuilder),
+                hasMember(criteriaBuilder, root, query, viewId, pinned),
+                hasMember(criteriaBuilder, root, query, viewId, excluded)))
+        .orderBy(criteriaBuilder.asc(id));
+
+    return entityManager.createQuery(query).getResultList().stream()
+        .map(TransactionViewMembershipOperationsImpl::toRow)
+        .toList();
+  }
+
+  @Override
+  public List<Long> countViewMembers(String ownerId, List<ViewMembershipCriteria> views) {
+    if (views.isEmpty()) {
+      return List.of();
+    }
+
+    var criteriaBuilder = entityManager.getCriteriaBuilder();
+    var query = criteriaBuilder.createTupleQuery();
+    var root = query.from(Transaction.class);
+
+    // One conditional sum per view over a single scan of the owner's active transactions.
+    var counts = new ArrayList<Selection<?>>(views.size());
+    var anyMember = new ArrayList<Predicate>(views.size());
+    for (var view : views) {
+      var memberCount =
+          criteriaBuilder.sum(
+              criteriaBuilder
+                  .<Long>selectCase()
+                  .when(isMember(criteriaBuilder, root, query, view), 1L)
+                  .otherwise(0L));
+      counts.add(criteriaBuilder.coalesce(memberCount, 0L));
+      anyMember.add(isMember(criteriaBuilder, root, query, view));
+    }
+
+    query
+        .multiselect(counts)
+        .where(
+            criteriaBuilder.isFalse(root.get("deleted")),
+            criteriaBuilder.equal(root.get("ownerId"), ownerId),
+            criteriaBuilder.or(anyMember.toArray(Predicate[]::new)));
+
+    var result = entityManager.createQuery(query).getSingleResult();
+    var memberCounts = new ArrayList<Long>(views.size());
+    for (var index = 0; index < views.size(); index++) {
+      memberCounts.add(result.get(index, Long.class));
+    }
+    return memberCounts;
+  }
+
+  private static Predicate isMember(
+      CriteriaBuilder criteriaBuilder,
+      Root<Transaction> root,
+      CriteriaQuery<?> query,
+      ViewMembershipCriteria view) {
+    var matched =
+        criteriaBuilder.and(
+            view.criteria().toPredicate(root, query, criteriaBuilder),
+            criteriaBuilder.not(
+                hasMember(
+                    criteriaBuilder, root, query, view.viewId(), SavedViewMemberType.EXCLUDED)));
+    return criteriaBuilder.or(
+        matched,
+        hasMember(criteriaBuilder, root, query, view.viewId(), SavedViewMemberType.PINNED));
+  }
+
+  private static Predicate hasMember(
+      CriteriaBuilder criteriaBuilder,
+      Root<Transaction> root,
+      CriteriaQuery<?> query,
+      UUID viewId,
+      SavedViewMemberType membershipType) {
+    var subquery = query.subquery(Integer.class);
+    var member = subquery.from(SavedViewMember.class);
+    subquery
+        .select(criteriaBuilder.literal(1))
+        .where(
+            criteriaBuilder.equal(member.get("viewId"), viewId),
+            criteriaBuilder.equal(member.get("transactionId"), root.get("id")),
+            criteriaBuilder.equal(member.get("membershipType"), membershipType));
+    return criteriaBuilder.exists(subquery);
+  }
+
+  private static Expression<Boolean> flag(CriteriaBuilder criteriaBuilder, Predicate predicate) {
+    return criteriaBuilder.<Boolean>selectCase().when(predicate, true).otherwise(false);
+  }
+
+  private static ViewMembershipRow toRow(Tuple tuple) {
+    return new ViewMembershipRow(
+        tuple.get(0, Long.class),
+        tuple.get(1, Boolean.class),
+        tuple.get(2, Boolean.class),
+        tuple.get(3, Boolean.class));
+  }
+}
@@ -52,6 +52,12 @@ public class TransactionSpecifications {
         predicates.add(cb.equal(root.get("id"), effectiveCriteria.id()));
       }
 
+      // File import (exact match on the foreign key, without joining file_import)
+      if (effectiveCriteria.fileImportId() != null) {
+        predicates.add(
+            cb.equal(root.get("fileImport").get("id"), effectiveCriteria.fileImportId()));
+      }
+
       // Owner ID (exact match)
       if (effectiveCriteria.ownerId() != null && !effectiveCriteria.ownerId().isBlank()) {
         predicates.add(cb.equal(root.get("ownerId"), effectiveCriteria.ownerId()));
@@ -224,6 +230,11 @@ public class TransactionSpecifications {
    * any of the words. Single words create a simple LIKE predicate. All LIKE special characters are
    * escaped.
    *
+   * <p>Each word compiles to {@code lower(field) LIKE '%word%'}. For descriptions this is the exact
+   * expression of the {@code idx_transaction_description_trgm} trigram index, so changing its shape
+   * (for example to {@code ILIKE} or {@code upper}) silently turns text search back into a
+   * sequential scan.
+   *
    * @param cb The CriteriaBuilder
    * @param fieldPath The field path to filter on
    * @param filterValue The filter value (may contain multiple words)
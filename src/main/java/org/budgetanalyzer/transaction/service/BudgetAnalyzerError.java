@@ -34,6 +34,8 @@ public enum BudgetAnalyzerError {
   FILE_ALREADY_IMPORTED,
   @Schema(description = "Error encountered parsing PDF file")
   PDF_PARSING_ERROR,
+  @Schema(description = "A parser revision took longer than the configured limit to parse the file")
+  STATEMENT_PARSING_TIMED_OUT,
   @Schema(
       description =
           "One or more transactions in the batch failed business validation. "
@@ -45,8 +47,19 @@ public enum BudgetAnalyzerError {
   PREVIEW_IMPORT_TOKEN_INVALID,
   @Schema(description = "The preview import token has expired")
   PREVIEW_IMPORT_TOKEN_EXPIRED,
+  @Schema(
+      description =
+          "The rows of a preview are no longer stored on the server; resubmit them or preview the "
+              + "file again")
+  PREVIEW_RESULT_NOT_FOUND,
   @Schema(
       description =
           "Batch import completed validation and duplicate filtering without any rows to create")
-  BATCH_IMPORT_NO_TRANSACTIONS_CREATED
+  BATCH_IMPORT_NO_TRANSACTIONS_CREATED,
+  @Schema(description = "The user already has the maximum number of queued or running import jobs")
+  IMPORT_JOB_QUEUE_FULL,
+  @Schema(description = "An import job failed with an unexpected error")
+  IMPORT_JOB_FAILED,
+  @Schema(description = "An import job was interrupted by a service restart before it finished")
+  IMPORT_JOB_INTERRUPTED
 }
@@ -0,0 +1,123 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
+
+/**
+ * A transaction description prepared once for duplicate matching.
+ *
+ * <p>Holds the normalized description, its code points, and the ordered numeric tokens of the
+ * original description, so a description compared against many candidates is normalized only
+ * once.
+ */
+final class DescriptionFingerprint {
+
+  private final String description;
+  private final String normalizedDescription;
+  private final int[] normalizedCodePoints;
+  private final List<String> numericTokens;
+
+  private DescriptionFingerprint(
+      String description,
+      String normalizedDescription,
+      int[] normalizedCodePoints,
+      List<String> numericTokens) {
+    this.description = description;
+    this.normalizedDescription = normalizedDescription;
+    this.normalizedCodePoints = normalizedCodePoints;
+    this.numericTokens = numericTokens;
+  }
+
+  /**
+   * Normalizes a description and extracts its numeric tokens.
+   *
+   * @param description the original description
+   * @return the fingerprint of the description
+   */
+  static DescriptionFingerprint of(String description) {
+    Objects.requireNonNull(description, "description");
+    return of(description, normalize(description));
+  }
+
+  /**
+   * Builds the fingerprint of a description whose normalized form is already known, such as the
+   * persisted {@code normalized_description} of a stored transaction.
+   *
+   * @param description the original description, used for its numeric tokens
+   * @param normalizedDescription the description normalized with {@link #normalize}
+   * @return the fingerprint of the description
+   */
+  static DescriptionFingerprint of(String description, String normalizedDescription) {
+    Objects.requireNonNull(description, "description");
+    Objects.requireNonNull(normalizedDescription, "normalizedDescription");
+
+    return new DescriptionFingerprint(
+        description,
+        normalizedDescription,
+        normalizedDescription.codePoints().toArray(),
+        extractNumericTokens(description));
+  }
+
+  /**
+   * Removes case, whitespace, punctuation, separators, and diacritics from a description.
+   *
+   * @param description the original description
+   * @return the normalized description
+   */
+  static String normalize(String description) {
+    return TransactionFingerprint.normalizeDescription(description);
+  }
+
+  String description() {
+    return description;
+  }
+
+  String normalizedDescription() {
+    return normalizedDescription;
+  }
+
+  int[] normalizedCodePoints() {
+    return normalizedCodePoints;
+  }
+
+  int length() {
+    return normalizedCodePoints.length;
+  }
+
+  List<String> numericTokens() {
+    return numericTokens;
+  }
+
+  private static List<String> extractNumericTokens(String description) {
+    var numericTokens = new ArrayList<String>();
+    var numericTokenBuilder = new StringBuilder();
+
+    description
+        .codePoints()
+        .forEach(
+            codePoint -> {
+              if (Character.isDigit(codePoint)) {
+                numericTokenBuilder.appendCodePoint(codePoint);
+                return;
+              }
+
+              addNumericToken(numericTokens, numericTokenBuilder);
+            });
+
+    addNumericToken(numericTokens, numericTokenBuilder);
+    return List.copyOf(numericTokens);
+  }
+
+  private static void addNumericToken(
+      List<String> numericTokens, StringBuilder numericTokenBuilder) {
+    if (numericTokenBuilder.isEmpty()) {
+      return;
+    }
+
+    numericTokens.add(numericTokenBuilder.toString());
+    numericTokenBuilder.setLength(0);
+  }
+}
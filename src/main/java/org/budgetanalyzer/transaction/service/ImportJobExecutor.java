@@ -0,0 +1,38 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs import jobs on virtual threads.
+ *
+ * <p>Each job gets its own virtual thread, so jobs that block on the database or on the
+ * concurrency limit in {@link ImportJobService} do not hold platform threads. This deliberately is
+ * not a {@link java.util.concurrent.Executor} bean, which would replace Spring Boot's application
+ * task executor.
+ */
+@Component
+public class ImportJobExecutor {
+
+  private final ExecutorService executorService =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("import-job-", 0).factory());
+
+  /**
+   * Starts a job on a new virtual thread.
+   *
+   * @param job the job to run
+   */
+  public void execute(Runnable job) {
+    executorService.execute(job);
+  }
+
+  /** Stops accepting jobs and waits for running jobs to finish. */
+  @PreDestroy
+  public void close() {
+    executorService.close();
+  }
+}
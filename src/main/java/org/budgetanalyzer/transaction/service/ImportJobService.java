@@ -0,0 +1,334 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.service.exception.ResourceNotFoundException;
+import org.budgetanalyzer.transaction.config.ImportJobProperties;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.repository.ImportJobRepository;
+import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportJobResult;
+import org.budgetanalyzer.transaction.service.dto.ImportJobDetails;
+import org.budgetanalyzer.transaction.service.dto.ImportJobError;
+import org.budgetanalyzer.transaction.service.dto.PreviewResult;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.dto.StatementUpload;
+
+/**
+ * Runs statement previews and batch imports as asynchronous jobs.
+ *
+ * <p>Submitting a job records it as queued and returns immediately; the work runs on a virtual
+ * thread from {@link ImportJobExecutor}. Jobs report stage progress through {@link
+ * ImportProgress}, and every transition is persisted so clients can poll {@link #getJob} and read
+ * results after a restart.
+ *
+ * <p>Each user may have a bounded number of queued or running jobs, and a global limit caps how
+ * many jobs execute at once; accepted jobs beyond that limit wait in the queued state. Both limits
+ * are enforced per service instance.
+ *
+ * <p>Preview results are persisted without their preview import token, which authorizes a later
+ * batch import. The token is kept in {@link PreviewResultStore} on the instance that ran the job
+ * and added back when the owner reads the result.
+ *
+ * <p>Jobs are leased to the instance that accepted them. Each instance periodically renews the
+ * leases of its own jobs, fails jobs of other instances whose lease has expired, and purges
+ * finished jobs past their retention.
+ */
+@Service
+public class ImportJobService {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+
+  private final ImportJobTracker importJobTracker;
+  private final ImportJobRepository importJobRepository;
+  private final ImportJobExecutor importJobExecutor;
+  private final TransactionImportService transactionImportService;
+  private final TransactionService transactionService;
+  private final PreviewResultStore previewResultStore;
+  private final ImportJobProperties importJobProperties;
+  private final ObjectMapper objectMapper;
+  private final Semaphore runningJobPermits;
+  private final Map<String, Integer> activeJobCountsByOwner = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new ImportJobService.
+   *
+   * @param importJobTracker the tracker that persists job state transitions
+   * @param importJobRepository the import job repository
+   * @param importJobExecutor the virtual-thread executor that runs jobs
+   * @param transactionImportService the service that previews statement files
+   * @param transactionService the service that imports reviewed transactions
+   * @param previewResultStore the store that keeps preview import tokens of preview jobs
+   * @param importJobProperties per-user and global job limits
+   * @param objectMapper the object mapper used to store job results and errors
+   */
+  public ImportJobService(
+      ImportJobTracker importJobTracker,
+      ImportJobRepository importJobRepository,
+      ImportJobExecutor importJobExecutor,
+      TransactionImportService transactionImportService,
+      TransactionService transactionService,
+      PreviewResultStore previewResultStore,
+      ImportJobProperties importJobProperties,
+      ObjectMapper objectMapper) {
+    this.importJobTracker = importJobTracker;
+    this.importJobRepository = importJobRepository;
+    this.importJobExecutor = importJobExecutor;
+    this.transactionImportService = transactionImportService;
+    this.transactionService = transactionService;
+    this.previewResultStore = previewResultStore;
+    this.importJobProperties = importJobProperties;
+    this.objectMapper = objectMapper;
+    this.runningJobPermits = new Semaphore(importJobProperties.maxConcurrentJobs(), true);
+  }
+
+  /**
+   * Submits a statement preview job.
+   *
+   * @param statementFormatId selected statement format ID
+   * @param accountId optional account identifier to pre-fill for all transactions
+   * @param upload the uploaded file, already read into memory
+   * @param userId the user submitting the job
+   * @return the queued job
+   * @throws BusinessException if the user already has the maximum number of active jobs
+   */
+  public ImportJob submitPreview(
+      Long statementFormatId, String accountId, StatementUpload upload, String userId) {
+    return submit(
+        userId,
+        ImportJobType.PREVIEW,
+        upload.originalFilename(),
+        jobId -> {
+          var result =
+              transactionImportService.previewUpload(statementFormatId, accountId, upload, userId);
+          previewResultStore.putJobToken(jobId, userId, result.previewImportToken());
+          return withPreviewImportToken(result, null);
+        });
+  }
+
+  /**
+   * Submits a batch import job.
+   *
+   * @param transactions the reviewed transactions to import
+   * @param userId the user submitting the job
+   * @param fileImportSource source file metadata verified from a preview import token
+   * @return the queued job
+   * @throws BusinessException if the user already has the maximum number of active jobs
+   */
+  public ImportJob submitBatchImport(
+      List<PreviewTransaction> transactions,
+      String userId,
+      BatchFileImportSource fileImportSource) {
+    return submit(
+        userId,
+        ImportJobType.BATCH_IMPORT,
+        fileImportSource.originalFilename(),
+        jobId -> {
+          var result = transactionService.batchImport(transactions, userId, fileImportSource);
+          return new BatchImportJobResult(
+              result.createdCount(),
+              result.duplicatesSkipped(),
+              result.duplicatesImported(),
+              result.createdTransactionIds());
+        });
+  }
+
+  /**
+   * Retrieves a job owned by the user, with its decoded result or error.
+   *
+   * @param jobId the job ID
+   * @param userId the requesting user
+   * @return the job details
+   * @throws ResourceNotFoundException if the job does not exist or belongs to another user
+   */
+  public ImportJobDetails getJob(UUID jobId, String userId) {
+    var importJob =
+        importJobRepository
+            .findByIdAndOwnerId(jobId, userId)
+            .orElseThrow(() -> new ResourceNotFoundException("Import job not found: " + jobId));
+
+    PreviewResult previewResult = null;
+    BatchImportJobResult batchImportResult = null;
+    if (importJob.getResult() != null) {
+      switch (importJob.getType()) {
+        case PREVIEW ->
+            previewResult =
+                withPreviewImportToken(
+                    fromJson(importJob.getResult(), PreviewResult.class),
+                    previewResultStore.findJobToken(jobId, userId).orElse(null));
+        case BATCH_IMPORT ->
+            batchImportResult = fromJson(importJob.getResult(), BatchImportJobResult.class);
+      }
+    }
+    var error =
+        importJob.getError() == null ? null : fromJson(importJob.getError(), ImportJobError.class);
+    return new ImportJobDetails(importJob, previewResult, batchImportResult, error);
+  }
+
+  /** Fails jobs that a stopped instance left queued or running once their lease has expired. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void failInterruptedJobs() {
+    importJobTracker.failExpiredJobs(
+        toJson(
+            ImportJobError.of(
+                BudgetAnalyzerError.IMPORT_JOB_INTERRUPTED.name(),
+                "The import job was interrupted by a service restart. Submit it again.")));
+  }
+
+  /**
+   * Renews the leases of this instance's jobs, fails expired jobs of other instances, and purges
+   * finished jobs past their retention.
+   */
+  @Scheduled(
+      fixedDelayString = "${budgetanalyzer.transaction.import-jobs.heartbeat-interval}",
+      initialDelayString = "${budgetanalyzer.transaction.import-jobs.heartbeat-interval}")
+  public void maintainJobs() {
+    importJobTracker.renewLeases();
+    failInterruptedJobs();
+    importJobTracker.purgeFinishedJobs();
+  }
+
+  private ImportJob submit(
+      String userId, ImportJobType type, String sourceFilename, Function<UUID, Object> work) {
+    reserveActiveJobSlot(userId);
+    ImportJob importJob;
+    try {
+      importJob = importJobTracker.create(userId, type, sourceFilename);
+    } catch (RuntimeException e) {
+      releaseActiveJobSlot(userId);
+      throw e;
+    }
+
+    log.info("Accepted {} import job {} for user {}", type, importJob.getId(), userId);
+    try {
+      importJobExecutor.execute(() -> run(importJob.getId(), userId, work));
+      return importJob;
+    } catch (RuntimeException e) {
+      log.error("Import job {} could not be started", importJob.getId(), e);
+      try {
+        importJobTracker.markFailed(importJob.getId(), unexpectedFailureJson());
+      } finally {
+        releaseActiveJobSlot(userId);
+      }
+      throw e;
+    }
+  }
+
+  private void run(UUID jobId, String userId, Function<UUID, Object> work) {
+    try {
+      runningJobPermits.acquire();
+    } catch (InterruptedException e) {
+      log.warn("Import job {} was interrupted before it started", jobId);
+      try {
+        importJobTracker.markFailed(
+            jobId,
+            toJson(
+                ImportJobError.of(
+                    BudgetAnalyzerError.IMPORT_JOB_INTERRUPTED.name(),
+                    "The import job was interrupted before it started. Submit it again.")));
+      } finally {
+        Thread.currentThread().interrupt();
+        releaseActiveJobSlot(userId);
+      }
+      return;
+    }
+
+    try {
+      if (!importJobTracker.markRunning(jobId)) {
+        return;
+      }
+      var result =
+          ImportProgress.callWith(
+              (stage, detail) -> importJobTracker.recordStage(jobId, stage, detail),
+              () -> work.apply(jobId));
+      if (importJobTracker.markSucceeded(jobId, toJson(result))) {
+        log.info("Import job {} succeeded", jobId);
+      }
+    } catch (BusinessException e) {
+      log.info("Import job {} failed: {} {}", jobId, e.getCode(), e.getMessage());
+      importJobTracker.markFailed(jobId, toJson(ImportJobError.from(e)));
+    } catch (RuntimeException e) {
+      log.error("Import job {} failed unexpectedly", jobId, e);
+      importJobTracker.markFailed(jobId, unexpectedFailureJson());
+    } finally {
+      runningJobPermits.release();
+      releaseActiveJobSlot(userId);
+    }
+  }
+
+  private void reserveActiveJobSlot(String userId) {
+    var maxActiveJobs = importJobProperties.maxActiveJobsPerUser();
+    var reserved = new AtomicBoolean();
+    activeJobCountsByOwner.compute(
+        userId,
+        (key, count) -> {
+          var activeJobs = count == null ? 0 : count;
+          if (activeJobs >= maxActiveJobs) {
+            return count;
+          }
+          reserved.set(true);
+          return activeJobs + 1;
+        });
+    if (!reserved.get()) {
+      throw new BusinessException(
+          "You already have "
+              + maxActiveJobs
+              + " import jobs in progress. Wait for one to finish before submitting another.",
+          BudgetAnalyzerError.IMPORT_JOB_QUEUE_FULL.name());
+    }
+  }
+
+  private void releaseActiveJobSlot(String userId) {
+    activeJobCountsByOwner.computeIfPresent(userId, (key, count) -> count <= 1 ? null : count - 1);
+  }
+
+  private PreviewResult withPreviewImportToken(
+      PreviewResult previewResult, String previewImportToken) {
+    return new PreviewResult(
+        previewResult.sourceFile(),
+        previewResult.statementFormatId(),
+        previewImportToken,
+        previewResult.fileImport(),
+        previewResult.transactions());
+  }
+
+  private String unexpectedFailureJson() {
+    return toJson(
+        ImportJobError.of(
+            BudgetAnalyzerError.IMPORT_JOB_FAILED.name(), "The import job failed unexpectedly."));
+  }
+
+  private String toJson(Object value) {
+    try {
+      return objectMapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize import job document", e);
+    }
+  }
+
+  private <T> T fromJson(String json, Class<T> type) {
+    try {
+      return objectMapper.readValue(json, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to read import job document", e);
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import org.budgetanalyzer.transaction.config.ImportJobProperties;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.repository.ImportJobRepository;
+
+/**
+ * Persists import job state transitions.
+ *
+ * <p>Every update after creation runs in its own transaction so progress becomes visible to
+ * polling clients immediately, even while the job's import work is still inside a longer database
+ * transaction of its own.
+ *
+ * <p>Jobs are leased to this service instance, identified by an ID generated at startup. Updates
+ * only apply while the job is still owned by this instance and in the expected state, so a job
+ * that another instance failed after its lease expired stays failed.
+ */
+@Service
+public class ImportJobTracker {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportJobTracker.class);
+
+  private final ImportJobRepository importJobRepository;
+  private final ImportJobProperties importJobProperties;
+  private final Clock clock;
+  private final String instanceId = UUID.randomUUID().toString();
+
+  /**
+   * Constructs a new ImportJobTracker.
+   *
+   * @param importJobRepository the import job repository
+   * @param importJobProperties the lease timeout and retention of jobs
+   * @param clock the clock used for job timestamps
+   */
+  public ImportJobTracker(
+      ImportJobRepository importJobRepository,
+      ImportJobProperties importJobProperties,
+      Clock clock) {
+    this.importJobRepository = importJobRepository;
+    this.importJobProperties = importJobProperties;
+    this.clock = clock;
+  }
+
+  /**
+   * Records a newly accepted job in the queued state, leased to this instance.
+   *
+   * @param ownerId the user submitting the job
+   * @param type the kind of work the job performs
+   * @param sourceFilename original filename of the statement behind the job, if known
+   * @return the persisted job
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public ImportJob create(String ownerId, ImportJobType type, String sourceFilename) {
+    var importJob = ImportJob.queued(ownerId, type, sourceFilename);
+    importJob.leaseTo(instanceId, now());
+    return importJobRepository.save(importJob);
+  }
+
+  /**
+   * Marks a queued job as running.
+   *
+   * @param jobId the job ID
+   * @return false if the job is no longer queued on this instance, in which case it must not run
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean markRunning(UUID jobId) {
+    return applied(jobId, "running", importJobRepository.markRunning(jobId, instanceId, now()));
+  }
+
+  /**
+   * Records the stage a running job has reached.
+   *
+   * @param jobId the job ID
+   * @param stage the stage reached
+   * @param detail optional human-readable detail
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void recordStage(UUID jobId, ImportJobStage stage, String detail) {
+    importJobRepository.recordStage(jobId, instanceId, stage.name(), detail, now());
+  }
+
+  /**
+   * Marks a running job as succeeded.
+   *
+   * @param jobId the job ID
+   * @param resultJson the serialized result
+   * @return false if the job is no longer running on this instance
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean markSucceeded(UUID jobId, String resultJson) {
+    return applied(
+        jobId,
+        "succeeded",
+        importJobRepository.markSucceeded(jobId, instanceId, resultJson, now()));
+  }
+
+  /**
+   * Marks a queued or running job as failed.
+   *
+   * @param jobId the job ID
+   * @param errorJson the serialized error
+   * @return false if the job is no longer active on this instance
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean markFailed(UUID jobId, String errorJson) {
+    return applied(
+        jobId, "failed", importJobRepository.markFailed(jobId, instanceId, errorJson, now()));
+  }
+
+  /**
+   * Renews the lease of every queued or running job of this instance.
+   *
+   * @return the number of renewed jobs
+   */
+  @Transactional
+  public int renewLeases() {
+    return importJobRepository.renewLeases(instanceId, now());
+  }
+
+  /**
+   * Fails queued or running jobs of other instances whose lease has expired. Their inputs lived
+   * only in that instance's memory, so they cannot be resumed.
+   *
+   * @param errorJson the serialized error recorded on each interrupted job
+   * @return the number of jobs marked as failed
+   */
+  @Transactional
+  public int failExpiredJobs(String errorJson) {
+    var now = now();
+    var failedJobs =
+        importJobRepository.failExpiredJobs(
+            instanceId, now.minus(importJobProperties.leaseTimeout()), errorJson, now);
+    if (failedJobs > 0) {
+      log.warn("Marked {} interrupted import job(s) as failed", failedJobs);
+    }
+    return failedJobs;
+  }
+
+  /**
+   * Deletes succeeded and failed jobs older than the retention period.
+   *
+   * @return the number of deleted jobs
+   */
+  @Transactional
+  public int purgeFinishedJobs() {
+    var purgedJobs =
+        importJobRepository.deleteFinishedJobs(now().minus(importJobProperties.retention()));
+    if (purgedJobs > 0) {
+      log.info("Purged {} finished import job(s)", purgedJobs);
+    }
+    return purgedJobs;
+  }
+
+  private boolean applied(UUID jobId, String transition, int updatedRows) {
+    if (updatedRows == 0) {
+      log.warn(
+          "Import job {} was not marked {}: it is no longer active on this instance",
+          jobId,
+          transition);
+      return false;
+    }
+    return true;
+  }
+
+  private Instant now() {
+    return clock.instant();
+  }
+}
@@ -0,0 +1,65 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.util.function.Supplier;
+
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+
+/**
+ * Stage progress reporting for import work running inside an asynchronous import job.
+ *
+ * <p>The listener is bound with a {@link ScopedValue} for the duration of the job, so the preview
+ * and batch import code paths can report stages without threading a callback through their
+ * signatures. Reports made outside a job are ignored.
+ */
+public final class ImportProgress {
+
+  private static final ScopedValue<Listener> LISTENER = ScopedValue.newInstance();
+
+  private ImportProgress() {}
+
+  /**
+   * Runs an action with a progress listener bound for the current thread.
+   *
+   * @param listener the listener receiving stage reports
+   * @param action the import work to run
+   * @param <T> the result type
+   * @return the action's result
+   */
+  public static <T> T callWith(Listener listener, Supplier<T> action) {
+    return ScopedValue.where(LISTENER, listener).call(action::get);
+  }
+
+  /**
+   * Reports that the current import has reached a stage.
+   *
+   * @param stage the stage reached
+   * @param detail optional human-readable detail
+   */
+  public static void report(ImportJobStage stage, String detail) {
+    if (LISTENER.isBound()) {
+      LISTENER.get().onStage(stage, detail);
+    }
+  }
+
+  /**
+   * Reports that the current import has reached a stage, without detail.
+   *
+   * @param stage the stage reached
+   */
+  public static void report(ImportJobStage stage) {
+    report(stage, null);
+  }
+
+  /** Receives stage reports from import work. */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called when the import reaches a stage.
+     *
+     * @param stage the stage reached
+     * @param detail optional human-readable detail
+     */
+    void onStage(ImportJobStage stage, String detail);
+  }
+}
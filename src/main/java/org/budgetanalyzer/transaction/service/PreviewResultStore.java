@@ -0,0 +1,423 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.budgetanalyzer.transaction.config.PreviewImportTokenProperties;
+import org.budgetanalyzer.transaction.config.PreviewStoreProperties;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
+/**
+ * Bounded server-side store of parsed preview rows, keyed by preview import token.
+ *
+ * <p>Rows are kept for the preview import token TTL so batch import and preview paging can read
+ * them without the client sending them back. Each preview is weighed by its serialized size. When
+ * the in-memory total exceeds {@link PreviewStoreProperties#maxMemorySize()}, the least recently
+ * used previews are written to the spill directory and read back from disk on access; when the
+ * spilled total exceeds {@link PreviewStoreProperties#maxDiskSize()}, the least recently used
+ * spilled previews are discarded. Callers must fall back gracefully when a preview is missing.
+ *
+ * <p>The lock only guards the index and the byte counts. Serialization and spill file reads,
+ * writes, and deletes happen outside it, so one large preview does not block other users. A
+ * preview chosen for spilling keeps its rows in memory until its file is written, and every spill
+ * file has a unique name, so a file deleted or written late never belongs to another preview.
+ *
+ * <p>The store also keeps the tokens issued by preview jobs, keyed by job ID, so the job owner can
+ * collect the token when polling without it being persisted with the job result. These tokens are
+ * held in memory only, for the same TTL, and are never spilled.
+ *
+ * <p>Each store spills into its own subdirectory of the configured spill directory, readable only
+ * by the service user, and deletes it on shutdown. The store is local to the service instance and
+ * does not survive a restart.
+ */
+@Component
+public class PreviewResultStore {
+
+  private static final Logger log = LoggerFactory.getLogger(PreviewResultStore.class);
+  private static final String SPILL_DIRECTORY_PREFIX = "previews-";
+  private static final String SPILL_FILE_SUFFIX = ".json";
+  private static final TypeReference<List<PreviewTransaction>> PREVIEW_ROWS =
+      new TypeReference<>() {};
+
+  private final PreviewStoreProperties previewStoreProperties;
+  private final PreviewImportTokenProperties previewImportTokenProperties;
+  private final FileHashService fileHashService;
+  private final Clock clock;
+  private final ObjectWriter rowsWriter;
+  private final ObjectReader rowsReader;
+  private final boolean posixFileSystem;
+  private final Path spillDirectory;
+
+  // Access-ordered so iteration starts at the least recently used preview.
+  private final LinkedHashMap<String, StoredPreview> previews =
+      new LinkedHashMap<>(16, 0.75f, true);
+  // Insertion-ordered; every token gets the same TTL, so iteration starts at the oldest.
+  private final LinkedHashMap<UUID, JobToken> jobTokens = new LinkedHashMap<>();
+  private long memoryBytes;
+  private long diskBytes;
+  private long spillFileSequence;
+
+  /**
+   * Constructs a new PreviewResultStore with its own private spill subdirectory.
+   *
+   * @param previewStoreProperties memory and disk budgets and the spill directory
+   * @param previewImportTokenProperties token configuration providing the preview TTL
+   * @param fileHashService the hash service used to derive store keys from tokens
+   * @param objectMapper the object mapper used to weigh and spill preview rows
+   * @param clock the clock used for expiry
+   */
+  public PreviewResultStore(
+      PreviewStoreProperties previewStoreProperties,
+      PreviewImportTokenProperties previewImportTokenProperties,
+      FileHashService fileHashService,
+      ObjectMapper objectMapper,
+      Clock clock) {
+    this.previewStoreProperties = previewStoreProperties;
+    this.previewImportTokenProperties = previewImportTokenProperties;
+    this.fileHashService = fileHashService;
+    this.clock = clock;
+    this.rowsWriter =
+        objectMapper.writerFor(PREVIEW_ROWS).without(SerializationFeature.INDENT_OUTPUT);
+    this.rowsReader = objectMapper.readerFor(PREVIEW_ROWS);
+    this.posixFileSystem =
+        FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    this.spillDirectory = createSpillDirectory();
+  }
+
+  /**
+   * Stores the rows of a preview until the preview import token expires.
+   *
+   * @param previewImportToken the token issued for the preview
+   * @param ownerId the user who created the preview
+   * @param transactions the preview rows, in preview order
+   */
+  public void put(
+      String previewImportToken, String ownerId, List<PreviewTransaction> transactions) {
+    var key = keyOf(previewImportToken);
+    var rows = List.copyOf(transactions);
+    var rowsJson = serialize(rows);
+    var discardedFiles = new ArrayList<Path>();
+    List<Spill> spills;
+    StoredPreview storedPreview;
+    synchronized (this) {
+      var now = clock.instant();
+      evictExpired(now, discardedFiles);
+      storedPreview =
+          new StoredPreview(
+              key,
+              ownerId,
+              now.plus(previewImportTokenProperties.ttl()),
+              rowsJson.length,
+              rows,
+              nextSpillFile(key));
+      var replaced = previews.put(key, storedPreview);
+      if (replaced != null) {
+        release(replaced, discardedFiles);
+      }
+      memoryBytes += storedPreview.sizeBytes;
+
+      spills = selectSpills();
+      trimToDiskBudget(discardedFiles);
+      spills.removeIf(spill -> !isCurrent(spill.storedPreview));
+    }
+
+    discardedFiles.forEach(this::deleteSpillFile);
+    for (var spill : spills) {
+      write(spill, spill.storedPreview == storedPreview ? rowsJson : null);
+    }
+  }
+
+  /**
+   * Finds the stored rows of a preview.
+   *
+   * @param previewImportToken the token issued for the preview
+   * @param ownerId the authenticated user; previews of other users are never returned
+   * @return the preview rows, or empty if the preview expired, was discarded, or belongs to another
+   *     user
+   */
+  public Optional<List<PreviewTransaction>> find(String previewImportToken, String ownerId) {
+    var key = keyOf(previewImportToken);
+    var discardedFiles = new ArrayList<Path>();
+    StoredPreview storedPreview;
+    List<PreviewTransaction> rows;
+    synchronized (this) {
+      evictExpired(clock.instant(), discardedFiles);
+      storedPreview = previews.get(key);
+      rows = storedPreview != null ? storedPreview.transactions : null;
+    }
+
+    discardedFiles.forEach(this::deleteSpillFile);
+    if (storedPreview == null || !storedPreview.ownerId.equals(ownerId)) {
+      return Optional.empty();
+    }
+    if (rows != null) {
+      return Optional.of(rows);
+    }
+    return readSpilled(storedPreview);
+  }
+
+  /**
+   * Keeps the preview import token issued by a preview job until the token expires.
+   *
+   * @param jobId the preview job ID
+   * @param ownerId the user who submitted the job
+   * @param previewImportToken the token issued for the job's preview
+   */
+  public synchronized void putJobToken(UUID jobId, String ownerId, String previewImportToken) {
+    var now = clock.instant();
+    evictExpiredJobTokens(now);
+    jobTokens.put(
+        jobId,
+        new JobToken(ownerId, previewImportToken, now.plus(previewImportTokenProperties.ttl())));
+  }
+
+  /**
+   * Finds the preview import token issued by a preview job.
+   *
+   * @param jobId the preview job ID
+   * @param ownerId the authenticated user; tokens of other users' jobs are never returned
+   * @return the token, or empty if it expired, was issued on another instance, or belongs to
+   *     another user
+   */
+  public synchronized Optional<String> findJobToken(UUID jobId, String ownerId) {
+    evictExpiredJobTokens(clock.instant());
+    var jobToken = jobTokens.get(jobId);
+    if (jobToken == null || !jobToken.ownerId().equals(ownerId)) {
+      return Optional.empty();
+    }
+    return Optional.of(jobToken.previewImportToken());
+  }
+
+  /** Deletes this store's spill directory when the service shuts down. */
+  @PreDestroy
+  public void close() {
+    synchronized (this) {
+      previews.clear();
+      jobTokens.clear();
+      memoryBytes = 0;
+      diskBytes = 0;
+    }
+    try (var spillFiles = Files.list(spillDirectory)) {
+      spillFiles.forEach(this::deleteSpillFile);
+      Files.deleteIfExists(spillDirectory);
+    } catch (IOException e) {
+      log.warn("Failed to delete preview spill directory {}", spillDirectory, e);
+    }
+  }
+
+  /*
+   * Picks the least recently used in-memory previews to spill until the memory budget is met.
+   * Their bytes move to the disk total right away; the rows stay readable until the file is
+   * written.
+   */
+  private List<Spill> selectSpills() {
+    var spills = new ArrayList<Spill>();
+    var maxMemoryBytes = previewStoreProperties.maxMemorySize().toBytes();
+    var iterator = previews.values().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      var storedPreview = iterator.next();
+      if (storedPreview.onDisk) {
+        continue;
+      }
+      storedPreview.onDisk = true;
+      memoryBytes -= storedPreview.sizeBytes;
+      diskBytes += storedPreview.sizeBytes;
+      spills.add(new Spill(storedPreview, storedPreview.transactions));
+    }
+    return spills;
+  }
+
+  private void trimToDiskBudget(List<Path> discardedFiles) {
+    var maxDiskBytes = previewStoreProperties.maxDiskSize().toBytes();
+    var iterator = previews.values().iterator();
+    while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+      var storedPreview = iterator.next();
+      if (storedPreview.onDisk) {
+        iterator.remove();
+        release(storedPreview, discardedFiles);
+        log.debug("Discarded spilled preview to stay within the disk budget");
+      }
+    }
+  }
+
+  private void evictExpired(Instant now, List<Path> discardedFiles) {
+    var iterator = previews.values().iterator();
+    while (iterator.hasNext()) {
+      var storedPreview = iterator.next();
+      if (now.isAfter(storedPreview.expiresAt)) {
+        iterator.remove();
+        release(storedPreview, discardedFiles);
+      }
+    }
+  }
+
+  private void evictExpiredJobTokens(Instant now) {
+    var iterator = jobTokens.values().iterator();
+    while (iterator.hasNext() && now.isAfter(iterator.next().expiresAt())) {
+      iterator.remove();
+    }
+  }
+
+  private void release(StoredPreview storedPreview, List<Path> discardedFiles) {
+    if (storedPreview.onDisk) {
+      diskBytes -= storedPreview.sizeBytes;
+      discardedFiles.add(storedPreview.spillFile);
+    } else {
+      memoryBytes -= storedPreview.sizeBytes;
+    }
+  }
+
+  private boolean isCurrent(StoredPreview storedPreview) {
+    return previews.get(storedPreview.key) == storedPreview;
+  }
+
+  private void write(Spill spill, byte[] rowsJson) {
+    var storedPreview = spill.storedPreview;
+    try {
+      writeSpillFile(storedPreview.spillFile, rowsJson != null ? rowsJson : serialize(spill.rows));
+    } catch (IOException | UncheckedIOException e) {
+      log.warn("Failed to spill preview rows to disk; discarding preview", e);
+      synchronized (this) {
+        if (isCurrent(storedPreview)) {
+          previews.remove(storedPreview.key);
+          diskBytes -= storedPreview.sizeBytes;
+        }
+      }
+      deleteSpillFile(storedPreview.spillFile);
+      return;
+    }
+
+    boolean discarded;
+    synchronized (this) {
+      discarded = !isCurrent(storedPreview);
+      if (!discarded) {
+        storedPreview.transactions = null;
+      }
+    }
+    if (discarded) {
+      deleteSpillFile(storedPreview.spillFile);
+    }
+  }
+
+  private void writeSpillFile(Path spillFile, byte[] rowsJson) throws IOException {
+    if (posixFileSystem) {
+      Files.createFile(
+          spillFile,
+          PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    }
+    Files.write(spillFile, rowsJson);
+  }
+
+  private Optional<List<PreviewTransaction>> readSpilled(StoredPreview storedPreview) {
+    try {
+      return Optional.of(rowsReader.readValue(storedPreview.spillFile.toFile()));
+    } catch (FileNotFoundException e) {
+      // Discarded by a concurrent put after the index lookup.
+      return Optional.empty();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read spilled preview rows", e);
+    }
+  }
+
+  private byte[] serialize(List<PreviewTransaction> transactions) {
+    try {
+      return rowsWriter.writeValueAsBytes(transactions);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to serialize preview rows", e);
+    }
+  }
+
+  private void deleteSpillFile(Path spillFile) {
+    try {
+      Files.deleteIfExists(spillFile);
+    } catch (IOException e) {
+      log.warn("Failed to delete spilled preview file", e);
+    }
+  }
+
+  private Path createSpillDirectory() {
+    var parentDirectory = previewStoreProperties.spillDirectory();
+    try {
+      Files.createDirectories(parentDirectory);
+      if (posixFileSystem) {
+        return Files.createTempDirectory(
+            parentDirectory,
+            SPILL_DIRECTORY_PREFIX,
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+      }
+      return Files.createTempDirectory(parentDirectory, SPILL_DIRECTORY_PREFIX);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          "Failed to create preview spill directory in " + parentDirectory, e);
+    }
+  }
+
+  private Path nextSpillFile(String key) {
+    return spillDirectory.resolve(key + "-" + spillFileSequence++ + SPILL_FILE_SUFFIX);
+  }
+
+  // Tokens are bearer credentials; keep only their hash in the preview index and spill file names.
+  private String keyOf(String previewImportToken) {
+    return fileHashService.computeHash(previewImportToken.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A stored preview. {@code onDisk} is set once the preview is chosen for spilling, and {@code
+   * transactions} becomes null once its spill file is written.
+   */
+  private static final class StoredPreview {
+    private final String key;
+    private final String ownerId;
+    private final Instant expiresAt;
+    private final long sizeBytes;
+    private final Path spillFile;
+    private List<PreviewTransaction> transactions;
+    private boolean onDisk;
+
+    private StoredPreview(
+        String key,
+        String ownerId,
+        Instant expiresAt,
+        long sizeBytes,
+        List<PreviewTransaction> transactions,
+        Path spillFile) {
+      this.key = key;
+      this.ownerId = ownerId;
+      this.expiresAt = expiresAt;
+      this.sizeBytes = sizeBytes;
+      this.transactions = transactions;
+      this.spillFile = spillFile;
+    }
+  }
+
+  /** A token issued by a preview job, kept for its owner until it expires. */
+  private record JobToken(String ownerId, String previewImportToken, Instant expiresAt) {}
+
+  /** A preview chosen for spilling, with the rows to write captured under the lock. */
+  private record Spill(StoredPreview storedPreview, List<PreviewTransaction> rows) {}
+}
@@ -1,21 +1,28 @@
 package org.budgetanalyzer.transaction.service;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import org.budgetanalyzer.service.exception.ResourceNotFoundException;
 import org.budgetanalyzer.transaction.domain.SavedView;
+import org.budgetanalyzer.transaction.domain.SavedViewMemberType;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.repository.SavedViewRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
+import org.budgetanalyzer.transaction.repository.TransactionViewMembershipOperations.ViewMembershipCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionViewMembershipOperations.ViewMembershipRow;
 import org.budgetanalyzer.transaction.repository.spec.TransactionSpecifications;
 import org.budgetanalyzer.transaction.service.dto.SavedViewCommand;
 import org.budgetanalyzer.transaction.service.dto.SavedViewPatch;
@@ -70,7 +77,9 @@ public class SavedViewService {
    * @return the list of saved views
    */
   public List<SavedView> getViewsForUser(String userId) {
-    return savedViewRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    var views = savedViewRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    loadMembers(views);
+    return views;
   }
 
   /**
@@ -82,10 +91,13 @@ public class SavedViewService {
    * @throws ResourceNotFoundException if the view is not found or doesn't belong to the user
    */
   public SavedView getView(UUID viewId, String userId) {
-    return savedViewRepository
-        .findByIdAndUserId(viewId, userId)
-        .orElseThrow(
-            () -> new ResourceNotFoundException("Saved view not found with id: " + viewId));
+    var view =
+        savedViewRepository
+            .findByIdAndUserId(viewId, userId)
+            .orElseThrow(
+                () -> new ResourceNotFoundException("Saved view not found with id: " + viewId));
+    loadMembers(List.of(view));
+    return view;
   }
 
   /**
@@ -151,34 +163,44 @@ public class SavedViewService {
    * Counts the transactions that would be returned by a view.
    *
    * <p>Only counts active (non-deleted) transactions. The count is: (matching - excluded) + pinned,
-   * where all IDs are filtered to active transactions only.
+   * where all IDs are filtered to active transactions only. The count is computed in the database
+   * without reading transaction rows.
    *
    * @param view the saved view
    * @return the count
    */
   public long countViewTransactions(SavedView view) {
-    var matchingTransactions = findMatchingTransactions(view);
-
-    // Get IDs of matching transactions
-    var matchingIds =
-        matchingTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
-
-    // Filter pinned IDs to active transactions only
-    var pinnedActiveTransactions = findTransactionsByIds(view.getPinnedIds(), view.getUserId());
-    var pinnedActiveIds =
-        pinnedActiveTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
-
-    // Filter excluded IDs to active transactions only
-    var excludedActiveTransactions = findTransactionsByIds(view.getExcludedIds(), view.getUserId());
-    var excludedActiveIds =
-        excludedActiveTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
+    return transactionRepository
+        .countViewMembers(view.getUserId(), List.of(toMembershipCriteria(view)))
+        .getFirst();
+  }
 
-    // Count = (matching - excluded) + pinned
-    var finalIds = new java.util.HashSet<>(matchingIds);
-    finalIds.removeAll(excludedActiveIds);
-    finalIds.addAll(pinnedActiveIds);
+  /**
+   * Counts the transactions of several views, using one query per view owner.
+   *
+   * <p>Each count follows the same rules as {@link #countViewTransactions(SavedView)}.
+   *
+   * @param views the saved views
+   * @return the count of each view, keyed by view ID
+   */
+  public Map<UUID, Long> countViewTransactionsById(List<SavedView> views) {
+    var viewsByOwner = new LinkedHashMap<String, List<SavedView>>();
+    for (var view : views) {
+      viewsByOwner.computeIfAbsent(view.getUserId(), ownerId -> new ArrayList<>()).add(view);
+    }
 
-    return finalIds.size();
+    var countsByViewId = new HashMap<UUID, Long>();
+    viewsByOwner.forEach(
+        (ownerId, ownerViews) -> {
+          var counts =
+              transactionRepository.countViewMembers(
+                  ownerId,
+                  ownerViews.stream().map(SavedViewService::toMembershipCriteria).toList());
+          for (var index = 0; index < ownerViews.size(); index++) {
+            countsByViewId.put(ownerViews.get(index).getId(), counts.get(index));
+          }
+        });
+    return countsByViewId;
   }
 
   /**
@@ -197,6 +219,8 @@ public class SavedViewService {
       throw new ResourceNotFoundException("Transaction not found with id: " + transactionId);
     }
 
+    savedViewRepository.upsertMembers(
+        view.getId(), List.of(transactionId), SavedViewMemberType.PINNED);
     view.pinTransaction(transactionId);
     log.info("Pinned transaction {} to view {} for user {}", transactionId, viewId, userId);
     return savedViewRepository.save(view);
@@ -213,6 +237,7 @@ public class SavedViewService {
   @Transactional
   public SavedView unpinTransaction(UUID viewId, String userId, Long transactionId) {
     var view = getView(viewId, userId);
+    savedViewRepository.deleteMember(view.getId(), transactionId, SavedViewMemberType.PINNED);
     view.unpinTransaction(transactionId);
     log.info("Unpinned transaction {} from view {} for user {}", transactionId, viewId, userId);
     return savedViewRepository.save(view);
@@ -234,6 +259,8 @@ public class SavedViewService {
       throw new ResourceNotFoundException("Transaction not found with id: " + transactionId);
     }
 
+    savedViewRepository.upsertMembers(
+        view.getId(), List.of(transactionId), SavedViewMemberType.EXCLUDED);
     view.excludeTransaction(transactionId);
     log.info("Excluded transaction {} from view {} for user {}", transactionId, viewId, userId);
     return savedViewRepository.save(view);
@@ -250,19 +277,23 @@ public class SavedViewService {
   @Transactional
   public BulkViewUpdateResult bulkPinTransactions(UUID viewId, String userId, List<Long> ids) {
     var view = getView(viewId, userId);
-    var notFoundIds = new java.util.ArrayList<Long>();
+    var ownedIds = transactionRepository.findActiveIdsOwnedBy(ids, userId);
+    var notFoundIds = new ArrayList<Long>();
     var validIds = new LinkedHashSet<Long>();
 
     for (var id : ids) {
-      if (isTransactionActiveAndOwnedByUser(id, userId)) {
+      if (ownedIds.contains(id)) {
         validIds.add(id);
       } else {
         notFoundIds.add(id);
       }
     }
 
-    view.pinTransactions(validIds);
-    savedViewRepository.save(view);
+    if (!validIds.isEmpty()) {
+      savedViewRepository.upsertMembers(view.getId(), validIds, SavedViewMemberType.PINNED);
+      view.pinTransactions(validIds);
+      savedViewRepository.save(view);
+    }
 
     return new BulkViewUpdateResult(validIds.size(), notFoundIds);
   }
@@ -278,19 +309,23 @@ public class SavedViewService {
   @Transactional
   public BulkViewUpdateResult bulkExcludeTransactions(UUID viewId, String userId, List<Long> ids) {
     var view = getView(viewId, userId);
-    var notFoundIds = new java.util.ArrayList<Long>();
+    var ownedIds = transactionRepository.findActiveIdsOwnedBy(ids, userId);
+    var notFoundIds = new ArrayList<Long>();
     var validIds = new LinkedHashSet<Long>();
 
     for (var id : ids) {
-      if (isTransactionActiveAndOwnedByUser(id, userId)) {
+      if (ownedIds.contains(id)) {
         validIds.add(id);
       } else {
         notFoundIds.add(id);
       }
     }
 
-    view.excludeTransactions(validIds);
-    savedViewRepository.save(view);
+    if (!validIds.isEmpty()) {
+      savedViewRepository.upsertMembers(view.getId(), validIds, SavedViewMemberType.EXCLUDED);
+      view.excludeTransactions(validIds);
+      savedViewRepository.save(view);
+    }
 
     return new BulkViewUpdateResult(validIds.size(), notFoundIds);
   }
@@ -306,6 +341,7 @@ public class SavedViewService {
   @Transactional
   public SavedView unexcludeTransaction(UUID viewId, String userId, Long transactionId) {
     var view = getView(viewId, userId);
+    savedViewRepository.deleteMember(view.getId(), transactionId, SavedViewMemberType.EXCLUDED);
     view.unexcludeTransaction(transactionId);
     log.info(
         "Removed exclusion of transaction {} from view {} for user {}",
@@ -315,53 +351,60 @@ public class SavedViewService {
     return savedViewRepository.save(view);
   }
 
-  private ViewMembership resolveViewMembership(SavedView view) {
-    // Get transactions matching criteria (already filters soft-deleted)
-    var matchingTransactions = findMatchingTransactions(view);
-
-    // Extract matching IDs
-    var matchingIds =
-        matchingTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
+  private void loadMembers(Collection<SavedView> views) {
+    if (views.isEmpty()) {
+      return;
+    }
 
-    // Filter pinned IDs to active transactions only
-    var pinnedActiveTransactions = findTransactionsByIds(view.getPinnedIds(), view.getUserId());
-    var pinnedActiveIds =
-        pinnedActiveTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
+    var viewsById = new HashMap<UUID, SavedView>();
+    for (var view : views) {
+      viewsById.put(view.getId(), view);
+    }
 
-    // Filter excluded IDs to active transactions only
-    var excludedActiveTransactions = findTransactionsByIds(view.getExcludedIds(), view.getUserId());
-    var excludedActiveIds =
-        excludedActiveTransactions.stream().map(Transaction::getId).collect(Collectors.toSet());
+    for (var member : savedViewRepository.findMembers(viewsById.keySet())) {
+      var view = viewsById.get(member.getViewId());
+      switch (member.getMembershipType()) {
+        case PINNED -> view.getPinnedIds().add(member.getTransactionId());
+        case EXCLUDED -> view.getExcludedIds().add(member.getTransactionId());
+      }
+    }
+  }
 
-    // Build final lists (sorted)
-    // matched = matchingIds - excludedIds
-    var matched =
-        matchingIds.stream().filter(id -> !excludedActiveIds.contains(id)).sorted().toList();
+  private ViewMembership resolveViewMembership(SavedView view) {
+    var matched = new ArrayList<Long>();
+    var pinned = new ArrayList<Long>();
+    var excluded = new ArrayList<Long>();
+
+    // Rows arrive ordered by ID, so each list is already sorted
+    for (var row : findViewMembershipRows(view)) {
+      if (row.matched() && !row.excluded()) {
+        matched.add(row.transactionId());
+      }
+      if (row.pinned() && !row.matched()) {
+        pinned.add(row.transactionId());
+      }
+      if (row.excluded()) {
+        excluded.add(row.transactionId());
+      }
+    }
 
-    // pinned = pinnedActiveIds - matchingIds
-    var pinned = pinnedActiveIds.stream().filter(id -> !matchingIds.contains(id)).sorted().toList();
+    return new ViewMembership(matched, pinned, excluded);
+  }
 
-    // excluded = excludedActiveIds
-    var excluded = excludedActiveIds.stream().sorted().toList();
+  private List<ViewMembershipRow> findViewMembershipRows(SavedView view) {
+    return transactionRepository.findViewMembershipRows(
+        toSpecification(view), view.getUserId(), view.getId());
+  }
 
-    return new ViewMembership(matched, pinned, excluded);
+  private static ViewMembershipCriteria toMembershipCriteria(SavedView view) {
+    return new ViewMembershipCriteria(toSpecification(view), view.getId());
   }
 
-  private List<Transaction> findMatchingTransactions(SavedView view) {
+  private static Specification<Transaction> toSpecification(SavedView view) {
     var criteria =
         TransactionCriteria.fromViewCriteria(
             view.getCriteria(), view.getUserId(), view.isOpenEnded());
-    return transactionRepository.findAllNotDeleted(
-        TransactionSpecifications.withCriteria(criteria));
-  }
-
-  private List<Transaction> findTransactionsByIds(Collection<Long> ids, String ownerId) {
-    return ids.stream()
-        .map(transactionRepository::findByIdNotDeleted)
-        .filter(java.util.Optional::isPresent)
-        .map(java.util.Optional::get)
-        .filter(transaction -> ownerId.equals(transaction.getOwnerId()))
-        .toList();
+    return TransactionSpecifications.withCriteria(criteria);
   }
 
   private boolean isTransactionActiveAndOwnedByUser(Long transactionId, String userId) {
@@ -1,9 +1,5 @@
 package org.budgetanalyzer.transaction.service;
 
-import java.text.Normalizer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 
 /** Matches transaction descriptions using normalized exact and conservative fuzzy comparison. */
@@ -16,147 +12,177 @@ final class TransactionDescriptionMatcher {
    */
   private static final double FUZZY_MATCH_THRESHOLD = 0.90;
   private static final int MINIMUM_FUZZY_MATCH_LENGTH = 8;
+  private static final ThreadLocal<LevenshteinScratch> LEVENSHTEIN_SCRATCH =
+      ThreadLocal.withInitial(LevenshteinScratch::new);
 
   TransactionDescriptionMatchResult match(
       String incomingDescription, Long candidateId, String candidateDescription) {
     Objects.requireNonNull(incomingDescription, "incomingDescription");
     Objects.requireNonNull(candidateDescription, "candidateDescription");
 
-    var normalizedIncomingDescription = normalize(incomingDescription);
-    var normalizedCandidateDescription = normalize(candidateDescription);
+    return match(
+        DescriptionFingerprint.of(incomingDescription),
+        candidateId,
+        DescriptionFingerprint.of(candidateDescription));
+  }
+
+  TransactionDescriptionMatchResult match(
+      DescriptionFingerprint incomingDescription,
+      Long candidateId,
+      DescriptionFingerprint candidateDescription) {
+    Objects.requireNonNull(incomingDescription, "incomingDescription");
+    Objects.requireNonNull(candidateDescription, "candidateDescription");
 
-    if (normalizedIncomingDescription.equals(normalizedCandidateDescription)) {
-      return TransactionDescriptionMatchResult.match(1.0, candidateId, candidateDescription);
+    if (incomingDescription
+        .normalizedDescription()
+        .equals(candidateDescription.normalizedDescription())) {
+      return TransactionDescriptionMatchResult.match(
+          1.0, candidateId, candidateDescription.description());
     }
 
     if (!haveCompatibleNumericTokens(incomingDescription, candidateDescription)) {
       return TransactionDescriptionMatchResult.noMatch();
     }
 
-    if (!canFuzzyMatch(normalizedIncomingDescription, normalizedCandidateDescription)) {
+    if (!canFuzzyMatch(incomingDescription, candidateDescription)) {
       return TransactionDescriptionMatchResult.noMatch();
     }
 
     var similarityScore =
-        calculateNormalizedLevenshteinSimilarity(
-            normalizedIncomingDescription, normalizedCandidateDescription);
+        calculateNormalizedLevenshteinSimilarity(incomingDescription, candidateDescription);
     if (similarityScore >= FUZZY_MATCH_THRESHOLD) {
       return TransactionDescriptionMatchResult.match(
-          similarityScore, candidateId, candidateDescription);
+          similarityScore, candidateId, candidateDescription.description());
     }
 
     return TransactionDescriptionMatchResult.noMatch();
   }
 
   static String normalize(String description) {
-    Objects.requireNonNull(description, "description");
-
-    var normalizedDescription =
-        Normalizer.normalize(description.trim(), Normalizer.Form.NFKD).toUpperCase(Locale.ROOT);
-    var normalizedDescriptionBuilder = new StringBuilder(normalizedDescription.length());
-
-    normalizedDescription
-        .codePoints()
-        .filter(TransactionDescriptionMatcher::isComparableCodePoint)
-        .forEach(normalizedDescriptionBuilder::appendCodePoint);
-
-    return normalizedDescriptionBuilder.toString();
+    return DescriptionFingerprint.normalize(description);
   }
 
   private static boolean canFuzzyMatch(
-      String normalizedIncomingDescription, String normalizedCandidateDescription) {
-    return normalizedIncomingDescription.length() >= MINIMUM_FUZZY_MATCH_LENGTH
-        && normalizedCandidateDescription.length() >= MINIMUM_FUZZY_MATCH_LENGTH;
+      DescriptionFingerprint incomingDescription, DescriptionFingerprint candidateDescription) {
+    return incomingDescription.normalizedDescription().length() >= MINIMUM_FUZZY_MATCH_LENGTH
+        && candidateDescription.normalizedDescription().length() >= MINIMUM_FUZZY_MATCH_LENGTH;
   }
 
   private static boolean haveCompatibleNumericTokens(
-      String incomingDescription, String candidateDescription) {
-    var incomingNumericTokens = extractNumericTokens(incomingDescription);
-    var candidateNumericTokens = extractNumericTokens(candidateDescription);
+      DescriptionFingerprint incomingDescription, DescriptionFingerprint candidateDescription) {
+    var incomingNumericTokens = incomingDescription.numericTokens();
+    var candidateNumericTokens = candidateDescription.numericTokens();
     return incomingNumericTokens.isEmpty() && candidateNumericTokens.isEmpty()
         || incomingNumericTokens.equals(candidateNumericTokens);
   }
 
-  private static List<String> extractNumericTokens(String description) {
-    var numericTokens = new ArrayList<String>();
-    var numericTokenBuilder = new StringBuilder();
-
-    description
-        .codePoints()
-        .forEach(
-            codePoint -> {
-              if (Character.isDigit(codePoint)) {
-                numericTokenBuilder.appendCodePoint(codePoint);
-                return;
-              }
-
-              addNumericToken(numericTokens, numericTokenBuilder);
-            });
-
-    addNumericToken(numericTokens, numericTokenBuilder);
-    return numericTokens;
-  }
-
-  private static void addNumericToken(
-      List<String> numericTokens, StringBuilder numericTokenBuilder) {
-    if (numericTokenBuilder.isEmpty()) {
-      return;
-    }
-
-    numericTokens.add(numericTokenBuilder.toString());
-    numericTokenBuilder.setLength(0);
-  }
-
-  private static boolean isComparableCodePoint(int codePoint) {
-    return Character.isLetterOrDigit(codePoint)
-        && Character.getType(codePoint) != Character.NON_SPACING_MARK;
-  }
-
+  /*
+   * Only distances that can still clear the threshold are computed exactly. Anything farther is
+   * reported as one past the bound, which always scores below the threshold, so match decisions and
+   * reported scores are the same as with the full distance.
+   */
   private static double calculateNormalizedLevenshteinSimilarity(
-      String normalizedIncomingDescription, String normalizedCandidateDescription) {
-    var incomingDescriptionCodePoints = normalizedIncomingDescription.codePoints().toArray();
-    var candidateDescriptionCodePoints = normalizedCandidateDescription.codePoints().toArray();
-    var maximumLength =
-        Math.max(incomingDescriptionCodePoints.length, candidateDescriptionCodePoints.length);
+      DescriptionFingerprint incomingDescription, DescriptionFingerprint candidateDescription) {
+    var incomingLength = incomingDescription.length();
+    var candidateLength = candidateDescription.length();
+    var maximumLength = Math.max(incomingLength, candidateLength);
     if (maximumLength == 0) {
       return 1.0;
     }
 
+    var maximumDistance = calculateMaximumMatchingDistance(maximumLength);
+    if (Math.abs(incomingLength - candidateLength) > maximumDistance) {
+      return calculateSimilarity(maximumDistance + 1, maximumLength);
+    }
+
     var levenshteinDistance =
-        calculateLevenshteinDistance(incomingDescriptionCodePoints, candidateDescriptionCodePoints);
+        calculateBoundedLevenshteinDistance(
+            incomingDescription.normalizedCodePoints(),
+            candidateDescription.normalizedCodePoints(),
+            maximumDistance);
+    return calculateSimilarity(levenshteinDistance, maximumLength);
+  }
+
+  private static double calculateSimilarity(int levenshteinDistance, int maximumLength) {
     return 1.0 - ((double) levenshteinDistance / maximumLength);
   }
 
-  private static int calculateLevenshteinDistance(
-      int[] incomingDescriptionCodePoints, int[] candidateDescriptionCodePoints) {
-    var previousDistances = new int[candidateDescriptionCodePoints.length + 1];
-    var currentDistances = new int[candidateDescriptionCodePoints.length + 1];
+  /**
+   * Returns the largest distance whose similarity still meets the threshold.
+   *
+   * <p>The bound is derived from the same floating-point expression used for scoring rather than
+   * from {@code (1 - threshold) * length} alone, so rounding can never move a decision.
+   */
+  private static int calculateMaximumMatchingDistance(int maximumLength) {
+    var maximumDistance = (int) ((1.0 - FUZZY_MATCH_THRESHOLD) * maximumLength);
+    while (maximumDistance < maximumLength
+        && calculateSimilarity(maximumDistance + 1, maximumLength) >= FUZZY_MATCH_THRESHOLD) {
+      maximumDistance++;
+    }
+    while (maximumDistance > 0
+        && calculateSimilarity(maximumDistance, maximumLength) < FUZZY_MATCH_THRESHOLD) {
+      maximumDistance--;
+    }
+    return maximumDistance;
+  }
 
-    for (int candidateIndex = 0;
-        candidateIndex <= candidateDescriptionCodePoints.length;
-        candidateIndex++) {
-      previousDistances[candidateIndex] = candidateIndex;
+  /**
+   * Computes the Levenshtein distance inside a diagonal band of width {@code maximumDistance}.
+   *
+   * <p>Cells outside the band can only hold distances above the bound, and every row minimum is a
+   * lower bound for the final distance, so the computation stops as soon as a whole row exceeds
+   * the bound.
+   *
+   * @return the exact distance, or {@code maximumDistance + 1} when it exceeds the bound
+   */
+  private static int calculateBoundedLevenshteinDistance(
+      int[] incomingDescriptionCodePoints,
+      int[] candidateDescriptionCodePoints,
+      int maximumDistance) {
+    var incomingLength = incomingDescriptionCodePoints.length;
+    var candidateLength = candidateDescriptionCodePoints.length;
+    var levenshteinScratch = LEVENSHTEIN_SCRATCH.get();
+    var exceededDistance = maximumDistance + 1;
+    var previousDistances = levenshteinScratch.previousDistances(candidateLength + 1);
+    var currentDistances = levenshteinScratch.currentDistances(candidateLength + 1);
+
+    for (int candidateIndex = 0; candidateIndex <= candidateLength; candidateIndex++) {
+      previousDistances[candidateIndex] = Math.min(candidateIndex, exceededDistance);
     }
 
-    for (int incomingIndex = 1;
-        incomingIndex <= incomingDescriptionCodePoints.length;
-        incomingIndex++) {
-      currentDistances[0] = incomingIndex;
+    for (int incomingIndex = 1; incomingIndex <= incomingLength; incomingIndex++) {
+      var firstCandidateIndex = Math.max(1, incomingIndex - maximumDistance);
+      var lastCandidateIndex = Math.min(candidateLength, incomingIndex + maximumDistance);
+
+      currentDistances[firstCandidateIndex - 1] =
+          firstCandidateIndex == 1 ? Math.min(incomingIndex, exceededDistance) : exceededDistance;
+      var rowMinimum = currentDistances[firstCandidateIndex - 1];
 
-      for (int candidateIndex = 1;
-          candidateIndex <= candidateDescriptionCodePoints.length;
+      for (int candidateIndex = firstCandidateIndex;
+          candidateIndex <= lastCandidateIndex;
           candidateIndex++) {
         var substitutionCost =
             incomingDescriptionCodePoints[incomingIndex - 1]
                     == candidateDescriptionCodePoints[candidateIndex - 1]
                 ? 0
                 : 1;
-        currentDistances[candidateIndex] =
+        var distance =
             Math.min(
                 Math.min(
                     currentDistances[candidateIndex - 1] + 1,
                     previousDistances[candidateIndex] + 1),
                 previousDistances[candidateIndex - 1] + substitutionCost);
+        currentDistances[candidateIndex] = Math.min(distance, exceededDistance);
+        rowMinimum = Math.min(rowMinimum, currentDistances[candidateIndex]);
+      }
+
+      // The next row reads one cell past this row's band.
+      if (lastCandidateIndex < candidateLength) {
+        currentDistances[lastCandidateIndex + 1] = exceededDistance;
+      }
+
+      if (rowMinimum > maximumDistance) {
+        return exceededDistance;
       }
 
       var nextPreviousDistances = previousDistances;
@@ -164,6 +190,29 @@ final class TransactionDescriptionMatcher {
       currentDistances = nextPreviousDistances;
     }
 
-    return previousDistances[candidateDescriptionCodePoints.length];
+    return previousDistances[candidateLength];
+  }
+
+  /**
+   * Per-thread distance rows reused across comparisons; duplicate checks compare one description
+   * against many candidates and would otherwise allocate two rows per pair.
+   */
+  private static final class LevenshteinScratch {
+    private int[] previousDistances = new int[0];
+    private int[] currentDistances = new int[0];
+
+    private int[] previousDistances(int minimumLength) {
+      if (previousDistances.length < minimumLength) {
+        previousDistances = new int[minimumLength];
+      }
+      return previousDistances;
+    }
+
+    private int[] currentDistances(int minimumLength) {
+      if (currentDistances.length < minimumLength) {
+        currentDistances = new int[minimumLength];
+      }
+      return currentDistances;
+    }
   }
 }
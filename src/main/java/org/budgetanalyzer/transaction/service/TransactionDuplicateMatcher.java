@@ -4,9 +4,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
 import org.budgetanalyzer.transaction.repository.TransactionDuplicateCandidateCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionExactDuplicateCriteria;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository.TransactionDuplicateCandidate;
 import org.budgetanalyzer.transaction.service.dto.PreviewDuplicateReason;
@@ -26,70 +29,114 @@ final class TransactionDuplicateMatcher {
       return previewTransactions;
     }
 
-    var existingCandidatesByKey =
-        findExistingCandidatesByKey(transactionRepository, previewTransactions, userId);
-    var seenTransactionsByCandidateKey =
-        new HashMap<TransactionDuplicateCandidateKey, List<PreviewTransaction>>();
+    var incomingTransactions = prepare(previewTransactions, userId);
+    var existingTransactions =
+        findExistingTransactions(transactionRepository, incomingTransactions, userId);
+    var seenDescriptionsByCandidateKey =
+        new HashMap<TransactionDuplicateCandidateKey, List<DescriptionFingerprint>>();
     var markedPreviewTransactions = new ArrayList<PreviewTransaction>(previewTransactions.size());
 
-    for (var previewTransaction : previewTransactions) {
-      var transactionCandidateKey = candidateKey(previewTransaction);
-      if (matchesExistingTransaction(
-          previewTransaction,
-          existingCandidatesByKey.getOrDefault(transactionCandidateKey, List.of()))) {
+    for (var incomingTransaction : incomingTransactions) {
+      var previewTransaction = incomingTransaction.transaction();
+      if (matchesExistingTransaction(incomingTransaction, existingTransactions)) {
         markedPreviewTransactions.add(
             previewTransaction.withDuplicate(PreviewDuplicateReason.EXISTING_TRANSACTION));
       } else if (matchesSeenTransaction(
-          previewTransaction,
-          seenTransactionsByCandidateKey.getOrDefault(transactionCandidateKey, List.of()))) {
+          incomingTransaction,
+          seenDescriptionsByCandidateKey.getOrDefault(
+              incomingTransaction.candidateKey(), List.of()))) {
         markedPreviewTransactions.add(
             previewTransaction.withDuplicate(PreviewDuplicateReason.IN_BATCH));
       } else {
         markedPreviewTransactions.add(previewTransaction);
       }
-      seenTransactionsByCandidateKey
-          .computeIfAbsent(transactionCandidateKey, key -> new ArrayList<>())
-          .add(previewTransaction);
+      seenDescriptionsByCandidateKey
+          .computeIfAbsent(incomingTransaction.candidateKey(), key -> new ArrayList<>())
+          .add(incomingTransaction.descriptionFingerprint());
     }
 
     return markedPreviewTransactions;
   }
 
-  Map<TransactionDuplicateCandidateKey, List<TransactionDuplicateCandidate>>
-      findExistingCandidatesByKey(
-          TransactionRepository transactionRepository,
-          List<PreviewTransaction> previewTransactions,
-          String userId) {
-    if (previewTransactions.isEmpty()) {
-      return Map.of();
+  /**
+   * Normalizes and fingerprints incoming rows once for all duplicate checks of an import.
+   *
+   * @param previewTransactions the incoming rows, in import order
+   * @param userId the owner the rows are imported for
+   * @return the prepared rows, in the same order
+   */
+  static List<IncomingTransaction> prepare(
+      List<PreviewTransaction> previewTransactions, String userId) {
+    return previewTransactions.stream()
+        .map(previewTransaction -> IncomingTransaction.of(previewTransaction, userId))
+        .toList();
+  }
+
+  /**
+   * Loads the existing owner-scoped transactions that incoming rows must be checked against.
+   *
+   * <p>Exact duplicates are resolved in SQL through the persisted description fingerprint. Only
+   * rows without an exact duplicate load their candidates by financial identity for fuzzy
+   * description matching; candidate descriptions are fingerprinted here, once, so they are not
+   * normalized again for every incoming row that shares their key.
+   */
+  ExistingTransactions findExistingTransactions(
+      TransactionRepository transactionRepository,
+      List<IncomingTransaction> incomingTransactions,
+      String userId) {
+    if (incomingTransactions.isEmpty()) {
+      return new ExistingTransactions(Set.of(), Map.of());
     }
 
-    var transactionCandidateKeys =
-        previewTransactions.stream()
-            .map(TransactionDuplicateMatcher::candidateKey)
-            .collect(Collectors.toSet());
+    var exactDuplicateFingerprints =
+        transactionRepository.findExactDuplicateFingerprints(
+            incomingTransactions.stream()
+                .map(IncomingTransaction::toExactDuplicateCriteria)
+                .collect(Collectors.toSet()),
+            userId);
     var transactionCandidateCriteria =
-        transactionCandidateKeys.stream()
+        incomingTransactions.stream()
+            .filter(
+                incomingTransaction ->
+                    !exactDuplicateFingerprints.contains(
+                        incomingTransaction.duplicateFingerprint()))
+            .map(IncomingTransaction::candidateKey)
             .map(TransactionDuplicateMatcher::toCandidateCriteria)
             .collect(Collectors.toSet());
-    return transactionRepository
-        .findDuplicateCandidates(transactionCandidateCriteria, userId)
-        .stream()
-        .collect(
-            Collectors.groupingBy(
-                transactionDuplicateCandidate ->
-                    candidateKey(transactionDuplicateCandidate.getCandidateCriteria())));
+    if (transactionCandidateCriteria.isEmpty()) {
+      return new ExistingTransactions(exactDuplicateFingerprints, Map.of());
+    }
+
+    var existingCandidatesByKey =
+        transactionRepository
+            .findDuplicateCandidates(transactionCandidateCriteria, userId)
+            .stream()
+            .collect(
+                Collectors.groupingBy(
+                    transactionDuplicateCandidate ->
+                        candidateKey(transactionDuplicateCandidate.getCandidateCriteria()),
+                    Collectors.mapping(ExistingDescription::from, Collectors.toList())));
+    return new ExistingTransactions(exactDuplicateFingerprints, existingCandidatesByKey);
   }
 
   boolean matchesExistingTransaction(
-      PreviewTransaction previewTransaction,
-      List<TransactionDuplicateCandidate> transactionDuplicateCandidates) {
-    for (var transactionDuplicateCandidate : transactionDuplicateCandidates) {
+      IncomingTransaction incomingTransaction, ExistingTransactions existingTransactions) {
+    if (existingTransactions
+        .exactDuplicateFingerprints()
+        .contains(incomingTransaction.duplicateFingerprint())) {
+      return true;
+    }
+
+    var existingDescriptions =
+        existingTransactions
+            .candidatesByKey()
+            .getOrDefault(incomingTransaction.candidateKey(), List.of());
+    for (var existingDescription : existingDescriptions) {
       var transactionDescriptionMatchResult =
           transactionDescriptionMatcher.match(
-              previewTransaction.description(),
-              transactionDuplicateCandidate.getTransactionId(),
-              transactionDuplicateCandidate.getDescription());
+              incomingTransaction.descriptionFingerprint(),
+              existingDescription.transactionId(),
+              existingDescription.descriptionFingerprint());
       if (transactionDescriptionMatchResult.matched()) {
         return true;
       }
@@ -98,11 +145,11 @@ final class TransactionDuplicateMatcher {
   }
 
   boolean matchesSeenTransaction(
-      PreviewTransaction previewTransaction, List<PreviewTransaction> seenTransactions) {
-    for (var seenTransaction : seenTransactions) {
+      IncomingTransaction incomingTransaction, List<DescriptionFingerprint> seenDescriptions) {
+    for (var seenDescription : seenDescriptions) {
       var transactionDescriptionMatchResult =
           transactionDescriptionMatcher.match(
-              previewTransaction.description(), null, seenTransaction.description());
+              incomingTransaction.descriptionFingerprint(), null, seenDescription);
       if (transactionDescriptionMatchResult.matched()) {
         return true;
       }
@@ -133,4 +180,76 @@ final class TransactionDuplicateMatcher {
         transactionDuplicateCandidateKey.type(),
         transactionDuplicateCandidateKey.currencyIsoCode());
   }
+
+  /**
+   * An existing transaction description fingerprinted for duplicate matching.
+   *
+   * <p>The persisted normalized description is reused when present; only rows the backfill has not
+   * reached yet are normalized here.
+   *
+   * @param transactionId the existing transaction ID
+   * @param descriptionFingerprint the fingerprint of its description
+   */
+  record ExistingDescription(Long transactionId, DescriptionFingerprint descriptionFingerprint) {
+
+    private static ExistingDescription from(
+        TransactionDuplicateCandidate transactionDuplicateCandidate) {
+      var description = transactionDuplicateCandidate.getDescription();
+      var normalizedDescription = transactionDuplicateCandidate.getNormalizedDescription();
+      return new ExistingDescription(
+          transactionDuplicateCandidate.getTransactionId(),
+          normalizedDescription != null
+              ? DescriptionFingerprint.of(description, normalizedDescription)
+              : DescriptionFingerprint.of(description));
+    }
+  }
+
+  /**
+   * An incoming row prepared for duplicate matching.
+   *
+   * @param transaction the incoming row
+   * @param candidateKey the strict financial identity of the row
+   * @param descriptionFingerprint the normalized description of the row
+   * @param duplicateFingerprint the 64-bit duplicate fingerprint, as persisted for stored rows
+   */
+  record IncomingTransaction(
+      PreviewTransaction transaction,
+      TransactionDuplicateCandidateKey candidateKey,
+      DescriptionFingerprint descriptionFingerprint,
+      long duplicateFingerprint) {
+
+    private static IncomingTransaction of(PreviewTransaction previewTransaction, String userId) {
+      var candidateKey = TransactionDuplicateMatcher.candidateKey(previewTransaction);
+      var descriptionFingerprint = DescriptionFingerprint.of(previewTransaction.description());
+      return new IncomingTransaction(
+          previewTransaction,
+          candidateKey,
+          descriptionFingerprint,
+          TransactionFingerprint.compute(
+              userId,
+              candidateKey.bankName(),
+              candidateKey.date(),
+              candidateKey.amount(),
+              candidateKey.type(),
+              candidateKey.currencyIsoCode(),
+              descriptionFingerprint.normalizedDescription()));
+    }
+
+    private TransactionExactDuplicateCriteria toExactDuplicateCriteria() {
+      return new TransactionExactDuplicateCriteria(
+          duplicateFingerprint,
+          toCandidateCriteria(candidateKey),
+          descriptionFingerprint.normalizedDescription());
+    }
+  }
+
+  /**
+   * Existing owner-scoped transactions that incoming rows are checked against.
+   *
+   * @param exactDuplicateFingerprints fingerprints of incoming rows with an exact duplicate
+   * @param candidatesByKey fuzzy-match candidates of the remaining rows, by financial identity
+   */
+  record ExistingTransactions(
+      Set<Long> exactDuplicateFingerprints,
+      Map<TransactionDuplicateCandidateKey, List<ExistingDescription>> candidatesByKey) {}
 }
@@ -0,0 +1,172 @@
+package org.budgetanalyzer.transaction.service;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+
+/**
+ * Fills {@code normalized_description} and {@code description_fingerprint} for rows written before
+ * those columns existed.
+ *
+ * <p>Description normalization relies on Unicode NFKD and Java character classes, which SQL cannot
+ * reproduce exactly, so the values are computed here rather than in the Flyway migration that
+ * added the columns. The backfill runs once per startup in small batches and is idempotent; rows
+ * it has not reached yet are still found by fuzzy candidate lookup, so duplicate detection stays
+ * correct while it runs.
+ *
+ * <p>It runs on a background virtual thread so startup is not delayed, and only on the instance
+ * that obtains a PostgreSQL session advisory lock; other replicas starting at the same time skip
+ * it. The lock is released when the backfill finishes or its connection closes.
+ */
+@Component
+public class TransactionFingerprintBackfill {
+
+  private static final Logger log = LoggerFactory.getLogger(TransactionFingerprintBackfill.class);
+  private static final int BATCH_SIZE = 1_000;
+  private static final String LOCK_NAME = "transaction_fingerprint_backfill";
+
+  private static final String SELECT_PENDING_SQL =
+      """
+      SELECT id, owner_id, bank_name, date, amount, type, currency_iso_code, description
+      FROM transaction
+      WHERE description_fingerprint IS NULL
+        AND id > ?
+      ORDER BY id
+      LIMIT ?
+      """;
+  private static final String UPDATE_SQL =
+      """
+      UPDATE transaction
+      SET normalized_description = ?, description_fingerprint = ?
+      WHERE id = ? AND description_fingerprint IS NULL
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ExecutorService executorService =
+      Executors.newSingleThreadExecutor(Thread.ofVirtual().name("fingerprint-backfill").factory());
+  private volatile boolean stopping;
+
+  /**
+   * Constructs a new TransactionFingerprintBackfill.
+   *
+   * @param jdbcTemplate the JDBC template used to read and update pending rows
+   */
+  public TransactionFingerprintBackfill(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Starts the backfill in the background once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    executorService.execute(this::backfill);
+  }
+
+  /**
+   * Backfills every pending row if no other instance is running the backfill; returns immediately
+   * once all rows carry a fingerprint.
+   */
+  public void backfill() {
+    try {
+      jdbcTemplate.execute(
+          (ConnectionCallback<Void>)
+              connection -> {
+                if (!advisoryLock(connection, "pg_try_advisory_lock")) {
+                  log.info("Duplicate fingerprint backfill is running on another instance");
+                  return null;
+                }
+                try {
+                  backfillPendingRows();
+                } finally {
+                  advisoryLock(connection, "pg_advisory_unlock");
+                }
+                return null;
+              });
+    } catch (RuntimeException e) {
+      log.warn("Duplicate fingerprint backfill failed; it will resume on the next startup", e);
+    }
+  }
+
+  /** Stops the backfill after its current batch when the service shuts down. */
+  @PreDestroy
+  public void close() {
+    stopping = true;
+    executorService.close();
+  }
+
+  private void backfillPendingRows() {
+    var lastId = 0L;
+    var updatedCount = 0;
+    while (!stopping) {
+      var pendingRows =
+          jdbcTemplate.query(
+              SELECT_PENDING_SQL, TransactionFingerprintBackfill::fingerprint, lastId, BATCH_SIZE);
+      if (pendingRows.isEmpty()) {
+        break;
+      }
+
+      var batchArgs = new ArrayList<Object[]>(pendingRows.size());
+      for (var pendingRow : pendingRows) {
+        batchArgs.add(
+            new Object[] {
+              pendingRow.normalizedDescription(),
+              pendingRow.descriptionFingerprint(),
+              pendingRow.id()
+            });
+      }
+      jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+      updatedCount += pendingRows.size();
+      lastId = pendingRows.getLast().id();
+    }
+
+    if (updatedCount > 0) {
+      log.info("Backfilled duplicate fingerprints for {} transaction(s)", updatedCount);
+    }
+  }
+
+  // Session-level lock keyed by the hashed lock name; held on the connection of the callback.
+  private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+    try (var statement = connection.prepareStatement("SELECT " + function + "(hashtext(?))")) {
+      statement.setString(1, LOCK_NAME);
+      try (var resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+
+  private static FingerprintedRow fingerprint(ResultSet resultSet, int rowNumber)
+      throws SQLException {
+    var normalizedDescription =
+        TransactionFingerprint.normalizeDescription(resultSet.getString("description"));
+    return new FingerprintedRow(
+        resultSet.getLong("id"),
+        normalizedDescription,
+        TransactionFingerprint.compute(
+            resultSet.getString("owner_id"),
+            resultSet.getString("bank_name"),
+            resultSet.getObject("date", LocalDate.class),
+            resultSet.getBigDecimal("amount"),
+            TransactionType.valueOf(resultSet.getString("type")),
+            resultSet.getString("currency_iso_code"),
+            normalizedDescription));
+  }
+
+  private record FingerprintedRow(
+      long id, String normalizedDescription, long descriptionFingerprint) {}
+}
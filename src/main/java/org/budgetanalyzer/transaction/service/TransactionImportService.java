@@ -1,20 +1,31 @@
 package org.budgetanalyzer.transaction.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import org.budgetanalyzer.service.api.FieldError;
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+import org.budgetanalyzer.transaction.domain.StatementFormat;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.service.dto.ParserAttempt;
 import org.budgetanalyzer.transaction.service.dto.ParserAttemptStatus;
 import org.budgetanalyzer.transaction.service.dto.PreviewFileImportStatus;
 import org.budgetanalyzer.transaction.service.dto.PreviewResult;
+import org.budgetanalyzer.transaction.service.dto.PreviewRowOverride;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.dto.StatementUpload;
 import org.budgetanalyzer.transaction.service.extractor.StatementExtractorRegistry;
 
 /**
@@ -33,6 +44,7 @@ public class TransactionImportService {
   private final TransactionRepository transactionRepository;
   private final FileImportTrackingService fileImportTrackingService;
   private final PreviewImportTokenService previewImportTokenService;
+  private final PreviewResultStore previewResultStore;
   private final TransactionDuplicateMatcher transactionDuplicateMatcher =
       new TransactionDuplicateMatcher();
 
@@ -44,18 +56,21 @@ public class TransactionImportService {
    * @param transactionRepository the repository for owner-scoped duplicate lookup
    * @param fileImportTrackingService the service for file import history lookup
    * @param previewImportTokenService the service for preview import token creation
+   * @param previewResultStore the store that keeps preview rows for token-only batch import
    */
   public TransactionImportService(
       StatementExtractorRegistry extractorRegistry,
       StatementFormatService statementFormatService,
       TransactionRepository transactionRepository,
       FileImportTrackingService fileImportTrackingService,
-      PreviewImportTokenService previewImportTokenService) {
+      PreviewImportTokenService previewImportTokenService,
+      PreviewResultStore previewResultStore) {
     this.extractorRegistry = extractorRegistry;
     this.statementFormatService = statementFormatService;
     this.transactionRepository = transactionRepository;
     this.fileImportTrackingService = fileImportTrackingService;
     this.previewImportTokenService = previewImportTokenService;
+    this.previewResultStore = previewResultStore;
   }
 
   /**
@@ -74,17 +89,151 @@ public class TransactionImportService {
   public PreviewResult previewFile(
       Long statementFormatId, String accountId, MultipartFile file, String userId) {
     var statementFormat = statementFormatService.getEnabledVisibleById(statementFormatId, userId);
+    var upload = readUpload(file);
+    return preview(statementFormat, accountId, upload, userId);
+  }
+
+  /**
+   * Previews transactions from an upload that was already read into memory.
+   *
+   * <p>Used by asynchronous import jobs, which must read the multipart file on the request thread
+   * before the servlet container discards it.
+   *
+   * @param statementFormatId selected statement format ID
+   * @param accountId optional account identifier to pre-fill for all transactions
+   * @param upload the uploaded file name and content
+   * @param userId the ID of the user whose active transactions should be checked for duplicates
+   * @return PreviewResult containing extracted transactions
+   * @throws BusinessException if the format is not supported or parsing fails
+   */
+  public PreviewResult previewUpload(
+      Long statementFormatId, String accountId, StatementUpload upload, String userId) {
+    var statementFormat = statementFormatService.getEnabledVisibleById(statementFormatId, userId);
+    return preview(statementFormat, accountId, upload, userId);
+  }
+
+  /**
+   * Validates an uploaded statement file and reads its content into memory.
+   *
+   * @param file the uploaded file
+   * @return the trimmed original filename and file content
+   * @throws BusinessException if the filename is missing, the file is empty, or it cannot be read
+   */
+  public StatementUpload readUpload(MultipartFile file) {
     var originalFilename = requireOriginalFilename(file);
     if (file.isEmpty()) {
       throw new BusinessException("File is empty", BudgetAnalyzerError.CSV_PARSING_ERROR.name());
     }
+    return new StatementUpload(originalFilename, readFileContent(file));
+  }
 
-    var fileContent = readFileContent(file);
+  /**
+   * Returns one page of the rows stored for a preview.
+   *
+   * <p>The caller must verify the preview import token first. Rows keep their preview order and
+   * duplicate metadata; the pageable's sort is ignored.
+   *
+   * @param previewImportToken the verified preview import token
+   * @param userId the authenticated user
+   * @param pageable the page to return
+   * @return the requested page of preview rows
+   * @throws BusinessException if the preview rows are no longer stored
+   */
+  public Page<PreviewTransaction> getStoredPreviewPage(
+      String previewImportToken, String userId, Pageable pageable) {
+    var transactions = findStoredPreview(previewImportToken, userId);
+    var fromIndex = (int) Math.min(pageable.getOffset(), transactions.size());
+    var toIndex = Math.min(fromIndex + pageable.getPageSize(), transactions.size());
+    return new PageImpl<>(transactions.subList(fromIndex, toIndex), pageable, transactions.size());
+  }
+
+  /**
+   * Builds the batch import rows for a stored preview, applying per-row client overrides.
+   *
+   * <p>The caller must verify the preview import token first. Rows without an override are
+   * imported as parsed, skipping duplicates.
+   *
+   * @param previewImportToken the verified preview import token
+   * @param userId the authenticated user
+   * @param overrides per-row edits, at most one per row index
+   * @return the rows to import, in preview order
+   * @throws BusinessException if the preview rows are no longer stored
+   * @throws BatchValidationException if an override targets a missing or already overridden row
+   */
+  public List<PreviewTransaction> getStoredPreviewTransactions(
+      String previewImportToken, String userId, List<PreviewRowOverride> overrides) {
+    var transactions = findStoredPreview(previewImportToken, userId);
+
+    var overridesByIndex = new HashMap<Integer, PreviewRowOverride>();
+    var errors = new ArrayList<FieldError>();
+    for (var override : overrides) {
+      if (override.index() < 0 || override.index() >= transactions.size()) {
+        errors.add(
+            FieldError.of(
+                override.index(),
+                "index",
+                "Row index is outside the stored preview of " + transactions.size() + " rows",
+                override.index()));
+      } else if (overridesByIndex.putIfAbsent(override.index(), override) != null) {
+        errors.add(
+            FieldError.of(
+                override.index(), "index", "Row has more than one override", override.index()));
+      }
+    }
+    if (!errors.isEmpty()) {
+      throw new BatchValidationException(errors);
+    }
+
+    return applyOverrides(transactions, overridesByIndex);
+  }
+
+  private List<PreviewTransaction> findStoredPreview(String previewImportToken, String userId) {
+    return previewResultStore
+        .find(previewImportToken, userId)
+        .orElseThrow(
+            () ->
+                new BusinessException(
+                    "The preview rows are no longer stored. Submit the reviewed transactions or "
+                        + "preview the file again.",
+                    BudgetAnalyzerError.PREVIEW_RESULT_NOT_FOUND.name()));
+  }
+
+  private List<PreviewTransaction> applyOverrides(
+      List<PreviewTransaction> transactions, Map<Integer, PreviewRowOverride> overridesByIndex) {
+    var rows = new ArrayList<PreviewTransaction>(transactions.size());
+    for (var index = 0; index < transactions.size(); index++) {
+      var transaction = transactions.get(index);
+      var override = overridesByIndex.get(index);
+      if (override == null) {
+        rows.add(
+            new PreviewTransaction(
+                transaction.date(),
+                transaction.description(),
+                transaction.amount(),
+                transaction.type(),
+                transaction.category(),
+                transaction.bankName(),
+                transaction.currencyIsoCode(),
+                transaction.accountId()));
+      } else if (!override.skip()) {
+        rows.add(override.applyTo(transaction));
+      }
+    }
+    return rows;
+  }
+
+  private PreviewResult preview(
+      StatementFormat statementFormat, String accountId, StatementUpload upload, String userId) {
+    var originalFilename = upload.originalFilename();
+    var fileContent = upload.content();
+
+    ImportProgress.report(ImportJobStage.HASHING);
     var fileCheckResult = fileImportTrackingService.checkFile(fileContent, userId);
     var fileImportStatus = PreviewFileImportStatus.from(fileCheckResult.existingImport());
+    ImportProgress.report(ImportJobStage.PARSING);
     var parserAttempts =
         extractorRegistry.attemptParse(statementFormat, fileContent, originalFilename, accountId);
-    var parserAttempt = selectParserAttempt(statementFormatId, parserAttempts);
+    var parserAttempt = selectParserAttempt(statementFormat.getId(), parserAttempts);
     var parserRevision = parserAttempt.parserRevision();
 
     log.info(
@@ -101,7 +250,7 @@ public class TransactionImportService {
             statementFormat.getId(),
             parserRevision.getId(),
             accountId,
-            file.getSize());
+            (long) fileContent.length);
     var extractedTransactions = parserAttempt.transactions();
 
     log.info(
@@ -109,7 +258,9 @@ public class TransactionImportService {
         extractedTransactions.size(),
         originalFilename);
 
+    ImportProgress.report(ImportJobStage.MARKING_DUPLICATES);
     var transactions = markDuplicates(extractedTransactions, userId);
+    previewResultStore.put(previewImportToken, userId, transactions);
 
     return new PreviewResult(
         originalFilename,
@@ -148,18 +299,13 @@ public class TransactionImportService {
 
   private ParserAttempt selectParserAttempt(
       Long statementFormatId, List<ParserAttempt> parserAttempts) {
-    var matchedParserAttempts =
+    // The registry leaves attempts below the first match out of the result, so at most one matched.
+    var matchedParserAttempt =
         parserAttempts.stream()
             .filter(parserAttempt -> parserAttempt.status() == ParserAttemptStatus.MATCHED)
-            .toList();
-    if (!matchedParserAttempts.isEmpty()) {
-      if (matchedParserAttempts.size() > 1) {
-        log.info(
-            "Multiple parser revisions matched statementFormatId={}; selected parserRevisionId={}",
-            statementFormatId,
-            matchedParserAttempts.getFirst().parserRevision().getId());
-      }
-      return matchedParserAttempts.getFirst();
+            .findFirst();
+    if (matchedParserAttempt.isPresent()) {
+      return matchedParserAttempt.get();
     }
 
     if (parserAttempts.size() == 1
@@ -3,13 +3,19 @@ package org.budgetanalyzer.transaction.service;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +24,12 @@ import org.budgetanalyzer.service.exception.BusinessException;
 import org.budgetanalyzer.service.exception.ResourceNotFoundException;
 import org.budgetanalyzer.transaction.api.request.TransactionFilter;
 import org.budgetanalyzer.transaction.domain.FileImport;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.repository.spec.TransactionSpecifications;
 import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportRow;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
 import org.budgetanalyzer.transaction.service.dto.TransactionCriteria;
 
@@ -30,9 +38,14 @@ import org.budgetanalyzer.transaction.service.dto.TransactionCriteria;
 public class TransactionService {
 
   private static final Logger log = LoggerFactory.getLogger(TransactionService.class);
+  private static final int MAX_STREAMED_VALIDATION_ERRORS = 100;
+  private static final int MAX_STREAMED_CREATED_IDS = 1_000;
+  private static final int STREAM_FETCH_SIZE = 500;
+  private static final Sort STREAM_SORT = Sort.by(Sort.Direction.DESC, "date", "id");
 
   private final TransactionRepository transactionRepository;
   private final FileImportTrackingService fileImportTrackingService;
+  private final TransactionBulkIngestService transactionBulkIngestService;
   private final TransactionDuplicateMatcher transactionDuplicateMatcher =
       new TransactionDuplicateMatcher();
 
@@ -41,12 +54,15 @@ public class TransactionService {
    *
    * @param transactionRepository the transaction repository
    * @param fileImportTrackingService the file import tracking service
+   * @param transactionBulkIngestService the COPY bulk-ingest path for very large imports
    */
   public TransactionService(
       TransactionRepository transactionRepository,
-      FileImportTrackingService fileImportTrackingService) {
+      FileImportTrackingService fileImportTrackingService,
+      TransactionBulkIngestService transactionBulkIngestService) {
     this.transactionRepository = transactionRepository;
     this.fileImportTrackingService = fileImportTrackingService;
+    this.transactionBulkIngestService = transactionBulkIngestService;
   }
 
   /**
@@ -133,20 +149,17 @@ public class TransactionService {
     transaction.markDeleted(userId);
 
     transactionRepository.save(transaction);
+    transactionRepository.deleteViewMembers(id);
   }
 
   /**
    * Bulk soft-deletes multiple transactions by marking them as deleted.
    *
-   * <p>This method processes all provided IDs and attempts to soft-delete each transaction. When
-   * the caller cannot act on any, transactions owned by other users are treated as not found
-   * (returning 404 rather than 403 to avoid leaking resource existence). Unlike single delete, this
-   * method does not throw an exception for non-existent IDs. Instead, it returns a result object
-   * containing both the count of successfully deleted transactions and a list of IDs that were not
-   * found.
-   *
-   * <p>All deletions occur within a single transaction. If any error occurs during processing
-   * (other than "not found"), all changes will be rolled back.
+   * <p>All IDs are deleted with a single set-based statement. When the caller cannot act on any,
+   * transactions owned by other users are treated as not found (returning 404 rather than 403 to
+   * avoid leaking resource existence). Unlike single delete, this method does not throw an
+   * exception for non-existent IDs. Instead, it returns a result object containing both the count
+   * of successfully deleted transactions and a list of IDs that were not found.
    *
    * @param ids the list of transaction IDs to delete
    * @param userId the ID of the requesting user (also used as deletedBy)
@@ -156,27 +169,32 @@ public class TransactionService {
   @Transactional
   public BulkDeleteResult bulkDeleteTransactions(
       List<Long> ids, String userId, boolean canActOnAny) {
-    var notFoundIds = new ArrayList<Long>();
-    var deletedCount = 0;
-
-    for (Long id : ids) {
-      var transactionOpt = transactionRepository.findByIdNotDeleted(id);
-
-      if (transactionOpt.isEmpty()) {
-        notFoundIds.add(id);
-      } else {
-        var transaction = transactionOpt.get();
-        if (!canActOnAny && !transaction.getOwnerId().equals(userId)) {
-          notFoundIds.add(id);
-        } else {
-          transaction.markDeleted(userId);
-          transactionRepository.save(transaction);
-          deletedCount++;
-        }
-      }
-    }
+    var deletedIds =
+        transactionRepository.softDeleteByIds(ids, canActOnAny ? null : userId, userId);
+    var notFoundIds = ids.stream().filter(id -> !deletedIds.contains(id)).toList();
+
+    return new BulkDeleteResult(deletedIds.size(), notFoundIds);
+  }
 
-    return new BulkDeleteResult(deletedCount, notFoundIds);
+  /**
+   * Bulk soft-deletes every active transaction matching the filter criteria.
+   *
+   * <p>When the caller cannot act on any, the delete is scoped to the caller's own transactions
+   * and the filter's owner criterion can only narrow it further.
+   *
+   * @param filter the filter criteria selecting the transactions to delete
+   * @param userId the ID of the requesting user (also used as deletedBy)
+   * @param canActOnAny whether the caller has the corresponding {@code :any} permission
+   * @return the number of transactions deleted
+   */
+  @Transactional
+  public int bulkDeleteTransactionsMatching(
+      TransactionFilter filter, String userId, boolean canActOnAny) {
+    var spec = TransactionSpecifications.withCriteria(TransactionCriteria.fromFilter(filter));
+    if (!canActOnAny) {
+      spec = spec.and(TransactionSpecifications.byOwner(userId));
+    }
+    return transactionRepository.softDeleteAllNotDeleted(spec, userId);
   }
 
   /**
@@ -197,6 +215,49 @@ public class TransactionService {
     return transactionRepository.findAllNotDeleted(TransactionSpecifications.byOwner(userId));
   }
 
+  /**
+   * Searches for active transactions owned by the specified user with pagination.
+   *
+   * @param filter the search filter criteria
+   * @param userId the ID of the user whose transactions to search
+   * @param pageable pagination and sorting parameters
+   * @return a page of the user's matching transactions
+   */
+  public Page<Transaction> searchForUser(
+      TransactionFilter filter, String userId, Pageable pageable) {
+    var spec = TransactionSpecifications.withCriteria(TransactionCriteria.fromFilter(filter));
+    spec = spec.and(TransactionSpecifications.byOwner(userId));
+    return transactionRepository.findAllNotDeleted(spec, pageable);
+  }
+
+  /**
+   * Streams active transactions owned by the specified user, newest first.
+   *
+   * <p>Transactions are read from a forward-only cursor and handed to the consumer one at a time,
+   * so the full result is never held in memory. The read-only transaction stays open until the
+   * last transaction has been consumed.
+   *
+   * @param filter the search filter criteria
+   * @param userId the ID of the user whose transactions to stream
+   * @param consumer receives each matching transaction in date and ID descending order
+   * @return the number of streamed transactions
+   */
+  @Transactional(readOnly = true)
+  public long streamTransactions(
+      TransactionFilter filter, String userId, Consumer<Transaction> consumer) {
+    var spec = TransactionSpecifications.withCriteria(TransactionCriteria.fromFilter(filter));
+    spec = spec.and(TransactionSpecifications.byOwner(userId));
+
+    var count = 0L;
+    try (var transactions =
+        transactionRepository.streamNotDeleted(spec, STREAM_SORT, STREAM_FETCH_SIZE)) {
+      for (var iterator = transactions.iterator(); iterator.hasNext(); count++) {
+        consumer.accept(iterator.next());
+      }
+    }
+    return count;
+  }
+
   /**
    * Searches for transactions matching the filter criteria with pagination.
    *
@@ -212,6 +273,41 @@ public class TransactionService {
     return transactionRepository.findAllNotDeleted(spec, pageable);
   }
 
+  /**
+   * Searches for transactions matching the filter criteria with keyset pagination.
+   *
+   * <p>Like {@link #search}, this method does not apply owner scoping. The sort is completed with
+   * {@code id} when it does not already contain it, so every row has a unique position. No count
+   * query is run.
+   *
+   * @param filter the search filter criteria
+   * @param sort the requested sort
+   * @param position the position after which the window starts
+   * @param size the maximum number of transactions in the window
+   * @return a window of matching transactions
+   */
+  public Window<Transaction> searchWindow(
+      TransactionFilter filter, Sort sort, KeysetScrollPosition position, int size) {
+    var spec = TransactionSpecifications.withCriteria(TransactionCriteria.fromFilter(filter));
+    return transactionRepository.scrollNotDeleted(spec, keysetSort(sort), position, size);
+  }
+
+  /**
+   * Completes a sort with an {@code id} tiebreaker in the direction of its last order.
+   *
+   * @param sort the requested sort
+   * @return a sort that orders every transaction uniquely
+   */
+  public static Sort keysetSort(Sort sort) {
+    if (sort.getOrderFor("id") != null) {
+      return sort;
+    }
+
+    var direction =
+        sort.stream().reduce((first, second) -> second).map(Sort.Order::getDirection);
+    return sort.and(Sort.by(direction.orElse(Sort.Direction.DESC), "id"));
+  }
+
   /**
    * Counts active transactions matching the filter criteria for a specific user.
    *
@@ -259,6 +355,10 @@ public class TransactionService {
    * linked to either the new file import row or the existing matching row. Existing file import
    * rows remain advisory and do not block transaction import.
    *
+   * <p>When the number of rows to create reaches the configured bulk-ingest threshold, rows are
+   * written with PostgreSQL binary COPY instead of JPA {@code saveAll}. The result then carries the
+   * created IDs only; {@link BatchImportResult#createdTransactions()} is empty.
+   *
    * @param transactions the list of transaction DTOs to import
    * @param userId the ID of the user who will own the imported transactions
    * @param fileImportSource required source file metadata verified from a preview import token
@@ -275,29 +375,205 @@ public class TransactionService {
     log.info("Starting batch import of {} transactions", transactions.size());
 
     // Phase 1: Business validation (beyond Jakarta Bean Validation)
+    ImportProgress.report(ImportJobStage.VALIDATING);
     validateBusinessRules(transactions);
 
-    // Phase 2: Check for duplicates in the database
-    var existingCandidatesByKey =
-        transactionDuplicateMatcher.findExistingCandidatesByKey(
-            transactionRepository, transactions, userId);
-    log.debug("Found duplicate candidates for {} key(s)", existingCandidatesByKey.size());
+    // Phase 2 and 3: Check for duplicates in the database and filter them out
+    ImportProgress.report(ImportJobStage.MARKING_DUPLICATES);
+    var filtered = filterDuplicates(transactions, userId);
+    var toCreate = filtered.toCreate();
+    var duplicatesSkipped = filtered.duplicatesSkipped();
+    var duplicatesImported = filtered.duplicatesImported();
+
+    rejectEmptyImport(toCreate.size(), duplicatesSkipped);
+
+    ImportProgress.report(ImportJobStage.PERSISTING, toCreate.size() + " transactions");
+    var fileImport = resolveFileImport(requiredFileImportSource, userId, toCreate.size());
+    toCreate.forEach(transaction -> transaction.setFileImport(fileImport));
+
+    BatchImportResult result;
+    if (transactionBulkIngestService.appliesTo(toCreate.size())) {
+      // COPY bypasses the persistence context; flush so the file import row is visible to it.
+      transactionRepository.flush();
+      var createdIds = transactionBulkIngestService.ingest(toCreate, userId);
+      result = new BatchImportResult(List.of(), createdIds, duplicatesSkipped, duplicatesImported);
+    } else {
+      var created = transactionRepository.saveAll(toCreate);
+      result = new BatchImportResult(created, duplicatesSkipped, duplicatesImported);
+    }
+
+    log.info(
+        "Batch import completed: {} created, {} duplicates skipped, {} duplicates imported",
+        result.createdCount(),
+        duplicatesSkipped,
+        duplicatesImported);
+
+    return result;
+  }
+
+  /**
+   * Imports a stream of transaction rows in bounded chunks with the same all-or-nothing semantics
+   * as {@link #batchImport(List, String, BatchFileImportSource)}.
+   *
+   * <p>Rows are pulled from the iterator lazily. Each chunk is validated, deduplicated against the
+   * database, and written with PostgreSQL binary COPY before the next chunk is read, so memory use
+   * depends on the chunk size rather than the batch size. All chunks share the caller's database
+   * transaction: rows written by earlier chunks are visible to duplicate detection in later chunks,
+   * and any failure rolls back every chunk together with the file import row.
+   *
+   * <p>Once a row fails request or business validation, no further chunks are persisted. Parsing
+   * continues so that up to 100 field errors can be reported together, then the import fails with
+   * {@link BatchValidationException}.
+   *
+   * <p>The result holds the created count and only the first 1,000 created transaction IDs, so its
+   * size does not grow with the stream.
+   *
+   * @param rows the rows to import, in submission order
+   * @param userId the ID of the user who will own the imported transactions
+   * @param fileImportSource required source file metadata verified from a preview import token
+   * @return result containing the created count, the first created IDs, and duplicate counts
+   * @throws BatchValidationException if any row fails request or business validation
+   */
+  @Transactional
+  public BatchImportResult batchImportStream(
+      Iterator<BatchImportRow> rows, String userId, BatchFileImportSource fileImportSource) {
+    final var requiredFileImportSource =
+        Objects.requireNonNull(fileImportSource, "fileImportSource is required");
+    var chunkSize = transactionBulkIngestService.streamChunkSize();
+    log.info("Starting streamed batch import in chunks of {} transactions", chunkSize);
+
+    var maxAllowedDate = LocalDate.now().plusDays(1);
+    var errors = new ArrayList<FieldError>();
+    var chunk = new ArrayList<PreviewTransaction>(chunkSize);
+    var progress = new StreamedImportProgress();
+    var rowCount = 0;
+
+    while (rows.hasNext() && errors.size() < MAX_STREAMED_VALIDATION_ERRORS) {
+      var row = rows.next();
+      rowCount++;
+      if (!row.isValid()) {
+        addStreamedErrors(errors, row.fieldErrors());
+        continue;
+      }
+
+      validateBusinessRules(row.index(), row.transaction(), maxAllowedDate, errors);
+      if (!errors.isEmpty()) {
+        continue;
+      }
+
+      chunk.add(row.transaction());
+      if (chunk.size() == chunkSize) {
+        importStreamedChunk(chunk, userId, requiredFileImportSource, progress);
+        chunk.clear();
+      }
+    }
+
+    if (!errors.isEmpty()) {
+      log.warn("Streamed batch validation failed with {} error(s)", errors.size());
+      throw new BatchValidationException(errors);
+    }
+
+    importStreamedChunk(chunk, userId, requiredFileImportSource, progress);
+    var createdCount = progress.createdCount;
+    rejectEmptyImport(createdCount, progress.duplicatesSkipped);
+    if (progress.fileImportRecorded) {
+      progress.fileImport.updateTransactionCount(createdCount);
+    }
+
+    log.info(
+        "Streamed batch import completed: {} rows read, {} created, {} duplicates skipped, "
+            + "{} duplicates imported",
+        rowCount,
+        createdCount,
+        progress.duplicatesSkipped,
+        progress.duplicatesImported);
+
+    return new BatchImportResult(
+        List.of(),
+        List.copyOf(progress.createdTransactionIdSample),
+        createdCount,
+        progress.duplicatesSkipped,
+        progress.duplicatesImported);
+  }
+
+  // Caps the reported errors even when a single row carries several field errors.
+  private static void addStreamedErrors(List<FieldError> errors, List<FieldError> rowErrors) {
+    var remaining = MAX_STREAMED_VALIDATION_ERRORS - errors.size();
+    errors.addAll(rowErrors.subList(0, Math.min(remaining, rowErrors.size())));
+  }
+
+  private void importStreamedChunk(
+      List<PreviewTransaction> chunk,
+      String userId,
+      BatchFileImportSource fileImportSource,
+      StreamedImportProgress progress) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    var filtered = filterDuplicates(chunk, userId);
+    progress.duplicatesSkipped += filtered.duplicatesSkipped();
+    progress.duplicatesImported += filtered.duplicatesImported();
+    if (filtered.toCreate().isEmpty()) {
+      return;
+    }
+
+    if (progress.fileImport == null) {
+      var existingImport = findExistingFileImport(fileImportSource, userId);
+      progress.fileImportRecorded = existingImport.isEmpty();
+      // The final count is only known once the stream is exhausted.
+      progress.fileImport =
+          existingImport.orElseGet(() -> recordFileImport(fileImportSource, userId, 0));
+    }
+    filtered.toCreate().forEach(transaction -> transaction.setFileImport(progress.fileImport));
+
+    // COPY bypasses the persistence context; flush so the file import row is visible to it.
+    transactionRepository.flush();
+    var createdIds = transactionBulkIngestService.ingest(filtered.toCreate(), userId);
+    progress.createdCount += createdIds.size();
+    var sampleRoom = MAX_STREAMED_CREATED_IDS - progress.createdTransactionIdSample.size();
+    if (sampleRoom > 0) {
+      progress.createdTransactionIdSample.addAll(
+          createdIds.subList(0, Math.min(sampleRoom, createdIds.size())));
+    }
+    log.debug(
+        "Imported streamed chunk: {} created, {} total so far",
+        createdIds.size(),
+        progress.createdCount);
+  }
+
+  /**
+   * Splits transactions into entities to create and duplicates to skip.
+   *
+   * <p>Rows are compared against existing owner-scoped transactions and against earlier rows in the
+   * same list. Duplicates are skipped unless the row explicitly allows them.
+   */
+  private DuplicateFilterResult filterDuplicates(
+      List<PreviewTransaction> transactions, String userId) {
+    var incomingTransactions = TransactionDuplicateMatcher.prepare(transactions, userId);
+    var existingTransactions =
+        transactionDuplicateMatcher.findExistingTransactions(
+            transactionRepository, incomingTransactions, userId);
+    log.debug(
+        "Found {} exact duplicate(s) and duplicate candidates for {} key(s)",
+        existingTransactions.exactDuplicateFingerprints().size(),
+        existingTransactions.candidatesByKey().size());
 
-    // Phase 3: Filter out duplicates and persist non-duplicates
     var toCreate = new ArrayList<Transaction>();
-    var seenTransactionsByCandidateKey =
-        new HashMap<TransactionDuplicateCandidateKey, List<PreviewTransaction>>();
+    var seenDescriptionsByCandidateKey =
+        new HashMap<TransactionDuplicateCandidateKey, List<DescriptionFingerprint>>();
     var duplicatesSkipped = 0;
     var duplicatesImported = 0;
 
-    for (var dto : transactions) {
-      var transactionCandidateKey = TransactionDuplicateMatcher.candidateKey(dto);
+    for (var incomingTransaction : incomingTransactions) {
+      var dto = incomingTransaction.transaction();
       var duplicate =
           transactionDuplicateMatcher.matchesExistingTransaction(
-                  dto, existingCandidatesByKey.getOrDefault(transactionCandidateKey, List.of()))
+                  incomingTransaction, existingTransactions)
               || transactionDuplicateMatcher.matchesSeenTransaction(
-                  dto,
-                  seenTransactionsByCandidateKey.getOrDefault(transactionCandidateKey, List.of()));
+                  incomingTransaction,
+                  seenDescriptionsByCandidateKey.getOrDefault(
+                      incomingTransaction.candidateKey(), List.of()));
 
       if (duplicate && !dto.allowDuplicate()) {
         duplicatesSkipped++;
@@ -311,38 +587,34 @@ public class TransactionService {
       var entity = mapToEntity(dto);
       entity.setOwnerId(userId);
       toCreate.add(entity);
-      seenTransactionsByCandidateKey
-          .computeIfAbsent(transactionCandidateKey, key -> new ArrayList<>())
-          .add(dto);
+      seenDescriptionsByCandidateKey
+          .computeIfAbsent(incomingTransaction.candidateKey(), key -> new ArrayList<>())
+          .add(incomingTransaction.descriptionFingerprint());
     }
 
-    rejectEmptyImport(toCreate, duplicatesSkipped);
-
-    var fileImport = resolveFileImport(requiredFileImportSource, userId, toCreate.size());
-    toCreate.forEach(transaction -> transaction.setFileImport(fileImport));
-
-    var created = transactionRepository.saveAll(toCreate);
-
-    log.info(
-        "Batch import completed: {} created, {} duplicates skipped, {} duplicates imported",
-        created.size(),
-        duplicatesSkipped,
-        duplicatesImported);
-
-    return new BatchImportResult(created, duplicatesSkipped, duplicatesImported);
+    return new DuplicateFilterResult(toCreate, duplicatesSkipped, duplicatesImported);
   }
 
   private FileImport resolveFileImport(
       BatchFileImportSource fileImportSource, String userId, int createdTransactionCount) {
+    return findExistingFileImport(fileImportSource, userId)
+        .orElseGet(() -> recordFileImport(fileImportSource, userId, createdTransactionCount));
+  }
+
+  private Optional<FileImport> findExistingFileImport(
+      BatchFileImportSource fileImportSource, String userId) {
     var fileCheckResult =
         fileImportTrackingService.checkHash(fileImportSource.contentHash(), userId);
     if (fileCheckResult.existingImport().isPresent()) {
       log.info(
           "Linking batch import to previously imported source file hash '{}'",
           fileImportSource.contentHash().substring(0, 8) + "...");
-      return fileCheckResult.existingImport().get();
     }
+    return fileCheckResult.existingImport();
+  }
 
+  private FileImport recordFileImport(
+      BatchFileImportSource fileImportSource, String userId, int createdTransactionCount) {
     return fileImportTrackingService.recordImport(
         fileImportSource.contentHash(),
         fileImportSource.originalFilename(),
@@ -354,8 +626,8 @@ public class TransactionService {
         userId);
   }
 
-  private void rejectEmptyImport(List<Transaction> toCreate, int duplicatesSkipped) {
-    if (!toCreate.isEmpty()) {
+  private void rejectEmptyImport(int createdCount, int duplicatesSkipped) {
+    if (createdCount > 0) {
       return;
     }
 
@@ -383,36 +655,10 @@ public class TransactionService {
    */
   private void validateBusinessRules(List<PreviewTransaction> transactions) {
     var errors = new ArrayList<FieldError>();
-    var today = LocalDate.now();
-    var maxAllowedDate = today.plusDays(1);
+    var maxAllowedDate = LocalDate.now().plusDays(1);
 
     for (int i = 0; i < transactions.size(); i++) {
-      var dto = transactions.get(i);
-      var date = dto.date();
-
-      if (date != null) {
-        if (date.getYear() < 2000) {
-          errors.add(
-              FieldError.of(
-                  i,
-                  "date",
-                  "Transaction date "
-                      + date
-                      + " is before year 2000. "
-                      + "Transactions before 2000 are not supported.",
-                  date));
-        } else if (date.isAfter(maxAllowedDate)) {
-          errors.add(
-              FieldError.of(
-                  i,
-                  "date",
-                  "Transaction date "
-                      + date
-                      + " is more than 1 day in the future. "
-                      + "Future-dated transactions are not allowed.",
-                  date));
-        }
-      }
+      validateBusinessRules(i, transactions.get(i), maxAllowedDate, errors);
     }
 
     if (!errors.isEmpty()) {
@@ -421,6 +667,36 @@ public class TransactionService {
     }
   }
 
+  private void validateBusinessRules(
+      int index, PreviewTransaction dto, LocalDate maxAllowedDate, List<FieldError> errors) {
+    var date = dto.date();
+    if (date == null) {
+      return;
+    }
+
+    if (date.getYear() < 2000) {
+      errors.add(
+          FieldError.of(
+              index,
+              "date",
+              "Transaction date "
+                  + date
+                  + " is before year 2000. "
+                  + "Transactions before 2000 are not supported.",
+              date));
+    } else if (date.isAfter(maxAllowedDate)) {
+      errors.add(
+          FieldError.of(
+              index,
+              "date",
+              "Transaction date "
+                  + date
+                  + " is more than 1 day in the future. "
+                  + "Future-dated transactions are not allowed.",
+              date));
+    }
+  }
+
   /**
    * Maps a preview DTO to a transaction entity.
    *
@@ -467,10 +743,69 @@ public class TransactionService {
   /**
    * Result of a batch import operation.
    *
-   * @param createdTransactions the list of transactions that were created
+   * @param createdTransactions the list of transactions that were created; empty when the batch
+   *     was bulk-ingested with COPY
+   * @param createdTransactionIds the IDs of the created transactions, in import order; streamed
+   *     imports return only the first IDs, so this may be shorter than {@code createdCount}
+   * @param createdCount the number of transactions created
    * @param duplicatesSkipped the count of transactions that were skipped as duplicates
    * @param duplicatesImported the count of duplicate transactions intentionally imported
    */
   public record BatchImportResult(
-      List<Transaction> createdTransactions, int duplicatesSkipped, int duplicatesImported) {}
+      List<Transaction> createdTransactions,
+      List<Long> createdTransactionIds,
+      int createdCount,
+      int duplicatesSkipped,
+      int duplicatesImported) {
+
+    /**
+     * Creates a result that lists the ID of every created transaction.
+     *
+     * @param createdTransactions the list of transactions that were created
+     * @param createdTransactionIds the IDs of all created transactions, in import order
+     * @param duplicatesSkipped the count of transactions that were skipped as duplicates
+     * @param duplicatesImported the count of duplicate transactions intentionally imported
+     */
+    public BatchImportResult(
+        List<Transaction> createdTransactions,
+        List<Long> createdTransactionIds,
+        int duplicatesSkipped,
+        int duplicatesImported) {
+      this(
+          createdTransactions,
+          createdTransactionIds,
+          createdTransactionIds.size(),
+          duplicatesSkipped,
+          duplicatesImported);
+    }
+
+    /**
+     * Creates a result for transactions persisted through JPA.
+     *
+     * @param createdTransactions the list of transactions that were created
+     * @param duplicatesSkipped the count of transactions that were skipped as duplicates
+     * @param duplicatesImported the count of duplicate transactions intentionally imported
+     */
+    public BatchImportResult(
+        List<Transaction> createdTransactions, int duplicatesSkipped, int duplicatesImported) {
+      this(
+          createdTransactions,
+          createdTransactions.stream().map(Transaction::getId).toList(),
+          duplicatesSkipped,
+          duplicatesImported);
+    }
+  }
+
+  private record DuplicateFilterResult(
+      List<Transaction> toCreate, int duplicatesSkipped, int duplicatesImported) {}
+
+  /** Running totals for a streamed batch import, accumulated across chunks. */
+  private static final class StreamedImportProgress {
+    private final List<Long> createdTransactionIdSample = new ArrayList<>();
+    private int createdCount;
+    private FileImport fileImport;
+    private boolean fileImportRecorded;
+    private int duplicatesSkipped;
+    private int duplicatesImported;
+  }
 }
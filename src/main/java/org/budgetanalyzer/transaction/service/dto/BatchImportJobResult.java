@@ -0,0 +1,16 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+import java.util.List;
+
+/**
+ * Result stored for a completed batch import job.
+ *
+ * <p>Only IDs are kept; clients fetch transaction details when needed.
+ *
+ * @param created number of transactions created
+ * @param duplicatesSkipped number of rows skipped as duplicates
+ * @param duplicatesImported number of duplicate rows intentionally imported
+ * @param transactionIds IDs of the created transactions, in import order
+ */
+public record BatchImportJobResult(
+    int created, int duplicatesSkipped, int duplicatesImported, List<Long> transactionIds) {}
@@ -0,0 +1,50 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+import java.util.List;
+
+import org.budgetanalyzer.service.api.FieldError;
+
+/**
+ * One row of a streamed batch import, in submission order.
+ *
+ * <p>Request-level validation happens while the stream is parsed, so a row either carries the
+ * converted transaction or the field errors that prevented conversion.
+ *
+ * @param index zero-based position of the row in the submitted stream
+ * @param transaction the row converted for import; null when request validation failed
+ * @param fieldErrors request validation errors for the row; empty when the row is valid
+ */
+public record BatchImportRow(
+    int index, PreviewTransaction transaction, List<FieldError> fieldErrors) {
+
+  /**
+   * Creates a row that passed request validation.
+   *
+   * @param index zero-based position of the row in the submitted stream
+   * @param transaction the row converted for import
+   * @return the valid row
+   */
+  public static BatchImportRow valid(int index, PreviewTransaction transaction) {
+    return new BatchImportRow(index, transaction, List.of());
+  }
+
+  /**
+   * Creates a row that failed request validation.
+   *
+   * @param index zero-based position of the row in the submitted stream
+   * @param fieldErrors the validation errors for the row
+   * @return the invalid row
+   */
+  public static BatchImportRow invalid(int index, List<FieldError> fieldErrors) {
+    return new BatchImportRow(index, null, List.copyOf(fieldErrors));
+  }
+
+  /**
+   * Returns whether the row passed request validation.
+   *
+   * @return true when the row carries a transaction to import
+   */
+  public boolean isValid() {
+    return fieldErrors.isEmpty();
+  }
+}
@@ -0,0 +1,17 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+import org.budgetanalyzer.transaction.domain.ImportJob;
+
+/**
+ * Import job state together with its decoded result or error.
+ *
+ * @param job the persisted job
+ * @param previewResult the preview result, for succeeded preview jobs
+ * @param batchImportResult the batch import result, for succeeded batch import jobs
+ * @param error the failure details, for failed jobs
+ */
+public record ImportJobDetails(
+    ImportJob job,
+    PreviewResult previewResult,
+    BatchImportJobResult batchImportResult,
+    ImportJobError error) {}
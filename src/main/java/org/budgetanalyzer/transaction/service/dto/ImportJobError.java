@@ -0,0 +1,54 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+import java.util.List;
+
+import org.budgetanalyzer.service.exception.BusinessException;
+
+/**
+ * Error recorded for a failed import job.
+ *
+ * @param code application error code
+ * @param message human-readable error message
+ * @param fieldErrors row-level validation errors, empty when the failure was not row-specific
+ */
+public record ImportJobError(String code, String message, List<RowError> fieldErrors) {
+
+  /**
+   * Creates an error without row-level details.
+   *
+   * @param code application error code
+   * @param message human-readable error message
+   * @return the error
+   */
+  public static ImportJobError of(String code, String message) {
+    return new ImportJobError(code, message, List.of());
+  }
+
+  /**
+   * Creates an error from a business exception, keeping its field errors.
+   *
+   * @param exception the business exception that failed the job
+   * @return the error
+   */
+  public static ImportJobError from(BusinessException exception) {
+    var fieldErrors =
+        exception.hasFieldErrors()
+            ? exception.getFieldErrors().stream()
+                .map(
+                    fieldError ->
+                        new RowError(
+                            fieldError.getIndex(), fieldError.getField(), fieldError.getMessage()))
+                .toList()
+            : List.<RowError>of();
+    return new ImportJobError(exception.getCode(), exception.getMessage(), fieldErrors);
+  }
+
+  /**
+   * Row-level validation error.
+   *
+   * @param index zero-based row index, if the error belongs to a row
+   * @param field field name
+   * @param message validation message
+   */
+  public record RowError(Integer index, String field, String message) {}
+}
@@ -0,0 +1,40 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+/**
+ * Client edit applied to one row of a stored preview before batch import.
+ *
+ * @param index zero-based position of the row in the preview
+ * @param skip whether to leave the row out of the import
+ * @param allowDuplicate whether to import the row even when it matches duplicate detection; null
+ *     keeps the default of skipping duplicates
+ * @param description replacement description; null keeps the parsed description
+ * @param category replacement category; null keeps the parsed category
+ * @param accountId replacement account ID; null keeps the preview account ID
+ */
+public record PreviewRowOverride(
+    int index,
+    boolean skip,
+    Boolean allowDuplicate,
+    String description,
+    String category,
+    String accountId) {
+
+  /**
+   * Applies this override to a preview row.
+   *
+   * @param transaction the stored preview row
+   * @return the row to import
+   */
+  public PreviewTransaction applyTo(PreviewTransaction transaction) {
+    return new PreviewTransaction(
+        transaction.date(),
+        description != null ? description : transaction.description(),
+        transaction.amount(),
+        transaction.type(),
+        category != null ? category : transaction.category(),
+        transaction.bankName(),
+        transaction.currencyIsoCode(),
+        accountId != null ? accountId : transaction.accountId(),
+        Boolean.TRUE.equals(allowDuplicate));
+  }
+}
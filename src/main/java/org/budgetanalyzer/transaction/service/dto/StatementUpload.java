@@ -0,0 +1,9 @@
+package org.budgetanalyzer.transaction.service.dto;
+
+/**
+ * Uploaded statement file read into memory.
+ *
+ * @param originalFilename trimmed original filename of the upload
+ * @param content raw file bytes
+ */
+public record StatementUpload(String originalFilename, byte[] content) {}
@@ -33,6 +33,7 @@ import org.budgetanalyzer.transaction.domain.ViewCriteria;
  * @param createdBefore inclusive creation timestamp upper bound
  * @param updatedAfter inclusive update timestamp lower bound
  * @param updatedBefore inclusive update timestamp upper bound
+ * @param fileImportId the file import whose transactions to match
  */
 public record TransactionCriteria(
     Long id,
@@ -50,7 +51,8 @@ public record TransactionCriteria(
     Instant createdAfter,
     Instant createdBefore,
     Instant updatedAfter,
-    Instant updatedBefore) {
+    Instant updatedBefore,
+    Long fileImportId) {
 
   /** Normalizes optional multi-value criteria. */
   public TransactionCriteria {
@@ -96,14 +98,15 @@ public record TransactionCriteria(
         createdAfter,
         createdBefore,
         updatedAfter,
-        updatedBefore);
+        updatedBefore,
+        null);
   }
 
   /** Creates an empty criteria with all filters unset. */
   public static TransactionCriteria empty() {
     return new TransactionCriteria(
         null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
-        null);
+        null, null);
   }
 
   /**
@@ -136,7 +139,8 @@ public record TransactionCriteria(
         filter.createdAfter(),
         filter.createdBefore(),
         filter.updatedAfter(),
-        filter.updatedBefore());
+        filter.updatedBefore(),
+        filter.fileImportId());
   }
 
   /**
@@ -175,6 +179,7 @@ public record TransactionCriteria(
         null,
         null,
         null,
+        null,
         null);
   }
 
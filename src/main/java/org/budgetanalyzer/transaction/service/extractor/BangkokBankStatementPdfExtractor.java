@@ -1,6 +1,7 @@
 package org.budgetanalyzer.transaction.service.extractor;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -14,8 +15,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.regex.Pattern;
 
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.pdfbox.text.TextPosition;
@@ -29,6 +28,7 @@ import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 /**
  * Extracts transactions from Bangkok Bank statement PDF files.
@@ -41,6 +41,7 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
   private static final Logger log = LoggerFactory.getLogger(BangkokBankStatementPdfExtractor.class);
 
   private static final String HANDLER_KEY = "bkk-bank-statement-pdf";
+  private static final String TEXT_LINES_KEY = HANDLER_KEY + ":text-lines";
   private static final String BANK_NAME = "Bangkok Bank";
   private static final String CURRENCY_CODE = "THB";
   private static final float LINE_Y_TOLERANCE = 1.5f;
@@ -65,20 +66,50 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
   private static final Pattern AMOUNT_PATTERN =
       Pattern.compile("(?<!\\d)[(+-]?(?:THB\\s*)?(?:\\d{1,3}(?:,\\d{3})+|\\d+)\\.\\d{2}\\)?");
 
+  private final PdfTextExtractionService pdfTextExtractionService;
+
+  /**
+   * Constructs a new BangkokBankStatementPdfExtractor.
+   *
+   * @param pdfTextExtractionService the service that strips the pages of a statement PDF
+   */
+  public BangkokBankStatementPdfExtractor(PdfTextExtractionService pdfTextExtractionService) {
+    this.pdfTextExtractionService = pdfTextExtractionService;
+  }
+
   @Override
   public boolean canHandle(byte[] fileContent, String filename) {
-    if (fileContent == null
+    try (var statementFile = new StatementFile(fileContent, filename)) {
+      return canHandle(statementFile);
+    } catch (IOException exception) {
+      log.debug("Failed to close PDF document: {}", exception.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public boolean matchesProbe(FileProbe fileProbe) {
+    return fileProbe.hasPdfText() && BANK_PATTERN.matcher(fileProbe.firstPageText()).find();
+  }
+
+  @Override
+  public boolean canHandle(StatementFile statementFile) {
+    var filename = statementFile.filename();
+    if (statementFile.content() == null
         || filename == null
         || !filename.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
       return false;
     }
 
     try {
-      var text = extractTextFromPdf(fileContent, 1, 2);
+      var text = statementFile.pdfText(1, 2);
       if (!BANK_PATTERN.matcher(text).find()) {
         return false;
       }
-      var lines = extractTextLinesFromPdf(fileContent, 1, 2);
+      var lines =
+          extractTextLines(statementFile).stream()
+              .filter(textLine -> textLine.page() <= 2)
+              .toList();
       return containsTransactionTable(lines);
     } catch (Exception exception) {
       log.debug(
@@ -89,8 +120,20 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
 
   @Override
   public List<PreviewTransaction> extract(byte[] fileContent, String accountId) {
+    try (var statementFile = new StatementFile(fileContent, null)) {
+      return extract(statementFile, accountId);
+    } catch (IOException exception) {
+      throw new BusinessException(
+          "Failed to close Bangkok Bank Statement PDF: " + exception.getMessage(),
+          BudgetAnalyzerError.PDF_PARSING_ERROR.name(),
+          exception);
+    }
+  }
+
+  @Override
+  public List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
     try {
-      var lines = extractTextLinesFromPdf(fileContent, 1, Integer.MAX_VALUE);
+      var lines = extractTextLines(statementFile);
       var transactions = parseTransactions(lines, accountId);
       log.info("Extracted {} transactions from Bangkok Bank Statement PDF", transactions.size());
       return transactions;
@@ -118,25 +161,27 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
     return HANDLER_KEY;
   }
 
-  private String extractTextFromPdf(byte[] fileContent, int startPage, int endPage)
-      throws IOException {
-    try (PDDocument document = Loader.loadPDF(fileContent)) {
-      var pdfTextStripper = new PDFTextStripper();
-      pdfTextStripper.setStartPage(startPage);
-      pdfTextStripper.setEndPage(Math.min(endPage, document.getNumberOfPages()));
-      return pdfTextStripper.getText(document);
-    }
-  }
-
-  private List<PdfTextLine> extractTextLinesFromPdf(byte[] fileContent, int startPage, int endPage)
-      throws IOException {
-    try (PDDocument document = Loader.loadPDF(fileContent)) {
-      var pdfTextStripper = new PositionAwareTextStripper();
-      pdfTextStripper.setSortByPosition(true);
-      pdfTextStripper.setStartPage(startPage);
-      pdfTextStripper.setEndPage(Math.min(endPage, document.getNumberOfPages()));
-      pdfTextStripper.getText(document);
-      return groupTextChunksIntoLines(pdfTextStripper.getChunks());
+  /** Returns the positioned text lines of every page, grouped once per statement file. */
+  private List<PdfTextLine> extractTextLines(StatementFile statementFile) throws IOException {
+    try {
+      return statementFile.memoize(
+          TEXT_LINES_KEY,
+          file -> {
+            var chunks =
+                pdfTextExtractionService.stripPageRanges(
+                    file,
+                    (document, startPage, endPage) -> {
+                      var pdfTextStripper = new PositionAwareTextStripper(startPage);
+                      pdfTextStripper.setSortByPosition(true);
+                      pdfTextStripper.setStartPage(startPage);
+                      pdfTextStripper.setEndPage(endPage);
+                      pdfTextStripper.getText(document);
+                      return pdfTextStripper.getChunks();
+                    });
+            return groupTextChunksIntoLines(chunks.stream().flatMap(List::stream).toList());
+          });
+    } catch (UncheckedIOException uncheckedIoException) {
+      throw uncheckedIoException.getCause();
     }
   }
 
@@ -513,7 +558,9 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
     private final List<PdfTextChunk> chunks = new ArrayList<>();
     private int currentPage;
 
-    PositionAwareTextStripper() throws IOException {}
+    PositionAwareTextStripper(int startPage) throws IOException {
+      currentPage = startPage - 1;
+    }
 
     List<PdfTextChunk> getChunks() {
       return chunks;
@@ -521,6 +568,7 @@ public class BangkokBankStatementPdfExtractor implements StatementExtractor {
 
     @Override
     protected void startPage(PDPage page) throws IOException {
+      StatementFile.checkInterrupted();
       currentPage++;
       super.startPage(page);
     }
@@ -11,9 +11,6 @@ import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -24,6 +21,7 @@ import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 /**
  * Extracts transactions from Capital One 360 Bank Monthly Statements (PDF).
@@ -74,14 +72,43 @@ public class CapitalOneBankMonthlyStatementExtractor implements StatementExtract
               + "\\d+\\.\\d+%|\\$\\d).*",
           Pattern.CASE_INSENSITIVE);
 
+  private final PdfTextExtractionService pdfTextExtractionService;
+
+  /**
+   * Constructs a new CapitalOneBankMonthlyStatementExtractor.
+   *
+   * @param pdfTextExtractionService the service that strips the pages of a statement PDF
+   */
+  public CapitalOneBankMonthlyStatementExtractor(
+      PdfTextExtractionService pdfTextExtractionService) {
+    this.pdfTextExtractionService = pdfTextExtractionService;
+  }
+
   @Override
   public boolean canHandle(byte[] fileContent, String filename) {
+    try (var statementFile = new StatementFile(fileContent, filename)) {
+      return canHandle(statementFile);
+    } catch (IOException e) {
+      log.debug("Failed to close PDF document: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public boolean matchesProbe(FileProbe fileProbe) {
+    // Capital One prints its name in the first page header of every statement.
+    return fileProbe.hasPdfText() && fileProbe.firstPageContains("capital one");
+  }
+
+  @Override
+  public boolean canHandle(StatementFile statementFile) {
+    var filename = statementFile.filename();
     if (filename == null || !filename.toLowerCase().endsWith(".pdf")) {
       return false;
     }
 
     try {
-      String text = extractTextFromPdf(fileContent, 1, 2);
+      String text = statementFile.pdfText(1, 2);
       return MONTHLY_STATEMENT_PATTERN.matcher(text).find();
     } catch (Exception e) {
       log.debug("Failed to check if file is Capital One Monthly Statement: {}", e.getMessage());
@@ -91,8 +118,20 @@ public class CapitalOneBankMonthlyStatementExtractor implements StatementExtract
 
   @Override
   public List<PreviewTransaction> extract(byte[] fileContent, String accountId) {
+    try (var statementFile = new StatementFile(fileContent, null)) {
+      return extract(statementFile, accountId);
+    } catch (IOException e) {
+      throw new BusinessException(
+          "Failed to close PDF document: " + e.getMessage(),
+          BudgetAnalyzerError.PDF_PARSING_ERROR.name(),
+          e);
+    }
+  }
+
+  @Override
+  public List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
     try {
-      String fullText = extractTextFromPdf(fileContent, 1, Integer.MAX_VALUE);
+      String fullText = pdfTextExtractionService.extractPlainText(statementFile);
 
       StatementPeriod period = extractStatementPeriod(fullText);
       log.info(
@@ -138,16 +177,6 @@ public class CapitalOneBankMonthlyStatementExtractor implements StatementExtract
     return transaction;
   }
 
-  private String extractTextFromPdf(byte[] fileContent, int startPage, int endPage)
-      throws IOException {
-    try (PDDocument document = Loader.loadPDF(fileContent)) {
-      PDFTextStripper stripper = new PDFTextStripper();
-      stripper.setStartPage(startPage);
-      stripper.setEndPage(Math.min(endPage, document.getNumberOfPages()));
-      return stripper.getText(document);
-    }
-  }
-
   private StatementPeriod extractStatementPeriod(String text) {
     Matcher matcher = STATEMENT_PERIOD_PATTERN.matcher(text);
     if (matcher.find()) {
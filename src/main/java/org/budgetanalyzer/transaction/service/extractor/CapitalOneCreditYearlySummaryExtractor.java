@@ -8,9 +8,6 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -21,6 +18,7 @@ import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 /**
  * Extracts transactions from Capital One Credit Card Year-End Summary PDF statements.
@@ -91,14 +89,42 @@ public class CapitalOneCreditYearlySummaryExtractor implements StatementExtracto
               + "cont'd|cont´d).*",
           Pattern.CASE_INSENSITIVE);
 
+  private final PdfTextExtractionService pdfTextExtractionService;
+
+  /**
+   * Constructs a new CapitalOneCreditYearlySummaryExtractor.
+   *
+   * @param pdfTextExtractionService the service that strips the pages of a statement PDF
+   */
+  public CapitalOneCreditYearlySummaryExtractor(PdfTextExtractionService pdfTextExtractionService) {
+    this.pdfTextExtractionService = pdfTextExtractionService;
+  }
+
   @Override
   public boolean canHandle(byte[] fileContent, String filename) {
+    try (var statementFile = new StatementFile(fileContent, filename)) {
+      return canHandle(statementFile);
+    } catch (IOException e) {
+      log.debug("Failed to close PDF document: {}", e.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public boolean matchesProbe(FileProbe fileProbe) {
+    // Capital One prints its name in the first page header of every statement.
+    return fileProbe.hasPdfText() && fileProbe.firstPageContains("capital one");
+  }
+
+  @Override
+  public boolean canHandle(StatementFile statementFile) {
+    var filename = statementFile.filename();
     if (filename == null || !filename.toLowerCase().endsWith(".pdf")) {
       return false;
     }
 
     try {
-      String text = extractTextFromPdf(fileContent, 1, 3);
+      String text = statementFile.pdfText(1, 3);
       return YEAR_END_SUMMARY_PATTERN.matcher(text).find()
           && text.toLowerCase().contains("capital one");
     } catch (Exception e) {
@@ -109,8 +135,20 @@ public class CapitalOneCreditYearlySummaryExtractor implements StatementExtracto
 
   @Override
   public List<PreviewTransaction> extract(byte[] fileContent, String accountId) {
+    try (var statementFile = new StatementFile(fileContent, null)) {
+      return extract(statementFile, accountId);
+    } catch (IOException e) {
+      throw new BusinessException(
+          "Failed to close PDF document: " + e.getMessage(),
+          BudgetAnalyzerError.PDF_PARSING_ERROR.name(),
+          e);
+    }
+  }
+
+  @Override
+  public List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
     try {
-      String fullText = extractTextFromPdf(fileContent, 1, Integer.MAX_VALUE);
+      String fullText = pdfTextExtractionService.extractPlainText(statementFile);
 
       int year = extractYear(fullText);
       log.info("Extracting Capital One Year-End Summary for year {}", year);
@@ -155,16 +193,6 @@ public class CapitalOneCreditYearlySummaryExtractor implements StatementExtracto
     return transaction;
   }
 
-  private String extractTextFromPdf(byte[] fileContent, int startPage, int endPage)
-      throws IOException {
-    try (PDDocument document = Loader.loadPDF(fileContent)) {
-      PDFTextStripper stripper = new PDFTextStripper();
-      stripper.setStartPage(startPage);
-      stripper.setEndPage(Math.min(endPage, document.getNumberOfPages()));
-      return stripper.getText(document);
-    }
-  }
-
   private int extractYear(String text) {
     Matcher matcher = YEAR_END_SUMMARY_PATTERN.matcher(text);
     if (matcher.find()) {
@@ -2,7 +2,6 @@ package org.budgetanalyzer.transaction.service.extractor;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -11,7 +10,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,10 +85,39 @@ public class ConfigurableCsvStatementExtractor implements StatementExtractor {
 
   @Override
   public boolean canHandle(byte[] fileContent, String filename) {
+    // Probing a CSV file never loads a PDF document, so there is nothing to close.
+    return canHandle(new StatementFile(fileContent, filename));
+  }
+
+  @Override
+  public boolean canHandle(StatementFile statementFile) {
+    var filename = statementFile.filename();
     if (filename == null || !filename.toLowerCase().endsWith(".csv")) {
       return false;
     }
-    return validateHeaders(fileContent);
+    return matchesProbe(statementFile.probe());
+  }
+
+  @Override
+  public boolean matchesProbe(FileProbe fileProbe) {
+    var requiredHeaders =
+        Stream.of(
+                csvColumnParserConfig.dateHeader(),
+                csvColumnParserConfig.descriptionHeader(),
+                csvColumnParserConfig.creditHeader())
+            .filter(Objects::nonNull)
+            .toList();
+    for (var header : requiredHeaders) {
+      if (!fileProbe.hasHeader(header)) {
+        log.debug(
+            "Format '{}' header validation failed: missing '{}' in headers: {}",
+            getHandlerKey(),
+            header,
+            fileProbe.headerTokens());
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -135,46 +164,6 @@ public class ConfigurableCsvStatementExtractor implements StatementExtractor {
     return "statement-format-" + format.getId() + "-revision-" + parserRevision.getId();
   }
 
-  private boolean validateHeaders(byte[] content) {
-    try {
-      var text = new String(content, StandardCharsets.UTF_8);
-      var lines = text.split("\\r?\\n");
-      if (lines.length == 0) {
-        return false;
-      }
-
-      var headerLine = lines[0];
-      var headers = Set.of(headerLine.split(","));
-
-      // Check required headers exist
-      var requiredHeaders =
-          List.of(
-              csvColumnParserConfig.dateHeader(),
-              csvColumnParserConfig.descriptionHeader(),
-              csvColumnParserConfig.creditHeader());
-
-      for (var header : requiredHeaders) {
-        if (header != null && !containsHeader(headers, header)) {
-          log.debug(
-              "Format '{}' header validation failed: missing '{}' in headers: {}",
-              getHandlerKey(),
-              header,
-              headers);
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      log.debug("Header validation failed for format '{}': {}", getHandlerKey(), e.getMessage());
-      return false;
-    }
-  }
-
-  private boolean containsHeader(Set<String> headers, String expected) {
-    return headers.stream().map(String::trim).anyMatch(h -> h.equalsIgnoreCase(expected));
-  }
-
   private PreviewTransaction mapToPreview(CsvRow csvRow, String accountId) {
     var context = new CsvFileContext(csvRow);
 
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import org.budgetanalyzer.service.exception.BusinessException;
@@ -73,6 +74,25 @@ public class ConfigurablePdfTextTableStatementExtractor implements StatementExtr
     }
   }
 
+  @Override
+  public boolean matchesProbe(FileProbe fileProbe) {
+    return fileProbe.hasPdfText();
+  }
+
+  @Override
+  public boolean canHandle(StatementFile statementFile) {
+    var filename = statementFile.filename();
+    if (filename == null || !filename.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+      return false;
+    }
+    try {
+      var pdfTextDocument = pdfTextExtractionService.extract(statementFile);
+      return !selectCandidates(pdfTextDocument).isEmpty();
+    } catch (BusinessException businessException) {
+      return false;
+    }
+  }
+
   @Override
   public List<PreviewTransaction> extract(byte[] fileContent, String accountId) {
     return extract(fileContent, "preview.pdf", accountId);
@@ -87,8 +107,18 @@ public class ConfigurablePdfTextTableStatementExtractor implements StatementExtr
    * @return parsed preview transactions
    */
   public List<PreviewTransaction> extract(byte[] fileContent, String filename, String accountId) {
+    return extract(() -> pdfTextExtractionService.extract(fileContent, filename), accountId);
+  }
+
+  @Override
+  public List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
+    return extract(() -> pdfTextExtractionService.extract(statementFile), accountId);
+  }
+
+  private List<PreviewTransaction> extract(
+      Supplier<PdfTextDocument> pdfTextDocumentSupplier, String accountId) {
     try {
-      var pdfTextDocument = pdfTextExtractionService.extract(fileContent, filename);
+      var pdfTextDocument = pdfTextDocumentSupplier.get();
       var pdfTextTableCandidates = requireCandidates(pdfTextDocument);
       return parseRows(pdfTextDocument, pdfTextTableCandidates, accountId);
     } catch (BusinessException businessException) {
@@ -0,0 +1,150 @@
+package org.budgetanalyzer.transaction.service.extractor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apache.pdfbox.contentstream.PDContentStream;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdfparser.PDFStreamParser;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+
+/**
+ * Cheap fingerprint of an uploaded statement file, used to rule out extractors before they parse
+ * the whole file.
+ *
+ * <p>For a CSV file only the header line is decoded. For a PDF only the first page is converted
+ * to text; the remaining pages are scanned for text-showing operators without being rendered, so a
+ * scanned PDF is recognized without running a text stripper over it.
+ *
+ * @param headerTokens the comma-separated tokens of a CSV file's first line, untrimmed; empty for
+ *     PDF files
+ * @param pdfProducer the producer recorded in the PDF document information, or {@code null}
+ * @param firstPageText the text of the first PDF page; empty for CSV files and unreadable PDFs
+ * @param hasPdfText whether any PDF page shows text; false for scanned and unreadable PDFs
+ */
+public record FileProbe(
+    List<String> headerTokens, String pdfProducer, String firstPageText, boolean hasPdfText) {
+
+  private static final Set<String> TEXT_SHOWING_OPERATORS = Set.of("Tj", "TJ", "'", "\"");
+  private static final String INVOKE_XOBJECT_OPERATOR = "Do";
+  private static final int MAX_FORM_NESTING = 8;
+
+  /** Creates a file probe. */
+  public FileProbe {
+    headerTokens = List.copyOf(headerTokens);
+  }
+
+  /**
+   * Probes a statement file, reading it as a PDF when its filename ends in {@code .pdf} and as a
+   * CSV file otherwise.
+   *
+   * @param statementFile the file to probe
+   * @return the probe
+   * @throws InterruptedIOException if the probing thread is interrupted
+   */
+  static FileProbe of(StatementFile statementFile) throws InterruptedIOException {
+    var filename = statementFile.filename();
+    if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".pdf")) {
+      return ofPdf(statementFile);
+    }
+    return new FileProbe(readHeaderTokens(statementFile.content()), null, "", false);
+  }
+
+  /**
+   * Returns whether the CSV header contains a column, ignoring surrounding whitespace and case.
+   *
+   * @param header the expected column header
+   * @return true if a header token matches
+   */
+  public boolean hasHeader(String header) {
+    return headerTokens.stream()
+        .map(String::trim)
+        .anyMatch(headerToken -> headerToken.equalsIgnoreCase(header));
+  }
+
+  /**
+   * Returns whether the first PDF page contains a keyword, ignoring case.
+   *
+   * @param keyword the keyword to look for
+   * @return true if the first page contains the keyword
+   */
+  public boolean firstPageContains(String keyword) {
+    return firstPageText.toLowerCase(Locale.ROOT).contains(keyword.toLowerCase(Locale.ROOT));
+  }
+
+  private static FileProbe ofPdf(StatementFile statementFile) throws InterruptedIOException {
+    try {
+      var hasPdfText = statementFile.withPdfDocument(FileProbe::showsAnyText);
+      var producer =
+          statementFile.withPdfDocument(
+              document -> document.getDocumentInformation().getProducer());
+      return new FileProbe(
+          List.of(), producer, hasPdfText ? statementFile.pdfText(1, 1) : "", hasPdfText);
+    } catch (InterruptedIOException interruptedIoException) {
+      throw interruptedIoException;
+    } catch (IOException ioException) {
+      return new FileProbe(List.of(), null, "", false);
+    }
+  }
+
+  private static boolean showsAnyText(PDDocument document) throws IOException {
+    for (var page : document.getPages()) {
+      StatementFile.checkInterrupted();
+      if (showsText(page, page.getResources(), 0)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean showsText(PDContentStream contentStream, PDResources resources, int depth)
+      throws IOException {
+    var pdfStreamParser = new PDFStreamParser(contentStream);
+    COSName lastName = null;
+    for (var token = pdfStreamParser.parseNextToken();
+        token != null;
+        token = pdfStreamParser.parseNextToken()) {
+      if (token instanceof COSName name) {
+        lastName = name;
+      } else if (token instanceof Operator operator) {
+        if (TEXT_SHOWING_OPERATORS.contains(operator.getName())) {
+          return true;
+        }
+        if (INVOKE_XOBJECT_OPERATOR.equals(operator.getName())
+            && lastName != null
+            && resources != null
+            && depth < MAX_FORM_NESTING
+            && resources.getXObject(lastName) instanceof PDFormXObject form) {
+          var formResources = form.getResources() != null ? form.getResources() : resources;
+          if (showsText(form, formResources, depth + 1)) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  private static List<String> readHeaderTokens(byte[] content) {
+    if (content == null) {
+      return List.of();
+    }
+    var headerEnd = 0;
+    while (headerEnd < content.length && content[headerEnd] != '\n') {
+      headerEnd++;
+    }
+    if (headerEnd > 0 && content[headerEnd - 1] == '\r') {
+      headerEnd--;
+    }
+    var headerLine = new String(content, 0, headerEnd, StandardCharsets.UTF_8);
+    return Arrays.asList(headerLine.split(","));
+  }
+}
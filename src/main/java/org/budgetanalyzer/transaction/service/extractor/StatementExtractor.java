@@ -23,6 +23,34 @@ public interface StatementExtractor {
    */
   boolean canHandle(byte[] fileContent, String filename);
 
+  /**
+   * Checks the cheap rules every file this extractor handles must satisfy, before any real parsing.
+   *
+   * <p>Returning false rejects the file without calling {@link #canHandle(StatementFile)}, so a
+   * rule must only reject files that {@code canHandle} would reject too. The default accepts every
+   * file.
+   *
+   * @param fileProbe the probe of the uploaded file
+   * @return false if the file cannot be handled by this extractor
+   */
+  default boolean matchesProbe(FileProbe fileProbe) {
+    return true;
+  }
+
+  /**
+   * Determines if this extractor can handle the given file, reusing parsed forms of the file
+   * shared with other extractors.
+   *
+   * <p>Extractors that parse the file should override this so trying several extractors against
+   * one upload parses it once.
+   *
+   * @param statementFile the uploaded file
+   * @return true if this extractor can process the file
+   */
+  default boolean canHandle(StatementFile statementFile) {
+    return canHandle(statementFile.content(), statementFile.filename());
+  }
+
   /**
    * Extracts transactions from the file content for preview.
    *
@@ -32,6 +60,18 @@ public interface StatementExtractor {
    */
   List<PreviewTransaction> extract(byte[] fileContent, String accountId);
 
+  /**
+   * Extracts transactions from the file for preview, reusing parsed forms of the file shared with
+   * other extractors.
+   *
+   * @param statementFile the uploaded file
+   * @param accountId optional account ID to pre-fill for all transactions
+   * @return extracted preview transactions
+   */
+  default List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
+    return extract(statementFile.content(), accountId);
+  }
+
   /**
    * Extracts transactions as entities for batch import.
    *
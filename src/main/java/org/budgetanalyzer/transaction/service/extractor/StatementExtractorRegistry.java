@@ -1,10 +1,17 @@
 package org.budgetanalyzer.transaction.service.extractor;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import jakarta.annotation.PostConstruct;
 
@@ -16,15 +23,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.budgetanalyzer.core.csv.CsvParser;
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.ParserAttemptProperties;
 import org.budgetanalyzer.transaction.domain.FormatType;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
 import org.budgetanalyzer.transaction.domain.ParserRevision;
 import org.budgetanalyzer.transaction.domain.ParserType;
 import org.budgetanalyzer.transaction.domain.StatementFormat;
 import org.budgetanalyzer.transaction.repository.ParserRevisionRepository;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
+import org.budgetanalyzer.transaction.service.ImportProgress;
 import org.budgetanalyzer.transaction.service.PdfTextTableParserConfigValidator;
 import org.budgetanalyzer.transaction.service.dto.CsvColumnParserConfig;
 import org.budgetanalyzer.transaction.service.dto.ParserAttempt;
+import org.budgetanalyzer.transaction.service.dto.ParserAttemptStatus;
 import org.budgetanalyzer.transaction.service.dto.PdfTextTableParserConfig;
 import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
@@ -38,12 +49,15 @@ import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionSer
 public class StatementExtractorRegistry {
 
   private static final Logger log = LoggerFactory.getLogger(StatementExtractorRegistry.class);
+  private static final ThreadFactory PARSER_ATTEMPT_THREAD_FACTORY =
+      Thread.ofVirtual().name("parser-attempt-", 0).factory();
 
   private final List<StatementExtractor> staticExtractors;
   private final ParserRevisionRepository parserRevisionRepository;
   private final CsvParser csvParser;
   private final ObjectMapper objectMapper;
   private final PdfTextExtractionService pdfTextExtractionService;
+  private final ParserAttemptProperties parserAttemptProperties;
   private final PdfTextTableParserConfigValidator pdfTextTableParserConfigValidator =
       new PdfTextTableParserConfigValidator();
 
@@ -61,18 +75,21 @@ public class StatementExtractorRegistry {
    * @param csvParser the CSV parser to use for dynamic extractors
    * @param objectMapper JSON mapper for parser configuration
    * @param pdfTextExtractionService text-PDF extraction service
+   * @param parserAttemptProperties parser attempt configuration
    */
   public StatementExtractorRegistry(
       List<StatementExtractor> staticExtractors,
       ParserRevisionRepository parserRevisionRepository,
       CsvParser csvParser,
       ObjectMapper objectMapper,
-      PdfTextExtractionService pdfTextExtractionService) {
+      PdfTextExtractionService pdfTextExtractionService,
+      ParserAttemptProperties parserAttemptProperties) {
     this.staticExtractors = staticExtractors;
     this.parserRevisionRepository = parserRevisionRepository;
     this.csvParser = csvParser;
     this.objectMapper = objectMapper;
     this.pdfTextExtractionService = pdfTextExtractionService;
+    this.parserAttemptProperties = parserAttemptProperties;
   }
 
   @PostConstruct
@@ -94,11 +111,17 @@ public class StatementExtractorRegistry {
    * Attempts every active parser revision under a statement format in deterministic selection
    * order.
    *
+   * <p>All attempts share one {@link StatementFile}, so the upload is parsed once however many
+   * revisions are tried. Attempts run concurrently on virtual threads, but results are collected
+   * in selection order: once an attempt has matched, every lower-priority attempt is cancelled and
+   * left out of the result, whichever finished first. Attempts still running when the configured
+   * timeout elapses are cancelled and recorded as failed.
+   *
    * @param statementFormat selected top-level statement format
    * @param fileContent uploaded file bytes
    * @param filename original uploaded filename
    * @param accountId optional account ID to pre-fill for all transactions
-   * @return parser attempts in priority and revision order
+   * @return parser attempts in priority and revision order, ending at the first match
    */
   public List<ParserAttempt> attemptParse(
       StatementFormat statementFormat, byte[] fileContent, String filename, String accountId) {
@@ -107,18 +130,77 @@ public class StatementExtractorRegistry {
             .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(
                 statementFormat.getId());
     var parserAttempts = new ArrayList<ParserAttempt>();
-    for (var parserRevision : parserRevisions) {
-      parserAttempts.add(
-          attemptParse(statementFormat, parserRevision, fileContent, filename, accountId));
+    try (var statementFile = new StatementFile(fileContent, filename);
+        var executorService = Executors.newThreadPerTaskExecutor(PARSER_ATTEMPT_THREAD_FACTORY)) {
+      var deadline = System.nanoTime() + parserAttemptProperties.timeout().toNanos();
+      var pendingAttempts = new ArrayList<Future<ParserAttempt>>(parserRevisions.size());
+      try {
+        for (var parserRevision : parserRevisions) {
+          pendingAttempts.add(
+              executorService.submit(
+                  () -> attemptParse(statementFormat, parserRevision, statementFile, accountId)));
+        }
+        for (var index = 0; index < parserRevisions.size(); index++) {
+          var parserRevision = parserRevisions.get(index);
+          ImportProgress.report(
+              ImportJobStage.PARSING,
+              "Parser revision "
+                  + parserRevision.getId()
+                  + " ("
+                  + (index + 1)
+                  + " of "
+                  + parserRevisions.size()
+                  + ")");
+          var parserAttempt = awaitAttempt(parserRevision, pendingAttempts.get(index), deadline);
+          parserAttempts.add(parserAttempt);
+          if (parserAttempt.status() == ParserAttemptStatus.MATCHED) {
+            break;
+          }
+        }
+      } finally {
+        // Closing the executor waits for every attempt, so stop the ones no longer needed.
+        pendingAttempts.forEach(pendingAttempt -> pendingAttempt.cancel(true));
+      }
+    } catch (IOException ioException) {
+      log.warn("Failed to release parsed statement file: {}", ioException.getMessage());
     }
     return parserAttempts;
   }
 
+  private ParserAttempt awaitAttempt(
+      ParserRevision parserRevision, Future<ParserAttempt> pendingAttempt, long deadline) {
+    try {
+      return pendingAttempt.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException timeoutException) {
+      pendingAttempt.cancel(true);
+      var failure =
+          new BusinessException(
+              "Parser revision "
+                  + parserRevision.getId()
+                  + " did not finish within "
+                  + parserAttemptProperties.timeout(),
+              BudgetAnalyzerError.STATEMENT_PARSING_TIMED_OUT.name());
+      return ParserAttempt.failed(parserRevision, failure.getMessage(), failure);
+    } catch (ExecutionException executionException) {
+      if (executionException.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (executionException.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(executionException.getCause());
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+          "Interrupted while waiting for parser revision " + parserRevision.getId(),
+          interruptedException);
+    }
+  }
+
   private ParserAttempt attemptParse(
       StatementFormat statementFormat,
       ParserRevision parserRevision,
-      byte[] fileContent,
-      String filename,
+      StatementFile statementFile,
       String accountId) {
     try {
       var statementExtractor = createExtractor(statementFormat, parserRevision);
@@ -126,12 +208,16 @@ public class StatementExtractorRegistry {
         return ParserAttempt.notApplicable(
             parserRevision, "No extractor is registered for parser revision.");
       }
-      if (!statementExtractor.get().canHandle(fileContent, filename)) {
+      if (!statementExtractor.get().matchesProbe(statementFile.probe())) {
+        return ParserAttempt.notApplicable(
+            parserRevision, "Uploaded file does not match the extractor's file probe.");
+      }
+      if (!statementExtractor.get().canHandle(statementFile)) {
         return ParserAttempt.notApplicable(
             parserRevision, "Extractor cannot handle the uploaded file.");
       }
 
-      var transactions = statementExtractor.get().extract(fileContent, accountId);
+      var transactions = statementExtractor.get().extract(statementFile, accountId);
       if (transactions.isEmpty()) {
         return ParserAttempt.notApplicable(parserRevision, "Extractor parsed no transaction rows.");
       }
@@ -0,0 +1,312 @@
+package org.budgetanalyzer.transaction.service.extractor;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+/**
+ * One uploaded statement file, shared by every extractor tried against it.
+ *
+ * <p>Parsed forms of the file are computed on first use and reused by later extractors: the {@link
+ * FileProbe}, the loaded {@link PDDocument}, plain text per page range, and any value derived
+ * through {@link #memoize(String, Derivation)}, such as the normalized PDF text document. Failures
+ * are memoized too, so a file that cannot be parsed is only attempted once.
+ *
+ * <p>Parser attempts share one file from several threads. Each value is derived once per key by
+ * the first thread that asks for it, and other threads asking for the same key wait for that
+ * result; values under different keys are derived concurrently. PDFBox documents are not safe for
+ * concurrent use, so the loaded document is only reachable through {@link
+ * #withPdfDocument(PdfDocumentAccess)}, which holds a lock for the duration of the access. Close
+ * the file once parsing is finished to release the loaded document.
+ *
+ * <p>PDFBox does not respond to interrupts, so text strippers working on the file call {@link
+ * #checkInterrupted()} before each page. A failure raised while the calling thread is interrupted
+ * is not memoized, so cancelling one extractor does not fail the others sharing the file.
+ */
+public final class StatementFile implements AutoCloseable {
+
+  private static final String FILE_PROBE_KEY = "file-probe";
+  private static final String PDF_DOCUMENT_KEY = "pdf-document";
+
+  /** Completes a derivation that was abandoned, telling waiting threads to derive it themselves. */
+  private static final Object RETRY = new Object();
+
+  private final byte[] content;
+  private final String filename;
+  private final ConcurrentMap<String, CompletableFuture<Object>> memoizedValues =
+      new ConcurrentHashMap<>();
+  private final Object pdfDocumentLock = new Object();
+
+  /**
+   * Creates a statement file.
+   *
+   * @param content the raw file bytes
+   * @param filename the original filename, or {@code null} when unknown
+   */
+  public StatementFile(byte[] content, String filename) {
+    this.content = content;
+    this.filename = filename;
+  }
+
+  /**
+   * Returns the raw file bytes.
+   *
+   * @return the file content
+   */
+  public byte[] content() {
+    return content;
+  }
+
+  /**
+   * Returns the original filename.
+   *
+   * @return the filename, or {@code null} when unknown
+   */
+  public String filename() {
+    return filename;
+  }
+
+  /**
+   * Returns the cheap fingerprint of this file, probing it on first use.
+   *
+   * @return the file probe
+   */
+  public FileProbe probe() {
+    return memoize(FILE_PROBE_KEY, FileProbe::of);
+  }
+
+  /**
+   * Runs an action against the file loaded as a PDF, loading it on first use.
+   *
+   * <p>The action holds the document lock, so it must not call {@link #memoize(String,
+   * Derivation)} or other methods of this file that derive values.
+   *
+   * @param access reads from the loaded document; must not keep a reference to it
+   * @param <T> the result type
+   * @return the result of the action
+   * @throws IOException if the content is not a readable PDF or the action fails
+   */
+  public <T> T withPdfDocument(PdfDocumentAccess<T> access) throws IOException {
+    var document = pdfDocument();
+    synchronized (pdfDocumentLock) {
+      return access.apply(document);
+    }
+  }
+
+  /**
+   * Returns the number of pages of the file loaded as a PDF.
+   *
+   * @return the page count
+   * @throws IOException if the content is not a readable PDF
+   */
+  public int pdfPageCount() throws IOException {
+    return withPdfDocument(PDDocument::getNumberOfPages);
+  }
+
+  /**
+   * Returns the plain text of a page range, as produced by {@link PDFTextStripper}.
+   *
+   * @param startPage the first page, starting at 1
+   * @param endPage the last page; clamped to the number of pages
+   * @return the text of the pages
+   * @throws IOException if the content is not a readable PDF
+   */
+  public String pdfText(int startPage, int endPage) throws IOException {
+    var lastPage = Math.min(endPage, pdfPageCount());
+    try {
+      return memoize(
+          "pdf-text:" + startPage + "-" + lastPage,
+          statementFile ->
+              statementFile.withPdfDocument(document -> stripText(document, startPage, lastPage)));
+    } catch (UncheckedIOException uncheckedIoException) {
+      throw uncheckedIoException.getCause();
+    }
+  }
+
+  /**
+   * Returns a value derived from this file, computing it on first use.
+   *
+   * <p>Keys are shared by every extractor that sees this file, so extractors that derive the same
+   * value must use the same key, and extractors that derive different values must not. A runtime
+   * exception thrown by the derivation is memoized and rethrown on later calls; an {@link
+   * IOException} is memoized as an {@link UncheckedIOException}. Failures of an interrupted
+   * thread are rethrown without being memoized, and a thread waiting for another thread's
+   * abandoned derivation derives the value itself.
+   *
+   * @param key identifies the derived value
+   * @param derivation computes the value from this file
+   * @param <T> the value type
+   * @return the memoized value
+   * @throws UncheckedIOException wrapping an {@link InterruptedIOException} if the calling thread
+   *     is interrupted while waiting for another thread to derive the value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T memoize(String key, Derivation<T> derivation) {
+    while (true) {
+      var memoizedValue = memoizedValues.get(key);
+      if (memoizedValue == null) {
+        var derivedValue = new CompletableFuture<Object>();
+        memoizedValue = memoizedValues.putIfAbsent(key, derivedValue);
+        if (memoizedValue == null) {
+          return (T) valueOf(derive(key, derivedValue, derivation));
+        }
+      }
+
+      var value = await(memoizedValue);
+      if (value != RETRY) {
+        return (T) valueOf(value);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    var loadedDocument = memoizedValues.get(PDF_DOCUMENT_KEY);
+    memoizedValues.clear();
+    if (loadedDocument != null
+        && loadedDocument.isDone()
+        && loadedDocument.getNow(null) instanceof PDDocument document) {
+      synchronized (pdfDocumentLock) {
+        document.close();
+      }
+    }
+  }
+
+  /**
+   * Returns the plain text of a page range of a loaded document, as produced by {@link
+   * PDFTextStripper}. Stops between pages once the calling thread is interrupted.
+   *
+   * @param document the loaded document
+   * @param startPage the first page, starting at 1
+   * @param endPage the last page
+   * @return the text of the pages
+   * @throws IOException if the pages cannot be read or the thread is interrupted
+   */
+  public static String stripText(PDDocument document, int startPage, int endPage)
+      throws IOException {
+    var pdfTextStripper = new InterruptiblePdfTextStripper();
+    pdfTextStripper.setStartPage(startPage);
+    pdfTextStripper.setEndPage(endPage);
+    return pdfTextStripper.getText(document);
+  }
+
+  /**
+   * Stops PDF work on a thread that has been interrupted, such as a cancelled parser attempt.
+   *
+   * @throws InterruptedIOException if the current thread is interrupted
+   */
+  public static void checkInterrupted() throws InterruptedIOException {
+    if (Thread.currentThread().isInterrupted()) {
+      throw new InterruptedIOException("Statement parsing was interrupted");
+    }
+  }
+
+  private PDDocument pdfDocument() throws IOException {
+    try {
+      return memoize(PDF_DOCUMENT_KEY, statementFile -> Loader.loadPDF(content));
+    } catch (UncheckedIOException uncheckedIoException) {
+      throw uncheckedIoException.getCause();
+    }
+  }
+
+  private Object derive(
+      String key, CompletableFuture<Object> derivedValue, Derivation<?> derivation) {
+    var value = RETRY;
+    try {
+      try {
+        value = derivation.derive(this);
+      } catch (RuntimeException runtimeException) {
+        value = new Failure(runtimeException);
+      } catch (IOException ioException) {
+        value = new Failure(new UncheckedIOException(ioException));
+      }
+      return value;
+    } finally {
+      if (value == RETRY || (value instanceof Failure && Thread.currentThread().isInterrupted())) {
+        memoizedValues.remove(key, derivedValue);
+        derivedValue.complete(RETRY);
+      } else {
+        derivedValue.complete(value);
+      }
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> memoizedValue) {
+    try {
+      return memoizedValue.get();
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      var interruptedIoException = new InterruptedIOException("Statement parsing was interrupted");
+      interruptedIoException.initCause(interruptedException);
+      throw new UncheckedIOException(interruptedIoException);
+    } catch (ExecutionException executionException) {
+      // Derivations always complete normally; failures are completed as Failure values.
+      throw new IllegalStateException(executionException.getCause());
+    }
+  }
+
+  private static Object valueOf(Object memoizedValue) {
+    if (memoizedValue instanceof Failure failure) {
+      throw failure.exception();
+    }
+    return memoizedValue;
+  }
+
+  /**
+   * Reads from a loaded PDF document while holding its lock.
+   *
+   * @param <T> the result type
+   */
+  @FunctionalInterface
+  public interface PdfDocumentAccess<T> {
+
+    /**
+     * Reads from the document.
+     *
+     * @param document the loaded document
+     * @return the result
+     * @throws IOException if the document cannot be read
+     */
+    T apply(PDDocument document) throws IOException;
+  }
+
+  /**
+   * Computes a value derived from a statement file.
+   *
+   * @param <T> the value type
+   */
+  @FunctionalInterface
+  public interface Derivation<T> {
+
+    /**
+     * Computes the value.
+     *
+     * @param statementFile the file to derive the value from
+     * @return the derived value
+     * @throws IOException if the file cannot be read
+     */
+    T derive(StatementFile statementFile) throws IOException;
+  }
+
+  private record Failure(RuntimeException exception) {}
+
+  private static class InterruptiblePdfTextStripper extends PDFTextStripper {
+
+    InterruptiblePdfTextStripper() throws IOException {}
+
+    @Override
+    protected void startPage(PDPage page) throws IOException {
+      checkInterrupted();
+      super.startPage(page);
+    }
+  }
+}
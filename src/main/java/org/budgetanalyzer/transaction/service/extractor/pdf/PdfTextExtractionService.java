@@ -1,10 +1,16 @@
 package org.budgetanalyzer.transaction.service.extractor.pdf;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.Pattern;
 
 import org.apache.pdfbox.Loader;
@@ -15,22 +21,49 @@ import org.apache.pdfbox.text.TextPosition;
 import org.springframework.stereotype.Service;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
-
-/** Extracts and normalizes text from text-based PDF statement samples. */
+import org.budgetanalyzer.transaction.service.extractor.StatementFile;
+
+/**
+ * Extracts and normalizes text from text-based PDF statement samples.
+ *
+ * <p>PDFs with at least the configured number of pages are split into contiguous page ranges that
+ * are stripped concurrently. PDFBox documents are not thread-safe, so each worker loads its own
+ * copy of the document; the page ranges are merged back in page order before lines and tables are
+ * built, so the result does not depend on how the pages were split. The built-in statement
+ * extractors read whole documents through {@link #extractPlainText(StatementFile)} and {@link
+ * #stripPageRanges(StatementFile, PageRangeStripper)}, so they are split the same way.
+ */
 @Service
 public class PdfTextExtractionService {
 
+  private static final String PDF_TEXT_DOCUMENT_KEY = "pdf-text-document";
+  private static final String PDF_PLAIN_TEXT_KEY = "pdf-plain-text";
   private static final int MIN_EXTRACTED_CHARACTERS = 20;
   private static final int MIN_TABLE_LINES = 2;
   private static final int SAMPLE_ROW_LIMIT = 5;
   private static final float LINE_Y_TOLERANCE = 2.0F;
   private static final float CELL_GAP_THRESHOLD = 8.0F;
   private static final float TABLE_VERTICAL_GAP_THRESHOLD = 32.0F;
+  private static final Pattern NON_ALPHANUMERIC_PATTERN = Pattern.compile("[^a-z0-9]");
   private static final Pattern LEADING_DATE_CELL_PATTERN =
       Pattern.compile(
           "^\\s*(\\d{1,2}/\\d{1,2}(?:/\\d{2,4})?|[A-Za-z]{3,9}\\s+\\d{1,2}"
               + "(?:,?\\s+\\d{4})?)\\s+(.+)$");
+  private static final ThreadFactory PAGE_RANGE_THREAD_FACTORY =
+      Thread.ofVirtual().name("pdf-text-pages-", 0).factory();
+
+  private final PdfTextExtractionProperties pdfTextExtractionProperties;
+
+  /**
+   * Creates the PDF text extraction service.
+   *
+   * @param pdfTextExtractionProperties page threshold and worker count for parallel extraction
+   */
+  public PdfTextExtractionService(PdfTextExtractionProperties pdfTextExtractionProperties) {
+    this.pdfTextExtractionProperties = pdfTextExtractionProperties;
+  }
 
   /**
    * Extracts normalized pages, lines, cells, and coarse table candidates from a text PDF.
@@ -40,17 +73,82 @@ public class PdfTextExtractionService {
    * @return normalized extracted PDF text
    */
   public PdfTextDocument extract(byte[] fileContent, String filename) {
+    try (var statementFile = new StatementFile(fileContent, filename)) {
+      return extract(statementFile);
+    } catch (IOException ioException) {
+      throw new BusinessException(
+          "Failed to extract text from PDF: " + ioException.getMessage(),
+          BudgetAnalyzerError.PDF_PARSING_ERROR.name(),
+          ioException);
+    }
+  }
+
+  /**
+   * Extracts normalized pages, lines, cells, and coarse table candidates from a text PDF, reusing
+   * the result already extracted for the same file.
+   *
+   * @param statementFile uploaded file shared across extractors
+   * @return normalized extracted PDF text
+   */
+  public PdfTextDocument extract(StatementFile statementFile) {
+    var filename = statementFile.filename();
     if (filename == null || !filename.toLowerCase().endsWith(".pdf")) {
       throw pdfParsingError("PDF text extraction requires a .pdf file.");
     }
 
-    try (PDDocument document = Loader.loadPDF(fileContent)) {
-      var positionAwareTextStripper = new PositionAwareTextStripper();
-      positionAwareTextStripper.setSortByPosition(true);
-      positionAwareTextStripper.getText(document);
+    return statementFile.memoize(PDF_TEXT_DOCUMENT_KEY, this::extractDocument);
+  }
+
+  /**
+   * Returns the plain text of every page of a PDF, as produced by {@link PDFTextStripper}, reusing
+   * the text already extracted for the same file.
+   *
+   * @param statementFile uploaded file shared across extractors
+   * @return the text of all pages, in page order
+   * @throws IOException if the content is not a readable PDF
+   */
+  public String extractPlainText(StatementFile statementFile) throws IOException {
+    try {
+      return statementFile.memoize(
+          PDF_PLAIN_TEXT_KEY,
+          file -> String.join("", stripPageRanges(file, StatementFile::stripText)));
+    } catch (UncheckedIOException uncheckedIoException) {
+      throw uncheckedIoException.getCause();
+    }
+  }
+
+  /**
+   * Strips every page of a PDF, one contiguous page range at a time.
+   *
+   * <p>Below the parallel page threshold the whole document is one range stripped from the shared
+   * loaded document; from the threshold on, the ranges are stripped concurrently from separate
+   * copies of the document.
+   *
+   * @param statementFile uploaded file shared across extractors
+   * @param pageRangeStripper strips one page range; called once per range, possibly concurrently
+   * @param <T> the result type of one page range
+   * @return the result of each page range, in page order
+   * @throws IOException if the content is not a readable PDF or a page range cannot be stripped
+   */
+  public <T> List<T> stripPageRanges(
+      StatementFile statementFile, PageRangeStripper<T> pageRangeStripper) throws IOException {
+    var pageCount = statementFile.pdfPageCount();
+    if (extractsInParallel(pageCount)) {
+      return stripPageRangesInParallel(statementFile.content(), pageCount, pageRangeStripper);
+    }
+    return List.of(
+        statementFile.withPdfDocument(
+            document -> pageRangeStripper.strip(document, 1, pageCount)));
+  }
 
-      var pages =
-          buildPages(document.getNumberOfPages(), positionAwareTextStripper.getTextChunks());
+  private PdfTextDocument extractDocument(StatementFile statementFile) {
+    try {
+      var pageCount = statementFile.pdfPageCount();
+      var textChunks =
+          stripPageRanges(statementFile, this::extractTextChunks).stream()
+              .flatMap(List::stream)
+              .toList();
+      var pages = buildPages(pageCount, textChunks);
       if (extractedCharacterCount(pages) < MIN_EXTRACTED_CHARACTERS) {
         throw pdfParsingError(
             "PDF does not contain enough extractable text. Scanned or OCR-dependent PDFs are not "
@@ -58,8 +156,6 @@ public class PdfTextExtractionService {
       }
 
       return new PdfTextDocument(pages, detectTableCandidates(pages));
-    } catch (BusinessException businessException) {
-      throw businessException;
     } catch (IOException ioException) {
       throw new BusinessException(
           "Failed to extract text from PDF: " + ioException.getMessage(),
@@ -68,6 +164,82 @@ public class PdfTextExtractionService {
     }
   }
 
+  List<TextChunk> extractTextChunks(PDDocument document) throws IOException {
+    return extractTextChunks(document, 1, document.getNumberOfPages());
+  }
+
+  private List<TextChunk> extractTextChunks(PDDocument document, int startPage, int endPage)
+      throws IOException {
+    var positionAwareTextStripper = new PositionAwareTextStripper(startPage);
+    positionAwareTextStripper.setSortByPosition(true);
+    positionAwareTextStripper.setStartPage(startPage);
+    positionAwareTextStripper.setEndPage(endPage);
+    positionAwareTextStripper.getText(document);
+    return positionAwareTextStripper.getTextChunks();
+  }
+
+  private boolean extractsInParallel(int pageCount) {
+    return pdfTextExtractionProperties.parallelism() > 1
+        && pageCount > 1
+        && pageCount >= pdfTextExtractionProperties.parallelPageThreshold();
+  }
+
+  private <T> List<T> stripPageRangesInParallel(
+      byte[] fileContent, int pageCount, PageRangeStripper<T> pageRangeStripper)
+      throws IOException {
+    var workerCount = Math.min(pdfTextExtractionProperties.parallelism(), pageCount);
+    try (var executorService = Executors.newThreadPerTaskExecutor(PAGE_RANGE_THREAD_FACTORY)) {
+      var pageRanges = new ArrayList<Future<T>>(workerCount);
+      try {
+        for (var worker = 0; worker < workerCount; worker++) {
+          var startPage = worker * pageCount / workerCount + 1;
+          var endPage = (worker + 1) * pageCount / workerCount;
+          pageRanges.add(
+              executorService.submit(
+                  () -> stripPageRange(fileContent, startPage, endPage, pageRangeStripper)));
+        }
+
+        var results = new ArrayList<T>(workerCount);
+        for (var pageRange : pageRanges) {
+          results.add(awaitPageRange(pageRange));
+        }
+        return results;
+      } finally {
+        pageRanges.forEach(pageRange -> pageRange.cancel(true));
+      }
+    }
+  }
+
+  private static <T> T stripPageRange(
+      byte[] fileContent, int startPage, int endPage, PageRangeStripper<T> pageRangeStripper)
+      throws IOException {
+    try (var document = Loader.loadPDF(fileContent)) {
+      return pageRangeStripper.strip(document, startPage, endPage);
+    }
+  }
+
+  private static <T> T awaitPageRange(Future<T> pageRange) throws IOException {
+    try {
+      return pageRange.get();
+    } catch (ExecutionException executionException) {
+      if (executionException.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (executionException.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (executionException.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(executionException.getCause());
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      var interruptedIoException = new InterruptedIOException("Statement parsing was interrupted");
+      interruptedIoException.initCause(interruptedException);
+      throw interruptedIoException;
+    }
+  }
+
   private List<PdfTextPage> buildPages(int pageCount, List<TextChunk> textChunks) {
     var textChunksByPage = new HashMap<Integer, List<TextChunk>>();
     for (var textChunk : textChunks) {
@@ -84,60 +256,110 @@ public class PdfTextExtractionService {
     return List.copyOf(pages);
   }
 
-  private List<PdfTextLine> buildLines(int pageNumber, List<TextChunk> textChunks) {
+  /**
+   * Groups a page's chunks into lines and cells in one sweep.
+   *
+   * <p>Chunks are sorted by y then x. Each chunk joins the earliest line whose first chunk is
+   * within {@link #LINE_Y_TOLERANCE} of it; because line anchors only grow, the earliest candidate
+   * line is tracked with a pointer that only moves forward instead of scanning every line. Chunk
+   * indexes are then bucketed by line, and each line is ordered by x with a stable insertion sort,
+   * which is cheap because the chunks of a line arrive nearly in x order.
+   */
+  List<PdfTextLine> buildLines(int pageNumber, List<TextChunk> textChunks) {
     if (textChunks == null || textChunks.isEmpty()) {
       return List.of();
     }
 
-    var sortedTextChunks =
-        textChunks.stream()
-            .sorted(Comparator.comparing(TextChunk::y).thenComparing(TextChunk::startX))
-            .toList();
-    var lineBuckets = new ArrayList<List<TextChunk>>();
-    for (var textChunk : sortedTextChunks) {
-      var lineBucket = findLineBucket(lineBuckets, textChunk);
-      if (lineBucket == null) {
-        lineBucket = new ArrayList<>();
-        lineBuckets.add(lineBucket);
+    var sortedTextChunks = textChunks.toArray(TextChunk[]::new);
+    Arrays.sort(sortedTextChunks, PdfTextExtractionService::compareByYThenX);
+    var chunkCount = sortedTextChunks.length;
+    var ys = new float[chunkCount];
+    var startXs = new float[chunkCount];
+    for (var chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+      ys[chunkIndex] = sortedTextChunks[chunkIndex].y();
+      startXs[chunkIndex] = sortedTextChunks[chunkIndex].startX();
+    }
+
+    var lineOfChunk = new int[chunkCount];
+    var lineAnchorYs = new float[chunkCount];
+    var lineSizes = new int[chunkCount];
+    var lineCount = 0;
+    var firstOpenLine = 0;
+    for (var chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+      var y = ys[chunkIndex];
+      while (firstOpenLine < lineCount
+          && !(Math.abs(lineAnchorYs[firstOpenLine] - y) <= LINE_Y_TOLERANCE)) {
+        firstOpenLine++;
       }
-      lineBucket.add(textChunk);
+      if (firstOpenLine == lineCount) {
+        lineAnchorYs[lineCount++] = y;
+      }
+      lineOfChunk[chunkIndex] = firstOpenLine;
+      lineSizes[firstOpenLine]++;
     }
 
-    var lines = new ArrayList<PdfTextLine>();
-    for (var lineIndex = 0; lineIndex < lineBuckets.size(); lineIndex++) {
-      var lineChunks =
-          lineBuckets.get(lineIndex).stream()
-              .sorted(Comparator.comparing(TextChunk::startX))
-              .toList();
+    var lineStarts = new int[lineCount + 1];
+    for (var lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+      lineStarts[lineIndex + 1] = lineStarts[lineIndex] + lineSizes[lineIndex];
+    }
+    var chunkOrder = new int[chunkCount];
+    var lineFill = Arrays.copyOf(lineStarts, lineCount);
+    for (var chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+      chunkOrder[lineFill[lineOfChunk[chunkIndex]]++] = chunkIndex;
+    }
+
+    var lines = new ArrayList<PdfTextLine>(lineCount);
+    for (var lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+      var lineStart = lineStarts[lineIndex];
+      var lineEnd = lineStarts[lineIndex + 1];
+      sortByStartX(chunkOrder, startXs, lineStart, lineEnd);
       lines.add(
           new PdfTextLine(
               pageNumber,
               lineIndex + 1,
-              lineChunks.getFirst().y(),
-              buildCells(pageNumber, lineIndex + 1, lineChunks)));
+              ys[chunkOrder[lineStart]],
+              buildCells(
+                  pageNumber, lineIndex + 1, sortedTextChunks, chunkOrder, lineStart, lineEnd)));
     }
     return List.copyOf(lines);
   }
 
-  private List<TextChunk> findLineBucket(List<List<TextChunk>> lineBuckets, TextChunk textChunk) {
-    for (var lineBucket : lineBuckets) {
-      if (Math.abs(lineBucket.getFirst().y() - textChunk.y()) <= LINE_Y_TOLERANCE) {
-        return lineBucket;
+  private static int compareByYThenX(TextChunk first, TextChunk second) {
+    var yComparison = Float.compare(first.y(), second.y());
+    return yComparison != 0 ? yComparison : Float.compare(first.startX(), second.startX());
+  }
+
+  private static void sortByStartX(int[] chunkOrder, float[] startXs, int from, int to) {
+    for (var index = from + 1; index < to; index++) {
+      var chunkIndex = chunkOrder[index];
+      var insertAt = index;
+      while (insertAt > from
+          && Float.compare(startXs[chunkOrder[insertAt - 1]], startXs[chunkIndex]) > 0) {
+        chunkOrder[insertAt] = chunkOrder[insertAt - 1];
+        insertAt--;
       }
+      chunkOrder[insertAt] = chunkIndex;
     }
-    return null;
   }
 
-  private List<PdfTextCell> buildCells(int pageNumber, int lineNumber, List<TextChunk> lineChunks) {
-    if (lineChunks.size() == 1) {
-      return splitSingleChunkCell(pageNumber, lineNumber, lineChunks.getFirst());
+  private List<PdfTextCell> buildCells(
+      int pageNumber,
+      int lineNumber,
+      TextChunk[] sortedTextChunks,
+      int[] chunkOrder,
+      int lineStart,
+      int lineEnd) {
+    var firstTextChunk = sortedTextChunks[chunkOrder[lineStart]];
+    if (lineEnd - lineStart == 1) {
+      return splitSingleChunkCell(pageNumber, lineNumber, firstTextChunk);
     }
 
     var cells = new ArrayList<PdfTextCell>();
     var cellText = new StringBuilder();
-    var cellStartX = lineChunks.getFirst().startX();
-    var cellEndX = lineChunks.getFirst().endX();
-    for (var textChunk : lineChunks) {
+    var cellStartX = firstTextChunk.startX();
+    var cellEndX = firstTextChunk.endX();
+    for (var orderIndex = lineStart; orderIndex < lineEnd; orderIndex++) {
+      var textChunk = sortedTextChunks[chunkOrder[orderIndex]];
       if (!cellText.isEmpty() && textChunk.startX() - cellEndX > CELL_GAP_THRESHOLD) {
         cells.add(
             new PdfTextCell(
@@ -147,7 +369,7 @@ public class PdfTextExtractionService {
                 cellText.toString().strip(),
                 cellStartX,
                 cellEndX));
-        cellText = new StringBuilder();
+        cellText.setLength(0);
         cellStartX = textChunk.startX();
       }
       if (!cellText.isEmpty()) {
@@ -278,20 +500,23 @@ public class PdfTextExtractionService {
       return;
     }
 
-    var headerTextCells = headerCells(block);
-    var headerLineCount = headerLineCount(block);
+    var headerPrefixLineCount = headerPrefixLineCount(block);
+    var headerTextCells = headerCells(block, headerPrefixLineCount);
     var headerCells = headerTextCells.stream().map(PdfTextCell::text).toList();
+    var normalizedHeaderCells = normalizedCells(headerCells);
+    var headerCenterXs = centerXs(headerTextCells);
     var dataRows = new ArrayList<List<String>>();
     var repeatedHeaderCount = 0;
-    for (var pdfTextLine : block.stream().skip(headerLineCount).toList()) {
-      var row = alignRowToHeader(pdfTextLine.cells(), headerTextCells);
-      if (normalizedCells(row).equals(normalizedCells(headerCells))) {
+    for (var lineIndex = headerPrefixLineCount + 1; lineIndex < block.size(); lineIndex++) {
+      var row = alignRowToHeader(block.get(lineIndex).cells(), headerTextCells, headerCenterXs);
+      if (row.size() == normalizedHeaderCells.size()
+          && normalizedCells(row).equals(normalizedHeaderCells)) {
         repeatedHeaderCount++;
       } else {
         dataRows.add(row);
       }
     }
-    var sampleRows = dataRows.stream().limit(SAMPLE_ROW_LIMIT).toList();
+    var sampleRows = dataRows.subList(0, Math.min(SAMPLE_ROW_LIMIT, dataRows.size()));
     tableCandidates.add(
         new PdfTextTableCandidate(
             pageNumber,
@@ -299,13 +524,12 @@ public class PdfTextExtractionService {
             block.getLast().lineNumber(),
             headerCells,
             List.copyOf(dataRows),
-            sampleRows,
+            List.copyOf(sampleRows),
             dataRows.size(),
             repeatedHeaderCount));
   }
 
-  private List<PdfTextCell> headerCells(List<PdfTextLine> block) {
-    var headerPrefixLineCount = headerPrefixLineCount(block);
+  private List<PdfTextCell> headerCells(List<PdfTextLine> block, int headerPrefixLineCount) {
     if (headerPrefixLineCount > 0) {
       return mergeSplitHeaderCells(
           block.subList(0, headerPrefixLineCount), block.get(headerPrefixLineCount).cells());
@@ -313,10 +537,6 @@ public class PdfTextExtractionService {
     return block.getFirst().cells();
   }
 
-  private int headerLineCount(List<PdfTextLine> block) {
-    return headerPrefixLineCount(block) + 1;
-  }
-
   private int headerPrefixLineCount(List<PdfTextLine> block) {
     var headerPrefixLineCount = 0;
     for (var pdfTextLine : block) {
@@ -380,7 +600,8 @@ public class PdfTextExtractionService {
         || normalizedHeaderPrefixText.equals("dateoftransaction");
   }
 
-  private List<String> alignRowToHeader(List<PdfTextCell> rowCells, List<PdfTextCell> headerCells) {
+  private List<String> alignRowToHeader(
+      List<PdfTextCell> rowCells, List<PdfTextCell> headerCells, float[] headerCenterXs) {
     if (rowCells.size() == headerCells.size()) {
       return rowCells.stream().map(PdfTextCell::text).toList();
     }
@@ -395,10 +616,11 @@ public class PdfTextExtractionService {
         return List.copyOf(alignedRow);
       }
     }
-    var alignedRow = new ArrayList<String>();
-    for (var headerCell : headerCells) {
-      var nearestCell = nearestCell(rowCells, headerCell);
-      alignedRow.add(nearestCell == null ? "" : nearestCell.text());
+    var rowCenterXs = centerXs(rowCells);
+    var alignedRow = new ArrayList<String>(headerCells.size());
+    for (var headerCenterX : headerCenterXs) {
+      var nearestCellIndex = nearestCellIndex(rowCenterXs, headerCenterX);
+      alignedRow.add(nearestCellIndex < 0 ? "" : rowCells.get(nearestCellIndex).text());
     }
     return List.copyOf(alignedRow);
   }
@@ -441,23 +663,67 @@ public class PdfTextExtractionService {
     return bestCell;
   }
 
+  private int nearestCellIndex(float[] rowCenterXs, float headerCenterX) {
+    var bestIndex = -1;
+    var bestDistance = Float.MAX_VALUE;
+    for (var index = 0; index < rowCenterXs.length; index++) {
+      var distance = Math.abs(rowCenterXs[index] - headerCenterX);
+      if (distance < bestDistance) {
+        bestDistance = distance;
+        bestIndex = index;
+      }
+    }
+    if (bestIndex < 0 || bestDistance > CELL_GAP_THRESHOLD * 4) {
+      return -1;
+    }
+    return bestIndex;
+  }
+
   private float centerX(PdfTextCell pdfTextCell) {
     return (pdfTextCell.startX() + pdfTextCell.endX()) / 2.0F;
   }
 
+  private float[] centerXs(List<PdfTextCell> pdfTextCells) {
+    var centerXs = new float[pdfTextCells.size()];
+    for (var index = 0; index < centerXs.length; index++) {
+      centerXs[index] = centerX(pdfTextCells.get(index));
+    }
+    return centerXs;
+  }
+
   private List<String> normalizedCells(List<String> cells) {
     return cells.stream().map(this::normalizedCell).toList();
   }
 
   private String normalizedCell(String cell) {
-    return cell.toLowerCase().replaceAll("[^a-z0-9]", "");
+    return NON_ALPHANUMERIC_PATTERN.matcher(cell.toLowerCase()).replaceAll("");
   }
 
   private BusinessException pdfParsingError(String message) {
     return new BusinessException(message, BudgetAnalyzerError.PDF_PARSING_ERROR.name());
   }
 
-  private record TextChunk(int pageNumber, float startX, float endX, float y, String text) {}
+  /**
+   * Strips one contiguous page range of a loaded PDF.
+   *
+   * @param <T> the result type
+   */
+  @FunctionalInterface
+  public interface PageRangeStripper<T> {
+
+    /**
+     * Strips the page range.
+     *
+     * @param document the loaded document; not shared with other page ranges while stripping
+     * @param startPage the first page of the range, starting at 1
+     * @param endPage the last page of the range
+     * @return the result for the range
+     * @throws IOException if the pages cannot be read
+     */
+    T strip(PDDocument document, int startPage, int endPage) throws IOException;
+  }
+
+  record TextChunk(int pageNumber, float startX, float endX, float y, String text) {}
 
   private record SplitLeadingDateCell(String date, String description) {}
 
@@ -466,7 +732,9 @@ public class PdfTextExtractionService {
     private final List<TextChunk> textChunks = new ArrayList<>();
     private int currentPage;
 
-    PositionAwareTextStripper() throws IOException {}
+    PositionAwareTextStripper(int startPage) throws IOException {
+      currentPage = startPage - 1;
+    }
 
     List<TextChunk> getTextChunks() {
       return List.copyOf(textChunks);
@@ -474,6 +742,7 @@ public class PdfTextExtractionService {
 
     @Override
     protected void startPage(PDPage page) throws IOException {
+      StatementFile.checkInterrupted();
       currentPage++;
       super.startPage(page);
     }
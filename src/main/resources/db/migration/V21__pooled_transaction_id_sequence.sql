@@ -0,0 +1,16 @@
+-- Allocate transaction IDs from a pooled sequence so Hibernate can batch inserts.
+--
+-- IDENTITY generation forces Hibernate to execute each INSERT immediately to read back the
+-- generated key, which disables JDBC batching for batch imports. The BIGSERIAL column already
+-- owns transaction_id_seq on PostgreSQL; the IF NOT EXISTS guard keeps the migration portable to
+-- databases where the identity sequence is not exposed under that name.
+--
+-- The increment must match the entity allocationSize (50). Hibernate's pooled optimizer treats
+-- each sequence value as the upper bound of a block of 50 IDs, so rows inserted through the
+-- column default (nextval) still receive IDs that never overlap an application-held block.
+CREATE SEQUENCE IF NOT EXISTS transaction_id_seq;
+
+ALTER SEQUENCE transaction_id_seq INCREMENT BY 50;
+
+COMMENT ON COLUMN transaction.id IS
+    'Primary key allocated from transaction_id_seq in pooled blocks of 50 (see entity allocationSize)';
@@ -0,0 +1,24 @@
+-- Asynchronous import jobs for statement previews and batch imports.
+-- Rows outlive the request and the process so clients can poll for results after a restart.
+
+CREATE TABLE import_job (
+    id              UUID PRIMARY KEY,
+    owner_id        VARCHAR(50) NOT NULL,
+    job_type        VARCHAR(20) NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    stage           VARCHAR(30) NOT NULL,
+    stage_detail    VARCHAR(255),
+    source_filename VARCHAR(255),
+    result          TEXT,
+    error           TEXT,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    started_at      TIMESTAMP(6) WITH TIME ZONE,
+    completed_at    TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- Owner-scoped polling and listing
+CREATE INDEX idx_import_job_owner_created ON import_job(owner_id, created_at);
+
+-- Startup recovery of jobs interrupted while queued or running
+CREATE INDEX idx_import_job_status ON import_job(status);
@@ -0,0 +1,26 @@
+-- Persist the normalized description and a 64-bit duplicate fingerprint so exact duplicates can be
+-- resolved with an index lookup instead of shipping every candidate description to the service.
+--
+-- Normalization uses Unicode NFKD and Java character classes that SQL cannot reproduce exactly, so
+-- existing rows are backfilled by the service at startup (TransactionFingerprintBackfill). New rows
+-- are written with both columns populated.
+ALTER TABLE transaction
+    ADD COLUMN normalized_description TEXT,
+    ADD COLUMN description_fingerprint BIGINT;
+
+CREATE INDEX idx_transaction_owner_description_fingerprint
+    ON transaction (owner_id, description_fingerprint)
+    WHERE deleted = false;
+
+CREATE INDEX idx_transaction_description_fingerprint_pending
+    ON transaction (id)
+    WHERE description_fingerprint IS NULL;
+
+COMMENT ON COLUMN transaction.normalized_description IS
+    'Description without case, whitespace, punctuation, separators, or diacritics; used for duplicate detection';
+COMMENT ON COLUMN transaction.description_fingerprint IS
+    'First 64 bits of SHA-256 over owner, bank, date, amount, type, currency, and normalized description';
+COMMENT ON INDEX idx_transaction_owner_description_fingerprint IS
+    'Owner-scoped exact duplicate lookup by description fingerprint';
+COMMENT ON INDEX idx_transaction_description_fingerprint_pending IS
+    'Rows still waiting for the description fingerprint backfill';
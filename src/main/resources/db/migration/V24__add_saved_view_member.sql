@@ -0,0 +1,33 @@
+-- Move saved-view pins and exclusions from JSON text columns into a join table
+-- so a single pin or exclusion is one row-level statement instead of a rewrite
+-- of the whole set, and concurrent changes to one view cannot overwrite each other.
+
+CREATE TABLE saved_view_member (
+    view_id         UUID NOT NULL REFERENCES saved_view(id) ON DELETE CASCADE,
+    transaction_id  BIGINT NOT NULL REFERENCES transaction(id) ON DELETE CASCADE,
+    membership_type VARCHAR(20) NOT NULL,
+    CONSTRAINT pk_saved_view_member PRIMARY KEY (view_id, transaction_id),
+    CONSTRAINT chk_saved_view_member_type CHECK (membership_type IN ('PINNED', 'EXCLUDED'))
+);
+
+-- Foreign key cleanup when a transaction is deleted
+CREATE INDEX idx_saved_view_member_transaction_id ON saved_view_member(transaction_id);
+
+-- Copy existing members, skipping IDs whose transaction no longer exists.
+-- An ID listed as both pinned and excluded was reported as excluded, so exclusions win.
+INSERT INTO saved_view_member (view_id, transaction_id, membership_type)
+SELECT saved_view.id, transaction.id, 'EXCLUDED'
+FROM saved_view
+CROSS JOIN LATERAL jsonb_array_elements_text(saved_view.excluded_ids::jsonb) AS member(value)
+JOIN transaction ON transaction.id = member.value::bigint
+ON CONFLICT DO NOTHING;
+
+INSERT INTO saved_view_member (view_id, transaction_id, membership_type)
+SELECT saved_view.id, transaction.id, 'PINNED'
+FROM saved_view
+CROSS JOIN LATERAL jsonb_array_elements_text(saved_view.pinned_ids::jsonb) AS member(value)
+JOIN transaction ON transaction.id = member.value::bigint
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE saved_view DROP COLUMN pinned_ids;
+ALTER TABLE saved_view DROP COLUMN excluded_ids;
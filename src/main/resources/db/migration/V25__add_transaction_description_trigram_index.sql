@@ -0,0 +1,15 @@
+-- Description and saved-view search text filters match lower(description) LIKE '%word%' for each
+-- word of the input. A leading wildcard cannot use a B-tree index, so every text filter scanned
+-- all rows of the owner. A trigram GIN index on the same expression serves substring LIKE
+-- patterns directly, including multi-word ORs through a BitmapOr, without changing which rows
+-- match (a tsvector would switch to whole-word, stemmed matching).
+--
+-- pg_trgm is a trusted extension, so the database owner can create it without superuser rights.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_transaction_description_trgm
+    ON transaction USING gin (lower(description) gin_trgm_ops)
+    WHERE deleted = false;
+
+COMMENT ON INDEX idx_transaction_description_trgm IS
+    'Substring search on active transaction descriptions (lower(description) LIKE ''%word%'')';
@@ -0,0 +1,41 @@
+-- Redesign the transaction index set around the queries the service actually runs.
+--
+-- Every repository query filters on deleted = false and user-facing queries also filter on
+-- owner_id, so the useful indexes are partial on active rows and lead with owner_id. The V1 and V3
+-- single-column indexes match no query shape (deleted, type, and currency have a handful of
+-- distinct values; bank and account filters are substring LIKE matches that a B-tree cannot
+-- serve) and only add write amplification to every insert and soft delete.
+
+-- Owner-scoped listing, counting, and paging in the default date,desc then id,desc order. Also
+-- serves every owner-scoped filter that has no better index, with the owner as the index condition.
+CREATE INDEX idx_transaction_owner_date_id
+    ON transaction (owner_id, date DESC, id DESC)
+    WHERE deleted = false;
+
+-- Cross-user search and keyset pagination in the default date,desc then id,desc order.
+CREATE INDEX idx_transaction_date_id
+    ON transaction (date DESC, id DESC)
+    WHERE deleted = false;
+
+-- Duplicate candidate lookup only ever reads active rows, so deleted no longer needs to be a key.
+CREATE INDEX idx_transaction_owner_duplicate_candidates
+    ON transaction (owner_id, bank_name, date, amount, type, currency_iso_code)
+    WHERE deleted = false;
+
+DROP INDEX IF EXISTS idx_transaction_owner_deleted_duplicate_candidates;
+DROP INDEX IF EXISTS idx_transaction_owner_id;
+DROP INDEX IF EXISTS idx_transaction_deleted;
+DROP INDEX IF EXISTS idx_transaction_date;
+DROP INDEX IF EXISTS idx_transaction_account_id;
+DROP INDEX IF EXISTS idx_transaction_bank_name;
+DROP INDEX IF EXISTS idx_transaction_currency_iso_code;
+DROP INDEX IF EXISTS idx_transaction_type;
+DROP INDEX IF EXISTS idx_transaction_created_by;
+DROP INDEX IF EXISTS idx_transaction_updated_by;
+
+COMMENT ON INDEX idx_transaction_owner_date_id IS
+    'Owner-scoped listing and paging of active transactions, newest first';
+COMMENT ON INDEX idx_transaction_date_id IS
+    'Cross-user search and keyset pagination of active transactions, newest first';
+COMMENT ON INDEX idx_transaction_owner_duplicate_candidates IS
+    'Owner-scoped duplicate candidate lookup on active transactions before description matching';
@@ -0,0 +1,19 @@
+-- Import jobs are owned by the service instance that accepted them. The owner renews
+-- heartbeat_at while the job is queued or running; other instances only fail a job once its
+-- lease has expired, so a rolling deploy or scale-out does not fail imports still in progress.
+
+ALTER TABLE import_job ADD COLUMN instance_id VARCHAR(36);
+ALTER TABLE import_job ADD COLUMN heartbeat_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE import_job SET heartbeat_at = updated_at;
+
+ALTER TABLE import_job ALTER COLUMN heartbeat_at SET NOT NULL;
+
+-- Recovery of queued or running jobs whose lease has expired
+DROP INDEX idx_import_job_status;
+CREATE INDEX idx_import_job_active_heartbeat ON import_job(heartbeat_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Retention purge of finished jobs
+CREATE INDEX idx_import_job_finished_completed ON import_job(completed_at)
+    WHERE status IN ('SUCCEEDED', 'FAILED');
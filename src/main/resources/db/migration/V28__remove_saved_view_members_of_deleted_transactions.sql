@@ -0,0 +1,7 @@
+-- Transactions are soft-deleted, so the ON DELETE CASCADE on saved_view_member.transaction_id
+-- never fires. The soft-delete statements now remove members themselves; drop the members left
+-- behind by transactions deleted before this migration.
+DELETE FROM saved_view_member
+USING transaction
+WHERE transaction.id = saved_view_member.transaction_id
+  AND transaction.deleted = true;
@@ -0,0 +1,288 @@
+package org.budgetanalyzer.transaction.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.service.exception.ResourceNotFoundException;
+import org.budgetanalyzer.service.security.ClaimsHeaderSecurityConfig;
+import org.budgetanalyzer.service.security.test.ClaimsHeaderTestBuilder;
+import org.budgetanalyzer.service.servlet.api.ServletApiExceptionHandler;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
+import org.budgetanalyzer.transaction.service.ImportJobService;
+import org.budgetanalyzer.transaction.service.PreviewImportTokenService;
+import org.budgetanalyzer.transaction.service.TransactionImportService;
+import org.budgetanalyzer.transaction.service.dto.BatchImportJobResult;
+import org.budgetanalyzer.transaction.service.dto.ImportJobDetails;
+import org.budgetanalyzer.transaction.service.dto.ImportJobError;
+import org.budgetanalyzer.transaction.service.dto.PreviewImportToken;
+import org.budgetanalyzer.transaction.service.dto.StatementUpload;
+
+@WebMvcTest(ImportJobController.class)
+@Import({ServletApiExceptionHandler.class, ClaimsHeaderSecurityConfig.class})
+class ImportJobControllerAuthorizationTest {
+
+  private static final String USER_ID = "usr_test123";
+  private static final UUID JOB_ID = UUID.randomUUID();
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private ImportJobService importJobService;
+
+  @MockitoBean private TransactionImportService transactionImportService;
+
+  @MockitoBean private PreviewImportTokenService previewImportTokenService;
+
+  // ==================== No authentication ====================
+
+  @Test
+  void noAuthentication_returns401() throws Exception {
+    mockMvc.perform(get("/v1/import-jobs/" + JOB_ID)).andExpect(status().isUnauthorized());
+  }
+
+  // ==================== Preview jobs ====================
+
+  @Test
+  void submitPreviewJob_withReadPermission_returns202WithLocation() throws Exception {
+    var upload = new StatementUpload("test.csv", "Date,Description,Amount".getBytes());
+    when(transactionImportService.readUpload(any())).thenReturn(upload);
+    when(importJobService.submitPreview(eq(1L), isNull(), eq(upload), eq(USER_ID)))
+        .thenReturn(importJob(ImportJobType.PREVIEW));
+
+    mockMvc
+        .perform(
+            multipart("/v1/import-jobs/preview")
+                .file(csvFile())
+                .param("statementFormatId", "1")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "http://localhost/v1/import-jobs/" + JOB_ID))
+        .andExpect(jsonPath("$.id").value(JOB_ID.toString()))
+        .andExpect(jsonPath("$.type").value("PREVIEW"))
+        .andExpect(jsonPath("$.status").value("QUEUED"))
+        .andExpect(jsonPath("$.stage").value("QUEUED"));
+  }
+
+  @Test
+  void submitPreviewJob_withoutReadPermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            multipart("/v1/import-jobs/preview")
+                .file(csvFile())
+                .param("statementFormatId", "1")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:write")))
+        .andExpect(status().isForbidden());
+
+    verifyNoInteractions(importJobService);
+  }
+
+  @Test
+  void submitPreviewJob_queueFull_returns422() throws Exception {
+    when(transactionImportService.readUpload(any()))
+        .thenReturn(new StatementUpload("test.csv", new byte[0]));
+    when(importJobService.submitPreview(anyLong(), any(), any(), anyString()))
+        .thenThrow(
+            new BusinessException(
+                "You already have 3 import jobs in progress.",
+                BudgetAnalyzerError.IMPORT_JOB_QUEUE_FULL.name()));
+
+    mockMvc
+        .perform(
+            multipart("/v1/import-jobs/preview")
+                .file(csvFile())
+                .param("statementFormatId", "1")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("IMPORT_JOB_QUEUE_FULL"));
+  }
+
+  // ==================== Batch import jobs ====================
+
+  @Test
+  void submitBatchImportJob_withWritePermission_verifiesTokenAndReturns202() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", USER_ID))
+        .thenReturn(previewImportToken());
+    when(importJobService.submitBatchImport(any(), eq(USER_ID), any()))
+        .thenReturn(importJob(ImportJobType.BATCH_IMPORT));
+
+    mockMvc
+        .perform(
+            post("/v1/import-jobs/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchImportBody("preview-token")))
+        .andExpect(status().isAccepted())
+        .andExpect(header().exists("Location"))
+        .andExpect(jsonPath("$.type").value("BATCH_IMPORT"));
+  }
+
+  @Test
+  void submitBatchImportJob_withoutWritePermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            post("/v1/import-jobs/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchImportBody("preview-token")))
+        .andExpect(status().isForbidden());
+
+    verifyNoInteractions(importJobService);
+  }
+
+  @Test
+  void submitBatchImportJob_missingToken_returns400WithoutSubmitting() throws Exception {
+    mockMvc
+        .perform(
+            post("/v1/import-jobs/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchImportBody("")))
+        .andExpect(status().isBadRequest());
+
+    verifyNoInteractions(importJobService);
+  }
+
+  // ==================== Job status ====================
+
+  @Test
+  void getJob_succeededBatchImport_returnsResult() throws Exception {
+    var importJob = importJob(ImportJobType.BATCH_IMPORT);
+    importJob.markRunning(Instant.parse("2026-05-01T12:00:00Z"));
+    importJob.markSucceeded("{}", Instant.parse("2026-05-01T12:00:05Z"));
+    when(importJobService.getJob(JOB_ID, USER_ID))
+        .thenReturn(
+            new ImportJobDetails(
+                importJob, null, new BatchImportJobResult(2, 1, 0, List.of(11L, 12L)), null));
+
+    mockMvc
+        .perform(
+            get("/v1/import-jobs/" + JOB_ID)
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("SUCCEEDED"))
+        .andExpect(jsonPath("$.stage").value("COMPLETED"))
+        .andExpect(jsonPath("$.batchImport.created").value(2))
+        .andExpect(jsonPath("$.batchImport.transactionIds[1]").value(12))
+        .andExpect(jsonPath("$.error").doesNotExist());
+  }
+
+  @Test
+  void getJob_failedJob_returnsErrorWithRowDetails() throws Exception {
+    var importJob = importJob(ImportJobType.BATCH_IMPORT);
+    importJob.recordStage(ImportJobStage.VALIDATING, null);
+    importJob.markFailed("{}", Instant.parse("2026-05-01T12:00:05Z"));
+    var error =
+        new ImportJobError(
+            BudgetAnalyzerError.BATCH_VALIDATION_FAILED.name(),
+            "Batch validation failed with 1 error(s)",
+            List.of(new ImportJobError.RowError(3, "date", "must not be null")));
+    when(importJobService.getJob(JOB_ID, USER_ID))
+        .thenReturn(new ImportJobDetails(importJob, null, null, error));
+
+    mockMvc
+        .perform(
+            get("/v1/import-jobs/" + JOB_ID)
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("FAILED"))
+        .andExpect(jsonPath("$.stage").value("VALIDATING"))
+        .andExpect(jsonPath("$.error.code").value("BATCH_VALIDATION_FAILED"))
+        .andExpect(jsonPath("$.error.fieldErrors[0].index").value(3));
+  }
+
+  @Test
+  void getJob_notFound_returns404() throws Exception {
+    when(importJobService.getJob(JOB_ID, USER_ID))
+        .thenThrow(new ResourceNotFoundException("Import job not found: " + JOB_ID));
+
+    mockMvc
+        .perform(
+            get("/v1/import-jobs/" + JOB_ID)
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isNotFound());
+  }
+
+  private ImportJob importJob(ImportJobType type) {
+    var importJob = ImportJob.queued(USER_ID, type, "test.csv");
+    ReflectionTestUtils.setField(importJob, "id", JOB_ID);
+    ReflectionTestUtils.setField(importJob, "createdAt", Instant.parse("2026-05-01T11:59:59Z"));
+    return importJob;
+  }
+
+  private MockMultipartFile csvFile() {
+    return new MockMultipartFile(
+        "file",
+        "test.csv",
+        "text/csv",
+        "Date,Description,Amount\n2024-01-15,Coffee,4.50".getBytes());
+  }
+
+  private String batchImportBody(String previewImportToken) {
+    return """
+        {
+          "previewImportToken": "%s",
+          "transactions": [
+            {
+              "date": "2024-01-15",
+              "description": "Coffee",
+              "amount": 4.50,
+              "type": "DEBIT",
+              "bankName": "Test Bank",
+              "currencyIsoCode": "USD"
+            }
+          ]
+        }
+        """
+        .formatted(previewImportToken);
+  }
+
+  private PreviewImportToken previewImportToken() {
+    return new PreviewImportToken(
+        USER_ID,
+        "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
+        "test.csv",
+        1L,
+        1L,
+        null,
+        1024L,
+        Instant.parse("2026-05-01T12:00:00Z"),
+        Instant.parse("2026-05-01T12:30:00Z"));
+  }
+}
@@ -0,0 +1,190 @@
+package org.budgetanalyzer.transaction.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.service.security.test.ClaimsHeaderTestBuilder;
+import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.config.StatementBudget;
+import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.domain.ViewCriteria;
+import org.budgetanalyzer.transaction.repository.SavedViewRepository;
+import org.budgetanalyzer.transaction.repository.TransactionRepository;
+import org.budgetanalyzer.transaction.service.SavedViewService;
+import org.budgetanalyzer.transaction.service.dto.SavedViewCommand;
+
+/**
+ * Statement budgets for saved-view endpoints.
+ *
+ * <p>Each request works on enough views and transactions that a per-view or per-ID query would
+ * exceed its budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestClaimsSecurityConfig.class)
+class SavedViewControllerStatementBudgetIntegrationTest {
+
+  private static final String USER_ID = "usr_budget";
+  private static final int VIEW_COUNT = 10;
+  private static final int TRANSACTION_COUNT = 50;
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private SavedViewService savedViewService;
+
+  @Autowired private SavedViewRepository savedViewRepository;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  private List<Long> transactionIds;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+  }
+
+  @BeforeEach
+  void setUp() {
+    savedViewRepository.deleteAllInBatch();
+    transactionRepository.deleteAllInBatch();
+
+    var transactions = new ArrayList<Transaction>(TRANSACTION_COUNT);
+    for (var index = 0; index < TRANSACTION_COUNT; index++) {
+      transactions.add(createTransaction(LocalDate.of(2024, 1, 1).plusDays(index)));
+    }
+    transactionIds =
+        transactionRepository.saveAll(transactions).stream().map(Transaction::getId).toList();
+  }
+
+  @Test
+  @StatementBudget(4)
+  void listViews_countsAllViewsTogether() throws Exception {
+    for (var index = 0; index < VIEW_COUNT; index++) {
+      var viewId = createView("View " + index);
+      savedViewService.bulkPinTransactions(viewId, USER_ID, transactionIds.subList(0, 5));
+    }
+
+    mockMvc
+        .perform(get("/v1/views").with(user("views:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(VIEW_COUNT));
+  }
+
+  @Test
+  @StatementBudget(4)
+  void getViewTransactions_resolvesPinsInOneQuery() throws Exception {
+    var viewId = createView("Pinned");
+    savedViewService.bulkPinTransactions(viewId, USER_ID, transactionIds);
+
+    mockMvc
+        .perform(get("/v1/views/{id}/transactions", viewId).with(user("views:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.matched.length()").value(TRANSACTION_COUNT));
+  }
+
+  @Test
+  @StatementBudget(6)
+  void bulkPinTransactions_validatesAndWritesIdsInBulk() throws Exception {
+    var viewId = createView("Bulk pin");
+
+    mockMvc
+        .perform(
+            post("/v1/views/{id}/pin", viewId)
+                .with(user("views:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(idsJson(transactionIds)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(TRANSACTION_COUNT));
+  }
+
+  @Test
+  @StatementBudget(6)
+  void bulkExcludeTransactions_validatesAndWritesIdsInBulk() throws Exception {
+    var viewId = createView("Bulk exclude");
+
+    mockMvc
+        .perform(
+            post("/v1/views/{id}/exclude", viewId)
+                .with(user("views:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(idsJson(transactionIds)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.updatedCount").value(TRANSACTION_COUNT));
+  }
+
+  private UUID createView(String name) {
+    var criteria =
+        new ViewCriteria(
+            LocalDate.of(2024, 1, 1),
+            LocalDate.of(2024, 12, 31),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    return savedViewService
+        .createView(USER_ID, new SavedViewCommand(name, criteria, false))
+        .getId();
+  }
+
+  private static RequestPostProcessor user(String permission) {
+    return ClaimsHeaderTestBuilder.user(USER_ID).withPermissions(permission);
+  }
+
+  private static String idsJson(List<Long> ids) {
+    return ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+  }
+
+  private static Transaction createTransaction(LocalDate date) {
+    var transaction = new Transaction();
+    transaction.setAccountId("checking-12345");
+    transaction.setBankName("Capital One");
+    transaction.setDate(date);
+    transaction.setCurrencyIsoCode("USD");
+    transaction.setAmount(BigDecimal.TEN);
+    transaction.setType(TransactionType.DEBIT);
+    transaction.setDescription("Budget transaction " + date);
+    transaction.setOwnerId(USER_ID);
+    return transaction;
+  }
+}
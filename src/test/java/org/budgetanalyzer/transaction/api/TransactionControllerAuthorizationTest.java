@@ -2,12 +2,14 @@ package org.budgetanalyzer.transaction.api;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -30,6 +32,8 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -80,8 +84,14 @@ class TransactionControllerAuthorizationTest {
 
     when(transactionService.countNotDeletedForUser(any(), anyString())).thenReturn(0L);
 
+    when(transactionService.searchForUser(any(), anyString(), any(Pageable.class)))
+        .thenReturn(Page.empty());
+
     when(transactionService.search(any(), any(Pageable.class))).thenReturn(Page.empty());
 
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
     when(transactionService.countNotDeleted(any())).thenReturn(0L);
 
     when(transactionImportService.previewFile(
@@ -124,6 +134,34 @@ class TransactionControllerAuthorizationTest {
         .andExpect(status().isForbidden());
   }
 
+  @Test
+  void storedPreviewEndpoint_withReadPermission_returns200() throws Exception {
+    when(transactionImportService.getStoredPreviewPage(
+            anyString(), anyString(), any(Pageable.class)))
+        .thenReturn(Page.empty());
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/preview")
+                .header("X-Preview-Import-Token", "preview-token")
+                .with(
+                    ClaimsHeaderTestBuilder.user("usr_test123")
+                        .withPermissions("transactions:read")))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void storedPreviewEndpoint_withoutReadPermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/preview")
+                .header("X-Preview-Import-Token", "preview-token")
+                .with(
+                    ClaimsHeaderTestBuilder.user("usr_test123")
+                        .withPermissions("transactions:write")))
+        .andExpect(status().isForbidden());
+  }
+
   // ==================== Write permission ====================
 
   @Test
@@ -250,6 +288,25 @@ class TransactionControllerAuthorizationTest {
         .andExpect(status().isForbidden());
   }
 
+  @Test
+  void streamedBatchImport_withoutWritePermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("usr_test123")
+                        .withPermissions("transactions:read"))
+                .header("X-Preview-Import-Token", "preview-token")
+                .contentType("application/x-ndjson")
+                .content(
+                    """
+                    {"date": "2024-01-15", "description": "Coffee", "amount": 4.50}
+                    """))
+        .andExpect(status().isForbidden());
+
+    verify(transactionService, never()).batchImportStream(any(), anyString(), any());
+  }
+
   // ==================== Admin with full permissions ====================
 
   @Test
@@ -312,6 +369,48 @@ class TransactionControllerAuthorizationTest {
         .andExpect(status().isForbidden());
   }
 
+  // ============= GET /v1/transactions/page and /stream authorization =============
+
+  @Test
+  void pageEndpoint_withReadPermission_returns200() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/page")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isOk());
+
+    verify(transactionService).searchForUser(any(), eq(USER_ID), any(Pageable.class));
+  }
+
+  @Test
+  void pageEndpoint_withoutReadPermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/page")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("accounts:read")))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void streamEndpoint_withReadPermission_returns200() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/stream")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void streamEndpoint_withoutReadPermission_returns403() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/stream")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("accounts:read")))
+        .andExpect(status().isForbidden());
+
+    verify(transactionService, never()).streamTransactions(any(), anyString(), any());
+  }
+
   // ==================== GET /v1/transactions/{id} ownership ====================
 
   @Test
@@ -468,6 +567,34 @@ class TransactionControllerAuthorizationTest {
         .andExpect(status().isOk());
   }
 
+  // ============== GET /v1/transactions/search/cursor authorization matrix ==============
+
+  @Test
+  void searchCursor_noAuthentication_returns401() throws Exception {
+    mockMvc.perform(get("/v1/transactions/search/cursor")).andExpect(status().isUnauthorized());
+  }
+
+  @Test
+  void searchCursor_withReadOnly_returns403() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read")))
+        .andExpect(status().isForbidden());
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchCursor_withReadAnyOnly_returns200() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:read:any")))
+        .andExpect(status().isOk());
+  }
+
   // ============== GET /v1/transactions/search/count authorization matrix ==============
 
   @Test
@@ -605,6 +732,40 @@ class TransactionControllerAuthorizationTest {
         .andExpect(jsonPath("$.notFoundIds").isEmpty());
   }
 
+  // ======== POST /v1/transactions/bulk-delete/by-filter :any relaxes ownership ========
+
+  @Test
+  void bulkDeleteByFilter_withDeleteOnly_ownerFilterAlone_returns400() throws Exception {
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete/by-filter")
+                .with(ClaimsHeaderTestBuilder.user(USER_ID).withPermissions("transactions:delete"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ownerId\": \"usr_other\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(transactionService, never())
+        .bulkDeleteTransactionsMatching(any(), anyString(), anyBoolean());
+  }
+
+  @Test
+  void bulkDeleteByFilter_withDeleteAndDeleteAny_ownerFilterAlone_deletesAcrossOwners()
+      throws Exception {
+    when(transactionService.bulkDeleteTransactionsMatching(any(), eq(USER_ID), eq(true)))
+        .thenReturn(5);
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete/by-filter")
+                .with(
+                    ClaimsHeaderTestBuilder.user(USER_ID)
+                        .withPermissions("transactions:delete", "transactions:delete:any"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ownerId\": \"usr_other\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deletedCount").value(5));
+  }
+
   // ==================== Test helpers ====================
 
   private Transaction createTestTransaction(Long id, String description, BigDecimal amount) {
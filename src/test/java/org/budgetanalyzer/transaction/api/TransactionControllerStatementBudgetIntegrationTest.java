@@ -0,0 +1,150 @@
+package org.budgetanalyzer.transaction.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.service.security.test.ClaimsHeaderTestBuilder;
+import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.config.StatementBudget;
+import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.TransactionRepository;
+
+/**
+ * Statement budgets for transaction endpoints.
+ *
+ * <p>Each request works on enough transactions that a per-row query would exceed its budget. The
+ * debug header is enabled so the per-request counts can also be checked on responses.
+ */
+@SpringBootTest(properties = "budgetanalyzer.transaction.jdbc-statistics.debug-header=true")
+@AutoConfigureMockMvc
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestClaimsSecurityConfig.class)
+class TransactionControllerStatementBudgetIntegrationTest {
+
+  private static final String USER_ID = "usr_budget";
+  private static final int TRANSACTION_COUNT = 50;
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  private List<Long> transactionIds;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+  }
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAllInBatch();
+
+    var transactions = new ArrayList<Transaction>(TRANSACTION_COUNT);
+    for (var index = 0; index < TRANSACTION_COUNT; index++) {
+      transactions.add(createTransaction(LocalDate.of(2024, 1, 1).plusDays(index)));
+    }
+    transactionIds =
+        transactionRepository.saveAll(transactions).stream().map(Transaction::getId).toList();
+  }
+
+  @Test
+  @StatementBudget(1)
+  void getTransactions_readsAllRowsInOneQuery() throws Exception {
+    mockMvc
+        .perform(get("/v1/transactions").with(user("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(TRANSACTION_COUNT))
+        .andExpect(header().string("X-Jdbc-Statements", "1"))
+        .andExpect(header().string("X-Jdbc-Rows", String.valueOf(TRANSACTION_COUNT)));
+  }
+
+  @Test
+  @StatementBudget(2)
+  void getTransactionPage_readsPageAndTotal() throws Exception {
+    mockMvc
+        .perform(get("/v1/transactions/page").param("size", "20").with(user("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(20))
+        .andExpect(jsonPath("$.metadata.totalElements").value(TRANSACTION_COUNT));
+  }
+
+  @Test
+  @StatementBudget(1)
+  void countTransactions_countsInOneQuery() throws Exception {
+    mockMvc
+        .perform(get("/v1/transactions/count").with(user("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$").value(TRANSACTION_COUNT));
+  }
+
+  @Test
+  @StatementBudget(2)
+  void bulkDeleteTransactions_deletesIdsInOneStatement() throws Exception {
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete")
+                .with(user("transactions:delete"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(idsJson(transactionIds)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deletedCount").value(TRANSACTION_COUNT));
+  }
+
+  private static RequestPostProcessor user(String permission) {
+    return ClaimsHeaderTestBuilder.user(USER_ID).withPermissions(permission);
+  }
+
+  private static String idsJson(List<Long> ids) {
+    return ids.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+  }
+
+  private static Transaction createTransaction(LocalDate date) {
+    var transaction = new Transaction();
+    transaction.setAccountId("checking-12345");
+    transaction.setBankName("Capital One");
+    transaction.setDate(date);
+    transaction.setCurrencyIsoCode("USD");
+    transaction.setAmount(BigDecimal.TEN);
+    transaction.setType(TransactionType.DEBIT);
+    transaction.setDescription("Budget transaction " + date);
+    transaction.setOwnerId(USER_ID);
+    return transaction;
+  }
+}
@@ -3,6 +3,7 @@ package org.budgetanalyzer.transaction.api;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -12,34 +13,46 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.budgetanalyzer.service.exception.BusinessException;
 import org.budgetanalyzer.service.exception.ResourceNotFoundException;
 import org.budgetanalyzer.service.security.ClaimsHeaderSecurityConfig;
@@ -53,11 +66,13 @@ import org.budgetanalyzer.transaction.service.PreviewImportTokenService;
 import org.budgetanalyzer.transaction.service.TransactionImportService;
 import org.budgetanalyzer.transaction.service.TransactionService;
 import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportRow;
 import org.budgetanalyzer.transaction.service.dto.PreviewDuplicateReason;
 import org.budgetanalyzer.transaction.service.dto.PreviewFileImportStatus;
 import org.budgetanalyzer.transaction.service.dto.PreviewFileWarningCode;
 import org.budgetanalyzer.transaction.service.dto.PreviewImportToken;
 import org.budgetanalyzer.transaction.service.dto.PreviewResult;
+import org.budgetanalyzer.transaction.service.dto.PreviewRowOverride;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
 import org.budgetanalyzer.transaction.service.dto.PreviousFileImport;
 
@@ -72,6 +87,8 @@ class TransactionControllerTest {
 
   @Autowired private MockMvc mockMvc;
 
+  @Autowired private ObjectMapper objectMapper;
+
   @MockitoBean private TransactionService transactionService;
 
   @MockitoBean private TransactionImportService transactionImportService;
@@ -154,6 +171,108 @@ class TransactionControllerTest {
     verify(transactionService, times(1)).getTransactions(anyString());
   }
 
+  // ==================== GET /v1/transactions/page ====================
+
+  @Test
+  void getTransactionPage_scopesToCurrentUserWithDefaultSort() throws Exception {
+    var transaction = createTransaction(1L, "Grocery", BigDecimal.valueOf(50.00));
+    when(transactionService.searchForUser(any(), eq("test-user"), any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(transaction), Pageable.ofSize(50), 1));
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/page")
+                .param("description", "Grocery")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(1))
+        .andExpect(jsonPath("$.content[0].id").value(1))
+        .andExpect(jsonPath("$.metadata.totalElements").value(1));
+
+    var filterCaptor = ArgumentCaptor.forClass(TransactionFilter.class);
+    var pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+    verify(transactionService)
+        .searchForUser(filterCaptor.capture(), eq("test-user"), pageableCaptor.capture());
+    assertThat(filterCaptor.getValue().description()).isEqualTo("Grocery");
+    assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(50);
+    assertThat(pageableCaptor.getValue().getSort())
+        .isEqualTo(Sort.by(Sort.Direction.DESC, "date", "id"));
+  }
+
+  @Test
+  void getTransactionPage_unsupportedSortField_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/page")
+                .param("sort", "deletedAt,asc")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:read")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"));
+
+    verify(transactionService, never()).searchForUser(any(), anyString(), any(Pageable.class));
+  }
+
+  // ==================== GET /v1/transactions/stream ====================
+
+  @Test
+  void streamTransactions_writesJsonArrayOfCurrentUserTransactions() throws Exception {
+    when(transactionService.streamTransactions(any(), eq("test-user"), any()))
+        .thenAnswer(
+            invocation -> {
+              Consumer<Transaction> consumer = invocation.getArgument(2);
+              consumer.accept(createTransaction(2L, "Gas", BigDecimal.valueOf(35.00)));
+              consumer.accept(createTransaction(1L, "Grocery", BigDecimal.valueOf(50.00)));
+              return 2L;
+            });
+
+    var asyncResult =
+        mockMvc
+            .perform(
+                get("/v1/transactions/stream")
+                    .param("description", "G")
+                    .with(
+                        ClaimsHeaderTestBuilder.user("test-user")
+                            .withPermissions("transactions:read")))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(jsonPath("$[0].id").value(2))
+        .andExpect(jsonPath("$[0].description").value("Gas"))
+        .andExpect(jsonPath("$[1].id").value(1))
+        .andExpect(jsonPath("$[1].description").value("Grocery"));
+
+    var filterCaptor = ArgumentCaptor.forClass(TransactionFilter.class);
+    verify(transactionService).streamTransactions(filterCaptor.capture(), eq("test-user"), any());
+    assertThat(filterCaptor.getValue().description()).isEqualTo("G");
+  }
+
+  @Test
+  void streamTransactions_noTransactions_writesEmptyArray() throws Exception {
+    when(transactionService.streamTransactions(any(), anyString(), any())).thenReturn(0L);
+
+    var asyncResult =
+        mockMvc
+            .perform(
+                get("/v1/transactions/stream")
+                    .with(
+                        ClaimsHeaderTestBuilder.user("test-user")
+                            .withPermissions("transactions:read")))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    mockMvc
+        .perform(asyncDispatch(asyncResult))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$").isArray())
+        .andExpect(jsonPath("$").isEmpty());
+  }
+
   // ==================== PATCH /v1/transactions/{id} ====================
 
   @Test
@@ -351,6 +470,88 @@ class TransactionControllerTest {
         .andExpect(jsonPath("$.type").value("VALIDATION_ERROR"));
   }
 
+  // ==================== POST /v1/transactions/bulk-delete/by-filter ====================
+
+  @Test
+  void bulkDeleteTransactionsByFilter_returns200WithDeletedCount() throws Exception {
+    // Given: 42 transactions match the filter
+    when(transactionService.bulkDeleteTransactionsMatching(
+            any(TransactionFilter.class), anyString(), anyBoolean()))
+        .thenReturn(42);
+
+    var requestBody =
+        """
+        {
+          "bankName": "Capital One",
+          "createdAfter": "2025-10-14T00:00:00Z"
+        }
+        """;
+
+    // When/Then: POST returns 200 with deleted count
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete/by-filter")
+                .with(
+                    ClaimsHeaderTestBuilder.user("auth0|test-user-123")
+                        .withPermissions("transactions:delete"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deletedCount").value(42))
+        .andExpect(jsonPath("$.notFoundIds").isEmpty());
+
+    var filterCaptor = ArgumentCaptor.forClass(TransactionFilter.class);
+    verify(transactionService)
+        .bulkDeleteTransactionsMatching(
+            filterCaptor.capture(), eq("auth0|test-user-123"), eq(false));
+    assertThat(filterCaptor.getValue().bankName()).isEqualTo("Capital One");
+    assertThat(filterCaptor.getValue().createdAfter())
+        .isEqualTo(Instant.parse("2025-10-14T00:00:00Z"));
+  }
+
+  @Test
+  void bulkDeleteTransactionsByFilter_fileImportIdOnly_deletesImport() throws Exception {
+    // Given: 17 transactions came from the import
+    when(transactionService.bulkDeleteTransactionsMatching(
+            any(TransactionFilter.class), anyString(), anyBoolean()))
+        .thenReturn(17);
+
+    // When/Then: the file import ID alone is a sufficient criterion
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete/by-filter")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user")
+                        .withPermissions("transactions:delete"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fileImportId\": 12}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.deletedCount").value(17));
+
+    var filterCaptor = ArgumentCaptor.forClass(TransactionFilter.class);
+    verify(transactionService)
+        .bulkDeleteTransactionsMatching(filterCaptor.capture(), eq("test-user"), eq(false));
+    assertThat(filterCaptor.getValue().fileImportId()).isEqualTo(12L);
+  }
+
+  @Test
+  void bulkDeleteTransactionsByFilter_emptyFilter_returns400() throws Exception {
+    // When/Then: POST without criteria returns 400 and deletes nothing
+    mockMvc
+        .perform(
+            post("/v1/transactions/bulk-delete/by-filter")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user")
+                        .withPermissions("transactions:delete"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"));
+
+    verify(transactionService, never())
+        .bulkDeleteTransactionsMatching(any(TransactionFilter.class), anyString(), anyBoolean());
+  }
+
   // ==================== POST /v1/transactions/preview ====================
 
   @Test
@@ -531,6 +732,95 @@ class TransactionControllerTest {
         .andExpect(jsonPath("$.fileImport.previousImport.transactionCount").value(42));
   }
 
+  @Test
+  void previewTransactions_includeTransactionsFalse_omitsRows() throws Exception {
+    var previewTransaction =
+        createPreviewTransaction(
+            LocalDate.of(2024, 1, 15), "Coffee Shop", BigDecimal.valueOf(4.50));
+    when(transactionImportService.previewFile(
+            eq(1L), isNull(), any(MultipartFile.class), eq("test-user")))
+        .thenReturn(previewResult("transactions.csv", 1L, List.of(previewTransaction)));
+
+    var csvFile =
+        new MockMultipartFile(
+            "file",
+            "transactions.csv",
+            "text/csv",
+            "Date,Description,Amount\n2024-01-15,Coffee Shop,4.50".getBytes());
+
+    mockMvc
+        .perform(
+            multipart("/v1/transactions/preview")
+                .file(csvFile)
+                .param("statementFormatId", "1")
+                .param("includeTransactions", "false")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.previewImportToken").value("preview-token"))
+        .andExpect(jsonPath("$.transactions.length()").value(0));
+  }
+
+  // ==================== GET /v1/transactions/preview ====================
+
+  @Test
+  void getStoredPreview_verifiesTokenAndReturnsPage() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    var rows =
+        List.of(
+            createPreviewTransaction(LocalDate.of(2024, 1, 15), "Coffee", BigDecimal.ONE),
+            createPreviewTransaction(LocalDate.of(2024, 1, 16), "Lunch", BigDecimal.TEN));
+    when(transactionImportService.getStoredPreviewPage(
+            eq("preview-token"), eq("test-user"), any(Pageable.class)))
+        .thenAnswer(
+            invocation -> {
+              Pageable pageable = invocation.getArgument(2);
+              return new PageImpl<>(rows.subList(1, 2), pageable, 3);
+            });
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/preview")
+                .header("X-Preview-Import-Token", "preview-token")
+                .param("page", "1")
+                .param("size", "1")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:read")))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(1))
+        .andExpect(jsonPath("$.content[0].description").value("Lunch"))
+        .andExpect(jsonPath("$.metadata.page").value(1))
+        .andExpect(jsonPath("$.metadata.totalElements").value(3));
+
+    ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+    verify(transactionImportService)
+        .getStoredPreviewPage(eq("preview-token"), eq("test-user"), pageableCaptor.capture());
+    assertThat(pageableCaptor.getValue().getPageNumber()).isEqualTo(1);
+    assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(1);
+  }
+
+  @Test
+  void getStoredPreview_previewNoLongerStored_returns422() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    when(transactionImportService.getStoredPreviewPage(
+            eq("preview-token"), eq("test-user"), any(Pageable.class)))
+        .thenThrow(
+            new BusinessException(
+                "The preview rows are no longer stored.",
+                BudgetAnalyzerError.PREVIEW_RESULT_NOT_FOUND.name()));
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/preview")
+                .header("X-Preview-Import-Token", "preview-token")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:read")))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("PREVIEW_RESULT_NOT_FOUND"));
+  }
+
   // ==================== POST /v1/transactions/batch ====================
 
   @Test
@@ -583,7 +873,9 @@ class TransactionControllerTest {
         .andExpect(jsonPath("$.created").value(2))
         .andExpect(jsonPath("$.duplicatesSkipped").value(0))
         .andExpect(jsonPath("$.duplicatesImported").value(0))
-        .andExpect(jsonPath("$.transactions.length()").value(2));
+        .andExpect(jsonPath("$.transactions.length()").value(2))
+        .andExpect(jsonPath("$.transactionIds[0]").value(1))
+        .andExpect(jsonPath("$.transactionIds[1]").value(2));
 
     verify(transactionService, times(1))
         .batchImport(anyList(), anyString(), any(BatchFileImportSource.class));
@@ -871,6 +1163,240 @@ class TransactionControllerTest {
         .andExpect(jsonPath("$.type").value("VALIDATION_ERROR"));
   }
 
+  @Test
+  void batchImport_storedPreview_importsStoredRowsWithOverrides() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    var storedRows =
+        List.of(createPreviewTransaction(LocalDate.of(2025, 11, 18), "COFFEE", BigDecimal.ONE));
+    when(transactionImportService.getStoredPreviewTransactions(
+            eq("preview-token"), eq("test-user"), anyList()))
+        .thenReturn(storedRows);
+    when(transactionService.batchImport(
+            eq(storedRows), eq("test-user"), any(BatchFileImportSource.class)))
+        .thenReturn(new TransactionService.BatchImportResult(List.of(), 1, 0));
+
+    var requestBody =
+        """
+        {
+          "previewImportToken": "preview-token",
+          "rowOverrides": [
+            { "index": 0, "allowDuplicate": true },
+            { "index": 3, "skip": true, "description": "Lunch" }
+          ]
+        }
+        """;
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.duplicatesSkipped").value(1));
+
+    ArgumentCaptor<List<PreviewRowOverride>> overridesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(transactionImportService)
+        .getStoredPreviewTransactions(
+            eq("preview-token"), eq("test-user"), overridesCaptor.capture());
+    assertThat(overridesCaptor.getValue())
+        .containsExactly(
+            new PreviewRowOverride(0, false, true, null, null, null),
+            new PreviewRowOverride(3, true, null, "Lunch", null, null));
+  }
+
+  @Test
+  void batchImport_rowOverridesWithTransactions_returns400BeforeService() throws Exception {
+    var requestBody =
+        """
+        {
+          "previewImportToken": "preview-token",
+          "transactions": [
+            {
+              "date": "2025-11-18",
+              "description": "COFFEE SHOP",
+              "amount": 9.97,
+              "type": "DEBIT",
+              "bankName": "Capital One",
+              "currencyIsoCode": "USD"
+            }
+          ],
+          "rowOverrides": [{ "index": 0, "skip": true }]
+        }
+        """;
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+        .andExpect(status().isBadRequest());
+
+    verify(previewImportTokenService, never()).verifyToken(any(), anyString());
+    verify(transactionService, never())
+        .batchImport(anyList(), anyString(), any(BatchFileImportSource.class));
+  }
+
+  @Test
+  void batchImport_negativeOverrideIndex_returns400() throws Exception {
+    var requestBody =
+        """
+        {
+          "previewImportToken": "preview-token",
+          "rowOverrides": [{ "index": -1, "skip": true }]
+        }
+        """;
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors[0].field").value("rowOverrides[0].index"));
+  }
+
+  // ==================== POST /v1/transactions/batch (NDJSON) ====================
+
+  @Test
+  void batchImportStream_validRows_streamsRowsToServiceAndReturnsIds() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    var streamedRows = new ArrayList<BatchImportRow>();
+    when(transactionService.batchImportStream(
+            any(), eq("test-user"), any(BatchFileImportSource.class)))
+        .thenAnswer(
+            invocation -> {
+              Iterator<BatchImportRow> rows = invocation.getArgument(0);
+              rows.forEachRemaining(streamedRows::add);
+              return new TransactionService.BatchImportResult(List.of(), List.of(11L, 12L), 1, 0);
+            });
+
+    var credit = new LinkedHashMap<>(ndjsonRow("2024-01-16", "Transaction 2", "20.00"));
+    credit.put("type", "CREDIT");
+    credit.put("allowDuplicate", true);
+    var requestBody =
+        toNdjson(ndjsonRow("2024-01-15", "Transaction 1", "10.00"), credit)
+            + "\n"
+            + toNdjson(ndjsonRow("2024-01-17", "Transaction 3", "30.00"));
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .header("X-Preview-Import-Token", "preview-token")
+                .contentType("application/x-ndjson")
+                .content(requestBody))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(2))
+        .andExpect(jsonPath("$.duplicatesSkipped").value(1))
+        .andExpect(jsonPath("$.transactions.length()").value(0))
+        .andExpect(jsonPath("$.transactionIds[0]").value(11))
+        .andExpect(jsonPath("$.transactionIds[1]").value(12));
+
+    assertThat(streamedRows).hasSize(3).allMatch(BatchImportRow::isValid);
+    assertThat(streamedRows).extracting(BatchImportRow::index).containsExactly(0, 1, 2);
+    assertThat(streamedRows.get(1).transaction().type()).isEqualTo(TransactionType.CREDIT);
+    assertThat(streamedRows.get(1).transaction().allowDuplicate()).isTrue();
+    assertThat(streamedRows.get(2).transaction().amount()).isEqualByComparingTo("30.00");
+  }
+
+  @Test
+  void batchImportStream_invalidRow_passesFieldErrorsWithRowIndex() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    var streamedRows = new ArrayList<BatchImportRow>();
+    when(transactionService.batchImportStream(
+            any(), anyString(), any(BatchFileImportSource.class)))
+        .thenAnswer(
+            invocation -> {
+              Iterator<BatchImportRow> rows = invocation.getArgument(0);
+              rows.forEachRemaining(streamedRows::add);
+              return new TransactionService.BatchImportResult(List.of(), List.of(11L), 0, 0);
+            });
+
+    var missingDateAndAmount = new LinkedHashMap<>(ndjsonRow("2024-01-16", "Transaction 2", "1"));
+    missingDateAndAmount.remove("date");
+    missingDateAndAmount.remove("amount");
+    var requestBody =
+        toNdjson(ndjsonRow("2024-01-15", "Transaction 1", "10.00"), missingDateAndAmount);
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .header("X-Preview-Import-Token", "preview-token")
+                .contentType("application/x-ndjson")
+                .content(requestBody))
+        .andExpect(status().isOk());
+
+    assertThat(streamedRows.get(0).isValid()).isTrue();
+    var invalidRow = streamedRows.get(1);
+    assertThat(invalidRow.isValid()).isFalse();
+    assertThat(invalidRow.transaction()).isNull();
+    assertThat(invalidRow.fieldErrors()).hasSize(2);
+  }
+
+  @Test
+  void batchImportStream_malformedRow_returns400() throws Exception {
+    when(previewImportTokenService.verifyToken("preview-token", "test-user"))
+        .thenReturn(previewImportToken());
+    when(transactionService.batchImportStream(
+            any(), anyString(), any(BatchFileImportSource.class)))
+        .thenAnswer(
+            invocation -> {
+              Iterator<BatchImportRow> rows = invocation.getArgument(0);
+              rows.forEachRemaining(row -> {});
+              return new TransactionService.BatchImportResult(List.of(), List.of(), 0, 0);
+            });
+
+    var requestBody =
+        toNdjson(ndjsonRow("2024-01-15", "Transaction 1", "10.00"))
+            + "{\"date\":\"2024-01-16\",\"description\":\n";
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .header("X-Preview-Import-Token", "preview-token")
+                .contentType("application/x-ndjson")
+                .content(requestBody))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"));
+  }
+
+  @Test
+  void batchImportStream_invalidPreviewImportToken_returns422BeforeService() throws Exception {
+    when(previewImportTokenService.verifyToken("bad-token", "test-user"))
+        .thenThrow(
+            new BusinessException(
+                "Preview import token format is invalid.",
+                BudgetAnalyzerError.PREVIEW_IMPORT_TOKEN_INVALID.name()));
+
+    mockMvc
+        .perform(
+            post("/v1/transactions/batch")
+                .with(
+                    ClaimsHeaderTestBuilder.user("test-user").withPermissions("transactions:write"))
+                .header("X-Preview-Import-Token", "bad-token")
+                .contentType("application/x-ndjson")
+                .content("{}\n"))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("PREVIEW_IMPORT_TOKEN_INVALID"));
+
+    verify(transactionService, never())
+        .batchImportStream(any(), anyString(), any(BatchFileImportSource.class));
+  }
+
   // ==================== GET /v1/transactions/count ====================
 
   @Test
@@ -1135,6 +1661,211 @@ class TransactionControllerTest {
         .andExpect(jsonPath("$.metadata.last").value(true));
   }
 
+  // ==================== GET /v1/transactions/search/cursor ====================
+
+  @Test
+  void searchTransactionsByCursor_noParams_usesDefaultSortAndInitialPosition() throws Exception {
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+    mockMvc
+        .perform(get("/v1/transactions/search/cursor").with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").isEmpty())
+        .andExpect(jsonPath("$.size").value(50))
+        .andExpect(jsonPath("$.hasNext").value(false))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist())
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+    var sortCaptor = ArgumentCaptor.forClass(Sort.class);
+    var positionCaptor = ArgumentCaptor.forClass(KeysetScrollPosition.class);
+    verify(transactionService)
+        .searchWindow(any(), sortCaptor.capture(), positionCaptor.capture(), eq(50));
+    assertThat(sortCaptor.getValue())
+        .isEqualTo(Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id")));
+    assertThat(positionCaptor.getValue().isInitial()).isTrue();
+    verify(transactionService, never()).countNotDeleted(any());
+  }
+
+  @Test
+  void searchTransactionsByCursor_nextCursor_continuesAfterLastRow() throws Exception {
+    var transaction =
+        createTransactionWithOwner(7L, "usr_owner1", "Coffee Shop", BigDecimal.valueOf(4.50));
+    var firstWindow =
+        Window.from(
+            List.of(transaction),
+            index -> ScrollPosition.forward(Map.of("date", LocalDate.of(2025, 10, 14), "id", 7L)),
+            true);
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(firstWindow)
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+    var response =
+        mockMvc
+            .perform(
+                get("/v1/transactions/search/cursor")
+                    .param("size", "1")
+                    .with(ClaimsHeaderTestBuilder.admin()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(7))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andReturn();
+    var nextCursor =
+        objectMapper.readTree(response.getResponse().getContentAsString()).get("nextCursor");
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("size", "1")
+                .param("cursor", nextCursor.asText())
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isOk());
+
+    var positionCaptor = ArgumentCaptor.forClass(KeysetScrollPosition.class);
+    verify(transactionService, times(2))
+        .searchWindow(any(), any(), positionCaptor.capture(), eq(1));
+    var continuedPosition = positionCaptor.getAllValues().get(1);
+    assertThat(continuedPosition.isInitial()).isFalse();
+    assertThat(continuedPosition.getKeys())
+        .containsEntry("date", LocalDate.of(2025, 10, 14))
+        .containsEntry("id", 7L);
+  }
+
+  @Test
+  void searchTransactionsByCursor_sortWithoutId_appendsIdTiebreaker() throws Exception {
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("sort", "amount,asc")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isOk());
+
+    var sortCaptor = ArgumentCaptor.forClass(Sort.class);
+    verify(transactionService).searchWindow(any(), sortCaptor.capture(), any(), anyInt());
+    assertThat(sortCaptor.getValue())
+        .isEqualTo(Sort.by(Sort.Order.asc("amount"), Sort.Order.asc("id")));
+  }
+
+  @Test
+  void searchTransactionsByCursor_accountIdSort_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("sort", "accountId,asc")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"))
+        .andExpect(
+            jsonPath("$.message")
+                .value(
+                    org.hamcrest.Matchers.containsString(
+                        "Unsupported sort field for cursor search: accountId")));
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchTransactionsByCursor_ignoreCaseSort_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("sort", "description,asc,ignorecase")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"))
+        .andExpect(
+            jsonPath("$.message")
+                .value("Case-insensitive sort is not supported for cursor search: description"));
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchTransactionsByCursor_malformedCursor_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("cursor", "not-a-cursor")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"))
+        .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchTransactionsByCursor_cursorFromOtherSort_returnsBadRequest() throws Exception {
+    var keysetSort = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+    var cursor =
+        TransactionSearchCursor.encode(
+            keysetSort,
+            ScrollPosition.forward(Map.of("date", LocalDate.of(2025, 10, 14), "id", 7L)));
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("sort", "amount,desc")
+                .param("cursor", cursor)
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchTransactionsByCursor_sizeAboveLimit_isCapped() throws Exception {
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("size", "500")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size").value(100));
+
+    verify(transactionService).searchWindow(any(), any(), any(), eq(100));
+  }
+
+  @Test
+  void searchTransactionsByCursor_sizeBelowOne_returnsBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("size", "0")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.type").value("INVALID_REQUEST"));
+
+    verify(transactionService, never()).searchWindow(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void searchTransactionsByCursor_includeTotal_returnsTotalElements() throws Exception {
+    when(transactionService.searchWindow(any(), any(), any(), anyInt()))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+    when(transactionService.countNotDeleted(any())).thenReturn(1250L);
+
+    mockMvc
+        .perform(
+            get("/v1/transactions/search/cursor")
+                .param("ownerId", "usr_test123")
+                .param("includeTotal", "true")
+                .with(ClaimsHeaderTestBuilder.admin()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(1250));
+
+    var filterCaptor = ArgumentCaptor.forClass(TransactionFilter.class);
+    verify(transactionService).countNotDeleted(filterCaptor.capture());
+    assertThat(filterCaptor.getValue().ownerId()).isEqualTo("usr_test123");
+  }
+
   // ==================== GET /v1/transactions/search/count ====================
 
   @Test
@@ -1236,6 +1967,31 @@ class TransactionControllerTest {
         transactions);
   }
 
+  private Map<String, Object> ndjsonRow(String date, String description, String amount) {
+    return Map.of(
+        "date",
+        date,
+        "description",
+        description,
+        "amount",
+        new BigDecimal(amount),
+        "type",
+        "DEBIT",
+        "bankName",
+        "Test Bank",
+        "currencyIsoCode",
+        "USD");
+  }
+
+  @SafeVarargs
+  private String toNdjson(Map<String, Object>... rows) throws Exception {
+    var ndjson = new StringBuilder();
+    for (var row : rows) {
+      ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+    }
+    return ndjson.toString();
+  }
+
   private PreviewImportToken previewImportToken() {
     return new PreviewImportToken(
         "test-user",
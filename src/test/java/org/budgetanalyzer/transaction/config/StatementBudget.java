@@ -0,0 +1,29 @@
+package org.budgetanalyzer.transaction.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails a Spring MVC test when any HTTP request it performs executes more JDBC statements than
+ * allowed.
+ *
+ * <p>Reads the per-request counts published by {@link JdbcStatisticsFilter}, so the test needs a
+ * full application context with a real data source and MockMvc filters enabled. Budgets should be
+ * independent of the number of rows involved; a request that scales with its input is an N+1.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementBudgetExtension.class)
+public @interface StatementBudget {
+
+  /**
+   * Returns the maximum number of statements a single request may execute.
+   *
+   * @return the statement budget per request
+   */
+  int value();
+}
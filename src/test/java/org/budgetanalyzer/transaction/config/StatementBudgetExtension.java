@@ -0,0 +1,46 @@
+package org.budgetanalyzer.transaction.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Checks the JDBC statement counts recorded during a test against its {@link StatementBudget}. */
+class StatementBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    var meterRegistry = meterRegistry(context);
+    meterRegistry
+        .find(JdbcStatisticsFilter.STATEMENTS_METRIC)
+        .meters()
+        .forEach(meterRegistry::remove);
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    var budget =
+        AnnotationSupport.findAnnotation(context.getElement(), StatementBudget.class)
+            .orElseThrow();
+    var summaries =
+        meterRegistry(context).find(JdbcStatisticsFilter.STATEMENTS_METRIC).summaries();
+
+    assertThat(summaries).as("JDBC statistics recorded for the test's requests").isNotEmpty();
+    for (var summary : summaries) {
+      assertThat((long) summary.max())
+          .as(
+              "JDBC statements for %s %s",
+              summary.getId().getTag("method"), summary.getId().getTag("uri"))
+          .isLessThanOrEqualTo(budget.value());
+    }
+  }
+
+  private static MeterRegistry meterRegistry(ExtensionContext context) {
+    return SpringExtension.getApplicationContext(context).getBean(MeterRegistry.class);
+  }
+}
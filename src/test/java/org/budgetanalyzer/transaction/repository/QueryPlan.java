@@ -0,0 +1,108 @@
+package org.budgetanalyzer.transaction.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Executed PostgreSQL plan parsed from {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)} output.
+ *
+ * <p>Buffer counts are taken from the root node, which PostgreSQL reports inclusive of all child
+ * nodes, and cover execution only; planning buffers are ignored.
+ */
+record QueryPlan(String name, JsonNode root) {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  static QueryPlan parse(String name, String explainJson) {
+    try {
+      return new QueryPlan(name, OBJECT_MAPPER.readTree(explainJson).get(0).get("Plan"));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid EXPLAIN output for " + name, e);
+    }
+  }
+
+  /**
+   * Returns the relations read by sequential scans anywhere in the plan.
+   *
+   * @return the scanned relation names, in plan order
+   */
+  List<String> seqScannedRelations() {
+    var relations = new ArrayList<String>();
+    for (var node : nodes()) {
+      if ("Seq Scan".equals(node.path("Node Type").asText())) {
+        relations.add(node.path("Relation Name").asText());
+      }
+    }
+    return relations;
+  }
+
+  /**
+   * Returns the indexes used by index, index-only, and bitmap index scans.
+   *
+   * @return the index names, in plan order
+   */
+  Set<String> indexNames() {
+    var indexNames = new LinkedHashSet<String>();
+    for (var node : nodes()) {
+      if (node.has("Index Name")) {
+        indexNames.add(node.get("Index Name").asText());
+      }
+    }
+    return indexNames;
+  }
+
+  /**
+   * Returns whether an explicit sort node appears anywhere in the plan.
+   *
+   * @return {@code true} if rows are sorted after they are read
+   */
+  boolean sorts() {
+    return nodes().stream()
+        .map(node -> node.path("Node Type").asText())
+        .anyMatch(nodeType -> nodeType.equals("Sort") || nodeType.equals("Incremental Sort"));
+  }
+
+  /**
+   * Returns the shared buffers hit or read while executing the query.
+   *
+   * @return the number of 8 kB shared blocks touched
+   */
+  long sharedBlocks() {
+    return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+  }
+
+  /**
+   * Returns a one-line summary for assertion messages.
+   *
+   * @return the plan name, node types, indexes, and buffers
+   */
+  String summary() {
+    var nodeTypes = nodes().stream().map(node -> node.path("Node Type").asText()).toList();
+    return name
+        + ": nodes="
+        + nodeTypes
+        + " indexes="
+        + indexNames()
+        + " sharedBlocks="
+        + sharedBlocks();
+  }
+
+  private List<JsonNode> nodes() {
+    var nodes = new ArrayList<JsonNode>();
+    collect(root, nodes);
+    return nodes;
+  }
+
+  private static void collect(JsonNode node, List<JsonNode> nodes) {
+    nodes.add(node);
+    for (var child : node.path("Plans")) {
+      collect(child, nodes);
+    }
+  }
+}
@@ -0,0 +1,577 @@
+package org.budgetanalyzer.transaction.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.support.SqlArrayValue;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.ViewCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionViewMembershipOperations.ViewMembershipCriteria;
+import org.budgetanalyzer.transaction.repository.spec.TransactionSpecifications;
+import org.budgetanalyzer.transaction.service.dto.TransactionCriteria;
+
+/**
+ * Query-plan regression tests for the transaction and saved-view hot paths.
+ *
+ * <p>Seeds {@value #SEEDED_TRANSACTIONS} transactions across {@value #OWNERS} owners, then runs
+ * {@code EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON)} for the query behind each endpoint. A test fails
+ * when its plan contains a sequential scan or touches more shared buffers than its budget.
+ *
+ * <p>Native repository queries are read from their {@link Query} annotations. Criteria, derived,
+ * and JPQL queries are run through their repository methods while a {@link StatementInspector}
+ * captures the SQL Hibernate generates, so neither can drift from production. Criteria values are
+ * rendered inline, which gives the same plan PostgreSQL chooses for the bound values; only
+ * pagination and JPQL parameters remain placeholders and are bound by each test.
+ *
+ * <p>Tagged {@code query-plan}; runs with {@code ./gradlew queryPlanTest} in its own CI job rather
+ * than as part of {@code check}.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("query-plan")
+class TransactionQueryPlanIntegrationTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(TransactionQueryPlanIntegrationTest.class);
+
+  private static final int SEEDED_TRANSACTIONS = 1_000_000;
+  private static final int OWNERS = 1_000;
+  private static final int PINS_PER_VIEW = 20;
+  private static final String OWNER_ID = "usr_0042";
+
+  private static final int PAGE = 50;
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "date", "id");
+  private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) ";
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private DataSource dataSource;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @Autowired private SavedViewRepository savedViewRepository;
+
+  @Autowired private StatementCapture statementCapture;
+
+  private NamedParameterJdbcTemplate jdbc;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+  }
+
+  @TestConfiguration
+  static class StatementCaptureConfig {
+
+    @Bean
+    StatementCapture statementCapture() {
+      return new StatementCapture();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementCaptureCustomizer(StatementCapture statementCapture) {
+      return properties -> {
+        properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCapture);
+        properties.put(AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.INLINE);
+      };
+    }
+  }
+
+  /** Records the SQL of every statement Hibernate prepares. */
+  static class StatementCapture implements StatementInspector {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      statements.add(sql);
+      return sql;
+    }
+
+    void clear() {
+      statements.clear();
+    }
+
+    List<String> statements() {
+      return List.copyOf(statements);
+    }
+  }
+
+  @BeforeAll
+  void seedDatabase() {
+    jdbc = new NamedParameterJdbcTemplate(dataSource);
+    var seedStart = System.nanoTime();
+
+    jdbc.update(
+        """
+        INSERT INTO transaction (account_id, bank_name, date, currency_iso_code, amount, type,
+                                 description, normalized_description, description_fingerprint,
+                                 owner_id, created_at, created_by, deleted)
+        SELECT 'account-' || (n % 3),
+               (ARRAY['Capital One', 'Chase', 'Bangkok Bank', 'Ally'])[1 + n % 4],
+               DATE '2019-01-01' + (n % 2190),
+               'USD',
+               (n % 100000) / 100.0,
+               CASE WHEN n % 5 = 0 THEN 'CREDIT' ELSE 'DEBIT' END,
+               description,
+               replace(description, ' ', ''),
+               hashtextextended(n::text, 0),
+               owner_id,
+               now(),
+               owner_id,
+               n % 20 = 0
+        FROM generate_series(1, :rows) AS n
+        CROSS JOIN LATERAL (
+            SELECT 'usr_' || lpad((n % :owners)::text, 4, '0') AS owner_id,
+                   CASE
+                       WHEN n % 1009 = 0 THEN 'BLUE BOTTLE COFFEE #' || (n % 97)
+                       ELSE (ARRAY['GROCERY OUTLET', 'SHELL OIL', 'AMAZON MKTPLACE',
+                                   'UBER TRIP', 'RENT PAYMENT', 'NETFLIX.COM',
+                                   'WHOLE FOODS MARKET', 'TARGET', 'CVS PHARMACY',
+                                   'CITY UTILITIES'])[1 + n % 10] || ' #' || (n % 9973)
+                   END AS description
+        ) AS generated
+        """,
+        Map.of("rows", SEEDED_TRANSACTIONS, "owners", OWNERS));
+
+    jdbc.update(
+        """
+        INSERT INTO saved_view (id, user_id, name, criteria, open_ended, created_at, updated_at)
+        SELECT gen_random_uuid(),
+               'usr_' || lpad(owner::text, 4, '0'),
+               'View ' || view_number,
+               '{"dateFrom":"2024-01-01","dateTo":"2024-12-31"}',
+               false,
+               now(),
+               now()
+        FROM generate_series(0, :owners - 1) AS owner
+        CROSS JOIN generate_series(1, 3) AS view_number
+        """,
+        Map.of("owners", OWNERS));
+
+    jdbc.update(
+        """
+        INSERT INTO saved_view_member (view_id, transaction_id, membership_type)
+        SELECT saved.id, member.id, CASE WHEN member.id % 2 = 0 THEN 'PINNED' ELSE 'EXCLUDED' END
+        FROM saved_view AS saved
+        CROSS JOIN LATERAL (
+            SELECT id FROM transaction
+            WHERE owner_id = saved.user_id AND deleted = false
+            ORDER BY id
+            LIMIT :pins
+        ) AS member
+        """,
+        Map.of("pins", PINS_PER_VIEW));
+
+    // Autocommit connection: VACUUM cannot run inside a transaction. It also sets the visibility
+    // map so index-only scans are costed as they would be on a settled production table.
+    new JdbcTemplate(dataSource)
+        .execute("VACUUM ANALYZE transaction, saved_view, saved_view_member");
+    log.info(
+        "Seeded {} transactions across {} owners in {} ms",
+        SEEDED_TRANSACTIONS,
+        OWNERS,
+        (System.nanoTime() - seedStart) / 1_000_000);
+  }
+
+  // ==================== Owner-scoped transaction endpoints ====================
+
+  @Test
+  void listTransactions_ownerScan_usesOwnerIndex() {
+    // GET /v1/transactions
+    var sql = capturedQuery(() -> transactionRepository.findAllNotDeleted(ownerSpec(null)));
+
+    var plan = explainCaptured("list owner transactions", sql);
+
+    assertWithinBudget(plan, 1_500);
+    assertThat(plan.indexNames()).as(plan.summary()).contains("idx_transaction_owner_date_id");
+  }
+
+  @Test
+  void streamTransactions_readsInIndexOrderWithoutSort() {
+    // GET /v1/transactions/stream
+    var sql =
+        capturedQuery(
+            () -> {
+              try (var transactions =
+                  transactionRepository.streamNotDeleted(ownerSpec(null), NEWEST_FIRST, 500)) {
+                transactions.findFirst();
+              }
+            });
+
+    var plan = explainCaptured("stream owner transactions", sql);
+
+    assertWithinBudget(plan, 1_500);
+    assertThat(plan.sorts()).as(plan.summary()).isFalse();
+  }
+
+  @Test
+  void transactionPage_defaultSort_stopsAfterPage() {
+    // GET /v1/transactions/page and GET /v1/transactions/search?ownerId=...
+    var statements =
+        capturedStatements(
+            () -> transactionRepository.findAllNotDeleted(ownerSpec(null), secondPage()));
+
+    // Offset and limit are both a page size, so their placeholder order does not matter.
+    var pagePlan = explainCaptured("owner transaction page", pageQuery(statements), PAGE, PAGE);
+    var countPlan = explainCaptured("count owner transactions", countQuery(statements));
+
+    assertWithinBudget(pagePlan, 300);
+    assertThat(pagePlan.indexNames())
+        .as(pagePlan.summary())
+        .contains("idx_transaction_owner_date_id");
+    assertThat(pagePlan.sorts()).as(pagePlan.summary()).isFalse();
+    assertWithinBudget(countPlan, 1_500);
+  }
+
+  @Test
+  void countTransactions_ownerScoped() {
+    // GET /v1/transactions/count
+    var sql = capturedQuery(() -> transactionRepository.countNotDeleted(ownerSpec(null)));
+
+    var plan = explainCaptured("count owner transactions", sql);
+
+    assertWithinBudget(plan, 1_500);
+  }
+
+  @Test
+  void descriptionFilter_ownerScoped() {
+    // GET /v1/transactions/page?description=coffee and saved views with searchText
+    var statements =
+        capturedStatements(
+            () -> transactionRepository.findAllNotDeleted(ownerSpec("coffee"), secondPage()));
+
+    var plan = explainCaptured("owner description search", pageQuery(statements), PAGE, PAGE);
+
+    assertWithinBudget(plan, 2_000);
+  }
+
+  // ==================== Cross-user search ====================
+
+  @Test
+  void crossUserSearchPage_defaultSort_usesDateIndex() {
+    // GET /v1/transactions/search (the unfiltered total is a full count by design)
+    var statements =
+        capturedStatements(
+            () ->
+                transactionRepository.findAllNotDeleted(
+                    TransactionSpecifications.withCriteria(TransactionCriteria.empty()),
+                    secondPage()));
+
+    var plan = explainCaptured("cross-user search page", pageQuery(statements), PAGE, PAGE);
+
+    assertWithinBudget(plan, 300);
+    assertThat(plan.indexNames()).as(plan.summary()).contains("idx_transaction_date_id");
+  }
+
+  @Test
+  void crossUserSearchCursor_deepWindow_seeksToPosition() {
+    // GET /v1/transactions/search/cursor, a window in the middle of the result
+    var position =
+        ScrollPosition.forward(Map.of("date", LocalDate.of(2021, 6, 30), "id", 500_000L));
+    var sql =
+        capturedQuery(
+            () ->
+                transactionRepository.scrollNotDeleted(
+                    TransactionSpecifications.withCriteria(TransactionCriteria.empty()),
+                    NEWEST_FIRST,
+                    position,
+                    PAGE));
+
+    // The window reads one extra row to tell whether another window follows.
+    var plan = explainCaptured("cross-user keyset window", sql, PAGE + 1);
+
+    assertWithinBudget(plan, 300);
+    assertThat(plan.indexNames()).as(plan.summary()).contains("idx_transaction_date_id");
+  }
+
+  // ==================== ID-based operations ====================
+
+  @Test
+  void findActiveIdsOwnedBy_usesPrimaryKey() {
+    // POST /v1/views/{id}/pin and /exclude ownership check
+    var ids = ownerTransactionIds(100);
+    var plan =
+        explain(
+            "active owned IDs",
+            nativeSql(TransactionRepository.class, "findActiveIdsOwnedByIdArray"),
+            Map.of("ids", new SqlArrayValue("bigint", ids.toArray()), "ownerId", OWNER_ID));
+
+    assertWithinBudget(plan, 600);
+    assertThat(plan.indexNames()).as(plan.summary()).contains("transaction_pkey");
+  }
+
+  // ==================== Duplicate detection ====================
+
+  @Test
+  void findDuplicateCandidates_usesCandidateIndex() {
+    // POST /v1/transactions/preview and batch import
+    var rows =
+        jdbc.queryForList(
+            """
+            SELECT bank_name, date::text AS date, amount::text AS amount, type,
+                   currency_iso_code, description_fingerprint, normalized_description
+            FROM transaction
+            WHERE owner_id = :ownerId AND deleted = false
+            ORDER BY id
+            LIMIT 25
+            """,
+            Map.of("ownerId", OWNER_ID));
+    var params = new HashMap<String, Object>();
+    params.put("ownerId", OWNER_ID);
+    params.put("bankNames", textArray(rows, "bank_name"));
+    params.put("dates", textArray(rows, "date"));
+    params.put("amounts", textArray(rows, "amount"));
+    params.put("types", textArray(rows, "type"));
+    params.put("currencyIsoCodes", textArray(rows, "currency_iso_code"));
+
+    var candidatePlan =
+        explain(
+            "duplicate candidates",
+            nativeSql(TransactionRepository.class, "findDuplicateCandidatesByStructuredCriteria"),
+            params);
+
+    params.put(
+        "descriptionFingerprints",
+        new SqlArrayValue(
+            "bigint", rows.stream().map(row -> row.get("description_fingerprint")).toArray()));
+    params.put("normalizedDescriptions", textArray(rows, "normalized_description"));
+    var fingerprintPlan =
+        explain(
+            "exact duplicate fingerprints",
+            nativeSql(
+                TransactionRepository.class, "findExactDuplicateFingerprintsByStructuredCriteria"),
+            params);
+
+    assertWithinBudget(candidatePlan, 300);
+    assertThat(candidatePlan.indexNames())
+        .as(candidatePlan.summary())
+        .contains("idx_transaction_owner_duplicate_candidates");
+    assertWithinBudget(fingerprintPlan, 300);
+    assertThat(fingerprintPlan.indexNames())
+        .as(fingerprintPlan.summary())
+        .contains("idx_transaction_owner_description_fingerprint");
+  }
+
+  // ==================== Saved views ====================
+
+  @Test
+  void savedViewsForUser_usesUserIndex() {
+    // GET /v1/views
+    var sql = capturedQuery(() -> savedViewRepository.findByUserIdOrderByCreatedAtDesc(OWNER_ID));
+
+    var plan = explainCaptured("saved views for user", sql, OWNER_ID);
+
+    assertWithinBudget(plan, 50);
+  }
+
+  @Test
+  void savedViewMembers_usesMemberPrimaryKey() {
+    // Pins and exclusions loaded with every saved view
+    var viewIds =
+        jdbc.queryForList(
+            "SELECT id FROM saved_view WHERE user_id = :userId",
+            Map.of("userId", OWNER_ID),
+            UUID.class);
+    var sql = capturedQuery(() -> savedViewRepository.findMembers(viewIds));
+
+    var plan = explainCaptured("saved view members", sql, viewIds.toArray());
+
+    assertWithinBudget(plan, 100);
+    assertThat(plan.indexNames()).as(plan.summary()).contains("pk_saved_view_member");
+  }
+
+  @Test
+  void savedViewMembership_ownerScoped() {
+    // GET /v1/views/{id}/transactions membership resolution
+    var viewId = ownerViewId();
+    var sql =
+        capturedQuery(
+            () -> transactionRepository.findViewMembershipRows(viewSpec(), OWNER_ID, viewId));
+
+    var plan = explainCaptured("saved view membership rows", sql);
+
+    assertWithinBudget(plan, 1_500);
+  }
+
+  @Test
+  void savedViewCounts_singleOwnerScan() {
+    // GET /v1/views counts, one conditional sum per view
+    var criteria = new ViewMembershipCriteria(viewSpec(), ownerViewId());
+    var sql =
+        capturedQuery(() -> transactionRepository.countViewMembers(OWNER_ID, List.of(criteria)));
+
+    var plan = explainCaptured("saved view counts", sql);
+
+    assertWithinBudget(plan, 1_500);
+  }
+
+  // ==================== Helpers ====================
+
+  private QueryPlan explain(String name, String sql, Map<String, ?> params) {
+    return logged(name, jdbc.queryForObject(EXPLAIN + sql, params, String.class));
+  }
+
+  private QueryPlan explainCaptured(String name, String sql, Object... params) {
+    assertThat(sql.chars().filter(character -> character == '?').count())
+        .as("bind parameters of %s", sql)
+        .isEqualTo(params.length);
+    return logged(name, jdbc.getJdbcTemplate().queryForObject(EXPLAIN + sql, String.class, params));
+  }
+
+  private static QueryPlan logged(String name, String json) {
+    var plan = QueryPlan.parse(name, json);
+    log.info("{}", plan.summary());
+    return plan;
+  }
+
+  /** Runs a repository call and returns the SQL of the single query it executed. */
+  private String capturedQuery(Runnable repositoryCall) {
+    var statements = capturedStatements(repositoryCall);
+    assertThat(statements).hasSize(1);
+    return statements.getFirst();
+  }
+
+  private List<String> capturedStatements(Runnable repositoryCall) {
+    statementCapture.clear();
+    repositoryCall.run();
+    return statementCapture.statements();
+  }
+
+  private static String pageQuery(List<String> statements) {
+    return statements.stream()
+        .filter(sql -> !sql.startsWith("select count("))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static String countQuery(List<String> statements) {
+    return statements.stream()
+        .filter(sql -> sql.startsWith("select count("))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static void assertWithinBudget(QueryPlan plan, long maxSharedBlocks) {
+    assertThat(plan.seqScannedRelations()).as(plan.summary()).isEmpty();
+    assertThat(plan.sharedBlocks()).as(plan.summary()).isLessThanOrEqualTo(maxSharedBlocks);
+  }
+
+  private static String nativeSql(Class<?> repository, String methodName) {
+    return Arrays.stream(repository.getMethods())
+        .filter(method -> method.getName().equals(methodName))
+        .map(method -> method.getAnnotation(Query.class))
+        .filter(query -> query != null && query.nativeQuery())
+        .map(Query::value)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("No native query: " + methodName));
+  }
+
+  private List<Long> ownerTransactionIds(int count) {
+    return jdbc.queryForList(
+        """
+        SELECT id FROM transaction
+        WHERE owner_id = :ownerId AND deleted = false
+        ORDER BY id DESC
+        LIMIT :count
+        """,
+        Map.of("ownerId", OWNER_ID, "count", count),
+        Long.class);
+  }
+
+  private UUID ownerViewId() {
+    return jdbc.queryForObject(
+        "SELECT id FROM saved_view WHERE user_id = :userId ORDER BY name LIMIT 1",
+        Map.of("userId", OWNER_ID),
+        UUID.class);
+  }
+
+  private static Specification<Transaction> ownerSpec(String description) {
+    var criteria =
+        new TransactionCriteria(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            description,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    return TransactionSpecifications.withCriteria(criteria)
+        .and(TransactionSpecifications.byOwner(OWNER_ID));
+  }
+
+  private static Specification<Transaction> viewSpec() {
+    var viewCriteria =
+        new ViewCriteria(
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, null, null, null, null,
+            null, null);
+    return TransactionSpecifications.withCriteria(
+        TransactionCriteria.fromViewCriteria(viewCriteria, OWNER_ID, false));
+  }
+
+  private static PageRequest secondPage() {
+    return PageRequest.of(1, PAGE, NEWEST_FIRST);
+  }
+
+  private static SqlArrayValue textArray(List<Map<String, Object>> rows, String column) {
+    return new SqlArrayValue(
+        "text", rows.stream().map(row -> String.valueOf(row.get(column))).toArray());
+  }
+}
@@ -4,12 +4,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -17,7 +24,9 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
 import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.spec.TransactionSpecifications;
 
 @DataJpaTest
 @Testcontainers
@@ -33,6 +42,8 @@ class TransactionRepositoryIntegrationTest {
 
   @Autowired private TransactionRepository transactionRepository;
 
+  @Autowired private TestEntityManager entityManager;
+
   @DynamicPropertySource
   static void configureProperties(DynamicPropertyRegistry registry) {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -188,6 +199,183 @@ class TransactionRepositoryIntegrationTest {
         .doesNotContain("Deleted");
   }
 
+  @Test
+  void softDeleteByIds_deletesOnlyActiveOwnedTransactionsAndReturnsTheirIds() {
+    // Given: an owned transaction, an already deleted one, and one owned by another user
+    var owned = transactionRepository.save(createTransaction("Owned", BigDecimal.valueOf(10.00)));
+    var alreadyDeleted =
+        transactionRepository.save(createTransaction("Already Deleted", BigDecimal.valueOf(20.00)));
+    alreadyDeleted.markDeleted("test-user");
+    var otherOwner = createTransaction("Other Owner", BigDecimal.valueOf(30.00));
+    otherOwner.setOwnerId("other-user");
+    transactionRepository.save(otherOwner);
+    entityManager.flush();
+
+    // When: the owner bulk deletes all three plus a missing ID
+    var deletedIds =
+        transactionRepository.softDeleteByIds(
+            List.of(owned.getId(), alreadyDeleted.getId(), otherOwner.getId(), 999_999L),
+            "test-user",
+            "test-user");
+    entityManager.clear();
+
+    // Then: only the active owned transaction is deleted, with audit columns set
+    assertThat(deletedIds).containsExactly(owned.getId());
+    var reloaded = transactionRepository.findById(owned.getId()).orElseThrow();
+    assertThat(reloaded.isDeleted()).isTrue();
+    assertThat(reloaded.getDeletedBy()).isEqualTo("test-user");
+    assertThat(reloaded.getDeletedAt()).isNotNull();
+    assertThat(transactionRepository.findByIdNotDeleted(otherOwner.getId())).isPresent();
+  }
+
+  @Test
+  void softDeleteByIds_withoutOwner_deletesAcrossOwners() {
+    // Given: transactions owned by two users
+    var owned = transactionRepository.save(createTransaction("Owned", BigDecimal.valueOf(10.00)));
+    var otherOwner = createTransaction("Other Owner", BigDecimal.valueOf(30.00));
+    otherOwner.setOwnerId("other-user");
+    transactionRepository.save(otherOwner);
+    entityManager.flush();
+
+    // When: an admin bulk deletes without owner scope
+    var deletedIds =
+        transactionRepository.softDeleteByIds(
+            List.of(owned.getId(), otherOwner.getId()), null, "admin-user");
+
+    // Then: both are deleted
+    assertThat(deletedIds).containsExactlyInAnyOrder(owned.getId(), otherOwner.getId());
+  }
+
+  @Test
+  void softDeleteAllNotDeleted_deletesMatchingTransactionsInOneStatement() {
+    // Given: two transactions from one bank and one from another bank
+    transactionRepository.save(createTransaction("Bad Import 1", BigDecimal.valueOf(10.00)));
+    transactionRepository.save(createTransaction("Bad Import 2", BigDecimal.valueOf(20.00)));
+    var otherBank = createTransaction("Keep", BigDecimal.valueOf(30.00));
+    otherBank.setBankName("Other Bank");
+    transactionRepository.save(otherBank);
+    entityManager.flush();
+
+    // When: transactions of the first bank are deleted by specification
+    var deletedCount =
+        transactionRepository.softDeleteAllNotDeleted(
+            TransactionSpecifications.byOwner("test-user")
+                .and((root, query, cb) -> cb.equal(root.get("bankName"), "Test Bank")),
+            "test-user");
+    entityManager.clear();
+
+    // Then: only the matching transactions are deleted
+    assertThat(deletedCount).isEqualTo(2);
+    assertThat(transactionRepository.findAllNotDeleted())
+        .extracting(Transaction::getDescription)
+        .containsExactly("Keep");
+  }
+
+  // ==================== Keyset Pagination ====================
+
+  @Test
+  void scrollNotDeleted_walksAllActiveRowsAcrossDateTiesWithoutGapsOrRepeats() {
+    // Given: five active transactions sharing two dates and one deleted transaction
+    var expectedIds = new ArrayList<Long>();
+    for (var day : List.of(2, 2, 2, 1, 1)) {
+      var transaction = createTransaction("Day " + day, BigDecimal.valueOf(day));
+      transaction.setDate(LocalDate.of(2025, 1, day));
+      expectedIds.add(transactionRepository.save(transaction).getId());
+    }
+    var deleted = createTransaction("Deleted", BigDecimal.TEN);
+    deleted.setDate(LocalDate.of(2025, 1, 2));
+    deleted.markDeleted("test-user");
+    transactionRepository.save(deleted);
+    entityManager.flush();
+
+    // When: all windows of size 2 are read by date and id descending
+    var sort = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+    var scrolledIds = new ArrayList<Long>();
+    var windowCount = 0;
+    KeysetScrollPosition position = ScrollPosition.keyset();
+    while (true) {
+      var window =
+          transactionRepository.scrollNotDeleted(
+              TransactionSpecifications.byOwner("test-user"), sort, position, 2);
+      windowCount++;
+      window.forEach(transaction -> scrolledIds.add(transaction.getId()));
+      if (!window.hasNext()) {
+        break;
+      }
+      position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+    }
+
+    // Then: every active row is returned once, in sort order, in three windows
+    assertThat(scrolledIds)
+        .containsExactly(
+            expectedIds.get(2),
+            expectedIds.get(1),
+            expectedIds.get(0),
+            expectedIds.get(4),
+            expectedIds.get(3));
+    assertThat(windowCount).isEqualTo(3);
+  }
+
+  @Test
+  void scrollNotDeleted_ascendingSortWithSpec_continuesAfterPosition() {
+    // Given: three transactions of one owner and one of another owner
+    var small = createTransaction("Small", BigDecimal.valueOf(5.00));
+    var medium = createTransaction("Medium", BigDecimal.valueOf(15.00));
+    var large = createTransaction("Large", BigDecimal.valueOf(25.00));
+    transactionRepository.saveAll(List.of(large, small, medium));
+    var otherOwner = createTransaction("Other Owner", BigDecimal.valueOf(10.00));
+    otherOwner.setOwnerId("other-user");
+    transactionRepository.save(otherOwner);
+    entityManager.flush();
+
+    // When: scrolling the owner's rows by amount ascending after the smallest amount
+    var sort = Sort.by(Sort.Order.asc("amount"), Sort.Order.asc("id"));
+    var position =
+        ScrollPosition.forward(
+            Map.<String, Object>of("amount", small.getAmount(), "id", small.getId()));
+    var window =
+        transactionRepository.scrollNotDeleted(
+            TransactionSpecifications.byOwner("test-user"), sort, position, 10);
+
+    // Then: the remaining rows of the owner follow in ascending order
+    assertThat(window.hasNext()).isFalse();
+    assertThat(window.getContent())
+        .extracting(Transaction::getDescription)
+        .containsExactly("Medium", "Large");
+  }
+
+  // ==================== Streaming ====================
+
+  @Test
+  void streamNotDeleted_streamsMatchingActiveRowsInOrderAndDetachesThem() {
+    // Given: two active owned transactions, a deleted one, and one owned by another user
+    var older = createTransaction("Older", BigDecimal.valueOf(10.00));
+    older.setDate(LocalDate.of(2025, 1, 1));
+    var newer = createTransaction("Newer", BigDecimal.valueOf(20.00));
+    newer.setDate(LocalDate.of(2025, 2, 1));
+    var deleted = createTransaction("Deleted", BigDecimal.valueOf(30.00));
+    deleted.markDeleted("test-user");
+    var otherOwner = createTransaction("Other Owner", BigDecimal.valueOf(40.00));
+    otherOwner.setOwnerId("other-user");
+    transactionRepository.saveAll(List.of(older, newer, deleted, otherOwner));
+    entityManager.flush();
+    entityManager.clear();
+
+    // When: the owner's transactions are streamed newest first with a small fetch size
+    List<Transaction> streamed;
+    try (var transactions =
+        transactionRepository.streamNotDeleted(
+            TransactionSpecifications.byOwner("test-user"),
+            Sort.by(Sort.Direction.DESC, "date", "id"),
+            1)) {
+      streamed = transactions.toList();
+    }
+
+    // Then: only active owned rows are returned, in order, and none stay managed
+    assertThat(streamed).extracting(Transaction::getDescription).containsExactly("Newer", "Older");
+    assertThat(streamed).noneMatch(entityManager.getEntityManager()::contains);
+  }
+
   // ==================== Duplicate Detection ====================
 
   @Test
@@ -219,6 +407,8 @@ class TransactionRepositoryIntegrationTest {
     assertThat(duplicateCandidates.getFirst().getTransactionId()).isEqualTo(transaction.getId());
     assertThat(duplicateCandidates.getFirst().getDescription())
         .isEqualTo("X CORP. PAID FEATURES BASTROP     TX");
+    assertThat(duplicateCandidates.getFirst().getNormalizedDescription())
+        .isEqualTo("XCORPPAIDFEATURESBASTROPTX");
   }
 
   @Test
@@ -358,6 +548,66 @@ class TransactionRepositoryIntegrationTest {
     assertThat(duplicateCandidates.getFirst().getTransactionId()).isEqualTo(transaction.getId());
   }
 
+  @Test
+  void save_newTransaction_storesDuplicateFingerprint() {
+    // Given: a new transaction
+    var transaction = createTransaction("Whole-Foods Market #123", BigDecimal.valueOf(45.50));
+
+    // When: save is flushed
+    var saved = transactionRepository.saveAndFlush(transaction);
+
+    // Then: the normalized description and fingerprint are derived from the row
+    var expectedCriteria = exactDuplicateCriteria(saved, "WHOLE FOODS MARKET 123", "test-user");
+    assertThat(saved.getNormalizedDescription()).isEqualTo("WHOLEFOODSMARKET123");
+    assertThat(saved.getDescriptionFingerprint())
+        .isEqualTo(expectedCriteria.descriptionFingerprint());
+  }
+
+  @Test
+  void findExactDuplicateFingerprints_findsRowWithSameNormalizedDescription() {
+    // Given: a transaction exists
+    var transaction =
+        transactionRepository.save(
+            createTransactionWithDetails(
+                LocalDate.of(2024, 1, 15),
+                BigDecimal.valueOf(100.00),
+                "X CORP. PAID FEATURES BASTROP     TX",
+                "account-1"));
+
+    // When: looking up an incoming row whose description differs only in punctuation and spacing
+    var exactDuplicateCriteria =
+        exactDuplicateCriteria(transaction, "X CORP PAID FEATURES BASTROP TX", "test-user");
+    var exactDuplicateFingerprints =
+        transactionRepository.findExactDuplicateFingerprints(
+            Set.of(exactDuplicateCriteria), "test-user");
+
+    // Then: the incoming row's fingerprint is reported as an exact duplicate
+    assertThat(exactDuplicateFingerprints)
+        .containsExactly(exactDuplicateCriteria.descriptionFingerprint());
+  }
+
+  @Test
+  void findExactDuplicateFingerprints_ignoresOtherOwnersDeletedRowsAndOtherDescriptions() {
+    // Given: one active and one deleted transaction exist
+    var transaction =
+        transactionRepository.save(createTransaction("Coffee Shop", BigDecimal.valueOf(4.50)));
+    var deletedTransaction = createTransaction("Deleted Shop", BigDecimal.valueOf(4.50));
+    deletedTransaction.markDeleted("test-user");
+    transactionRepository.save(deletedTransaction);
+
+    // When: looking up rows for another owner, the deleted row, and another description
+    var exactDuplicateFingerprints =
+        transactionRepository.findExactDuplicateFingerprints(
+            Set.of(
+                exactDuplicateCriteria(transaction, "Coffee Shop", "other-user"),
+                exactDuplicateCriteria(deletedTransaction, "Deleted Shop", "test-user"),
+                exactDuplicateCriteria(transaction, "Coffee Shops", "test-user")),
+            "test-user");
+
+    // Then: nothing is reported as an exact duplicate
+    assertThat(exactDuplicateFingerprints).isEmpty();
+  }
+
   // ==================== Helper Methods ====================
 
   private Transaction createTransaction(String description, BigDecimal amount) {
@@ -406,4 +656,20 @@ class TransactionRepositoryIntegrationTest {
       String currencyIsoCode) {
     return new TransactionDuplicateCandidateCriteria(bankName, date, amount, type, currencyIsoCode);
   }
+
+  private static TransactionExactDuplicateCriteria exactDuplicateCriteria(
+      Transaction transaction, String description, String ownerId) {
+    var normalizedDescription = TransactionFingerprint.normalizeDescription(description);
+    return new TransactionExactDuplicateCriteria(
+        TransactionFingerprint.compute(
+            ownerId,
+            transaction.getBankName(),
+            transaction.getDate(),
+            transaction.getAmount(),
+            transaction.getType(),
+            transaction.getCurrencyIsoCode(),
+            normalizedDescription),
+        candidateKey(transaction),
+        normalizedDescription);
+  }
 }
@@ -0,0 +1,162 @@
+package org.budgetanalyzer.transaction.repository.spec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.transaction.api.request.TransactionFilter;
+import org.budgetanalyzer.transaction.repository.TransactionRepository;
+
+/**
+ * Plan tests for description text search.
+ *
+ * <p>The queries mirror the SQL that {@link TransactionSpecifications} generates for description
+ * and search-text filters: one {@code lower(description) LIKE ? ESCAPE '\'} per word, ORed, on
+ * active rows of one owner. The owner has enough rows that a sequential scan would be chosen if the
+ * trigram index could not serve the predicate.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TransactionDescriptionSearchPlanIntegrationTest {
+
+  private static final String TRIGRAM_INDEX = "idx_transaction_description_trgm";
+  private static final String OWNER_ID = "usr_power_user";
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+  }
+
+  @BeforeEach
+  void setUp() {
+    transactionRepository.deleteAll();
+    entityManager
+        .createNativeQuery(
+            """
+            INSERT INTO transaction (bank_name, date, currency_iso_code, amount, type,
+                                     description, owner_id, created_at, deleted)
+            SELECT 'Test Bank',
+                   DATE '2025-01-01' + (n % 365),
+                   'USD',
+                   n % 500,
+                   'DEBIT',
+                   CASE
+                       WHEN n % 1000 = 0 THEN 'Blue Bottle Coffee #' || n
+                       WHEN n % 1000 = 1 THEN 'Farmers Market ' || n
+                       ELSE 'Merchant ' || md5(n::text)
+                   END,
+                   :ownerId,
+                   now(),
+                   n % 50 = 7
+            FROM generate_series(1, 20000) AS n
+            """)
+        .setParameter("ownerId", OWNER_ID)
+        .executeUpdate();
+    entityManager.createNativeQuery("ANALYZE transaction").executeUpdate();
+  }
+
+  @Test
+  void descriptionFilter_singleWord_usesTrigramIndex() {
+    var plan =
+        explain(
+            """
+            SELECT id FROM transaction
+            WHERE deleted = false
+              AND owner_id = :ownerId
+              AND lower(description) LIKE :first ESCAPE '\\'
+            """,
+            List.of("%coffee%"));
+
+    assertThat(plan).contains(TRIGRAM_INDEX).doesNotContain("Seq Scan");
+  }
+
+  @Test
+  void descriptionFilter_multipleWords_usesTrigramIndexForEachWord() {
+    var plan =
+        explain(
+            """
+            SELECT id FROM transaction
+            WHERE deleted = false
+              AND owner_id = :ownerId
+              AND (lower(description) LIKE :first ESCAPE '\\'
+                   OR lower(description) LIKE :second ESCAPE '\\')
+            """,
+            List.of("%coffee%", "%farmers%"));
+
+    assertThat(plan).contains("BitmapOr").contains(TRIGRAM_INDEX).doesNotContain("Seq Scan");
+  }
+
+  @Test
+  void descriptionFilter_partialWords_keepSubstringSemantics() {
+    // Unlike full-text search, trigram matching still finds words by any substring.
+    var spec =
+        TransactionSpecifications.withFilter(filterByDescription("OTTLE armer"))
+            .and(TransactionSpecifications.byOwner(OWNER_ID));
+
+    var count = transactionRepository.countNotDeleted(spec);
+
+    assertThat(count).isEqualTo(40);
+  }
+
+  private String explain(String sql, List<String> patterns) {
+    var query = entityManager.createNativeQuery("EXPLAIN " + sql);
+    query.setParameter("ownerId", OWNER_ID);
+    query.setParameter("first", patterns.get(0));
+    if (patterns.size() > 1) {
+      query.setParameter("second", patterns.get(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    List<Object> lines = query.getResultList();
+    return lines.stream().map(Object::toString).collect(Collectors.joining("\n"));
+  }
+
+  private TransactionFilter filterByDescription(String description) {
+    return new TransactionFilter(
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        description,
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+}
@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,8 +20,12 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import org.budgetanalyzer.transaction.api.request.TransactionFilter;
+import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.FileImportRepository;
+import org.budgetanalyzer.transaction.repository.ParserRevisionRepository;
+import org.budgetanalyzer.transaction.repository.StatementFormatRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.service.dto.TransactionCriteria;
 
@@ -45,6 +50,12 @@ class TransactionSpecificationsIntegrationTest {
 
   @Autowired private TransactionRepository transactionRepository;
 
+  @Autowired private FileImportRepository fileImportRepository;
+
+  @Autowired private StatementFormatRepository statementFormatRepository;
+
+  @Autowired private ParserRevisionRepository parserRevisionRepository;
+
   @DynamicPropertySource
   static void configureProperties(DynamicPropertyRegistry registry) {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -634,7 +645,7 @@ class TransactionSpecificationsIntegrationTest {
     var filter =
         new TransactionFilter(
             null, "user-A", null, "chase", null, null, null, null, null, null, null, null, null,
-            null, null);
+            null, null, null);
     var spec = TransactionSpecifications.withFilter(filter);
     var results = transactionRepository.findAll(spec);
 
@@ -644,6 +655,32 @@ class TransactionSpecificationsIntegrationTest {
     assertThat(results.get(0).getBankName()).isEqualTo("Chase");
   }
 
+  // ==================== File Import Filter Tests ====================
+
+  @Test
+  void withFilter_fileImportId_matchesOnlyTransactionsOfThatImport() {
+    // Given: transactions from two imports and one created without an import
+    var badImport = saveFileImport("bad-statement.csv");
+    var goodImport = saveFileImport("good-statement.csv");
+
+    var badImportTransaction = createTransaction("Bad import row", BigDecimal.TEN);
+    badImportTransaction.setFileImport(badImport);
+    transactionRepository.save(badImportTransaction);
+
+    var goodImportTransaction = createTransaction("Good import row", BigDecimal.TEN);
+    goodImportTransaction.setFileImport(goodImport);
+    transactionRepository.save(goodImportTransaction);
+
+    transactionRepository.save(createTransaction("Manual row", BigDecimal.TEN));
+
+    // When: filter by the bad import's ID
+    var spec = TransactionSpecifications.withFilter(filterByFileImportId(badImport.getId()));
+    var results = transactionRepository.findAll(spec);
+
+    // Then: only the bad import's transaction is returned
+    assertThat(results).extracting(Transaction::getDescription).containsExactly("Bad import row");
+  }
+
   // ==================== Edge Cases ====================
 
   @Test
@@ -698,6 +735,7 @@ class TransactionSpecificationsIntegrationTest {
         null,
         null,
         null,
+        null,
         null);
   }
 
@@ -718,25 +756,26 @@ class TransactionSpecificationsIntegrationTest {
         null,
         null,
         null,
+        null,
         null);
   }
 
   private TransactionFilter filterByOwnerId(String ownerId) {
     return new TransactionFilter(
-        null, ownerId, null, null, null, null, null, null, null, null, null, null, null, null,
+        null, ownerId, null, null, null, null, null, null, null, null, null, null, null, null, null,
         null);
   }
 
   private TransactionFilter filterByAccountId(String accountId) {
     return new TransactionFilter(
         null, null, accountId, null, null, null, null, null, null, null, null, null, null, null,
-        null);
+        null, null);
   }
 
   private TransactionFilter filterByBankName(String bankName) {
     return new TransactionFilter(
         null, null, null, bankName, null, null, null, null, null, null, null, null, null, null,
-        null);
+        null, null);
   }
 
   private TransactionFilter filterByCurrency(String currencyIsoCode) {
@@ -755,24 +794,26 @@ class TransactionSpecificationsIntegrationTest {
         null,
         null,
         null,
+        null,
         null);
   }
 
   private TransactionFilter filterByType(TransactionType type) {
     return new TransactionFilter(
-        null, null, null, null, null, null, null, null, null, type, null, null, null, null, null);
+        null, null, null, null, null, null, null, null, null, type, null, null, null, null, null,
+        null);
   }
 
   private TransactionFilter filterByDateRange(LocalDate dateFrom, LocalDate dateTo) {
     return new TransactionFilter(
         null, null, null, null, dateFrom, dateTo, null, null, null, null, null, null, null, null,
-        null);
+        null, null);
   }
 
   private TransactionFilter filterByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
     return new TransactionFilter(
         null, null, null, null, null, null, null, minAmount, maxAmount, null, null, null, null,
-        null, null);
+        null, null, null);
   }
 
   private TransactionFilter filterByMultipleFields(
@@ -792,12 +833,34 @@ class TransactionSpecificationsIntegrationTest {
         null,
         null,
         null,
+        null,
         null);
   }
 
+  private TransactionFilter filterByFileImportId(Long fileImportId) {
+    return new TransactionFilter(
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        null,
+        fileImportId);
+  }
+
   private TransactionFilter emptyFilter() {
     return new TransactionFilter(
-        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+        null);
   }
 
   private TransactionCriteria criteriaWithValues(
@@ -820,6 +883,19 @@ class TransactionSpecificationsIntegrationTest {
         null);
   }
 
+  private FileImport saveFileImport(String originalFilename) {
+    return fileImportRepository.save(
+        FileImport.create(
+            UUID.randomUUID().toString(),
+            originalFilename,
+            statementFormatRepository.findByEnabledTrue().getFirst().getId(),
+            parserRevisionRepository.findAll().getFirst().getId(),
+            "test-account",
+            100L,
+            1,
+            "test-user"));
+  }
+
   // Transaction factory methods
   private Transaction createTransaction(String description, BigDecimal amount) {
     var transaction = new Transaction();
@@ -0,0 +1,75 @@
+package org.budgetanalyzer.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+class DescriptionFingerprintTest {
+
+  @Test
+  void of_normalizesDescriptionAndExtractsNumericTokens() {
+    var descriptionFingerprint = DescriptionFingerprint.of(" Whole-Foods Market #123 / 45 ");
+
+    assertThat(descriptionFingerprint.description()).isEqualTo(" Whole-Foods Market #123 / 45 ");
+    assertThat(descriptionFingerprint.normalizedDescription()).isEqualTo("WHOLEFOODSMARKET12345");
+    assertThat(descriptionFingerprint.normalizedCodePoints())
+        .isEqualTo("WHOLEFOODSMARKET12345".codePoints().toArray());
+    assertThat(descriptionFingerprint.length()).isEqualTo(21);
+    assertThat(descriptionFingerprint.numericTokens()).containsExactly("123", "45");
+  }
+
+  @Test
+  void of_storedNormalizedDescription_reusesItAndExtractsNumericTokens() {
+    var descriptionFingerprint =
+        DescriptionFingerprint.of("Whole-Foods Market #123", "WHOLEFOODSMARKET123");
+
+    assertThat(descriptionFingerprint.normalizedDescription()).isEqualTo("WHOLEFOODSMARKET123");
+    assertThat(descriptionFingerprint.length()).isEqualTo(19);
+    assertThat(descriptionFingerprint.numericTokens()).containsExactly("123");
+  }
+
+  @Test
+  void normalize_asciiDescriptionMatchesUnicodeNormalization() {
+    var asciiDescription = new StringBuilder();
+    for (char character = 0; character < 0x80; character++) {
+      asciiDescription.append(character);
+    }
+
+    assertThat(DescriptionFingerprint.normalize(asciiDescription.toString()))
+        .isEqualTo(unicodeNormalize(asciiDescription.toString()));
+  }
+
+  @Test
+  void normalize_nonAsciiDescriptionRemovesDiacritics() {
+    var accentedDescription =
+        "Caf" + Character.toString(0x00E9) + " Stra" + Character.toString(0x00DF) + "e";
+
+    assertThat(DescriptionFingerprint.normalize(accentedDescription))
+        .isEqualTo(unicodeNormalize(accentedDescription))
+        .startsWith("CAFE");
+  }
+
+  @Test
+  void of_requiresDescription() {
+    assertThatNullPointerException()
+        .isThrownBy(() -> DescriptionFingerprint.of(null))
+        .withMessage("description");
+  }
+
+  private static String unicodeNormalize(String description) {
+    var normalizedDescriptionBuilder = new StringBuilder();
+    Normalizer.normalize(description.trim(), Normalizer.Form.NFKD)
+        .toUpperCase(Locale.ROOT)
+        .codePoints()
+        .filter(
+            codePoint ->
+                Character.isLetterOrDigit(codePoint)
+                    && Character.getType(codePoint) != Character.NON_SPACING_MARK)
+        .forEach(normalizedDescriptionBuilder::appendCodePoint);
+    return normalizedDescriptionBuilder.toString();
+  }
+}
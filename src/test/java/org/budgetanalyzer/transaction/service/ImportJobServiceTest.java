@@ -0,0 +1,377 @@
+package org.budgetanalyzer.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import org.budgetanalyzer.service.api.FieldError;
+import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.service.exception.ResourceNotFoundException;
+import org.budgetanalyzer.transaction.config.ImportJobProperties;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobStage;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.ImportJobRepository;
+import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportJobResult;
+import org.budgetanalyzer.transaction.service.dto.ImportJobError;
+import org.budgetanalyzer.transaction.service.dto.PreviewResult;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.dto.StatementUpload;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobServiceTest {
+
+  private static final String USER_ID = "usr_test123";
+  private static final UUID JOB_ID = UUID.randomUUID();
+  private static final StatementUpload UPLOAD =
+      new StatementUpload("statement.csv", "Date,Description,Amount\n".getBytes());
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+  @Mock private ImportJobTracker importJobTracker;
+  @Mock private ImportJobRepository importJobRepository;
+  @Mock private ImportJobExecutor importJobExecutor;
+  @Mock private TransactionImportService transactionImportService;
+  @Mock private TransactionService transactionService;
+  @Mock private PreviewResultStore previewResultStore;
+
+  private ImportJobService importJobService;
+
+  @BeforeEach
+  void setUp() {
+    importJobService =
+        new ImportJobService(
+            importJobTracker,
+            importJobRepository,
+            importJobExecutor,
+            transactionImportService,
+            transactionService,
+            previewResultStore,
+            new ImportJobProperties(
+                2, 4, Duration.ofSeconds(30), Duration.ofMinutes(2), Duration.ofDays(7)),
+            objectMapper);
+  }
+
+  // ==================== submitPreview ====================
+
+  @Test
+  void submitPreview_recordsReportedStagesAndStoresResult() throws Exception {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    runJobsInline();
+    var previewResult = previewResult();
+    when(transactionImportService.previewUpload(1L, "checking-12345", UPLOAD, USER_ID))
+        .thenAnswer(
+            invocation -> {
+              ImportProgress.report(ImportJobStage.HASHING);
+              ImportProgress.report(ImportJobStage.PARSING, "Parser revision 7 (1 of 1)");
+              return previewResult;
+            });
+
+    var importJob = importJobService.submitPreview(1L, "checking-12345", UPLOAD, USER_ID);
+
+    assertThat(importJob.getId()).isEqualTo(JOB_ID);
+    verify(importJobTracker).markRunning(JOB_ID);
+    verify(importJobTracker).recordStage(JOB_ID, ImportJobStage.HASHING, null);
+    verify(importJobTracker)
+        .recordStage(JOB_ID, ImportJobStage.PARSING, "Parser revision 7 (1 of 1)");
+    var resultJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markSucceeded(eq(JOB_ID), resultJson.capture());
+    assertThat(objectMapper.readValue(resultJson.getValue(), PreviewResult.class))
+        .usingRecursiveComparison()
+        .ignoringFields("previewImportToken")
+        .isEqualTo(previewResult);
+  }
+
+  @Test
+  void submitPreview_keepsImportTokenOutOfStoredResult() {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    runJobsInline();
+    when(transactionImportService.previewUpload(1L, null, UPLOAD, USER_ID))
+        .thenReturn(previewResult());
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    var resultJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markSucceeded(eq(JOB_ID), resultJson.capture());
+    assertThat(resultJson.getValue()).doesNotContain("preview-token");
+    verify(previewResultStore).putJobToken(JOB_ID, USER_ID, "preview-token");
+  }
+
+  @Test
+  void submitPreview_unexpectedFailure_recordsGenericError() throws Exception {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    runJobsInline();
+    when(transactionImportService.previewUpload(1L, null, UPLOAD, USER_ID))
+        .thenThrow(new IllegalStateException("boom"));
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    var errorJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markFailed(eq(JOB_ID), errorJson.capture());
+    var error = objectMapper.readValue(errorJson.getValue(), ImportJobError.class);
+    assertThat(error.code()).isEqualTo(BudgetAnalyzerError.IMPORT_JOB_FAILED.name());
+    assertThat(error.message()).doesNotContain("boom");
+  }
+
+  @Test
+  void submitPreview_jobNoLongerQueued_skipsWork() {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    executeJobsInline();
+    when(importJobTracker.markRunning(JOB_ID)).thenReturn(false);
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    verify(transactionImportService, never()).previewUpload(any(), any(), any(), any());
+    verify(importJobTracker, never()).markSucceeded(any(), anyString());
+    verify(importJobTracker, never()).markFailed(any(), anyString());
+  }
+
+  @Test
+  void submitPreview_executorRejectsJob_failsQueuedJob() throws Exception {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    doThrow(new RejectedExecutionException("shut down"))
+        .when(importJobExecutor)
+        .execute(any(Runnable.class));
+
+    assertThatThrownBy(() -> importJobService.submitPreview(1L, null, UPLOAD, USER_ID))
+        .isInstanceOf(RejectedExecutionException.class);
+
+    var errorJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markFailed(eq(JOB_ID), errorJson.capture());
+    assertThat(objectMapper.readValue(errorJson.getValue(), ImportJobError.class).code())
+        .isEqualTo(BudgetAnalyzerError.IMPORT_JOB_FAILED.name());
+    verify(importJobTracker, never()).markRunning(any());
+  }
+
+  @Test
+  void submitPreview_interruptedBeforeStart_failsQueuedJob() throws Exception {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    doAnswer(
+            invocation -> {
+              Thread.currentThread().interrupt();
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(importJobExecutor)
+        .execute(any(Runnable.class));
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    assertThat(Thread.interrupted()).isTrue();
+    var errorJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markFailed(eq(JOB_ID), errorJson.capture());
+    assertThat(objectMapper.readValue(errorJson.getValue(), ImportJobError.class).code())
+        .isEqualTo(BudgetAnalyzerError.IMPORT_JOB_INTERRUPTED.name());
+    verify(importJobTracker, never()).markRunning(any());
+    verify(transactionImportService, never()).previewUpload(any(), any(), any(), any());
+  }
+
+  @Test
+  void submitPreview_markRunningFails_failsQueuedJob() {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    executeJobsInline();
+    when(importJobTracker.markRunning(JOB_ID)).thenThrow(new IllegalStateException("db down"));
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    verify(importJobTracker).markFailed(eq(JOB_ID), anyString());
+    verify(transactionImportService, never()).previewUpload(any(), any(), any(), any());
+  }
+
+  // ==================== submitBatchImport ====================
+
+  @Test
+  void submitBatchImport_storesCreatedTransactionIds() throws Exception {
+    var fileImportSource = fileImportSource();
+    var transactions = List.of(previewTransaction());
+    stubCreate(ImportJobType.BATCH_IMPORT, "statement.csv");
+    runJobsInline();
+    when(transactionService.batchImport(transactions, USER_ID, fileImportSource))
+        .thenReturn(new TransactionService.BatchImportResult(List.of(), List.of(11L, 12L), 1, 0));
+
+    importJobService.submitBatchImport(transactions, USER_ID, fileImportSource);
+
+    var resultJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markSucceeded(eq(JOB_ID), resultJson.capture());
+    assertThat(objectMapper.readValue(resultJson.getValue(), BatchImportJobResult.class))
+        .isEqualTo(new BatchImportJobResult(2, 1, 0, List.of(11L, 12L)));
+  }
+
+  @Test
+  void submitBatchImport_validationFailure_recordsCodeAndRowErrors() throws Exception {
+    var fileImportSource = fileImportSource();
+    var transactions = List.of(previewTransaction());
+    stubCreate(ImportJobType.BATCH_IMPORT, "statement.csv");
+    runJobsInline();
+    when(transactionService.batchImport(transactions, USER_ID, fileImportSource))
+        .thenThrow(
+            new BatchValidationException(
+                List.of(
+                    FieldError.of(
+                        0, "date", "Transaction date is before 2000", "1999-12-31"))));
+
+    importJobService.submitBatchImport(transactions, USER_ID, fileImportSource);
+
+    var errorJson = ArgumentCaptor.forClass(String.class);
+    verify(importJobTracker).markFailed(eq(JOB_ID), errorJson.capture());
+    verify(importJobTracker, never()).markSucceeded(any(), anyString());
+    var error = objectMapper.readValue(errorJson.getValue(), ImportJobError.class);
+    assertThat(error.code()).isEqualTo(BudgetAnalyzerError.BATCH_VALIDATION_FAILED.name());
+    assertThat(error.fieldErrors())
+        .containsExactly(new ImportJobError.RowError(0, "date", "Transaction date is before 2000"));
+  }
+
+  // ==================== per-user limit ====================
+
+  @Test
+  void submit_userAtActiveJobLimit_throwsQueueFull() {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+    importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+
+    assertThatThrownBy(() -> importJobService.submitPreview(1L, null, UPLOAD, USER_ID))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(
+            exception ->
+                assertThat(((BusinessException) exception).getCode())
+                    .isEqualTo(BudgetAnalyzerError.IMPORT_JOB_QUEUE_FULL.name()));
+  }
+
+  @Test
+  void submit_finishedJobsReleaseActiveJobSlots() {
+    stubCreate(ImportJobType.PREVIEW, "statement.csv");
+    runJobsInline();
+    when(transactionImportService.previewUpload(1L, null, UPLOAD, USER_ID))
+        .thenReturn(previewResult());
+
+    for (var i = 0; i < 5; i++) {
+      importJobService.submitPreview(1L, null, UPLOAD, USER_ID);
+    }
+
+    verify(importJobTracker, times(5)).markSucceeded(eq(JOB_ID), anyString());
+  }
+
+  // ==================== getJob ====================
+
+  @Test
+  void getJob_decodesStoredResultByType() throws Exception {
+    var importJob = ImportJob.queued(USER_ID, ImportJobType.BATCH_IMPORT, "statement.csv");
+    var result = new BatchImportJobResult(1, 0, 0, List.of(42L));
+    importJob.markSucceeded(objectMapper.writeValueAsString(result), Instant.now());
+    when(importJobRepository.findByIdAndOwnerId(JOB_ID, USER_ID))
+        .thenReturn(Optional.of(importJob));
+
+    var details = importJobService.getJob(JOB_ID, USER_ID);
+
+    assertThat(details.batchImportResult()).isEqualTo(result);
+    assertThat(details.previewResult()).isNull();
+    assertThat(details.error()).isNull();
+  }
+
+  @Test
+  void getJob_previewResult_restoresImportTokenFromStore() throws Exception {
+    var importJob = ImportJob.queued(USER_ID, ImportJobType.PREVIEW, "statement.csv");
+    var storedResult = new PreviewResult("statement.csv", 1L, null, null, List.of());
+    importJob.markSucceeded(objectMapper.writeValueAsString(storedResult), Instant.now());
+    when(importJobRepository.findByIdAndOwnerId(JOB_ID, USER_ID))
+        .thenReturn(Optional.of(importJob));
+    when(previewResultStore.findJobToken(JOB_ID, USER_ID))
+        .thenReturn(Optional.of("preview-token"));
+
+    var details = importJobService.getJob(JOB_ID, USER_ID);
+
+    assertThat(details.previewResult()).isEqualTo(previewResult());
+  }
+
+  @Test
+  void getJob_otherOwner_throwsResourceNotFoundException() {
+    when(importJobRepository.findByIdAndOwnerId(JOB_ID, USER_ID)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> importJobService.getJob(JOB_ID, USER_ID))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining(JOB_ID.toString());
+  }
+
+  private void stubCreate(ImportJobType type, String sourceFilename) {
+    when(importJobTracker.create(USER_ID, type, sourceFilename))
+        .thenAnswer(
+            invocation -> {
+              var importJob = ImportJob.queued(USER_ID, type, sourceFilename);
+              ReflectionTestUtils.setField(importJob, "id", JOB_ID);
+              return importJob;
+            });
+  }
+
+  private void runJobsInline() {
+    when(importJobTracker.markRunning(JOB_ID)).thenReturn(true);
+    executeJobsInline();
+  }
+
+  private void executeJobsInline() {
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(importJobExecutor)
+        .execute(any(Runnable.class));
+  }
+
+  private PreviewResult previewResult() {
+    return new PreviewResult("statement.csv", 1L, "preview-token", null, List.of());
+  }
+
+  private PreviewTransaction previewTransaction() {
+    return new PreviewTransaction(
+        LocalDate.of(2024, 1, 15),
+        "Coffee",
+        new BigDecimal("4.50"),
+        TransactionType.DEBIT,
+        null,
+        "Test Bank",
+        "USD",
+        "checking-12345",
+        false);
+  }
+
+  private BatchFileImportSource fileImportSource() {
+    return new BatchFileImportSource(
+        "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
+        "statement.csv",
+        1L,
+        1L,
+        "checking-12345",
+        1024L);
+  }
+}
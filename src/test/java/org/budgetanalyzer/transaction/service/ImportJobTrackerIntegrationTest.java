@@ -0,0 +1,142 @@
+package org.budgetanalyzer.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.domain.ImportJob;
+import org.budgetanalyzer.transaction.domain.ImportJobStatus;
+import org.budgetanalyzer.transaction.domain.ImportJobType;
+import org.budgetanalyzer.transaction.repository.ImportJobRepository;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestClaimsSecurityConfig.class)
+class ImportJobTrackerIntegrationTest {
+
+  private static final String USER_ID = "usr_jobs";
+  private static final String OTHER_INSTANCE_ID = "other-instance";
+  private static final String ERROR_JSON = "{\"code\":\"IMPORT_JOB_INTERRUPTED\"}";
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private ImportJobTracker importJobTracker;
+
+  @Autowired private ImportJobRepository importJobRepository;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+  }
+
+  @BeforeEach
+  void cleanDatabase() {
+    importJobRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void failExpiredJobs_keepsJobsOfOtherLiveInstances() {
+    var liveJob = otherInstanceJob(Instant.now().minusSeconds(10));
+    var expiredJob = otherInstanceJob(Instant.now().minus(Duration.ofHours(3)));
+
+    var failedJobs = importJobTracker.failExpiredJobs(ERROR_JSON);
+
+    assertThat(failedJobs).isEqualTo(1);
+    assertThat(status(liveJob)).isEqualTo(ImportJobStatus.RUNNING);
+    assertThat(status(expiredJob)).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(importJobRepository.findById(expiredJob.getId()).orElseThrow().getError())
+        .isEqualTo(ERROR_JSON);
+  }
+
+  @Test
+  void markSucceeded_jobFailedByAnotherInstance_staysFailed() {
+    var importJob = importJobTracker.create(USER_ID, ImportJobType.PREVIEW, "statement.csv");
+    assertThat(importJobTracker.markRunning(importJob.getId())).isTrue();
+    var failedJob = importJobRepository.findById(importJob.getId()).orElseThrow();
+    failedJob.markFailed(ERROR_JSON, Instant.now());
+    importJobRepository.save(failedJob);
+
+    assertThat(importJobTracker.markSucceeded(importJob.getId(), "{}")).isFalse();
+    assertThat(importJobTracker.markRunning(importJob.getId())).isFalse();
+
+    assertThat(status(importJob)).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(importJobRepository.findById(importJob.getId()).orElseThrow().getResult()).isNull();
+  }
+
+  @Test
+  void markFailed_queuedJob_isFailedAndNoLongerRenewed() {
+    var importJob = importJobTracker.create(USER_ID, ImportJobType.PREVIEW, "statement.csv");
+
+    assertThat(importJobTracker.markFailed(importJob.getId(), ERROR_JSON)).isTrue();
+
+    assertThat(status(importJob)).isEqualTo(ImportJobStatus.FAILED);
+    assertThat(importJobTracker.renewLeases()).isZero();
+  }
+
+  @Test
+  void renewLeases_renewsOnlyJobsOfThisInstance() {
+    var importJob = importJobTracker.create(USER_ID, ImportJobType.PREVIEW, "statement.csv");
+    var otherJob = otherInstanceJob(Instant.now().minus(Duration.ofHours(3)));
+
+    assertThat(importJobTracker.renewLeases()).isEqualTo(1);
+
+    assertThat(importJobRepository.findById(otherJob.getId()).orElseThrow().getHeartbeatAt())
+        .isBefore(Instant.now().minus(Duration.ofHours(1)));
+    assertThat(importJobRepository.findById(importJob.getId()).orElseThrow().getInstanceId())
+        .isNotEqualTo(OTHER_INSTANCE_ID);
+  }
+
+  @Test
+  void purgeFinishedJobs_deletesOnlyJobsPastRetention() {
+    var oldJob = finishedJob(Instant.now().minus(Duration.ofDays(30)));
+    var recentJob = finishedJob(Instant.now().minus(Duration.ofDays(1)));
+    var runningJob = otherInstanceJob(Instant.now());
+
+    assertThat(importJobTracker.purgeFinishedJobs()).isEqualTo(1);
+
+    assertThat(importJobRepository.findById(oldJob.getId())).isEmpty();
+    assertThat(importJobRepository.findById(recentJob.getId())).isPresent();
+    assertThat(importJobRepository.findById(runningJob.getId())).isPresent();
+  }
+
+  private ImportJob otherInstanceJob(Instant heartbeatAt) {
+    var importJob = ImportJob.queued(USER_ID, ImportJobType.BATCH_IMPORT, "statement.csv");
+    importJob.leaseTo(OTHER_INSTANCE_ID, heartbeatAt);
+    importJob.markRunning(heartbeatAt);
+    return importJobRepository.save(importJob);
+  }
+
+  private ImportJob finishedJob(Instant completedAt) {
+    var importJob = ImportJob.queued(USER_ID, ImportJobType.PREVIEW, "statement.csv");
+    importJob.leaseTo(OTHER_INSTANCE_ID, completedAt);
+    importJob.markSucceeded("{}", completedAt);
+    return importJobRepository.save(importJob);
+  }
+
+  private ImportJobStatus status(ImportJob importJob) {
+    return importJobRepository.findById(importJob.getId()).orElseThrow().getStatus();
+  }
+}
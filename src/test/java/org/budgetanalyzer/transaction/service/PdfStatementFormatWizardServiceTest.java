@@ -25,6 +25,7 @@ import org.mockito.Mockito;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.FormatType;
 import org.budgetanalyzer.transaction.domain.ParserRevision;
 import org.budgetanalyzer.transaction.domain.ParserType;
@@ -57,7 +58,7 @@ class PdfStatementFormatWizardServiceTest {
   private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
   private final PdfStatementFormatWizardService pdfStatementFormatWizardService =
       new PdfStatementFormatWizardService(
-          new PdfTextExtractionService(),
+          new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)),
           statementFormatRepository,
           parserRevisionRepository,
           objectMapper);
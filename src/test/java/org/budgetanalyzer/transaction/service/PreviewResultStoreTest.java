@@ -0,0 +1,241 @@
+package org.budgetanalyzer.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import org.budgetanalyzer.transaction.config.PreviewImportTokenProperties;
+import org.budgetanalyzer.transaction.config.PreviewStoreProperties;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.service.dto.PreviewDuplicateReason;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
+class PreviewResultStoreTest {
+
+  private static final String USER_ID = "usr_test123";
+  private static final Duration TTL = Duration.ofMinutes(30);
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+  private final MutableClock clock = new MutableClock(Instant.parse("2026-05-01T12:00:00Z"));
+
+  @TempDir private Path spillDirectory;
+
+  private PreviewResultStore previewResultStore;
+
+  @BeforeEach
+  void setUp() {
+    previewResultStore = store(DataSize.ofMegabytes(1), DataSize.ofMegabytes(1));
+  }
+
+  @Test
+  void find_storedPreview_returnsRowsInOrder() {
+    var rows = List.of(previewTransaction("Coffee Shop"), previewTransaction("Grocery Store"));
+
+    previewResultStore.put("token-1", USER_ID, rows);
+
+    assertThat(previewResultStore.find("token-1", USER_ID)).contains(rows);
+  }
+
+  @Test
+  void find_otherOwner_returnsEmpty() {
+    previewResultStore.put("token-1", USER_ID, List.of(previewTransaction("Coffee Shop")));
+
+    assertThat(previewResultStore.find("token-1", "usr_other")).isEmpty();
+  }
+
+  @Test
+  void find_afterTtl_returnsEmpty() {
+    previewResultStore.put("token-1", USER_ID, List.of(previewTransaction("Coffee Shop")));
+
+    clock.advance(TTL.plusSeconds(1));
+
+    assertThat(previewResultStore.find("token-1", USER_ID)).isEmpty();
+  }
+
+  @Test
+  void findJobToken_returnsTokenOnlyToOwnerUntilTtl() {
+    var jobId = UUID.randomUUID();
+
+    previewResultStore.putJobToken(jobId, USER_ID, "token-1");
+
+    assertThat(previewResultStore.findJobToken(jobId, USER_ID)).contains("token-1");
+    assertThat(previewResultStore.findJobToken(jobId, "usr_other")).isEmpty();
+    clock.advance(TTL.plusSeconds(1));
+    assertThat(previewResultStore.findJobToken(jobId, USER_ID)).isEmpty();
+  }
+
+  @Test
+  void put_overMemoryBudget_spillsLeastRecentlyUsedPreviewToDisk() throws IOException {
+    var rowsPerPreview = rows(50);
+    var previewSize = objectMapper.writeValueAsBytes(rowsPerPreview).length;
+    previewResultStore =
+        store(DataSize.ofBytes(previewSize + previewSize / 2), DataSize.ofMegabytes(1));
+
+    previewResultStore.put("token-1", USER_ID, rowsPerPreview);
+    previewResultStore.put("token-2", USER_ID, rowsPerPreview);
+
+    assertThat(spillFiles()).hasSize(1);
+    assertThat(previewResultStore.find("token-1", USER_ID)).contains(rowsPerPreview);
+    assertThat(previewResultStore.find("token-2", USER_ID)).contains(rowsPerPreview);
+  }
+
+  @Test
+  void put_overDiskBudget_discardsSpilledPreview() throws IOException {
+    var rowsPerPreview = rows(50);
+    var previewSize = objectMapper.writeValueAsBytes(rowsPerPreview).length;
+    previewResultStore =
+        store(DataSize.ofBytes(previewSize + previewSize / 2), DataSize.ofBytes(previewSize / 2));
+
+    previewResultStore.put("token-1", USER_ID, rowsPerPreview);
+    previewResultStore.put("token-2", USER_ID, rowsPerPreview);
+
+    assertThat(spillFiles()).isEmpty();
+    assertThat(previewResultStore.find("token-1", USER_ID)).isEmpty();
+    assertThat(previewResultStore.find("token-2", USER_ID)).contains(rowsPerPreview);
+  }
+
+  @Test
+  void find_spilledPreview_keepsDuplicateMetadata() {
+    var rows =
+        List.of(
+            new PreviewTransaction(
+                LocalDate.of(2024, 1, 15),
+                "Coffee Shop",
+                new BigDecimal("4.50"),
+                TransactionType.DEBIT,
+                "Dining",
+                "Test Bank",
+                "USD",
+                "checking",
+                false,
+                true,
+                PreviewDuplicateReason.IN_BATCH));
+    previewResultStore = store(DataSize.ofBytes(1), DataSize.ofMegabytes(1));
+
+    previewResultStore.put("token-1", USER_ID, rows);
+
+    assertThat(previewResultStore.find("token-1", USER_ID)).contains(rows);
+  }
+
+  @Test
+  void close_deletesSpillFiles() throws IOException {
+    previewResultStore = store(DataSize.ofBytes(1), DataSize.ofMegabytes(1));
+    previewResultStore.put("token-1", USER_ID, rows(3));
+
+    previewResultStore.close();
+
+    assertThat(spillFiles()).isEmpty();
+  }
+
+  @Test
+  void close_keepsSpillFilesOfOtherStores() throws IOException {
+    var otherStore = store(DataSize.ofBytes(1), DataSize.ofMegabytes(1));
+    otherStore.put("token-1", USER_ID, rows(3));
+    previewResultStore = store(DataSize.ofBytes(1), DataSize.ofMegabytes(1));
+    previewResultStore.put("token-2", USER_ID, rows(3));
+
+    previewResultStore.close();
+
+    assertThat(spillFiles()).hasSize(1);
+    assertThat(otherStore.find("token-1", USER_ID)).contains(rows(3));
+  }
+
+  @Test
+  void put_overMemoryBudget_createsOwnerOnlySpillFiles() throws IOException {
+    assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    previewResultStore = store(DataSize.ofBytes(1), DataSize.ofMegabytes(1));
+
+    previewResultStore.put("token-1", USER_ID, rows(3));
+
+    var spillFile = spillFiles().getFirst();
+    assertThat(Files.getPosixFilePermissions(spillFile))
+        .isEqualTo(PosixFilePermissions.fromString("rw-------"));
+    assertThat(Files.getPosixFilePermissions(spillFile.getParent()))
+        .isEqualTo(PosixFilePermissions.fromString("rwx------"));
+  }
+
+  private PreviewResultStore store(DataSize maxMemorySize, DataSize maxDiskSize) {
+    return new PreviewResultStore(
+        new PreviewStoreProperties(maxMemorySize, maxDiskSize, spillDirectory),
+        new PreviewImportTokenProperties("test-secret", TTL),
+        new FileHashService(),
+        objectMapper,
+        clock);
+  }
+
+  private List<Path> spillFiles() throws IOException {
+    try (var files = Files.walk(spillDirectory)) {
+      return files.filter(Files::isRegularFile).toList();
+    }
+  }
+
+  private static List<PreviewTransaction> rows(int count) {
+    var rows = new ArrayList<PreviewTransaction>(count);
+    for (var i = 0; i < count; i++) {
+      rows.add(previewTransaction("Transaction " + i));
+    }
+    return rows;
+  }
+
+  private static PreviewTransaction previewTransaction(String description) {
+    return new PreviewTransaction(
+        LocalDate.of(2024, 1, 15),
+        description,
+        new BigDecimal("4.50"),
+        TransactionType.DEBIT,
+        null,
+        "Test Bank",
+        "USD",
+        "checking");
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -1,12 +1,17 @@
 package org.budgetanalyzer.transaction.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +25,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.api.request.TransactionFilter;
+import org.budgetanalyzer.transaction.domain.SavedViewMember;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.domain.ViewCriteria;
@@ -27,7 +34,7 @@ import org.budgetanalyzer.transaction.repository.SavedViewRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.service.dto.SavedViewCommand;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Import(TestClaimsSecurityConfig.class)
@@ -48,6 +55,10 @@ class SavedViewServiceIntegrationTest {
 
   @Autowired private TransactionRepository transactionRepository;
 
+  @Autowired private TransactionService transactionService;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
   @DynamicPropertySource
   static void configureProperties(DynamicPropertyRegistry registry) {
     registry.add("spring.datasource.url", postgres::getJdbcUrl);
@@ -349,7 +360,7 @@ class SavedViewServiceIntegrationTest {
     assertThat(result.updatedCount()).isEqualTo(2);
     assertThat(result.notFoundIds()).isEmpty();
 
-    var persistedView = savedViewRepository.findById(view.getId()).orElseThrow();
+    var persistedView = savedViewService.getView(view.getId(), USER_ID);
     assertThat(persistedView.getExcludedIds())
         .containsExactlyInAnyOrder(
             excludedMatchTransaction.getId(), excludedNonMatchTransaction.getId());
@@ -361,6 +372,237 @@ class SavedViewServiceIntegrationTest {
             excludedMatchTransaction.getId(), excludedNonMatchTransaction.getId());
   }
 
+  @Test
+  void getViewTransactions_ignoresPinsAndExclusionsThatBecameForeignOrDeleted() {
+    var matchedTransaction =
+        transactionRepository.save(
+            createTransaction("Matched", LocalDate.of(2024, 12, 15), TransactionType.DEBIT));
+    var pinnedTransaction =
+        transactionRepository.save(
+            createTransaction("Pinned", LocalDate.of(2025, 1, 10), TransactionType.DEBIT));
+    var foreignPinned =
+        transactionRepository.save(
+            createTransaction("Foreign pinned", LocalDate.of(2025, 1, 11), TransactionType.DEBIT));
+    var deletedPinned =
+        transactionRepository.save(
+            createTransaction("Deleted pinned", LocalDate.of(2025, 1, 12), TransactionType.DEBIT));
+    var foreignExcluded =
+        transactionRepository.save(
+            createTransaction(
+                "Foreign excluded", LocalDate.of(2024, 12, 16), TransactionType.DEBIT));
+    var deletedExcluded =
+        transactionRepository.save(
+            createTransaction(
+                "Deleted excluded", LocalDate.of(2024, 12, 17), TransactionType.DEBIT));
+
+    var criteria =
+        new ViewCriteria(
+            LocalDate.of(2024, 12, 1),
+            LocalDate.of(2024, 12, 31),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    var view =
+        savedViewService.createView(
+            USER_ID, new SavedViewCommand("December only", criteria, false));
+    savedViewService.bulkPinTransactions(
+        view.getId(),
+        USER_ID,
+        List.of(pinnedTransaction.getId(), foreignPinned.getId(), deletedPinned.getId()));
+    savedViewService.bulkExcludeTransactions(
+        view.getId(), USER_ID, List.of(foreignExcluded.getId(), deletedExcluded.getId()));
+
+    foreignPinned.setOwnerId("other-user");
+    transactionRepository.save(foreignPinned);
+    foreignExcluded.setOwnerId("other-user");
+    transactionRepository.save(foreignExcluded);
+    deletedPinned.markDeleted(USER_ID);
+    transactionRepository.save(deletedPinned);
+    deletedExcluded.markDeleted(USER_ID);
+    transactionRepository.save(deletedExcluded);
+
+    var membership = savedViewService.getViewTransactions(view.getId(), USER_ID);
+
+    assertThat(membership.matched()).containsExactly(matchedTransaction.getId());
+    assertThat(membership.pinned()).containsExactly(pinnedTransaction.getId());
+    assertThat(membership.excluded()).isEmpty();
+    var reloadedView = savedViewService.getView(view.getId(), USER_ID);
+    assertThat(savedViewService.countViewTransactions(reloadedView)).isEqualTo(2);
+  }
+
+  @Test
+  void pinAndExcludeTransaction_persistMembersAndTransactionDeleteRemovesThem() {
+    var transaction =
+        transactionRepository.save(
+            createTransaction("Member", LocalDate.of(2024, 12, 15), TransactionType.DEBIT));
+    var criteria = new ViewCriteria(null, null, null, null, null, null, null, null, null);
+    var view =
+        savedViewService.createView(USER_ID, new SavedViewCommand("Members", criteria, false));
+
+    savedViewService.pinTransaction(view.getId(), USER_ID, transaction.getId());
+    var pinnedView = savedViewService.getView(view.getId(), USER_ID);
+    assertThat(pinnedView.getPinnedIds()).containsExactly(transaction.getId());
+    assertThat(pinnedView.getExcludedIds()).isEmpty();
+
+    savedViewService.excludeTransaction(view.getId(), USER_ID, transaction.getId());
+    var excludedView = savedViewService.getView(view.getId(), USER_ID);
+    assertThat(excludedView.getPinnedIds()).isEmpty();
+    assertThat(excludedView.getExcludedIds()).containsExactly(transaction.getId());
+
+    transactionRepository.delete(transaction);
+    var cleanedView = savedViewService.getView(view.getId(), USER_ID);
+    assertThat(cleanedView.getPinnedIds()).isEmpty();
+    assertThat(cleanedView.getExcludedIds()).isEmpty();
+  }
+
+  @Test
+  void softDeleteTransactions_removesTheirViewMembers() {
+    var keptTransaction =
+        transactionRepository.save(
+            createTransaction("Kept", LocalDate.of(2024, 12, 15), TransactionType.DEBIT));
+    var singleDeleted =
+        transactionRepository.save(
+            createTransaction("Single delete", LocalDate.of(2024, 12, 16), TransactionType.DEBIT));
+    var bulkDeleted =
+        transactionRepository.save(
+            createTransaction("Bulk delete", LocalDate.of(2024, 12, 17), TransactionType.DEBIT));
+    var filterDeleted =
+        transactionRepository.save(
+            createTransaction(
+                "Filter delete",
+                LocalDate.of(2024, 12, 18),
+                TransactionType.DEBIT,
+                "checking-12345",
+                "Chase",
+                "USD"));
+    var criteria = new ViewCriteria(null, null, null, null, null, null, null, null, null);
+    var view =
+        savedViewService.createView(USER_ID, new SavedViewCommand("Members", criteria, false));
+    savedViewService.bulkPinTransactions(
+        view.getId(), USER_ID, List.of(keptTransaction.getId(), singleDeleted.getId()));
+    savedViewService.bulkExcludeTransactions(
+        view.getId(), USER_ID, List.of(bulkDeleted.getId(), filterDeleted.getId()));
+
+    transactionService.deleteTransaction(singleDeleted.getId(), USER_ID, false);
+    transactionService.bulkDeleteTransactions(List.of(bulkDeleted.getId()), USER_ID, false);
+    var filter =
+        new TransactionFilter(
+            null, null, null, "Chase", null, null, null, null, null, null, null, null, null, null,
+            null, null);
+    transactionService.bulkDeleteTransactionsMatching(filter, USER_ID, false);
+
+    assertThat(savedViewRepository.findMembers(List.of(view.getId())))
+        .extracting(SavedViewMember::getTransactionId)
+        .containsExactly(keptTransaction.getId());
+  }
+
+  @Test
+  void countViewTransactionsById_matchesMembershipOfEachView() {
+    var decemberDebit =
+        transactionRepository.save(
+            createTransaction("December debit", LocalDate.of(2024, 12, 15), TransactionType.DEBIT));
+    var decemberCredit =
+        transactionRepository.save(
+            createTransaction(
+                "December credit", LocalDate.of(2024, 12, 16), TransactionType.CREDIT));
+    var januaryDebit =
+        transactionRepository.save(
+            createTransaction("January debit", LocalDate.of(2025, 1, 10), TransactionType.DEBIT));
+
+    var decemberCriteria =
+        new ViewCriteria(
+            LocalDate.of(2024, 12, 1),
+            LocalDate.of(2024, 12, 31),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    var decemberView =
+        savedViewService.createView(
+            USER_ID, new SavedViewCommand("December", decemberCriteria, false));
+    savedViewService.pinTransaction(decemberView.getId(), USER_ID, januaryDebit.getId());
+    savedViewService.excludeTransaction(decemberView.getId(), USER_ID, decemberCredit.getId());
+    decemberView = savedViewService.getView(decemberView.getId(), USER_ID);
+
+    var debitCriteria =
+        new ViewCriteria(null, null, null, null, null, null, null, TransactionType.DEBIT, null);
+    var debitView =
+        savedViewService.createView(USER_ID, new SavedViewCommand("Debits", debitCriteria, false));
+    var emptyView =
+        savedViewService.createView(
+            USER_ID,
+            new SavedViewCommand(
+                "Nothing",
+                new ViewCriteria(
+                    LocalDate.of(2030, 1, 1), null, null, null, null, null, null, null, null),
+                false));
+
+    var counts =
+        savedViewService.countViewTransactionsById(List.of(decemberView, debitView, emptyView));
+
+    assertThat(counts)
+        .containsOnly(
+            entry(decemberView.getId(), 2L),
+            entry(debitView.getId(), 2L),
+            entry(emptyView.getId(), 0L));
+    assertThat(savedViewService.countViewTransactions(decemberView)).isEqualTo(2);
+    var decemberMembership = savedViewService.getViewTransactions(decemberView.getId(), USER_ID);
+    assertThat(decemberMembership.matched()).containsExactly(decemberDebit.getId());
+    assertThat(decemberMembership.pinned()).containsExactly(januaryDebit.getId());
+  }
+
+  @Test
+  void bulkPinAndExcludeTransactions_statementCountIndependentOfIdCount() {
+    var criteria = new ViewCriteria(null, null, null, null, null, null, null, null, null);
+    var view =
+        savedViewService.createView(USER_ID, new SavedViewCommand("Bulk", criteria, false));
+    var fewIds = saveTransactionIds(3);
+    var manyIds = saveTransactionIds(200);
+    manyIds.add(Long.MAX_VALUE);
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    savedViewService.bulkPinTransactions(view.getId(), USER_ID, fewIds);
+    var fewPinStatements = statistics.getPrepareStatementCount();
+    statistics.clear();
+    var pinResult = savedViewService.bulkPinTransactions(view.getId(), USER_ID, manyIds);
+    var manyPinStatements = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    savedViewService.bulkExcludeTransactions(view.getId(), USER_ID, fewIds);
+    var fewExcludeStatements = statistics.getPrepareStatementCount();
+    statistics.clear();
+    savedViewService.bulkExcludeTransactions(view.getId(), USER_ID, manyIds);
+    var manyExcludeStatements = statistics.getPrepareStatementCount();
+
+    assertThat(pinResult.updatedCount()).isEqualTo(200);
+    assertThat(pinResult.notFoundIds()).containsExactly(Long.MAX_VALUE);
+    assertThat(manyPinStatements).isEqualTo(fewPinStatements);
+    assertThat(manyExcludeStatements).isEqualTo(fewExcludeStatements);
+  }
+
+  private List<Long> saveTransactionIds(int count) {
+    var transactions = new ArrayList<Transaction>(count);
+    for (var index = 0; index < count; index++) {
+      transactions.add(
+          createTransaction(
+              "Bulk transaction " + index, LocalDate.of(2024, 12, 15), TransactionType.DEBIT));
+    }
+
+    var ids = new ArrayList<Long>(count);
+    for (var transaction : transactionRepository.saveAll(transactions)) {
+      ids.add(transaction.getId());
+    }
+    return ids;
+  }
+
   private Transaction createTransaction(
       String description, LocalDate date, TransactionType transactionType) {
     return createTransaction(
@@ -2,7 +2,9 @@ package org.budgetanalyzer.transaction.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -20,6 +22,8 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,11 +31,15 @@ import org.springframework.data.jpa.domain.Specification;
 
 import org.budgetanalyzer.service.exception.ResourceNotFoundException;
 import org.budgetanalyzer.transaction.domain.SavedView;
+import org.budgetanalyzer.transaction.domain.SavedViewMember;
+import org.budgetanalyzer.transaction.domain.SavedViewMemberType;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.domain.ViewCriteria;
 import org.budgetanalyzer.transaction.repository.SavedViewRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
+import org.budgetanalyzer.transaction.repository.TransactionViewMembershipOperations.ViewMembershipCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionViewMembershipOperations.ViewMembershipRow;
 import org.budgetanalyzer.transaction.service.dto.SavedViewCommand;
 import org.budgetanalyzer.transaction.service.dto.SavedViewPatch;
 import org.budgetanalyzer.transaction.service.dto.TransactionCriteria;
@@ -47,17 +55,15 @@ class SavedViewServiceTest {
 
   @InjectMocks private SavedViewService savedViewService;
 
+  @Captor private ArgumentCaptor<List<ViewMembershipCriteria>> viewsCaptor;
+
   private SavedView testView;
   private Transaction testTransaction1;
-  private Transaction testTransaction2;
-  private Transaction testTransaction3;
 
   @BeforeEach
   void setUp() {
     testView = createSavedView(VIEW_ID, USER_ID, "Test View");
     testTransaction1 = createTransaction(1L, "Coffee Shop", LocalDate.of(2024, 12, 1));
-    testTransaction2 = createTransaction(2L, "Grocery Store", LocalDate.of(2024, 12, 5));
-    testTransaction3 = createTransaction(3L, "Gas Station", LocalDate.of(2024, 12, 10));
   }
 
   // ==================== createView ====================
@@ -103,6 +109,41 @@ class SavedViewServiceTest {
     assertThat(result.getUserId()).isEqualTo(USER_ID);
   }
 
+  @Test
+  void getView_loadsPinnedAndExcludedMembers() {
+    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
+    when(savedViewRepository.findMembers(Set.of(VIEW_ID)))
+        .thenReturn(
+            List.of(
+                member(VIEW_ID, 1L, SavedViewMemberType.PINNED),
+                member(VIEW_ID, 2L, SavedViewMemberType.EXCLUDED),
+                member(VIEW_ID, 3L, SavedViewMemberType.PINNED)));
+
+    var result = savedViewService.getView(VIEW_ID, USER_ID);
+
+    assertThat(result.getPinnedIds()).containsExactlyInAnyOrder(1L, 3L);
+    assertThat(result.getExcludedIds()).containsExactly(2L);
+  }
+
+  @Test
+  void getViewsForUser_loadsMembersOfAllViewsInOneQuery() {
+    var otherView = createSavedView(UUID.randomUUID(), USER_ID, "Other View");
+    when(savedViewRepository.findByUserIdOrderByCreatedAtDesc(USER_ID))
+        .thenReturn(List.of(testView, otherView));
+    when(savedViewRepository.findMembers(Set.of(VIEW_ID, otherView.getId())))
+        .thenReturn(
+            List.of(
+                member(VIEW_ID, 1L, SavedViewMemberType.PINNED),
+                member(otherView.getId(), 1L, SavedViewMemberType.EXCLUDED)));
+
+    var result = savedViewService.getViewsForUser(USER_ID);
+
+    assertThat(result).containsExactly(testView, otherView);
+    assertThat(testView.getPinnedIds()).containsExactly(1L);
+    assertThat(otherView.getExcludedIds()).containsExactly(1L);
+    verify(savedViewRepository, times(1)).findMembers(any());
+  }
+
   @Test
   void getView_nonExistentView_throwsResourceNotFoundException() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.empty());
@@ -152,56 +193,45 @@ class SavedViewServiceTest {
   @Test
   @SuppressWarnings("unchecked")
   void getViewTransactions_criteriaOnly_returnsMatchingTransactions() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2));
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of(matchedRow(1L), matchedRow(2L)));
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
-    assertThat(result.matched()).hasSize(2);
-    assertThat(result.matched()).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result.matched()).containsExactly(1L, 2L);
     assertThat(result.pinned()).isEmpty();
     assertThat(result.excluded()).isEmpty();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void getViewTransactions_passesViewOwnerAndIdToSingleQuery() {
+    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of());
+
+    savedViewService.getViewTransactions(VIEW_ID, USER_ID);
+
+    verify(transactionRepository, never()).findAllNotDeleted(any(Specification.class));
+    verify(transactionRepository, never()).findByIdNotDeleted(any());
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void getViewTransactions_pinnedTransaction_appearsEvenIfNotMatchingCriteria() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 5),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
     testView.setPinnedIds(Set.of(3L));
 
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(3L)).thenReturn(Optional.of(testTransaction3));
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of(matchedRow(1L), row(3L, false, true, false)));
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
-    assertThat(result.matched()).hasSize(1);
     assertThat(result.matched()).containsExactly(1L);
-    assertThat(result.pinned()).hasSize(1);
     assertThat(result.pinned()).containsExactly(3L);
     assertThat(result.excluded()).isEmpty();
   }
@@ -209,151 +239,68 @@ class SavedViewServiceTest {
   @Test
   @SuppressWarnings("unchecked")
   void getViewTransactions_excludedTransaction_hiddenEvenIfMatchesCriteria() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
     testView.setExcludedIds(Set.of(2L));
 
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2, testTransaction3));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of(matchedRow(1L), row(2L, true, false, true), matchedRow(3L)));
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
-    assertThat(result.matched()).hasSize(2);
-    assertThat(result.matched()).containsExactlyInAnyOrder(1L, 3L);
-    assertThat(result.matched()).doesNotContain(2L);
+    assertThat(result.matched()).containsExactly(1L, 3L);
     assertThat(result.pinned()).isEmpty();
-    assertThat(result.excluded()).hasSize(1);
     assertThat(result.excluded()).containsExactly(2L);
   }
 
   @Test
   @SuppressWarnings("unchecked")
   void getViewTransactions_pinnedAndMatched_appearsInMatchedOnly() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
     testView.setPinnedIds(Set.of(1L, 2L));
 
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of(row(1L, true, true, false), row(2L, true, true, false)));
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
     // Both transactions match criteria and are pinned, so they appear in matched only (no
     // duplication)
-    assertThat(result.matched()).hasSize(2);
-    assertThat(result.matched()).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result.matched()).containsExactly(1L, 2L);
     assertThat(result.pinned()).isEmpty();
     assertThat(result.excluded()).isEmpty();
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void getViewTransactions_emptyView_returnsEmptyLists() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
+  void getViewTransactions_pinnedExcludedAndMatched_appearsInExcludedOnly() {
+    testView.setPinnedIds(Set.of(1L));
+    testView.setExcludedIds(Set.of(1L));
 
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class))).thenReturn(List.of());
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of(row(1L, true, true, true)));
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
     assertThat(result.matched()).isEmpty();
     assertThat(result.pinned()).isEmpty();
-    assertThat(result.excluded()).isEmpty();
-  }
-
-  @Test
-  @SuppressWarnings("unchecked")
-  void getViewTransactions_softDeletedPinnedTransaction_notIncluded() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setPinnedIds(Set.of(1L, 99L));
-
-    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(99L))
-        .thenReturn(Optional.empty()); // Soft-deleted
-
-    var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
-
-    // Transaction 1 is matched, transaction 99 is soft-deleted so not included
-    assertThat(result.matched()).hasSize(1);
-    assertThat(result.matched()).containsExactly(1L);
-    assertThat(result.pinned()).isEmpty();
-    assertThat(result.excluded()).isEmpty();
+    assertThat(result.excluded()).containsExactly(1L);
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void getViewTransactions_softDeletedExcludedTransaction_notIncluded() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setExcludedIds(Set.of(99L));
-
+  void getViewTransactions_emptyView_returnsEmptyLists() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(99L))
-        .thenReturn(Optional.empty()); // Soft-deleted
+    when(transactionRepository.findViewMembershipRows(
+            any(Specification.class), eq(USER_ID), eq(VIEW_ID)))
+        .thenReturn(List.of());
 
     var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
 
-    // Both transactions are matched, excluded transaction 99 is soft-deleted so not in excluded
-    // list
-    assertThat(result.matched()).hasSize(2);
-    assertThat(result.matched()).containsExactlyInAnyOrder(1L, 2L);
+    assertThat(result.matched()).isEmpty();
     assertThat(result.pinned()).isEmpty();
     assertThat(result.excluded()).isEmpty();
   }
@@ -400,177 +347,47 @@ class SavedViewServiceTest {
     assertThat(transactionCriteria.type()).isEqualTo(TransactionType.DEBIT);
   }
 
-  @Test
-  @SuppressWarnings("unchecked")
-  void getViewTransactions_excludesForeignOwnerTransactionsAcrossMembershipTypes() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setPinnedIds(Set.of(3L, 4L, 5L));
-    testView.setExcludedIds(Set.of(1L, 6L));
-
-    var ownedPinnedTransaction =
-        createTransaction(4L, "Owned Pin", LocalDate.of(2024, 12, 15), USER_ID);
-    var foreignPinnedTransaction =
-        createTransaction(5L, "Foreign Pin", LocalDate.of(2024, 12, 18), "usr_foreign");
-    var foreignExcludedTransaction =
-        createTransaction(6L, "Foreign Excluded", LocalDate.of(2024, 12, 20), "usr_foreign");
-
-    // findAllNotDeleted spec filters by ownerId, so only owned transactions are returned
-    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction3));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(3L)).thenReturn(Optional.of(testTransaction3));
-    when(transactionRepository.findByIdNotDeleted(4L))
-        .thenReturn(Optional.of(ownedPinnedTransaction));
-    when(transactionRepository.findByIdNotDeleted(5L))
-        .thenReturn(Optional.of(foreignPinnedTransaction));
-    when(transactionRepository.findByIdNotDeleted(6L))
-        .thenReturn(Optional.of(foreignExcludedTransaction));
-
-    var result = savedViewService.getViewTransactions(VIEW_ID, USER_ID);
-
-    // Foreign pinned/excluded still filtered at Java level in findTransactionsByIds
-    assertThat(result.matched()).containsExactly(3L);
-    assertThat(result.pinned()).containsExactly(4L);
-    assertThat(result.excluded()).containsExactly(1L);
-  }
-
-  @Test
-  @SuppressWarnings("unchecked")
-  void countViewTransactions_doesNotCountForeignOwnerTransactions() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setPinnedIds(Set.of(4L, 5L));
-    testView.setExcludedIds(Set.of(1L, 6L));
-
-    var ownedPinnedTransaction =
-        createTransaction(4L, "Owned Pin", LocalDate.of(2024, 12, 15), USER_ID);
-    var foreignPinnedTransaction =
-        createTransaction(5L, "Foreign Pin", LocalDate.of(2024, 12, 18), "usr_foreign");
-    var foreignExcludedTransaction =
-        createTransaction(6L, "Foreign Excluded", LocalDate.of(2024, 12, 20), "usr_foreign");
-
-    // findAllNotDeleted spec filters by ownerId, so only owned transactions are returned
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction3));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(4L))
-        .thenReturn(Optional.of(ownedPinnedTransaction));
-    when(transactionRepository.findByIdNotDeleted(5L))
-        .thenReturn(Optional.of(foreignPinnedTransaction));
-    when(transactionRepository.findByIdNotDeleted(6L))
-        .thenReturn(Optional.of(foreignExcludedTransaction));
-
-    var count = savedViewService.countViewTransactions(testView);
-
-    // matched: [1,3] - excluded [1] = [3] (1 match) + pinned: [4] - matching [1,3] = [4] (1 pin) =
-    // 2
-    assertThat(count).isEqualTo(2);
-  }
-
   // ==================== countViewTransactions ====================
 
   @Test
   @SuppressWarnings("unchecked")
-  void countViewTransactions_withPinsAndExclusions_calculatesCorrectCount() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setPinnedIds(Set.of(100L));
-    testView.setExcludedIds(Set.of(2L));
-
-    var pinnedTransaction = createTransaction(100L, "Pinned", LocalDate.of(2024, 12, 15));
-
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2, testTransaction3));
-    when(transactionRepository.findByIdNotDeleted(100L)).thenReturn(Optional.of(pinnedTransaction));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+  void countViewTransactions_usesCountOnlyQueryForView() {
+    when(transactionRepository.countViewMembers(eq(USER_ID), any(List.class)))
+        .thenReturn(List.of(3L));
 
     var count = savedViewService.countViewTransactions(testView);
 
-    // 3 matching - 1 excluded + 1 pinned = 3
     assertThat(count).isEqualTo(3);
+    verify(transactionRepository).countViewMembers(eq(USER_ID), viewsCaptor.capture());
+    assertThat(viewsCaptor.getValue())
+        .singleElement()
+        .satisfies(view -> assertThat(view.viewId()).isEqualTo(VIEW_ID));
+    verify(transactionRepository, never())
+        .findViewMembershipRows(any(Specification.class), any(), any());
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void countViewTransactions_softDeletedPinnedTransaction_notCounted() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setPinnedIds(Set.of(99L));
+  void countViewTransactionsById_countsAllViewsOfOwnerInOneQuery() {
+    var otherView = createSavedView(UUID.randomUUID(), USER_ID, "Other View");
 
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(99L))
-        .thenReturn(Optional.empty()); // Soft-deleted
+    when(transactionRepository.countViewMembers(eq(USER_ID), any(List.class)))
+        .thenReturn(List.of(4L, 1L));
 
-    var count = savedViewService.countViewTransactions(testView);
+    var counts = savedViewService.countViewTransactionsById(List.of(testView, otherView));
 
-    // 2 matching + 0 pinned (soft-deleted) = 2
-    assertThat(count).isEqualTo(2);
+    assertThat(counts).containsOnly(entry(VIEW_ID, 4L), entry(otherView.getId(), 1L));
+    verify(transactionRepository, times(1)).countViewMembers(eq(USER_ID), viewsCaptor.capture());
+    assertThat(viewsCaptor.getValue()).hasSize(2);
+    assertThat(viewsCaptor.getValue().get(1).viewId()).isEqualTo(otherView.getId());
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void countViewTransactions_softDeletedExcludedTransaction_stillCountsMatched() {
-    testView.setCriteria(
-        new org.budgetanalyzer.transaction.domain.ViewCriteria(
-            LocalDate.of(2024, 12, 1),
-            LocalDate.of(2024, 12, 31),
-            null,
-            null,
-            null,
-            null,
-            null,
-            null,
-            null));
-    testView.setExcludedIds(Set.of(99L));
+  void countViewTransactionsById_noViews_returnsEmptyMap() {
+    var counts = savedViewService.countViewTransactionsById(List.of());
 
-    when(transactionRepository.findAllNotDeleted(any(Specification.class)))
-        .thenReturn(List.of(testTransaction1, testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(99L))
-        .thenReturn(Optional.empty()); // Soft-deleted
-
-    var count = savedViewService.countViewTransactions(testView);
-
-    // 2 matching - 0 excluded (soft-deleted, so doesn't affect count) = 2
-    assertThat(count).isEqualTo(2);
+    assertThat(counts).isEmpty();
+    verify(transactionRepository, never()).countViewMembers(any(), any());
   }
 
   // ==================== pinTransaction ====================
@@ -585,6 +402,7 @@ class SavedViewServiceTest {
     var result = savedViewService.pinTransaction(VIEW_ID, USER_ID, 1L);
 
     assertThat(result.getPinnedIds()).contains(1L);
+    verify(savedViewRepository).upsertMembers(VIEW_ID, List.of(1L), SavedViewMemberType.PINNED);
   }
 
   @Test
@@ -597,6 +415,7 @@ class SavedViewServiceTest {
         .hasMessageContaining("Transaction not found");
 
     verify(savedViewRepository, never()).save(any());
+    verify(savedViewRepository, never()).upsertMembers(any(), any(), any());
   }
 
   @Test
@@ -625,6 +444,7 @@ class SavedViewServiceTest {
     var result = savedViewService.excludeTransaction(VIEW_ID, USER_ID, 1L);
 
     assertThat(result.getExcludedIds()).contains(1L);
+    verify(savedViewRepository).upsertMembers(VIEW_ID, List.of(1L), SavedViewMemberType.EXCLUDED);
   }
 
   @Test
@@ -641,14 +461,41 @@ class SavedViewServiceTest {
     assertThat(result.getPinnedIds()).doesNotContain(1L);
   }
 
+  // ==================== unpinTransaction / unexcludeTransaction ====================
+
+  @Test
+  void unpinTransaction_deletesPinnedMemberOnly() {
+    testView.setPinnedIds(new HashSet<>(Set.of(1L, 2L)));
+    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
+    when(savedViewRepository.save(any(SavedView.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    var result = savedViewService.unpinTransaction(VIEW_ID, USER_ID, 1L);
+
+    assertThat(result.getPinnedIds()).containsExactly(2L);
+    verify(savedViewRepository).deleteMember(VIEW_ID, 1L, SavedViewMemberType.PINNED);
+  }
+
+  @Test
+  void unexcludeTransaction_deletesExcludedMemberOnly() {
+    testView.setExcludedIds(new HashSet<>(Set.of(1L)));
+    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
+    when(savedViewRepository.save(any(SavedView.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    var result = savedViewService.unexcludeTransaction(VIEW_ID, USER_ID, 1L);
+
+    assertThat(result.getExcludedIds()).isEmpty();
+    verify(savedViewRepository).deleteMember(VIEW_ID, 1L, SavedViewMemberType.EXCLUDED);
+  }
+
   // ==================== bulkPinTransactions ====================
 
   @Test
   void bulkPinTransactions_allTransactionsFound_pinsAllTransactions() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(3L)).thenReturn(Optional.of(testTransaction3));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L, 3L), USER_ID))
+        .thenReturn(Set.of(1L, 2L, 3L));
 
     var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 2L, 3L));
 
@@ -656,14 +503,17 @@ class SavedViewServiceTest {
     assertThat(result.notFoundIds()).isEmpty();
     assertThat(testView.getPinnedIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
 
+    verify(transactionRepository, never()).findByIdNotDeleted(any());
+    verify(savedViewRepository)
+        .upsertMembers(VIEW_ID, Set.of(1L, 2L, 3L), SavedViewMemberType.PINNED);
     verify(savedViewRepository).save(testView);
   }
 
   @Test
   void bulkPinTransactions_duplicateValidIds_countsUniqueTransactions() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 1L, 2L));
 
@@ -675,9 +525,8 @@ class SavedViewServiceTest {
   @Test
   void bulkPinTransactions_partialSuccess_returnsNotFoundIds() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(999L)).thenReturn(Optional.empty());
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L, 999L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 2L, 999L));
 
@@ -690,8 +539,8 @@ class SavedViewServiceTest {
   void bulkPinTransactions_removesPinnedIdsFromExclusions() {
     testView.setExcludedIds(new HashSet<>(Set.of(1L, 2L)));
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 2L));
 
@@ -701,11 +550,9 @@ class SavedViewServiceTest {
 
   @Test
   void bulkPinTransactions_nonOwnedTransactions_returnedInNotFoundIds() {
-    var foreignTransaction =
-        createTransaction(2L, "Foreign", LocalDate.of(2024, 12, 2), "usr_other");
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(foreignTransaction));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L));
 
     var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 2L));
 
@@ -717,9 +564,8 @@ class SavedViewServiceTest {
   @Test
   void bulkPinTransactions_missingOrSoftDeletedTransactions_returnedInNotFoundIds() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(999L)).thenReturn(Optional.empty());
-    when(transactionRepository.findByIdNotDeleted(1000L)).thenReturn(Optional.empty());
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 999L, 1000L), USER_ID))
+        .thenReturn(Set.of(1L));
 
     var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(1L, 999L, 1000L));
 
@@ -739,28 +585,43 @@ class SavedViewServiceTest {
     verify(savedViewRepository, never()).save(any());
   }
 
+  @Test
+  void bulkPinTransactions_noValidIds_writesNothing() {
+    when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(999L), USER_ID)).thenReturn(Set.of());
+
+    var result = savedViewService.bulkPinTransactions(VIEW_ID, USER_ID, List.of(999L));
+
+    assertThat(result.updatedCount()).isZero();
+    assertThat(result.notFoundIds()).containsExactly(999L);
+    verify(savedViewRepository, never()).upsertMembers(any(), any(), any());
+    verify(savedViewRepository, never()).save(any());
+  }
+
   // ==================== bulkExcludeTransactions ====================
 
   @Test
   void bulkExcludeTransactions_allTransactionsFound_excludesAllTransactions() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(3L)).thenReturn(Optional.of(testTransaction3));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L, 3L), USER_ID))
+        .thenReturn(Set.of(1L, 2L, 3L));
 
     var result = savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 2L, 3L));
 
     assertThat(result.updatedCount()).isEqualTo(3);
     assertThat(result.notFoundIds()).isEmpty();
     assertThat(testView.getExcludedIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    verify(transactionRepository, never()).findByIdNotDeleted(any());
+    verify(savedViewRepository)
+        .upsertMembers(VIEW_ID, Set.of(1L, 2L, 3L), SavedViewMemberType.EXCLUDED);
     verify(savedViewRepository).save(testView);
   }
 
   @Test
   void bulkExcludeTransactions_duplicateValidIds_countsUniqueTransactions() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     var result = savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 1L, 2L));
 
@@ -772,9 +633,8 @@ class SavedViewServiceTest {
   @Test
   void bulkExcludeTransactions_partialSuccess_returnsNotFoundIds() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
-    when(transactionRepository.findByIdNotDeleted(999L)).thenReturn(Optional.empty());
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L, 999L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     var result = savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 2L, 999L));
 
@@ -787,8 +647,8 @@ class SavedViewServiceTest {
   void bulkExcludeTransactions_removesExcludedIdsFromPins() {
     testView.setPinnedIds(new HashSet<>(Set.of(1L, 2L)));
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(testTransaction2));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 2L));
 
@@ -798,11 +658,9 @@ class SavedViewServiceTest {
 
   @Test
   void bulkExcludeTransactions_nonOwnedTransactions_returnedInNotFoundIds() {
-    var foreignTransaction =
-        createTransaction(2L, "Foreign", LocalDate.of(2024, 12, 2), "usr_other");
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(foreignTransaction));
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 2L), USER_ID))
+        .thenReturn(Set.of(1L));
 
     var result = savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 2L));
 
@@ -814,9 +672,8 @@ class SavedViewServiceTest {
   @Test
   void bulkExcludeTransactions_missingOrSoftDeletedTransactions_returnedInNotFoundIds() {
     when(savedViewRepository.findByIdAndUserId(VIEW_ID, USER_ID)).thenReturn(Optional.of(testView));
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(testTransaction1));
-    when(transactionRepository.findByIdNotDeleted(999L)).thenReturn(Optional.empty());
-    when(transactionRepository.findByIdNotDeleted(1000L)).thenReturn(Optional.empty());
+    when(transactionRepository.findActiveIdsOwnedBy(List.of(1L, 999L, 1000L), USER_ID))
+        .thenReturn(Set.of(1L));
 
     var result =
         savedViewService.bulkExcludeTransactions(VIEW_ID, USER_ID, List.of(1L, 999L, 1000L));
@@ -828,6 +685,20 @@ class SavedViewServiceTest {
 
   // ==================== Helper Methods ====================
 
+  private static SavedViewMember member(
+      UUID viewId, Long transactionId, SavedViewMemberType membershipType) {
+    return new SavedViewMember(viewId, transactionId, membershipType);
+  }
+
+  private static ViewMembershipRow matchedRow(Long transactionId) {
+    return row(transactionId, true, false, false);
+  }
+
+  private static ViewMembershipRow row(
+      Long transactionId, boolean matched, boolean pinned, boolean excluded) {
+    return new ViewMembershipRow(transactionId, matched, pinned, excluded);
+  }
+
   private SavedView createSavedView(UUID id, String userId, String name) {
     var view = new SavedView();
     view.setId(id);
@@ -841,11 +712,6 @@ class SavedViewServiceTest {
   }
 
   private Transaction createTransaction(Long id, String description, LocalDate date) {
-    return createTransaction(id, description, date, USER_ID);
-  }
-
-  private Transaction createTransaction(
-      Long id, String description, LocalDate date, String ownerId) {
     var transaction = new Transaction();
     transaction.setId(id);
     transaction.setAccountId("test-account");
@@ -855,7 +721,7 @@ class SavedViewServiceTest {
     transaction.setAmount(BigDecimal.valueOf(100.00));
     transaction.setType(TransactionType.DEBIT);
     transaction.setDescription(description);
-    transaction.setOwnerId(ownerId);
+    transaction.setOwnerId(USER_ID);
     try {
       var createdAtField = transaction.getClass().getSuperclass().getDeclaredField("createdAt");
       createdAtField.setAccessible(true);
@@ -0,0 +1,409 @@
+package org.budgetanalyzer.transaction.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
+import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.repository.FileImportRepository;
+import org.budgetanalyzer.transaction.repository.ParserRevisionRepository;
+import org.budgetanalyzer.transaction.repository.StatementFormatRepository;
+import org.budgetanalyzer.transaction.repository.TransactionCopyWriter;
+import org.budgetanalyzer.transaction.repository.TransactionRepository;
+import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportRow;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+
+@SpringBootTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestClaimsSecurityConfig.class)
+class TransactionBulkIngestIntegrationTest {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(TransactionBulkIngestIntegrationTest.class);
+  private static final String USER_ID = "bulk-user";
+  private static final int BULK_INGEST_THRESHOLD = 100;
+  private static final int STREAM_CHUNK_SIZE = 100;
+
+  @Container
+  private static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:17-alpine")
+          .withDatabaseName("testdb")
+          .withUsername("test")
+          .withPassword("test");
+
+  @Autowired private TransactionService transactionService;
+
+  @Autowired private TransactionRepository transactionRepository;
+
+  @Autowired private TransactionCopyWriter transactionCopyWriter;
+
+  @Autowired private FileImportRepository fileImportRepository;
+
+  @Autowired private StatementFormatRepository statementFormatRepository;
+
+  @Autowired private ParserRevisionRepository parserRevisionRepository;
+
+  @Autowired private TransactionFingerprintBackfill transactionFingerprintBackfill;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    registry.add(
+        "budgetanalyzer.transaction.batch-import.bulk-ingest-threshold",
+        () -> String.valueOf(BULK_INGEST_THRESHOLD));
+    registry.add(
+        "budgetanalyzer.transaction.batch-import.stream-chunk-size",
+        () -> String.valueOf(STREAM_CHUNK_SIZE));
+  }
+
+  @BeforeEach
+  void cleanDatabase() {
+    transactionRepository.deleteAllInBatch();
+    fileImportRepository.deleteAllInBatch();
+  }
+
+  @Test
+  void batchImport_aboveThreshold_copiesRowsAndLinksFileImport() {
+    var transactions = previewTransactions(250);
+
+    var result =
+        transactionService.batchImport(transactions, USER_ID, fileImportSource("bulk.csv"));
+
+    assertThat(result.createdTransactions()).isEmpty();
+    assertThat(result.createdTransactionIds()).hasSize(250).doesNotHaveDuplicates();
+    var fileImport = fileImportRepository.findAll().getFirst();
+    assertThat(fileImport.getTransactionCount()).isEqualTo(250);
+    assertThat(
+            jdbcTemplate.queryForObject(
+                """
+                SELECT count(*) FROM transaction
+                WHERE file_import_id = ?
+                  AND owner_id = ?
+                  AND created_by = ?
+                  AND created_at IS NOT NULL
+                  AND deleted = false
+                """,
+                Long.class,
+                fileImport.getId(),
+                USER_ID,
+                USER_ID))
+        .isEqualTo(250L);
+  }
+
+  @Test
+  void batchImport_aboveThreshold_preservesColumnValues() {
+    var transactions = new ArrayList<>(previewTransactions(BULK_INGEST_THRESHOLD));
+    transactions.set(
+        0,
+        new PreviewTransaction(
+            LocalDate.of(2024, 2, 29),
+            "CAFÉ AMAZON สาขา 12",
+            new BigDecimal("0.05"),
+            TransactionType.CREDIT,
+            null,
+            "Bangkok Bank",
+            "THB",
+            null));
+    transactions.set(
+        1,
+        new PreviewTransaction(
+            LocalDate.of(2000, 1, 1),
+            "LARGE TRANSFER",
+            new BigDecimal("12345678.90"),
+            TransactionType.DEBIT,
+            null,
+            "Capital One",
+            "USD",
+            "checking-1"));
+
+    var result =
+        transactionService.batchImport(transactions, USER_ID, fileImportSource("values.csv"));
+
+    var ids = result.createdTransactionIds();
+    var first = transactionRepository.findById(ids.get(0)).orElseThrow();
+    assertThat(first.getDate()).isEqualTo(LocalDate.of(2024, 2, 29));
+    assertThat(first.getDescription()).isEqualTo("CAFÉ AMAZON สาขา 12");
+    assertThat(first.getAmount()).isEqualByComparingTo("0.05");
+    assertThat(first.getType()).isEqualTo(TransactionType.CREDIT);
+    assertThat(first.getBankName()).isEqualTo("Bangkok Bank");
+    assertThat(first.getCurrencyIsoCode()).isEqualTo("THB");
+    assertThat(first.getAccountId()).isNull();
+    var second = transactionRepository.findById(ids.get(1)).orElseThrow();
+    assertThat(second.getDate()).isEqualTo(LocalDate.of(2000, 1, 1));
+    assertThat(second.getAmount()).isEqualByComparingTo("12345678.90");
+    assertThat(second.getAccountId()).isEqualTo("checking-1");
+  }
+
+  @Test
+  void batchImport_copyFails_rollsBackFileImportAndRows() {
+    var transactions = new ArrayList<>(previewTransactions(BULK_INGEST_THRESHOLD));
+    transactions.add(
+        new PreviewTransaction(
+            LocalDate.of(2024, 3, 1),
+            "BANK NAME TOO LONG",
+            new BigDecimal("1.00"),
+            TransactionType.DEBIT,
+            null,
+            "B".repeat(300),
+            "USD",
+            null));
+
+    assertThatThrownBy(
+            () ->
+                transactionService.batchImport(
+                    transactions, USER_ID, fileImportSource("rollback.csv")))
+        .isInstanceOf(DataAccessException.class);
+    assertThat(transactionRepository.count()).isZero();
+    assertThat(fileImportRepository.count()).isZero();
+  }
+
+  @Test
+  void batchImport_afterCopy_jpaInsertsDoNotReuseCopiedIds() {
+    var result =
+        transactionService.batchImport(
+            previewTransactions(BULK_INGEST_THRESHOLD), USER_ID, fileImportSource("ids.csv"));
+
+    var created =
+        transactionService.createTransaction(
+            toTransaction(previewTransactions(1).getFirst()), USER_ID);
+
+    assertThat(result.createdTransactionIds()).doesNotContain(created.getId());
+  }
+
+  @Test
+  void batchImport_aboveThreshold_writesDuplicateFingerprints() {
+    var transactions = new ArrayList<>(previewTransactions(BULK_INGEST_THRESHOLD));
+    transactions.set(
+        0,
+        new PreviewTransaction(
+            LocalDate.of(2024, 2, 29),
+            "CAFÉ AMAZON สาขา 12",
+            new BigDecimal("0.05"),
+            TransactionType.CREDIT,
+            null,
+            "Bangkok Bank",
+            "THB",
+            null));
+
+    transactionService.batchImport(transactions, USER_ID, fileImportSource("fingerprints.csv"));
+
+    assertDuplicateFingerprints(BULK_INGEST_THRESHOLD);
+  }
+
+  @Test
+  void backfill_rowsWithoutFingerprint_computesSameValuesAsInsert() {
+    transactionService.batchImport(
+        previewTransactions(BULK_INGEST_THRESHOLD), USER_ID, fileImportSource("backfill.csv"));
+    jdbcTemplate.update(
+        "UPDATE transaction SET normalized_description = NULL, description_fingerprint = NULL");
+
+    transactionFingerprintBackfill.backfill();
+
+    assertDuplicateFingerprints(BULK_INGEST_THRESHOLD);
+  }
+
+  @Test
+  void backfill_lockHeldByAnotherInstance_leavesRowsPending() {
+    transactionService.batchImport(
+        previewTransactions(BULK_INGEST_THRESHOLD), USER_ID, fileImportSource("locked.csv"));
+    jdbcTemplate.update(
+        "UPDATE transaction SET normalized_description = NULL, description_fingerprint = NULL");
+
+    // The callback holds one pooled connection, standing in for another instance's session.
+    jdbcTemplate.execute(
+        (ConnectionCallback<Void>)
+            connection -> {
+              try (var statement = connection.createStatement()) {
+                statement.execute(
+                    "SELECT pg_advisory_lock(hashtext('transaction_fingerprint_backfill'))");
+                transactionFingerprintBackfill.backfill();
+                statement.execute(
+                    "SELECT pg_advisory_unlock(hashtext('transaction_fingerprint_backfill'))");
+              }
+              return null;
+            });
+
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM transaction WHERE description_fingerprint IS NULL",
+                Long.class))
+        .isEqualTo(BULK_INGEST_THRESHOLD);
+
+    transactionFingerprintBackfill.backfill();
+
+    assertDuplicateFingerprints(BULK_INGEST_THRESHOLD);
+  }
+
+  @Test
+  void batchImportStream_acrossChunks_skipsCrossChunkDuplicatesAndRecordsCount() {
+    var transactions = new ArrayList<>(previewTransactions(250));
+    // Row 150 lands in the second chunk and repeats row 10 from the first chunk.
+    transactions.set(150, transactions.get(10));
+
+    var result =
+        transactionService.batchImportStream(
+            rows(transactions), USER_ID, fileImportSource("stream.csv"));
+
+    assertThat(result.createdTransactionIds()).hasSize(249).doesNotHaveDuplicates();
+    assertThat(result.duplicatesSkipped()).isEqualTo(1);
+    assertThat(transactionRepository.count()).isEqualTo(249L);
+    assertThat(fileImportRepository.findAll().getFirst().getTransactionCount()).isEqualTo(249);
+  }
+
+  @Test
+  void batchImportStream_invalidRowAfterCommittedChunks_rollsBackEverything() {
+    var transactions = new ArrayList<>(previewTransactions(250));
+    var tooOld = transactions.get(240);
+    transactions.set(
+        240,
+        new PreviewTransaction(
+            LocalDate.of(1999, 12, 31),
+            tooOld.description(),
+            tooOld.amount(),
+            tooOld.type(),
+            null,
+            tooOld.bankName(),
+            tooOld.currencyIsoCode(),
+            tooOld.accountId()));
+
+    assertThatThrownBy(
+            () ->
+                transactionService.batchImportStream(
+                    rows(transactions), USER_ID, fileImportSource("stream-invalid.csv")))
+        .isInstanceOf(BatchValidationException.class);
+    assertThat(transactionRepository.count()).isZero();
+    assertThat(fileImportRepository.count()).isZero();
+  }
+
+  @Test
+  @Tag("benchmark")
+  void benchmark_copyVersusSaveAll() {
+    var rowCount = 20_000;
+    var saveAllRows = previewTransactions(rowCount).stream().map(this::toTransaction).toList();
+    var copyRows = previewTransactions(rowCount).stream().map(this::toTransaction).toList();
+
+    var saveAllStart = System.nanoTime();
+    transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(saveAllRows));
+    var saveAllMillis = (System.nanoTime() - saveAllStart) / 1_000_000;
+
+    var copyStart = System.nanoTime();
+    var copiedIds =
+        transactionTemplate.execute(
+            status -> transactionCopyWriter.insertAll(copyRows, USER_ID, Instant.now()));
+    var copyMillis = (System.nanoTime() - copyStart) / 1_000_000;
+
+    log.info(
+        "Inserted {} transactions: saveAll={} ms, COPY={} ms ({}x)",
+        rowCount,
+        saveAllMillis,
+        copyMillis,
+        String.format("%.1f", (double) saveAllMillis / Math.max(copyMillis, 1)));
+    assertThat(new HashSet<>(copiedIds)).hasSize(rowCount);
+    assertThat(transactionRepository.count()).isEqualTo(2L * rowCount);
+  }
+
+  private void assertDuplicateFingerprints(int expectedCount) {
+    assertThat(transactionRepository.findAll())
+        .hasSize(expectedCount)
+        .allSatisfy(
+            transaction -> {
+              var normalizedDescription =
+                  TransactionFingerprint.normalizeDescription(transaction.getDescription());
+              assertThat(transaction.getNormalizedDescription()).isEqualTo(normalizedDescription);
+              assertThat(transaction.getDescriptionFingerprint())
+                  .isEqualTo(
+                      TransactionFingerprint.compute(
+                          transaction.getOwnerId(),
+                          transaction.getBankName(),
+                          transaction.getDate(),
+                          transaction.getAmount(),
+                          transaction.getType(),
+                          transaction.getCurrencyIsoCode(),
+                          normalizedDescription));
+            });
+  }
+
+  private List<PreviewTransaction> previewTransactions(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            index ->
+                new PreviewTransaction(
+                    LocalDate.of(2023, 1, 1).plusDays(index % 365),
+                    "MERCHANT " + index,
+                    new BigDecimal((index + 1) + ".25"),
+                    TransactionType.DEBIT,
+                    null,
+                    "Capital One",
+                    "USD",
+                    "capital-one-credit"))
+        .toList();
+  }
+
+  private Iterator<BatchImportRow> rows(List<PreviewTransaction> transactions) {
+    return IntStream.range(0, transactions.size())
+        .mapToObj(index -> BatchImportRow.valid(index, transactions.get(index)))
+        .iterator();
+  }
+
+  private Transaction toTransaction(PreviewTransaction previewTransaction) {
+    var transaction = new Transaction();
+    transaction.setDate(previewTransaction.date());
+    transaction.setDescription(previewTransaction.description());
+    transaction.setAmount(previewTransaction.amount());
+    transaction.setType(previewTransaction.type());
+    transaction.setBankName(previewTransaction.bankName());
+    transaction.setCurrencyIsoCode(previewTransaction.currencyIsoCode());
+    transaction.setAccountId(previewTransaction.accountId());
+    transaction.setOwnerId(USER_ID);
+    return transaction;
+  }
+
+  private BatchFileImportSource fileImportSource(String originalFilename) {
+    return new BatchFileImportSource(
+        "abcdef0123456789abcdef0123456789abcdef0123456789abcdef0123456789",
+        originalFilename,
+        statementFormatRepository.findByEnabledTrue().getFirst().getId(),
+        parserRevisionRepository.findAll().getFirst().getId(),
+        "account-123",
+        2048L);
+  }
+}
@@ -3,6 +3,8 @@ package org.budgetanalyzer.transaction.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 class TransactionDescriptionMatcherTest {
@@ -143,6 +145,45 @@ class TransactionDescriptionMatcherTest {
     assertThat(transactionDescriptionMatchResult.similarityScore()).isEqualTo(1.0);
   }
 
+  @Test
+  void match_matchesDescriptionExactlyAtSimilarityThreshold() {
+    var transactionDescriptionMatchResult =
+        transactionDescriptionMatcher.match("ABCDEFGHIJ", 22L, "ABCDEFGHIX");
+
+    assertThat(transactionDescriptionMatchResult.matched()).isTrue();
+    assertThat(transactionDescriptionMatchResult.similarityScore()).isEqualTo(1.0 - 1.0 / 10);
+  }
+
+  @Test
+  void match_doesNotMatchWhenLengthDifferenceExceedsThreshold() {
+    var transactionDescriptionMatchResult =
+        transactionDescriptionMatcher.match("ABCDEFGHIJ", 23L, "ABCDEFGHIJKL");
+
+    assertThat(transactionDescriptionMatchResult.matched()).isFalse();
+  }
+
+  @Test
+  void match_agreesWithFullLevenshteinDistance() {
+    var random = new Random(42);
+
+    for (int iteration = 0; iteration < 20_000; iteration++) {
+      var incomingDescription = randomDescription(random, 8 + random.nextInt(40));
+      var candidateDescription = randomEdit(random, incomingDescription);
+
+      var transactionDescriptionMatchResult =
+          transactionDescriptionMatcher.match(incomingDescription, 1L, candidateDescription);
+
+      var expectedSimilarityScore = fullSimilarity(incomingDescription, candidateDescription);
+      var expectedMatch = expectedSimilarityScore >= 0.90;
+      assertThat(transactionDescriptionMatchResult.matched())
+          .as("%s vs %s", incomingDescription, candidateDescription)
+          .isEqualTo(expectedMatch);
+      assertThat(transactionDescriptionMatchResult.similarityScore())
+          .as("%s vs %s", incomingDescription, candidateDescription)
+          .isEqualTo(expectedMatch ? expectedSimilarityScore : 0.0);
+    }
+  }
+
   @Test
   void normalize_removesPunctuationWhitespaceCaseAndDiacritics() {
     var accentedDescription = " Caf" + Character.toString(0x00E9) + " - Market #42 ";
@@ -161,4 +202,51 @@ class TransactionDescriptionMatcherTest {
         .isThrownBy(() -> transactionDescriptionMatcher.match("Coffee", 1L, null))
         .withMessage("candidateDescription");
   }
+
+  private static String randomDescription(Random random, int length) {
+    var descriptionBuilder = new StringBuilder(length);
+    for (int index = 0; index < length; index++) {
+      descriptionBuilder.append((char) ('A' + random.nextInt(4)));
+    }
+    return descriptionBuilder.toString();
+  }
+
+  private static String randomEdit(Random random, String description) {
+    var descriptionBuilder = new StringBuilder(description);
+    var editCount = random.nextInt(description.length() / 5 + 2);
+    for (int edit = 0; edit < editCount && descriptionBuilder.length() > 1; edit++) {
+      var position = random.nextInt(descriptionBuilder.length());
+      var replacement = (char) ('A' + random.nextInt(4));
+      switch (random.nextInt(3)) {
+        case 0 -> descriptionBuilder.setCharAt(position, replacement);
+        case 1 -> descriptionBuilder.insert(position, replacement);
+        default -> descriptionBuilder.deleteCharAt(position);
+      }
+    }
+    return descriptionBuilder.toString();
+  }
+
+  private static double fullSimilarity(String first, String second) {
+    var previousDistances = new int[second.length() + 1];
+    var currentDistances = new int[second.length() + 1];
+    for (int secondIndex = 0; secondIndex <= second.length(); secondIndex++) {
+      previousDistances[secondIndex] = secondIndex;
+    }
+    for (int firstIndex = 1; firstIndex <= first.length(); firstIndex++) {
+      currentDistances[0] = firstIndex;
+      for (int secondIndex = 1; secondIndex <= second.length(); secondIndex++) {
+        var substitutionCost =
+            first.charAt(firstIndex - 1) == second.charAt(secondIndex - 1) ? 0 : 1;
+        currentDistances[secondIndex] =
+            Math.min(
+                Math.min(currentDistances[secondIndex - 1] + 1, previousDistances[secondIndex] + 1),
+                previousDistances[secondIndex - 1] + substitutionCost);
+      }
+      var nextPreviousDistances = previousDistances;
+      previousDistances = currentDistances;
+      currentDistances = nextPreviousDistances;
+    }
+    var maximumLength = Math.max(first.length(), second.length());
+    return 1.0 - ((double) previousDistances[second.length()] / maximumLength);
+  }
 }
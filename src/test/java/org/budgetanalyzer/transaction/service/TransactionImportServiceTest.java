@@ -22,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -29,12 +30,14 @@ import org.budgetanalyzer.service.exception.BusinessException;
 import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.ParserRevision;
 import org.budgetanalyzer.transaction.domain.StatementFormat;
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.repository.TransactionDuplicateCandidateCriteria;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository.TransactionDuplicateCandidate;
 import org.budgetanalyzer.transaction.service.dto.ParserAttempt;
 import org.budgetanalyzer.transaction.service.dto.PreviewDuplicateReason;
+import org.budgetanalyzer.transaction.service.dto.PreviewRowOverride;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
 import org.budgetanalyzer.transaction.service.extractor.StatementExtractor;
 import org.budgetanalyzer.transaction.service.extractor.StatementExtractorRegistry;
@@ -56,6 +59,8 @@ class TransactionImportServiceTest {
 
   @Mock private PreviewImportTokenService previewImportTokenService;
 
+  @Mock private PreviewResultStore previewResultStore;
+
   @InjectMocks private TransactionImportService transactionImportService;
 
   @Test
@@ -104,6 +109,7 @@ class TransactionImportServiceTest {
             eq(102L),
             eq("checking"),
             any());
+    verify(previewResultStore).put("preview-token", USER_ID, result.transactions());
   }
 
   @Test
@@ -176,6 +182,26 @@ class TransactionImportServiceTest {
         .isEqualTo(PreviewDuplicateReason.EXISTING_TRANSACTION);
   }
 
+  @Test
+  void previewFile_existingCandidatePendingBackfill_normalizesStoredDescription() {
+    var previewTransaction = previewTransaction("X CORP. PAID FEATURESBASTROPTX");
+    var candidateKey = TransactionDuplicateCandidateKey.from(previewTransaction);
+    var candidateCriteria = candidateCriteria(candidateKey);
+    var multipartFile = multipartFile();
+
+    stubSuccessfulParse(List.of(previewTransaction), multipartFile, Optional.empty());
+    when(transactionRepository.findDuplicateCandidates(Set.of(candidateCriteria), USER_ID))
+        .thenReturn(
+            List.of(
+                new TestTransactionDuplicateCandidate(
+                    candidateCriteria, 42L, "X CORP. PAID FEATURES BASTROP     TX", null)));
+
+    var result = transactionImportService.previewFile(42L, "checking", multipartFile, USER_ID);
+
+    assertThat(result.transactions().getFirst().duplicateReason())
+        .isEqualTo(PreviewDuplicateReason.EXISTING_TRANSACTION);
+  }
+
   @Test
   void previewFile_existingCandidateWithDifferentDescription_doesNotMarkDuplicate() {
     var previewTransaction = previewTransaction("Rent Payment May");
@@ -394,6 +420,93 @@ class TransactionImportServiceTest {
             any(StatementFormat.class), any(byte[].class), eq("transactions.csv"), eq("checking"));
   }
 
+  @Test
+  void getStoredPreviewTransactions_appliesOverridesAndClearsPreviewMetadata() {
+    var storedRows =
+        List.of(
+            duplicatePreviewTransaction("Coffee Shop"),
+            previewTransaction("Grocery Store"),
+            previewTransaction("Gas Station"));
+    when(previewResultStore.find("preview-token", USER_ID)).thenReturn(Optional.of(storedRows));
+
+    var result =
+        transactionImportService.getStoredPreviewTransactions(
+            "preview-token",
+            USER_ID,
+            List.of(
+                new PreviewRowOverride(1, true, null, null, null, null),
+                new PreviewRowOverride(2, false, true, "Fuel", "Auto", "savings")));
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(0).description()).isEqualTo("Coffee Shop");
+    assertThat(result.get(0).duplicate()).isFalse();
+    assertThat(result.get(0).duplicateReason()).isNull();
+    assertThat(result.get(0).allowDuplicate()).isFalse();
+    assertThat(result.get(1).description()).isEqualTo("Fuel");
+    assertThat(result.get(1).category()).isEqualTo("Auto");
+    assertThat(result.get(1).accountId()).isEqualTo("savings");
+    assertThat(result.get(1).amount()).isEqualByComparingTo("4.50");
+    assertThat(result.get(1).allowDuplicate()).isTrue();
+  }
+
+  @Test
+  void getStoredPreviewTransactions_invalidOverrideIndexes_throwsBatchValidationException() {
+    when(previewResultStore.find("preview-token", USER_ID))
+        .thenReturn(Optional.of(List.of(previewTransaction("Coffee Shop"))));
+
+    assertThatThrownBy(
+            () ->
+                transactionImportService.getStoredPreviewTransactions(
+                    "preview-token",
+                    USER_ID,
+                    List.of(
+                        new PreviewRowOverride(0, true, null, null, null, null),
+                        new PreviewRowOverride(0, false, true, null, null, null),
+                        new PreviewRowOverride(5, true, null, null, null, null))))
+        .isInstanceOf(BatchValidationException.class)
+        .satisfies(
+            exception -> {
+              var fieldErrors = ((BusinessException) exception).getFieldErrors();
+              assertThat(fieldErrors).hasSize(2);
+              assertThat(fieldErrors.get(0).getIndex()).isEqualTo(0);
+              assertThat(fieldErrors.get(1).getIndex()).isEqualTo(5);
+            });
+  }
+
+  @Test
+  void getStoredPreviewTransactions_previewNotStored_throwsPreviewResultNotFound() {
+    when(previewResultStore.find("preview-token", USER_ID)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(
+            () ->
+                transactionImportService.getStoredPreviewTransactions(
+                    "preview-token", USER_ID, List.of()))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(
+            exception ->
+                assertThat(((BusinessException) exception).getCode())
+                    .isEqualTo(BudgetAnalyzerError.PREVIEW_RESULT_NOT_FOUND.name()));
+  }
+
+  @Test
+  void getStoredPreviewPage_returnsRequestedSliceInPreviewOrder() {
+    var storedRows =
+        List.of(
+            previewTransaction("Coffee Shop"),
+            previewTransaction("Grocery Store"),
+            previewTransaction("Gas Station"));
+    when(previewResultStore.find("preview-token", USER_ID)).thenReturn(Optional.of(storedRows));
+
+    var page =
+        transactionImportService.getStoredPreviewPage(
+            "preview-token", USER_ID, PageRequest.of(1, 2));
+
+    assertThat(page.getContent())
+        .extracting(PreviewTransaction::description)
+        .containsExactly("Gas Station");
+    assertThat(page.getTotalElements()).isEqualTo(3);
+  }
+
   private void stubSuccessfulParse(
       List<PreviewTransaction> previewTransactions,
       MockMultipartFile multipartFile,
@@ -446,6 +559,21 @@ class TransactionImportServiceTest {
         "checking");
   }
 
+  private static PreviewTransaction duplicatePreviewTransaction(String description) {
+    return new PreviewTransaction(
+        LocalDate.of(2024, 1, 15),
+        description,
+        new BigDecimal("4.50"),
+        TransactionType.DEBIT,
+        null,
+        "Test Bank",
+        "USD",
+        "checking",
+        false,
+        true,
+        PreviewDuplicateReason.EXISTING_TRANSACTION);
+  }
+
   private static MockMultipartFile multipartFile() {
     return multipartFile("transactions.csv");
   }
@@ -475,7 +603,10 @@ class TransactionImportServiceTest {
   private static TransactionDuplicateCandidate duplicateCandidate(
       TransactionDuplicateCandidateKey candidateKey, Long transactionId, String description) {
     return new TestTransactionDuplicateCandidate(
-        candidateCriteria(candidateKey), transactionId, description);
+        candidateCriteria(candidateKey),
+        transactionId,
+        description,
+        TransactionFingerprint.normalizeDescription(description));
   }
 
   private static TransactionDuplicateCandidateCriteria candidateCriteria(
@@ -491,7 +622,8 @@ class TransactionImportServiceTest {
   private record TestTransactionDuplicateCandidate(
       TransactionDuplicateCandidateCriteria candidateCriteria,
       Long transactionId,
-      String description)
+      String description,
+      String normalizedDescription)
       implements TransactionDuplicateCandidate {
 
     @Override
@@ -508,5 +640,10 @@ class TransactionImportServiceTest {
     public String getDescription() {
       return description;
     }
+
+    @Override
+    public String getNormalizedDescription() {
+      return normalizedDescription;
+    }
   }
 }
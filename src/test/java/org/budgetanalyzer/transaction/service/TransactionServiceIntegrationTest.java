@@ -6,7 +6,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +25,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import org.budgetanalyzer.service.exception.BusinessException;
 import org.budgetanalyzer.service.security.test.TestClaimsSecurityConfig;
+import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.repository.FileImportRepository;
 import org.budgetanalyzer.transaction.repository.ParserRevisionRepository;
@@ -54,12 +59,21 @@ class TransactionServiceIntegrationTest {
 
   @Autowired private ParserRevisionRepository parserRevisionRepository;
 
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
   @DynamicPropertySource
   static void configureProperties(DynamicPropertyRegistry registry) {
-    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add(
+        "spring.datasource.url",
+        () -> withUrlParameter(postgres.getJdbcUrl(), "reWriteBatchedInserts=true"));
     registry.add("spring.datasource.username", postgres::getUsername);
     registry.add("spring.datasource.password", postgres::getPassword);
     registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+  }
+
+  private static String withUrlParameter(String jdbcUrl, String parameter) {
+    return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + parameter;
   }
 
   @BeforeEach
@@ -118,6 +132,36 @@ class TransactionServiceIntegrationTest {
     assertThat(transactionRepository.findAll()).hasSize(2);
   }
 
+  @Test
+  void batchImport_largeBatch_insertsTransactionsInJdbcBatches() {
+    var rowCount = 3_000;
+    var transactions =
+        IntStream.range(0, rowCount)
+            .mapToObj(
+                index ->
+                    previewTransaction(
+                        LocalDate.of(2024, 1, 1).plusDays(index % 365),
+                        "MERCHANT " + index,
+                        (index + 1) + ".00"))
+            .toList();
+    var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    var result =
+        transactionService.batchImport(
+            transactions, USER_ID, fileImportSource("statement-large-batch.csv"));
+
+    // One sequence call and one insert batch per block of IDs, plus a constant number of
+    // statements for duplicate candidate lookup and file import tracking. IDENTITY generation
+    // would prepare one INSERT per row.
+    var blockCount =
+        (rowCount + Transaction.ID_ALLOCATION_SIZE - 1) / Transaction.ID_ALLOCATION_SIZE;
+    assertThat(result.createdTransactions()).hasSize(rowCount);
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(rowCount + 1L);
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * blockCount + 10L);
+    assertThat(transactionRepository.count()).isEqualTo(rowCount);
+  }
+
   private PreviewTransaction previewTransaction(LocalDate date, String description, String amount) {
     return new PreviewTransaction(
         date,
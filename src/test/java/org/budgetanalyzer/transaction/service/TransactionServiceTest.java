@@ -3,6 +3,7 @@ package org.budgetanalyzer.transaction.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -17,8 +18,15 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -32,17 +40,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
+import org.budgetanalyzer.service.api.FieldError;
 import org.budgetanalyzer.service.exception.BusinessException;
 import org.budgetanalyzer.service.exception.ResourceNotFoundException;
 import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.Transaction;
+import org.budgetanalyzer.transaction.domain.TransactionFingerprint;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.repository.TransactionDuplicateCandidateCriteria;
+import org.budgetanalyzer.transaction.repository.TransactionExactDuplicateCriteria;
 import org.budgetanalyzer.transaction.repository.TransactionRepository;
 import org.budgetanalyzer.transaction.repository.TransactionRepository.TransactionDuplicateCandidate;
 import org.budgetanalyzer.transaction.service.dto.BatchFileImportSource;
+import org.budgetanalyzer.transaction.service.dto.BatchImportRow;
 import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +72,8 @@ class TransactionServiceTest {
 
   @Mock private FileImportTrackingService fileImportTrackingService;
 
+  @Mock private TransactionBulkIngestService transactionBulkIngestService;
+
   @InjectMocks private TransactionService transactionService;
 
   // ==================== createTransaction ====================
@@ -306,6 +323,7 @@ class TransactionServiceTest {
             argThat(
                 t ->
                     t.isDeleted() && t.getDeletedBy().equals(USER_ID) && t.getDeletedAt() != null));
+    verify(transactionRepository, times(1)).deleteViewMembers(1L);
   }
 
   @Test
@@ -340,92 +358,156 @@ class TransactionServiceTest {
   @Test
   void bulkDeleteTransactions_allFound_deletesAllTransactions() {
     // Given: 3 transactions exist owned by user
-    var transaction1 = createTransaction(1L, "DESC1", BigDecimal.valueOf(100));
-    var transaction2 = createTransaction(2L, "DESC2", BigDecimal.valueOf(200));
-    var transaction3 = createTransaction(3L, "DESC3", BigDecimal.valueOf(300));
-
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(transaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(transaction2));
-    when(transactionRepository.findByIdNotDeleted(3L)).thenReturn(Optional.of(transaction3));
-
     var ids = List.of(1L, 2L, 3L);
+    when(transactionRepository.softDeleteByIds(ids, USER_ID, USER_ID))
+        .thenReturn(Set.of(1L, 2L, 3L));
 
     // When: bulk delete is called
     var result = transactionService.bulkDeleteTransactions(ids, USER_ID, NOT_ADMIN);
 
-    // Then: all transactions are marked as deleted
+    // Then: all transactions are deleted with one set-based statement
     assertThat(result.deletedCount()).isEqualTo(3);
     assertThat(result.notFoundIds()).isEmpty();
 
-    verify(transactionRepository, times(3)).save(any(Transaction.class));
-    assertThat(transaction1.isDeleted()).isTrue();
-    assertThat(transaction2.isDeleted()).isTrue();
-    assertThat(transaction3.isDeleted()).isTrue();
+    verify(transactionRepository, never()).findByIdNotDeleted(anyLong());
+    verify(transactionRepository, never()).save(any(Transaction.class));
   }
 
   @Test
   void bulkDeleteTransactions_someNotFound_returnsPartialSuccess() {
     // Given: 2 transactions exist, 2 don't
-    var transaction1 = createTransaction(1L, "DESC1", BigDecimal.valueOf(100));
-    var transaction2 = createTransaction(2L, "DESC2", BigDecimal.valueOf(200));
-
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(transaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(transaction2));
-    when(transactionRepository.findByIdNotDeleted(9999L)).thenReturn(Optional.empty());
-    when(transactionRepository.findByIdNotDeleted(8888L)).thenReturn(Optional.empty());
-
-    var ids = List.of(1L, 2L, 9999L, 8888L);
+    var ids = List.of(1L, 9999L, 2L, 8888L);
+    when(transactionRepository.softDeleteByIds(ids, USER_ID, USER_ID))
+        .thenReturn(Set.of(1L, 2L));
 
     // When: bulk delete is called
     var result = transactionService.bulkDeleteTransactions(ids, USER_ID, NOT_ADMIN);
 
-    // Then: only existing transactions are deleted
+    // Then: missing IDs are reported in request order
     assertThat(result.deletedCount()).isEqualTo(2);
-    assertThat(result.notFoundIds()).containsExactlyInAnyOrder(9999L, 8888L);
-
-    verify(transactionRepository, times(2)).save(any(Transaction.class));
+    assertThat(result.notFoundIds()).containsExactly(9999L, 8888L);
   }
 
   @Test
-  void bulkDeleteTransactions_alreadyDeleted_treatedAsNotFound() {
-    // Given: 2 transactions, but one is already deleted
-    var transaction1 = createTransaction(1L, "DESC1", BigDecimal.valueOf(100));
-
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(transaction1));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.empty());
-
+  void bulkDelete_nonAdmin_scopesDeleteToOwner() {
+    // Given: the repository deletes only the caller's transaction
     var ids = List.of(1L, 2L);
+    when(transactionRepository.softDeleteByIds(ids, USER_ID, USER_ID)).thenReturn(Set.of(1L));
 
-    // When: bulk delete is called
+    // When: non-admin bulk deletes
     var result = transactionService.bulkDeleteTransactions(ids, USER_ID, NOT_ADMIN);
 
-    // Then: only non-deleted transaction is counted
+    // Then: the other user's transaction is "not found"
     assertThat(result.deletedCount()).isEqualTo(1);
     assertThat(result.notFoundIds()).containsExactly(2L);
+  }
 
-    verify(transactionRepository, times(1)).save(any(Transaction.class));
+  @Test
+  void bulkDelete_admin_deletesAcrossOwners() {
+    // Given: an admin may delete any owner's transactions
+    var ids = List.of(1L, 2L);
+    when(transactionRepository.softDeleteByIds(ids, null, USER_ID)).thenReturn(Set.of(1L, 2L));
+
+    // When: admin bulk deletes
+    var result = transactionService.bulkDeleteTransactions(ids, USER_ID, IS_ADMIN);
+
+    // Then: the delete is not owner-scoped
+    assertThat(result.deletedCount()).isEqualTo(2);
+    assertThat(result.notFoundIds()).isEmpty();
   }
 
+  // ==================== bulkDeleteTransactionsMatching ====================
+
+  @SuppressWarnings("unchecked")
   @Test
-  void bulkDelete_mixedOwnership_nonAdmin_treatsOthersAsNotFound() {
-    // Given: 2 transactions, one owned by user, one by another
-    var ownedTransaction = createTransaction(1L, "Mine", BigDecimal.valueOf(100));
-    var otherTransaction = createTransaction(2L, "Theirs", BigDecimal.valueOf(200));
-    otherTransaction.setOwnerId(OTHER_USER_ID);
+  void bulkDeleteTransactionsMatching_nonAdmin_addsOwnerScope() {
+    // Given: a filter naming another owner
+    var filter =
+        new org.budgetanalyzer.transaction.api.request.TransactionFilter(
+            null,
+            OTHER_USER_ID,
+            null,
+            "Test Bank",
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    when(transactionRepository.softDeleteAllNotDeleted(any(Specification.class), eq(USER_ID)))
+        .thenReturn(4);
 
-    when(transactionRepository.findByIdNotDeleted(1L)).thenReturn(Optional.of(ownedTransaction));
-    when(transactionRepository.findByIdNotDeleted(2L)).thenReturn(Optional.of(otherTransaction));
+    // When: non-admin deletes by filter
+    var result = transactionService.bulkDeleteTransactionsMatching(filter, USER_ID, NOT_ADMIN);
 
-    var ids = List.of(1L, 2L);
+    // Then: the caller's owner predicate is applied in addition to the filter's
+    assertThat(result).isEqualTo(4);
 
-    // When: non-admin bulk deletes
-    var result = transactionService.bulkDeleteTransactions(ids, USER_ID, NOT_ADMIN);
+    @SuppressWarnings("rawtypes")
+    ArgumentCaptor<Specification> specCaptor = ArgumentCaptor.forClass(Specification.class);
+    verify(transactionRepository).softDeleteAllNotDeleted(specCaptor.capture(), eq(USER_ID));
 
-    // Then: only owned transaction is deleted, other is "not found"
-    assertThat(result.deletedCount()).isEqualTo(1);
-    assertThat(result.notFoundIds()).containsExactly(2L);
+    var capturedSpec = specCaptor.getValue();
+
+    Root<Transaction> root = mock(Root.class, RETURNS_DEEP_STUBS);
+    CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+    CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+
+    capturedSpec.toPredicate(root, cq, cb);
+
+    verify(cb).equal(root.get("ownerId"), OTHER_USER_ID);
+    verify(cb).equal(root.get("ownerId"), USER_ID);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void bulkDeleteTransactionsMatching_admin_usesFilterOwnerOnly() {
+    // Given: an admin filter naming another owner
+    var filter =
+        new org.budgetanalyzer.transaction.api.request.TransactionFilter(
+            null,
+            OTHER_USER_ID,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+    when(transactionRepository.softDeleteAllNotDeleted(any(Specification.class), eq(USER_ID)))
+        .thenReturn(7);
+
+    // When: admin deletes by filter
+    var result = transactionService.bulkDeleteTransactionsMatching(filter, USER_ID, IS_ADMIN);
+
+    // Then: only the filter's owner predicate is applied
+    assertThat(result).isEqualTo(7);
+
+    @SuppressWarnings("rawtypes")
+    ArgumentCaptor<Specification> specCaptor = ArgumentCaptor.forClass(Specification.class);
+    verify(transactionRepository).softDeleteAllNotDeleted(specCaptor.capture(), eq(USER_ID));
+
+    var capturedSpec = specCaptor.getValue();
+
+    Root<Transaction> root = mock(Root.class, RETURNS_DEEP_STUBS);
+    CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+    CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
 
-    verify(transactionRepository, times(1)).save(any(Transaction.class));
+    capturedSpec.toPredicate(root, cq, cb);
+
+    verify(cb).equal(root.get("ownerId"), OTHER_USER_ID);
+    verify(cb, never()).equal(root.get("ownerId"), USER_ID);
   }
 
   // ==================== getTransactions ====================
@@ -520,6 +602,101 @@ class TransactionServiceTest {
     verify(cb).equal(root.get("ownerId"), "owner-abc");
   }
 
+  // ==================== searchWindow (admin, keyset) ====================
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void searchWindow_completesSortWithIdAndDelegatesToScroll() {
+    // Given: repository returns an empty window
+    var position = ScrollPosition.keyset();
+    var keysetSort = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+    when(transactionRepository.scrollNotDeleted(
+            any(Specification.class), eq(keysetSort), eq(position), eq(25)))
+        .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+    // When: searchWindow is called with a sort that lacks id
+    var result =
+        transactionService.searchWindow(
+            emptyFilter(), Sort.by(Sort.Direction.DESC, "date"), position, 25);
+
+    // Then: the repository scrolls with the id tiebreaker appended
+    assertThat(result).isEmpty();
+    verify(transactionRepository)
+        .scrollNotDeleted(any(Specification.class), eq(keysetSort), eq(position), eq(25));
+  }
+
+  @Test
+  void keysetSort_appendsIdInDirectionOfLastOrder() {
+    var sort = Sort.by(Sort.Order.desc("date"), Sort.Order.asc("amount"));
+
+    assertThat(TransactionService.keysetSort(sort))
+        .isEqualTo(
+            Sort.by(Sort.Order.desc("date"), Sort.Order.asc("amount"), Sort.Order.asc("id")));
+  }
+
+  @Test
+  void keysetSort_keepsSortThatAlreadyContainsId() {
+    var sort = Sort.by(Sort.Order.asc("id"), Sort.Order.desc("date"));
+
+    assertThat(TransactionService.keysetSort(sort)).isEqualTo(sort);
+  }
+
+  @Test
+  void keysetSort_unsorted_ordersByIdDescending() {
+    assertThat(TransactionService.keysetSort(Sort.unsorted()))
+        .isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+  }
+
+  // ==================== searchForUser / streamTransactions ====================
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void searchForUser_filtersByOwnerAndPassesPageable() {
+    // Given: repository returns a page
+    var pageable = PageRequest.of(1, 20);
+    when(transactionRepository.findAllNotDeleted(any(Specification.class), eq(pageable)))
+        .thenReturn(Page.empty());
+
+    // When: the user searches their own transactions
+    transactionService.searchForUser(emptyFilter(), USER_ID, pageable);
+
+    // Then: the specification includes an ownerId equality predicate
+    @SuppressWarnings("rawtypes")
+    ArgumentCaptor<Specification> specCaptor = ArgumentCaptor.forClass(Specification.class);
+    verify(transactionRepository).findAllNotDeleted(specCaptor.capture(), eq(pageable));
+
+    Root<Transaction> root = mock(Root.class, RETURNS_DEEP_STUBS);
+    CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+    CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_MOCKS);
+
+    specCaptor.getValue().toPredicate(root, cq, cb);
+
+    verify(cb).equal(root.get("ownerId"), USER_ID);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void streamTransactions_passesEachTransactionToConsumerAndClosesStream() {
+    // Given: repository streams two transactions
+    var closed = new AtomicBoolean();
+    var first = createTransaction(1L, "Grocery", BigDecimal.valueOf(50.00));
+    var second = createTransaction(2L, "Gas", BigDecimal.valueOf(35.00));
+    when(transactionRepository.streamNotDeleted(
+            any(Specification.class),
+            eq(Sort.by(Sort.Direction.DESC, "date", "id")),
+            eq(500)))
+        .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+
+    // When: the user streams their transactions
+    var consumed = new ArrayList<Transaction>();
+    var count = transactionService.streamTransactions(emptyFilter(), USER_ID, consumed::add);
+
+    // Then: every transaction reaches the consumer in order and the cursor is released
+    assertThat(count).isEqualTo(2);
+    assertThat(consumed).containsExactly(first, second);
+    assertThat(closed).isTrue();
+  }
+
   // ==================== countNotDeletedForUser / countNotDeleted ====================
 
   @SuppressWarnings("unchecked")
@@ -703,6 +880,71 @@ class TransactionServiceTest {
     assertThat(result.createdTransactions().get(0).getDescription()).isEqualTo("New Transaction");
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchImport_exactDuplicateFoundByFingerprint_skipsFuzzyLookupForThatRow() {
+    // Given: the database reports the first row as an exact duplicate
+    var existingDto =
+        new PreviewTransaction(
+            LocalDate.of(2024, 1, 15),
+            "Existing Transaction",
+            BigDecimal.valueOf(100.00),
+            TransactionType.DEBIT,
+            null,
+            "Test Bank",
+            "USD",
+            null);
+    var newDto =
+        new PreviewTransaction(
+            LocalDate.of(2024, 1, 16),
+            "New Transaction",
+            BigDecimal.valueOf(200.00),
+            TransactionType.CREDIT,
+            null,
+            "Test Bank",
+            "USD",
+            null);
+
+    when(transactionRepository.findExactDuplicateFingerprints(any(), eq(USER_ID)))
+        .thenAnswer(
+            invocation -> {
+              Set<TransactionExactDuplicateCriteria> criteria = invocation.getArgument(0);
+              return criteria.stream()
+                  .filter(
+                      exactDuplicateCriteria ->
+                          exactDuplicateCriteria
+                              .normalizedDescription()
+                              .equals("EXISTINGTRANSACTION"))
+                  .map(TransactionExactDuplicateCriteria::descriptionFingerprint)
+                  .collect(Collectors.toSet());
+            });
+    when(transactionRepository.findDuplicateCandidates(any(), any())).thenReturn(List.of());
+    when(transactionRepository.saveAll(any()))
+        .thenAnswer(
+            invocation -> {
+              List<Transaction> transactions = invocation.getArgument(0);
+              for (int i = 0; i < transactions.size(); i++) {
+                transactions.get(i).setId((long) (i + 1));
+              }
+              return transactions;
+            });
+
+    // When: batch import is called
+    var result = batchImport(List.of(existingDto, newDto));
+
+    // Then: the exact duplicate is skipped and only the other row needs fuzzy candidates
+    assertThat(result.createdTransactions())
+        .extracting(Transaction::getDescription)
+        .containsExactly("New Transaction");
+    assertThat(result.duplicatesSkipped()).isEqualTo(1);
+    ArgumentCaptor<Set<TransactionDuplicateCandidateCriteria>> criteriaCaptor =
+        ArgumentCaptor.forClass(Set.class);
+    verify(transactionRepository).findDuplicateCandidates(criteriaCaptor.capture(), eq(USER_ID));
+    assertThat(criteriaCaptor.getValue())
+        .extracting(TransactionDuplicateCandidateCriteria::date)
+        .containsExactly(LocalDate.of(2024, 1, 16));
+  }
+
   @Test
   void batchImport_existingDuplicateAllowed_importsMatchingTransaction() {
     // Given: one duplicate transaction has an explicit override
@@ -1353,6 +1595,226 @@ class TransactionServiceTest {
             anyString(), anyString(), anyLong(), anyLong(), any(), any(), any(), anyString());
   }
 
+  @Test
+  void batchImport_aboveBulkIngestThreshold_usesCopyInsteadOfSaveAll() {
+    // Given: the bulk-ingest path applies to the batch
+    var dto =
+        new PreviewTransaction(
+            LocalDate.of(2024, 1, 15),
+            "Transaction 1",
+            BigDecimal.valueOf(100.00),
+            TransactionType.DEBIT,
+            null,
+            "Test Bank",
+            "USD",
+            "account-123");
+
+    when(transactionRepository.findDuplicateCandidates(any(), any())).thenReturn(List.of());
+    when(transactionBulkIngestService.appliesTo(1)).thenReturn(true);
+    when(transactionBulkIngestService.ingest(anyList(), eq(USER_ID))).thenReturn(List.of(501L));
+
+    // When: batch import is called
+    var result = batchImport(List.of(dto));
+
+    // Then: rows are bulk-ingested with file import and owner set, and only IDs are returned
+    ArgumentCaptor<List> transactionsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(transactionBulkIngestService).ingest(transactionsCaptor.capture(), eq(USER_ID));
+    var ingested = (Transaction) transactionsCaptor.getValue().getFirst();
+    assertThat(ingested.getOwnerId()).isEqualTo(USER_ID);
+    assertThat(ingested.getFileImport()).isNotNull();
+    assertThat(result.createdTransactions()).isEmpty();
+    assertThat(result.createdTransactionIds()).containsExactly(501L);
+    assertThat(result.createdCount()).isEqualTo(1);
+    verify(transactionRepository).flush();
+    verify(transactionRepository, never()).saveAll(any());
+  }
+
+  // ==================== batchImportStream ====================
+
+  @Test
+  void batchImportStream_rowsAcrossChunks_ingestsEachChunkAndRecordsFinalCount() {
+    var fileImportSource = fileImportSource();
+    var fileImport =
+        FileImport.create(
+            fileImportSource.contentHash(),
+            fileImportSource.originalFilename(),
+            fileImportSource.statementFormatId(),
+            fileImportSource.parserRevisionId(),
+            fileImportSource.accountId(),
+            fileImportSource.fileSizeBytes(),
+            0,
+            USER_ID);
+    var rows =
+        List.of(
+            BatchImportRow.valid(0, streamedTransaction(LocalDate.of(2024, 1, 15), "10.00")),
+            BatchImportRow.valid(1, streamedTransaction(LocalDate.of(2024, 1, 16), "20.00")),
+            BatchImportRow.valid(2, streamedTransaction(LocalDate.of(2024, 1, 17), "30.00")));
+
+    when(transactionBulkIngestService.streamChunkSize()).thenReturn(2);
+    when(transactionRepository.findDuplicateCandidates(any(), any())).thenReturn(List.of());
+    when(fileImportTrackingService.checkHash(fileImportSource.contentHash(), USER_ID))
+        .thenReturn(
+            new FileImportTrackingService.FileCheckResult(
+                fileImportSource.contentHash(), Optional.empty()));
+    when(fileImportTrackingService.recordImport(
+            fileImportSource.contentHash(),
+            fileImportSource.originalFilename(),
+            fileImportSource.statementFormatId(),
+            fileImportSource.parserRevisionId(),
+            fileImportSource.accountId(),
+            fileImportSource.fileSizeBytes(),
+            0,
+            USER_ID))
+        .thenReturn(fileImport);
+    when(transactionBulkIngestService.ingest(anyList(), eq(USER_ID)))
+        .thenReturn(List.of(1L, 2L), List.of(3L));
+
+    var result = transactionService.batchImportStream(rows.iterator(), USER_ID, fileImportSource);
+
+    assertThat(result.createdTransactions()).isEmpty();
+    assertThat(result.createdTransactionIds()).containsExactly(1L, 2L, 3L);
+    assertThat(fileImport.getTransactionCount()).isEqualTo(3);
+    ArgumentCaptor<List> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(transactionBulkIngestService, times(2)).ingest(chunkCaptor.capture(), eq(USER_ID));
+    assertThat(chunkCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    verify(fileImportTrackingService, times(1)).checkHash(anyString(), anyString());
+    verify(transactionRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void batchImportStream_invalidRowsAfterIngestedChunk_reportsAllErrorsAndStopsIngesting() {
+    var rows =
+        List.of(
+            BatchImportRow.valid(0, streamedTransaction(LocalDate.of(2024, 1, 15), "10.00")),
+            BatchImportRow.invalid(
+                1, List.of(FieldError.of(1, "amount", "amount is required", null))),
+            BatchImportRow.valid(2, streamedTransaction(LocalDate.of(1999, 12, 31), "30.00")),
+            BatchImportRow.valid(3, streamedTransaction(LocalDate.of(2024, 1, 18), "40.00")));
+
+    when(transactionBulkIngestService.streamChunkSize()).thenReturn(1);
+    when(transactionRepository.findDuplicateCandidates(any(), any())).thenReturn(List.of());
+    when(fileImportTrackingService.checkHash(fileImportSource().contentHash(), USER_ID))
+        .thenReturn(
+            new FileImportTrackingService.FileCheckResult(
+                fileImportSource().contentHash(), Optional.empty()));
+    when(fileImportTrackingService.recordImport(
+            anyString(),
+            anyString(),
+            anyLong(),
+            anyLong(),
+            anyString(),
+            anyLong(),
+            eq(0),
+            eq(USER_ID)))
+        .thenReturn(mock(FileImport.class));
+    when(transactionBulkIngestService.ingest(anyList(), eq(USER_ID))).thenReturn(List.of(1L));
+
+    assertThatThrownBy(
+            () ->
+                transactionService.batchImportStream(
+                    rows.iterator(), USER_ID, fileImportSource()))
+        .isInstanceOfSatisfying(
+            BatchValidationException.class,
+            exception ->
+                assertThat(exception.getFieldErrors())
+                    .extracting(FieldError::getIndex)
+                    .containsExactly(1, 2));
+    verify(transactionBulkIngestService, times(1)).ingest(anyList(), eq(USER_ID));
+  }
+
+  @Test
+  void batchImportStream_manyCreatedRows_returnsFullCountAndFirstIds() {
+    var rows = new ArrayList<BatchImportRow>();
+    for (var index = 0; index < 1_200; index++) {
+      rows.add(
+          BatchImportRow.valid(
+              index, streamedTransaction(LocalDate.of(2024, 1, 15), (index + 1) + ".00")));
+    }
+    var nextId = new AtomicLong();
+
+    when(transactionBulkIngestService.streamChunkSize()).thenReturn(500);
+    when(transactionRepository.findDuplicateCandidates(any(), any())).thenReturn(List.of());
+    when(fileImportTrackingService.checkHash(fileImportSource().contentHash(), USER_ID))
+        .thenReturn(
+            new FileImportTrackingService.FileCheckResult(
+                fileImportSource().contentHash(), Optional.empty()));
+    when(fileImportTrackingService.recordImport(
+            anyString(),
+            anyString(),
+            anyLong(),
+            anyLong(),
+            anyString(),
+            anyLong(),
+            eq(0),
+            eq(USER_ID)))
+        .thenReturn(mock(FileImport.class));
+    when(transactionBulkIngestService.ingest(anyList(), eq(USER_ID)))
+        .thenAnswer(
+            invocation ->
+                LongStream.range(0, invocation.<List<?>>getArgument(0).size())
+                    .mapToObj(index -> nextId.incrementAndGet())
+                    .toList());
+
+    var result =
+        transactionService.batchImportStream(rows.iterator(), USER_ID, fileImportSource());
+
+    assertThat(result.createdCount()).isEqualTo(1_200);
+    assertThat(result.createdTransactionIds())
+        .hasSize(1_000)
+        .startsWith(1L, 2L)
+        .endsWith(1_000L);
+  }
+
+  @Test
+  void batchImportStream_rowWithManyFieldErrors_capsReportedErrors() {
+    var fieldErrors = new ArrayList<FieldError>();
+    for (var index = 0; index < 150; index++) {
+      fieldErrors.add(FieldError.of(0, "field" + index, "field" + index + " is invalid", null));
+    }
+    var rows =
+        List.of(
+            BatchImportRow.invalid(0, fieldErrors),
+            BatchImportRow.valid(1, streamedTransaction(LocalDate.of(1999, 12, 31), "10.00")));
+
+    when(transactionBulkIngestService.streamChunkSize()).thenReturn(10);
+
+    assertThatThrownBy(
+            () ->
+                transactionService.batchImportStream(
+                    rows.iterator(), USER_ID, fileImportSource()))
+        .isInstanceOfSatisfying(
+            BatchValidationException.class,
+            exception -> assertThat(exception.getFieldErrors()).hasSize(100));
+    verify(transactionBulkIngestService, never()).ingest(anyList(), anyString());
+  }
+
+  @Test
+  void batchImportStream_allRowsDuplicates_throwsNoTransactionsCreated() {
+    var dto = streamedTransaction(LocalDate.of(2024, 1, 15), "10.00");
+    var rows = List.of(BatchImportRow.valid(0, dto), BatchImportRow.valid(1, dto));
+
+    when(transactionBulkIngestService.streamChunkSize()).thenReturn(1);
+    when(transactionRepository.findDuplicateCandidates(any(), any()))
+        .thenReturn(
+            List.of(
+                duplicateCandidate(
+                    TransactionDuplicateCandidateKey.from(dto), 42L, dto.description())));
+
+    assertThatThrownBy(
+            () ->
+                transactionService.batchImportStream(
+                    rows.iterator(), USER_ID, fileImportSource()))
+        .isInstanceOf(BusinessException.class)
+        .satisfies(
+            exception -> {
+              var businessException = (BusinessException) exception;
+              assertThat(businessException.getCode())
+                  .isEqualTo(BudgetAnalyzerError.BATCH_IMPORT_NO_TRANSACTIONS_CREATED.name());
+            });
+    verify(transactionBulkIngestService, never()).ingest(anyList(), anyString());
+    verify(fileImportTrackingService, never()).checkHash(anyString(), anyString());
+  }
+
   // ==================== Helper Methods ====================
 
   private Transaction createTransaction(Long id, String description, BigDecimal amount) {
@@ -1392,6 +1854,18 @@ class TransactionServiceTest {
     return transactionService.batchImport(transactions, USER_ID, fileImportSource);
   }
 
+  private PreviewTransaction streamedTransaction(LocalDate date, String amount) {
+    return new PreviewTransaction(
+        date,
+        "Streamed " + amount,
+        new BigDecimal(amount),
+        TransactionType.DEBIT,
+        null,
+        "Test Bank",
+        "USD",
+        "account-123");
+  }
+
   private BatchFileImportSource fileImportSource() {
     return new BatchFileImportSource(
         "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef",
@@ -1405,7 +1879,10 @@ class TransactionServiceTest {
   private static TransactionDuplicateCandidate duplicateCandidate(
       TransactionDuplicateCandidateKey candidateKey, Long transactionId, String description) {
     return new TestTransactionDuplicateCandidate(
-        candidateCriteria(candidateKey), transactionId, description);
+        candidateCriteria(candidateKey),
+        transactionId,
+        description,
+        TransactionFingerprint.normalizeDescription(description));
   }
 
   private static TransactionDuplicateCandidateCriteria candidateCriteria(
@@ -1421,7 +1898,8 @@ class TransactionServiceTest {
   private record TestTransactionDuplicateCandidate(
       TransactionDuplicateCandidateCriteria candidateCriteria,
       Long transactionId,
-      String description)
+      String description,
+      String normalizedDescription)
       implements TransactionDuplicateCandidate {
 
     @Override
@@ -1438,5 +1916,10 @@ class TransactionServiceTest {
     public String getDescription() {
       return description;
     }
+
+    @Override
+    public String getNormalizedDescription() {
+      return normalizedDescription;
+    }
   }
 }
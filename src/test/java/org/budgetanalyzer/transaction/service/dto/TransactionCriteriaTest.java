@@ -39,7 +39,8 @@ class TransactionCriteriaTest {
             createdAfter,
             createdBefore,
             updatedAfter,
-            updatedBefore);
+            updatedBefore,
+            7L);
 
     var criteria = TransactionCriteria.fromFilter(filter);
 
@@ -59,13 +60,15 @@ class TransactionCriteriaTest {
     assertThat(criteria.createdBefore()).isEqualTo(createdBefore);
     assertThat(criteria.updatedAfter()).isEqualTo(updatedAfter);
     assertThat(criteria.updatedBefore()).isEqualTo(updatedBefore);
+    assertThat(criteria.fileImportId()).isEqualTo(7L);
   }
 
   @Test
   void fromFilter_dropsBlankSingletonFilterValues() {
     var filter =
         new TransactionFilter(
-            null, null, " ", "", null, null, "\t", null, null, null, null, null, null, null, null);
+            null, null, " ", "", null, null, "\t", null, null, null, null, null, null, null, null,
+            null);
 
     var criteria = TransactionCriteria.fromFilter(filter);
 
@@ -21,9 +21,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 class BangkokBankStatementPdfExtractorTest {
 
@@ -46,7 +48,9 @@ class BangkokBankStatementPdfExtractorTest {
 
   @BeforeEach
   void setUp() {
-    extractor = new BangkokBankStatementPdfExtractor();
+    extractor =
+        new BangkokBankStatementPdfExtractor(
+            new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)));
   }
 
   @Test
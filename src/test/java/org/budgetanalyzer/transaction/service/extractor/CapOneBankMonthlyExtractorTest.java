@@ -11,7 +11,9 @@ import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 class CapOneBankMonthlyExtractorTest {
 
@@ -20,7 +22,9 @@ class CapOneBankMonthlyExtractorTest {
 
   @BeforeEach
   void setUp() throws IOException {
-    extractor = new CapitalOneBankMonthlyStatementExtractor();
+    extractor =
+        new CapitalOneBankMonthlyStatementExtractor(
+            new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)));
     pdfContent =
         Files.readAllBytes(
             Paths.get("src/test/resources/fixtures/cap-one-bank-monthly-sample.pdf"));
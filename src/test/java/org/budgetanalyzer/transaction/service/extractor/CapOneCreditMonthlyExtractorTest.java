@@ -21,8 +21,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 class CapOneCreditMonthlyExtractorTest {
 
@@ -36,7 +38,9 @@ class CapOneCreditMonthlyExtractorTest {
 
   @BeforeEach
   void setUp() throws IOException {
-    extractor = new CapitalOneCreditMonthlyStatementExtractor();
+    extractor =
+        new CapitalOneCreditMonthlyStatementExtractor(
+            new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)));
     pdfContent =
         Files.readAllBytes(
             Paths.get("src/test/resources/fixtures/cap-one-credit-monthly-sample.pdf"));
@@ -1,17 +1,28 @@
 package org.budgetanalyzer.transaction.service.extractor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.List;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.TransactionType;
+import org.budgetanalyzer.transaction.service.dto.PreviewTransaction;
+import org.budgetanalyzer.transaction.service.extractor.pdf.PdfTextExtractionService;
 
 class CapOneCreditYearlySummaryExtractorTest {
 
@@ -20,7 +31,9 @@ class CapOneCreditYearlySummaryExtractorTest {
 
   @BeforeEach
   void setUp() throws IOException {
-    extractor = new CapitalOneCreditYearlySummaryExtractor();
+    extractor =
+        new CapitalOneCreditYearlySummaryExtractor(
+            new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)));
     pdfContent =
         Files.readAllBytes(
             Paths.get("src/test/resources/fixtures/cap-one-credit-yearly-summary-sample.pdf"));
@@ -135,4 +148,54 @@ class CapOneCreditYearlySummaryExtractorTest {
 
     assertThat(categoryCount).isGreaterThanOrEqualTo(5L);
   }
+
+  @Test
+  void extract_withPagesAboveParallelThreshold_matchesSequentialExtraction() throws IOException {
+    var multiPageContent =
+        summaryPdf(
+            List.of(
+                List.of("Capital One", "Year-End Summary 2024", "Section 4", "Transaction Details"),
+                List.of("Page 2", "Dining", "04/12 TAQUERIA DEL SOL ANYTOWN CA $55.12"),
+                List.of("Page 3", "06/15 PIZZA PALACE SPRINGFIELD VA $32.50"),
+                List.of("Page 4", "Merchandise", "02/14 DEPARTMENT STORE $125.00"),
+                List.of("Page 5", "Other", "08/05 REFUND FROM ONLINE SHOP -$37.27")));
+    var parallelExtractor =
+        new CapitalOneCreditYearlySummaryExtractor(
+            new PdfTextExtractionService(new PdfTextExtractionProperties(2, 3)));
+
+    var transactions = parallelExtractor.extract(multiPageContent, null);
+
+    assertThat(transactions).isEqualTo(extractor.extract(multiPageContent, null));
+    assertThat(transactions)
+        .extracting(PreviewTransaction::description, PreviewTransaction::category)
+        .containsExactly(
+            tuple("TAQUERIA DEL SOL ANYTOWN CA", "Dining"),
+            tuple("PIZZA PALACE SPRINGFIELD VA", "Dining"),
+            tuple("DEPARTMENT STORE", "Merchandise"),
+            tuple("REFUND FROM ONLINE SHOP", "Other"));
+  }
+
+  private byte[] summaryPdf(List<List<String>> pages) throws IOException {
+    try (var document = new PDDocument();
+        var outputStream = new ByteArrayOutputStream()) {
+      var font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (var pageLines : pages) {
+        var page = new PDPage();
+        document.addPage(page);
+        try (var contentStream = new PDPageContentStream(document, page)) {
+          contentStream.beginText();
+          contentStream.setFont(font, 10F);
+          contentStream.setLeading(14F);
+          contentStream.newLineAtOffset(50F, 750F);
+          for (var line : pageLines) {
+            contentStream.showText(line);
+            contentStream.newLine();
+          }
+          contentStream.endText();
+        }
+      }
+      document.save(outputStream);
+      return outputStream.toByteArray();
+    }
+  }
 }
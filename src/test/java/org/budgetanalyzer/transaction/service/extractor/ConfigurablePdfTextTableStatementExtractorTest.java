@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.ParserRevision;
 import org.budgetanalyzer.transaction.domain.StatementFormat;
@@ -162,7 +163,10 @@ class ConfigurablePdfTextTableStatementExtractorTest {
     var parserRevision = ParserRevision.createPdfTextTableConfig(statementFormat, 1, "{}");
     ReflectionTestUtils.setField(parserRevision, "id", 101L);
     return new ConfigurablePdfTextTableStatementExtractor(
-        statementFormat, parserRevision, pdfTextTableParserConfig, new PdfTextExtractionService());
+        statementFormat,
+        parserRevision,
+        pdfTextTableParserConfig,
+        new PdfTextExtractionService(new PdfTextExtractionProperties(24, 4)));
   }
 
   private PdfTextTableParserConfig signedAmountConfig(PdfTextTableYearSource yearSource) {
@@ -0,0 +1,79 @@
+package org.budgetanalyzer.transaction.service.extractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.junit.jupiter.api.Test;
+
+class FileProbeTest {
+
+  @Test
+  void of_withCsvFile_readsHeaderTokensFromFirstLine() throws IOException {
+    var content = "Date, Description ,Amount\r\n01/02/2025,Coffee,4.50\n".getBytes();
+
+    var fileProbe = FileProbe.of(new StatementFile(content, "statement.csv"));
+
+    assertThat(fileProbe.headerTokens()).containsExactly("Date", " Description ", "Amount");
+    assertThat(fileProbe.hasHeader("description")).isTrue();
+    assertThat(fileProbe.hasHeader("Category")).isFalse();
+    assertThat(fileProbe.hasPdfText()).isFalse();
+  }
+
+  @Test
+  void of_withTextPdf_readsFirstPageText() throws IOException {
+    var content =
+        Files.readAllBytes(
+            Paths.get("src/test/resources/fixtures/cap-one-credit-yearly-summary-sample.pdf"));
+
+    try (var statementFile = new StatementFile(content, "summary.pdf")) {
+      var fileProbe = FileProbe.of(statementFile);
+
+      assertThat(fileProbe.hasPdfText()).isTrue();
+      assertThat(fileProbe.firstPageContains("CAPITAL ONE")).isTrue();
+      assertThat(fileProbe.headerTokens()).isEmpty();
+    }
+  }
+
+  @Test
+  void of_withPdfWithoutTextOperators_reportsNoText() throws IOException {
+    try (var statementFile = new StatementFile(pdfWithoutText(), "scanned.pdf")) {
+      var fileProbe = FileProbe.of(statementFile);
+
+      assertThat(fileProbe.hasPdfText()).isFalse();
+      assertThat(fileProbe.firstPageText()).isEmpty();
+    }
+  }
+
+  @Test
+  void of_withUnreadablePdf_reportsNoText() throws IOException {
+    try (var statementFile =
+        new StatementFile("not a pdf".getBytes(StandardCharsets.UTF_8), "broken.pdf")) {
+      var fileProbe = FileProbe.of(statementFile);
+
+      assertThat(fileProbe.hasPdfText()).isFalse();
+      assertThat(fileProbe.pdfProducer()).isNull();
+    }
+  }
+
+  private byte[] pdfWithoutText() throws IOException {
+    try (var document = new PDDocument()) {
+      var page = new PDPage();
+      document.addPage(page);
+      try (var contentStream = new PDPageContentStream(document, page)) {
+        contentStream.addRect(50, 50, 200, 100);
+        contentStream.fill();
+      }
+      var byteArrayOutputStream = new ByteArrayOutputStream();
+      document.save(byteArrayOutputStream);
+      return byteArrayOutputStream.toByteArray();
+    }
+  }
+}
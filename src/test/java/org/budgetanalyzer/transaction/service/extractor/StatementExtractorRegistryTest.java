@@ -6,8 +6,13 @@ import static org.mockito.Mockito.when;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
@@ -25,6 +30,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.budgetanalyzer.core.csv.CsvParser;
+import org.budgetanalyzer.transaction.config.ParserAttemptProperties;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.domain.FileImport;
 import org.budgetanalyzer.transaction.domain.ParserRevision;
 import org.budgetanalyzer.transaction.domain.ParserType;
@@ -32,6 +39,7 @@ import org.budgetanalyzer.transaction.domain.StatementFormat;
 import org.budgetanalyzer.transaction.domain.Transaction;
 import org.budgetanalyzer.transaction.domain.TransactionType;
 import org.budgetanalyzer.transaction.repository.ParserRevisionRepository;
+import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
 import org.budgetanalyzer.transaction.service.dto.ParserAttemptStatus;
 import org.budgetanalyzer.transaction.service.dto.PdfTextTableFileType;
 import org.budgetanalyzer.transaction.service.dto.PdfTextTableNegativeMeans;
@@ -47,6 +55,10 @@ class StatementExtractorRegistryTest {
   private static final float DATE_X = 50F;
   private static final float DESCRIPTION_X = 130F;
   private static final float AMOUNT_X = 360F;
+  private static final ParserAttemptProperties PARSER_ATTEMPT_PROPERTIES =
+      new ParserAttemptProperties(Duration.ofSeconds(30));
+  private static final PdfTextExtractionProperties PDF_TEXT_EXTRACTION_PROPERTIES =
+      new PdfTextExtractionProperties(24, 4);
 
   @Mock private ParserRevisionRepository parserRevisionRepository;
   @Mock private CsvParser csvParser;
@@ -66,7 +78,8 @@ class StatementExtractorRegistryTest {
             parserRevisionRepository,
             csvParser,
             new ObjectMapper().findAndRegisterModules(),
-            new PdfTextExtractionService());
+            new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+            PARSER_ATTEMPT_PROPERTIES);
     registry.initialize();
   }
 
@@ -92,7 +105,8 @@ class StatementExtractorRegistryTest {
               parserRevisionRepository,
               csvParser,
               new ObjectMapper().findAndRegisterModules(),
-              new PdfTextExtractionService());
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              PARSER_ATTEMPT_PROPERTIES);
 
       when(parserRevisionRepository
               .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
@@ -109,6 +123,180 @@ class StatementExtractorRegistryTest {
       assertThat(parserAttempts.get(1).transactions()).containsExactly(matchedTransaction);
     }
 
+    @Test
+    void sharesParsedFileAcrossRevisions() {
+      var statementFormat =
+          StatementFormat.createSystemPdfFormat("Test Bank PDF", "Test Bank", "USD");
+      ReflectionTestUtils.setField(statementFormat, "id", 42L);
+      var firstParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 1, "first-handler");
+      var secondParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 2, "second-handler");
+      var parseCount = new AtomicInteger();
+      var parserRegistry =
+          new StatementExtractorRegistry(
+              List.of(
+                  new SharedParseStatementExtractor("first-handler", parseCount),
+                  new SharedParseStatementExtractor("second-handler", parseCount)),
+              parserRevisionRepository,
+              csvParser,
+              new ObjectMapper().findAndRegisterModules(),
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              PARSER_ATTEMPT_PROPERTIES);
+
+      when(parserRevisionRepository
+              .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
+          .thenReturn(List.of(firstParserRevision, secondParserRevision));
+      parserRegistry.initialize();
+
+      var parserAttempts =
+          parserRegistry.attemptParse(
+              statementFormat, "pdf".getBytes(), "statement.pdf", "account-123");
+
+      assertThat(parserAttempts)
+          .extracting("status")
+          .containsExactly(
+              ParserAttemptStatus.NOT_APPLICABLE, ParserAttemptStatus.NOT_APPLICABLE);
+      assertThat(parseCount).hasValue(1);
+    }
+
+    @Test
+    void cancelsLowerPriorityAttemptsOnceHigherPriorityAttemptMatches() throws Exception {
+      var statementFormat =
+          StatementFormat.createSystemPdfFormat("Test Bank PDF", "Test Bank", "USD");
+      ReflectionTestUtils.setField(statementFormat, "id", 42L);
+      var firstParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 1, "first-handler");
+      var secondParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 2, "second-handler");
+      var matchedTransaction = previewTransaction("Coffee Shop");
+      var secondAttemptStarted = new CountDownLatch(1);
+      var secondAttemptInterrupted = new CountDownLatch(1);
+      var parserRegistry =
+          new StatementExtractorRegistry(
+              List.of(
+                  new ScriptedStatementExtractor(
+                      "first-handler",
+                      () -> {
+                        secondAttemptStarted.await();
+                        return List.of(matchedTransaction);
+                      }),
+                  new ScriptedStatementExtractor(
+                      "second-handler",
+                      () -> {
+                        secondAttemptStarted.countDown();
+                        try {
+                          Thread.sleep(Duration.ofMinutes(1));
+                        } catch (InterruptedException interruptedException) {
+                          secondAttemptInterrupted.countDown();
+                          throw interruptedException;
+                        }
+                        return List.of(previewTransaction("Never returned"));
+                      })),
+              parserRevisionRepository,
+              csvParser,
+              new ObjectMapper().findAndRegisterModules(),
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              PARSER_ATTEMPT_PROPERTIES);
+
+      when(parserRevisionRepository
+              .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
+          .thenReturn(List.of(firstParserRevision, secondParserRevision));
+      parserRegistry.initialize();
+
+      var parserAttempts =
+          parserRegistry.attemptParse(
+              statementFormat, "pdf".getBytes(), "statement.pdf", "account-123");
+
+      assertThat(parserAttempts)
+          .extracting("status")
+          .containsExactly(ParserAttemptStatus.MATCHED);
+      assertThat(parserAttempts.getFirst().transactions()).containsExactly(matchedTransaction);
+      assertThat(secondAttemptInterrupted.await(0, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void selectsHigherPriorityMatchEvenWhenLowerPriorityAttemptFinishesFirst() {
+      var statementFormat =
+          StatementFormat.createSystemPdfFormat("Test Bank PDF", "Test Bank", "USD");
+      ReflectionTestUtils.setField(statementFormat, "id", 42L);
+      var firstParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 1, "first-handler");
+      var secondParserRevision =
+          ParserRevision.createStaticHandler(statementFormat, 2, "second-handler");
+      var firstTransaction = previewTransaction("First revision");
+      var secondAttemptFinished = new CountDownLatch(1);
+      var parserRegistry =
+          new StatementExtractorRegistry(
+              List.of(
+                  new ScriptedStatementExtractor(
+                      "first-handler",
+                      () -> {
+                        secondAttemptFinished.await();
+                        return List.of(firstTransaction);
+                      }),
+                  new ScriptedStatementExtractor(
+                      "second-handler",
+                      () -> {
+                        secondAttemptFinished.countDown();
+                        return List.of(previewTransaction("Second revision"));
+                      })),
+              parserRevisionRepository,
+              csvParser,
+              new ObjectMapper().findAndRegisterModules(),
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              PARSER_ATTEMPT_PROPERTIES);
+
+      when(parserRevisionRepository
+              .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
+          .thenReturn(List.of(firstParserRevision, secondParserRevision));
+      parserRegistry.initialize();
+
+      var parserAttempts =
+          parserRegistry.attemptParse(
+              statementFormat, "pdf".getBytes(), "statement.pdf", "account-123");
+
+      assertThat(parserAttempts).hasSize(1);
+      assertThat(parserAttempts.getFirst().parserRevision()).isEqualTo(firstParserRevision);
+      assertThat(parserAttempts.getFirst().transactions()).containsExactly(firstTransaction);
+    }
+
+    @Test
+    void failsAttemptThatExceedsTimeout() {
+      var statementFormat =
+          StatementFormat.createSystemPdfFormat("Test Bank PDF", "Test Bank", "USD");
+      ReflectionTestUtils.setField(statementFormat, "id", 42L);
+      var parserRevision = ParserRevision.createStaticHandler(statementFormat, 1, "slow-handler");
+      var parserRegistry =
+          new StatementExtractorRegistry(
+              List.of(
+                  new ScriptedStatementExtractor(
+                      "slow-handler",
+                      () -> {
+                        Thread.sleep(Duration.ofMinutes(1));
+                        return List.of(previewTransaction("Never returned"));
+                      })),
+              parserRevisionRepository,
+              csvParser,
+              new ObjectMapper().findAndRegisterModules(),
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              new ParserAttemptProperties(Duration.ofMillis(100)));
+
+      when(parserRevisionRepository
+              .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
+          .thenReturn(List.of(parserRevision));
+      parserRegistry.initialize();
+
+      var parserAttempts =
+          parserRegistry.attemptParse(
+              statementFormat, "pdf".getBytes(), "statement.pdf", "account-123");
+
+      assertThat(parserAttempts).hasSize(1);
+      assertThat(parserAttempts.getFirst().status()).isEqualTo(ParserAttemptStatus.FAILED);
+      assertThat(parserAttempts.getFirst().failure().getCode())
+          .isEqualTo(BudgetAnalyzerError.STATEMENT_PARSING_TIMED_OUT.name());
+    }
+
     @Test
     void returnsNotApplicableWhenStaticHandlerKeyIsUnknown() {
       var statementFormat =
@@ -206,7 +394,8 @@ class StatementExtractorRegistryTest {
               parserRevisionRepository,
               csvParser,
               new ObjectMapper().findAndRegisterModules(),
-              new PdfTextExtractionService());
+              new PdfTextExtractionService(PDF_TEXT_EXTRACTION_PROPERTIES),
+              PARSER_ATTEMPT_PROPERTIES);
 
       when(parserRevisionRepository
               .findByStatementFormatIdAndEnabledTrueOrderByPriorityDescRevisionNumberDesc(42L))
@@ -274,7 +463,7 @@ class StatementExtractorRegistryTest {
     }
   }
 
-  private PreviewTransaction previewTransaction(String description) {
+  private static PreviewTransaction previewTransaction(String description) {
     return new PreviewTransaction(
         LocalDate.of(2024, 1, 15),
         description,
@@ -316,6 +505,41 @@ class StatementExtractorRegistryTest {
     contentStream.endText();
   }
 
+  private static class ScriptedStatementExtractor extends TestStatementExtractor {
+
+    private final Callable<List<PreviewTransaction>> extraction;
+
+    ScriptedStatementExtractor(String handlerKey, Callable<List<PreviewTransaction>> extraction) {
+      super(handlerKey, true, List.of());
+      this.extraction = extraction;
+    }
+
+    @Override
+    public List<PreviewTransaction> extract(StatementFile statementFile, String accountId) {
+      try {
+        return extraction.call();
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+    }
+  }
+
+  private static class SharedParseStatementExtractor extends TestStatementExtractor {
+
+    private final AtomicInteger parseCount;
+
+    SharedParseStatementExtractor(String handlerKey, AtomicInteger parseCount) {
+      super(handlerKey, false, List.of());
+      this.parseCount = parseCount;
+    }
+
+    @Override
+    public boolean canHandle(StatementFile statementFile) {
+      statementFile.memoize("parsed", file -> parseCount.incrementAndGet());
+      return false;
+    }
+  }
+
   private static class TestStatementExtractor implements StatementExtractor {
 
     private final String handlerKey;
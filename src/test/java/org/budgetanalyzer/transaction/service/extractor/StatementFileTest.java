@@ -0,0 +1,127 @@
+package org.budgetanalyzer.transaction.service.extractor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class StatementFileTest {
+
+  private static final byte[] CSV_CONTENT = "Date,Description,Amount\n".getBytes();
+
+  @Test
+  void memoize_differentKeys_deriveConcurrently() throws Exception {
+    var statementFile = new StatementFile(CSV_CONTENT, "statement.csv");
+    var bothDeriving = new CountDownLatch(2);
+
+    try (var executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+      // Each derivation only finishes once the other one has started.
+      var first =
+          executorService.submit(
+              () -> statementFile.memoize("first", file -> awaitBoth(bothDeriving, "first")));
+      var second =
+          executorService.submit(
+              () -> statementFile.memoize("second", file -> awaitBoth(bothDeriving, "second")));
+
+      assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+      assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+    }
+  }
+
+  @Test
+  void memoize_sameKeyFromManyThreads_derivesOnce() throws Exception {
+    var statementFile = new StatementFile(CSV_CONTENT, "statement.csv");
+    var derivations = new AtomicInteger();
+    var release = new CountDownLatch(1);
+
+    try (var executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+      var results =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  index ->
+                      executorService.submit(
+                          () ->
+                              statementFile.memoize(
+                                  "shared",
+                                  file -> {
+                                    derivations.incrementAndGet();
+                                    return awaitRelease(release);
+                                  })))
+              .toList();
+      release.countDown();
+
+      for (var result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      }
+    }
+    assertThat(derivations).hasValue(1);
+  }
+
+  @Test
+  void memoize_failureOfInterruptedThread_isDerivedAgain() {
+    var statementFile = new StatementFile(CSV_CONTENT, "statement.csv");
+
+    Thread.currentThread().interrupt();
+    try {
+      assertThatThrownBy(
+              () ->
+                  statementFile.memoize(
+                      "value",
+                      file -> {
+                        throw new InterruptedIOException("cancelled");
+                      }))
+          .hasCauseInstanceOf(InterruptedIOException.class);
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertThat(statementFile.memoize("value", file -> "derived")).isEqualTo("derived");
+  }
+
+  @Test
+  void pdfText_afterProbe_reusesLoadedDocument() throws IOException {
+    var content =
+        Files.readAllBytes(
+            Paths.get("src/test/resources/fixtures/cap-one-credit-yearly-summary-sample.pdf"));
+
+    try (var statementFile = new StatementFile(content, "summary.pdf")) {
+      var fileProbe = statementFile.probe();
+
+      assertThat(statementFile.pdfText(1, 1)).isEqualTo(fileProbe.firstPageText());
+      assertThat(statementFile.pdfPageCount()).isPositive();
+    }
+  }
+
+  private static String awaitRelease(CountDownLatch release) throws IOException {
+    try {
+      release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    return "value";
+  }
+
+  private static String awaitBoth(CountDownLatch bothDeriving, String value) throws IOException {
+    bothDeriving.countDown();
+    try {
+      if (!bothDeriving.await(5, TimeUnit.SECONDS)) {
+        throw new IOException("Derivations of different keys did not run concurrently");
+      }
+    } catch (InterruptedException interruptedException) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    return value;
+  }
+}
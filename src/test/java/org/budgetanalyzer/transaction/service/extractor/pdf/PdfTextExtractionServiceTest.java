@@ -5,8 +5,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.Collectors;
 
+import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -15,7 +26,9 @@ import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.junit.jupiter.api.Test;
 
 import org.budgetanalyzer.service.exception.BusinessException;
+import org.budgetanalyzer.transaction.config.PdfTextExtractionProperties;
 import org.budgetanalyzer.transaction.service.BudgetAnalyzerError;
+import org.budgetanalyzer.transaction.service.extractor.StatementFile;
 
 class PdfTextExtractionServiceTest {
 
@@ -23,8 +36,13 @@ class PdfTextExtractionServiceTest {
   private static final float DATE_X = 50F;
   private static final float DESCRIPTION_X = 130F;
   private static final float AMOUNT_X = 360F;
+  private static final float LINE_Y_TOLERANCE = 2.0F;
+  private static final float CELL_GAP_THRESHOLD = 8.0F;
 
-  private final PdfTextExtractionService pdfTextExtractionService = new PdfTextExtractionService();
+  private final PdfTextExtractionService pdfTextExtractionService =
+      new PdfTextExtractionService(new PdfTextExtractionProperties(24, 1));
+  private final PdfTextExtractionService parallelPdfTextExtractionService =
+      new PdfTextExtractionService(new PdfTextExtractionProperties(2, 3));
 
   @Test
   void extract_withTextPdfNormalizesPagesLinesCellsAndTableCandidates() throws IOException {
@@ -68,6 +86,85 @@ class PdfTextExtractionServiceTest {
         .hasMessage("PDF text extraction requires a .pdf file.");
   }
 
+  @Test
+  void extract_withPagesAboveParallelThresholdMergesPageRangesInOrder() throws IOException {
+    var pdfContent = pdfWithPages(7);
+
+    var pdfTextDocument = parallelPdfTextExtractionService.extract(pdfContent, "statement.pdf");
+
+    assertThat(pdfTextDocument.pages())
+        .extracting(PdfTextPage::pageNumber)
+        .containsExactly(1, 2, 3, 4, 5, 6, 7);
+    assertThat(pdfTextDocument.pages().getLast().lines().get(1).cells())
+        .extracting(PdfTextCell::text)
+        .containsExactly("Jul 1", "Purchase 7-1", "$7.01");
+    assertThat(pdfTextDocument)
+        .isEqualTo(pdfTextExtractionService.extract(pdfContent, "statement.pdf"));
+  }
+
+  @Test
+  void extract_withFixturesAboveParallelThresholdMatchesSequentialExtraction()
+      throws IOException {
+    for (var fixturePath : fixturePdfPaths()) {
+      var pdfContent = Files.readAllBytes(fixturePath);
+
+      assertThat(parallelPdfTextExtractionService.extract(pdfContent, "statement.pdf"))
+          .as(fixturePath.toString())
+          .isEqualTo(pdfTextExtractionService.extract(pdfContent, "statement.pdf"));
+    }
+  }
+
+  @Test
+  void extractPlainText_withPagesAboveParallelThresholdMatchesWholeDocumentText()
+      throws IOException {
+    try (var statementFile = new StatementFile(pdfWithPages(7), "statement.pdf")) {
+      assertThat(parallelPdfTextExtractionService.extractPlainText(statementFile))
+          .contains("Purchase 1-1", "Purchase 7-20")
+          .isEqualTo(statementFile.pdfText(1, Integer.MAX_VALUE));
+    }
+  }
+
+  @Test
+  void buildLines_withFixturePagesMatchesLineBucketScan() throws IOException {
+    for (var fixturePath : fixturePdfPaths()) {
+      try (var document = Loader.loadPDF(fixturePath.toFile())) {
+        var textChunksByPage =
+            pdfTextExtractionService.extractTextChunks(document).stream()
+                .collect(Collectors.groupingBy(PdfTextExtractionService.TextChunk::pageNumber));
+        textChunksByPage.forEach(
+            (pageNumber, textChunks) ->
+                assertThat(pdfTextExtractionService.buildLines(pageNumber, textChunks))
+                    .as("%s page %d", fixturePath, pageNumber)
+                    .isEqualTo(scanLineBuckets(pageNumber, textChunks)));
+      }
+    }
+  }
+
+  @Test
+  void buildLines_withDenseJitteredPageMatchesLineBucketScan() {
+    var random = new Random(42);
+    for (var pageNumber = 1; pageNumber <= 20; pageNumber++) {
+      var textChunks = new ArrayList<PdfTextExtractionService.TextChunk>();
+      for (var line = 0; line < 60; line++) {
+        var lineY = 40F + line * 11.5F;
+        for (var column = 0; column < 8; column++) {
+          var startX = 30F + column * 70F + random.nextInt(3) * 4F;
+          textChunks.add(
+              new PdfTextExtractionService.TextChunk(
+                  pageNumber,
+                  startX,
+                  startX + 20F + random.nextInt(50),
+                  lineY + random.nextInt(9) * 0.5F,
+                  "c" + line + "-" + column + (random.nextInt(6) == 0 ? "  split" : "")));
+        }
+      }
+      Collections.shuffle(textChunks, random);
+
+      assertThat(pdfTextExtractionService.buildLines(pageNumber, textChunks))
+          .isEqualTo(scanLineBuckets(pageNumber, textChunks));
+    }
+  }
+
   private byte[] pdfWithRows(List<List<String>> rows) throws IOException {
     try (var document = new PDDocument()) {
       var page = new PDPage();
@@ -88,6 +185,34 @@ class PdfTextExtractionServiceTest {
     }
   }
 
+  private byte[] pdfWithPages(int pageCount) throws IOException {
+    try (var document = new PDDocument()) {
+      var font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (var pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+        var page = new PDPage();
+        document.addPage(page);
+        try (var contentStream = new PDPageContentStream(document, page)) {
+          writeText(contentStream, font, "Date", DATE_X, 750F);
+          writeText(contentStream, font, "Description", DESCRIPTION_X, 750F);
+          writeText(contentStream, font, "Amount", AMOUNT_X, 750F);
+          var y = 734F;
+          for (var row = 1; row <= 20; row++) {
+            var month = Month.of(pageNumber).getDisplayName(TextStyle.SHORT, Locale.US);
+            writeText(contentStream, font, month + " " + row, DATE_X, y);
+            writeText(
+                contentStream, font, "Purchase " + pageNumber + "-" + row, DESCRIPTION_X, y);
+            writeText(
+                contentStream, font, String.format("$%d.%02d", pageNumber, row), AMOUNT_X, y);
+            y -= 16F;
+          }
+        }
+      }
+      var byteArrayOutputStream = new ByteArrayOutputStream();
+      document.save(byteArrayOutputStream);
+      return byteArrayOutputStream.toByteArray();
+    }
+  }
+
   private byte[] blankPdf() throws IOException {
     try (var document = new PDDocument()) {
       document.addPage(new PDPage());
@@ -106,4 +231,111 @@ class PdfTextExtractionServiceTest {
     contentStream.showText(text);
     contentStream.endText();
   }
+
+  private static List<Path> fixturePdfPaths() throws IOException {
+    try (var paths = Files.list(Path.of("src/test/resources/fixtures"))) {
+      var fixturePaths =
+          paths.filter(path -> path.toString().endsWith(".pdf")).sorted().toList();
+      assertThat(fixturePaths).isNotEmpty();
+      return fixturePaths;
+    }
+  }
+
+  /** The original line builder, which scans every line for each chunk. */
+  private List<PdfTextLine> scanLineBuckets(
+      int pageNumber, List<PdfTextExtractionService.TextChunk> textChunks) {
+    var sortedTextChunks =
+        textChunks.stream()
+            .sorted(
+                Comparator.comparing(PdfTextExtractionService.TextChunk::y)
+                    .thenComparing(PdfTextExtractionService.TextChunk::startX))
+            .toList();
+    var lineBuckets = new ArrayList<List<PdfTextExtractionService.TextChunk>>();
+    for (var textChunk : sortedTextChunks) {
+      var lineBucket =
+          lineBuckets.stream()
+              .filter(
+                  bucket ->
+                      Math.abs(bucket.getFirst().y() - textChunk.y()) <= LINE_Y_TOLERANCE)
+              .findFirst()
+              .orElse(null);
+      if (lineBucket == null) {
+        lineBucket = new ArrayList<>();
+        lineBuckets.add(lineBucket);
+      }
+      lineBucket.add(textChunk);
+    }
+
+    var lines = new ArrayList<PdfTextLine>();
+    for (var lineIndex = 0; lineIndex < lineBuckets.size(); lineIndex++) {
+      var lineChunks =
+          lineBuckets.get(lineIndex).stream()
+              .sorted(Comparator.comparing(PdfTextExtractionService.TextChunk::startX))
+              .toList();
+      lines.add(
+          new PdfTextLine(
+              pageNumber,
+              lineIndex + 1,
+              lineChunks.getFirst().y(),
+              scanCells(pageNumber, lineIndex + 1, lineChunks)));
+    }
+    return lines;
+  }
+
+  private List<PdfTextCell> scanCells(
+      int pageNumber, int lineNumber, List<PdfTextExtractionService.TextChunk> lineChunks) {
+    var cells = new ArrayList<PdfTextCell>();
+    if (lineChunks.size() == 1) {
+      var textChunk = lineChunks.getFirst();
+      var parts = textChunk.text().strip().split("\\s{2,}");
+      if (parts.length <= 1) {
+        parts = new String[] {textChunk.text().strip()};
+      }
+      for (var index = 0; index < parts.length; index++) {
+        cells.add(
+            new PdfTextCell(
+                pageNumber,
+                lineNumber,
+                index + 1,
+                parts[index].strip(),
+                textChunk.startX(),
+                textChunk.endX()));
+      }
+      return cells;
+    }
+
+    var cellText = new StringBuilder();
+    var cellStartX = lineChunks.getFirst().startX();
+    var cellEndX = lineChunks.getFirst().endX();
+    for (var textChunk : lineChunks) {
+      if (!cellText.isEmpty() && textChunk.startX() - cellEndX > CELL_GAP_THRESHOLD) {
+        cells.add(
+            new PdfTextCell(
+                pageNumber,
+                lineNumber,
+                cells.size() + 1,
+                cellText.toString().strip(),
+                cellStartX,
+                cellEndX));
+        cellText = new StringBuilder();
+        cellStartX = textChunk.startX();
+      }
+      if (!cellText.isEmpty()) {
+        cellText.append(' ');
+      }
+      cellText.append(textChunk.text());
+      cellEndX = textChunk.endX();
+    }
+    if (!cellText.isEmpty()) {
+      cells.add(
+          new PdfTextCell(
+              pageNumber,
+              lineNumber,
+              cells.size() + 1,
+              cellText.toString().strip(),
+              cellStartX,
+              cellEndX));
+    }
+    return cells;
+  }
 }